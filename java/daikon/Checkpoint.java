@@ -0,0 +1,208 @@
+package daikon;
+
+import daikon.inv.Equality;
+import daikon.inv.Invariant;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.plumelib.util.FilesPlume;
+
+/**
+ * Writes periodic snapshots of the invariants that are currently true, while the trace is still
+ * being read. This lets downstream tools start working before a long run finishes, and means that
+ * a crash late in a run does not lose everything learned so far.
+ *
+ * <p>Checkpoints are enabled by setting {@link #dkconfig_file} and at least one of {@link
+ * #dkconfig_sample_interval} and {@link #dkconfig_time_interval}. {@link FileIO#process_sample}
+ * calls {@link #sample_processed} after each sample; the snapshot is taken on the reading thread
+ * between two samples, so it sees a consistent state and reading resumes as soon as it is written.
+ *
+ * <p>A checkpoint reflects the leaf program points only: upper program points, combined exits,
+ * invariants over dynamic constants, and implications are not created until the whole trace has
+ * been read. Each checkpoint is first written to a temporary file in the same directory and then
+ * renamed over the previous one, so readers never see a partially-written checkpoint.
+ */
+public final class Checkpoint {
+
+  /** This class is a collection of methods; it does not represent anything. */
+  private Checkpoint() {
+    throw new Error("do not instantiate");
+  }
+
+  /** Debug tracer. */
+  public static final Logger debug = Logger.getLogger("daikon.Checkpoint");
+
+  // Variables starting with dkconfig_ should only be set via the
+  // daikon.config.Configuration interface.
+
+  /**
+   * The file to which checkpoints are written, or null to write no checkpoints. If the name ends in
+   * ".inv" or ".inv.gz", each checkpoint is a serialized program point map that can be read by
+   * PrintInvariants and the other tools that read {@code .inv} files. Otherwise, each checkpoint is
+   * a textual listing of the invariants at each program point that has seen samples.
+   */
+  public static @Nullable String dkconfig_file = null;
+
+  /** Write a checkpoint every this many samples. Zero or negative means no sample-based limit. */
+  public static int dkconfig_sample_interval = 0;
+
+  /**
+   * Write a checkpoint whenever this many seconds have elapsed since the previous one (or since the
+   * first sample). Zero or negative means no time-based limit. The time is only checked when a
+   * sample is processed.
+   */
+  public static int dkconfig_time_interval = 0;
+
+  /** Number of checkpoints successfully written so far. */
+  public static int checkpoints_written = 0;
+
+  /** Number of samples processed since the last checkpoint. */
+  private static int samples_since_checkpoint = 0;
+
+  /**
+   * Time (from {@link System#currentTimeMillis}) of the last checkpoint, or 0 if none has been
+   * written and no sample has been processed.
+   */
+  private static long last_checkpoint_time = 0;
+
+  /**
+   * Forgets the samples and time since the last checkpoint, so that the next run's checkpoints are
+   * counted from its first sample. {@link #checkpoints_written} is not reset.
+   */
+  public static void reset() {
+    samples_since_checkpoint = 0;
+    last_checkpoint_time = 0;
+  }
+
+  /**
+   * Called after each sample has been processed. Writes a checkpoint if one is due.
+   *
+   * @param all_ppts the program points being inferred over
+   */
+  public static void sample_processed(PptMap all_ppts) {
+    String filename = dkconfig_file;
+    if (filename == null) {
+      return;
+    }
+    samples_since_checkpoint++;
+    boolean due =
+        (dkconfig_sample_interval > 0) && (samples_since_checkpoint >= dkconfig_sample_interval);
+    if (!due && dkconfig_time_interval > 0) {
+      long now = System.currentTimeMillis();
+      if (last_checkpoint_time == 0) {
+        last_checkpoint_time = now;
+      } else {
+        due = (now - last_checkpoint_time) >= 1000L * dkconfig_time_interval;
+      }
+    }
+    if (due) {
+      for (PptTopLevel ppt : all_ppts.pptIterable()) {
+        ppt.flush_split_batch();
+      }
+      write_checkpoint(all_ppts, new File(filename));
+    }
+  }
+
+  /**
+   * Writes a checkpoint of all_ppts to the given file, replacing any previous checkpoint. An error
+   * while writing is reported but does not stop Daikon.
+   *
+   * @param all_ppts the program points being inferred over
+   * @param file where to write the checkpoint
+   */
+  public static void write_checkpoint(PptMap all_ppts, File file) {
+    long start = System.currentTimeMillis();
+    File parent = file.getAbsoluteFile().getParentFile();
+    // Keep the file's extension, so that FilesPlume compresses the temporary file the same way.
+    File tmp = new File(parent, "tmp-" + file.getName());
+    try {
+      if (is_serialized(file)) {
+        FileIO.write_serialized_pptmap(all_ppts, tmp);
+      } else {
+        try (PrintWriter pw = new PrintWriter(FilesPlume.newBufferedFileWriter(tmp.getPath()))) {
+          print_checkpoint(all_ppts, pw);
+        }
+      }
+      Files.move(
+          tmp.toPath(),
+          file.toPath(),
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+      checkpoints_written++;
+      debug.fine(
+          String.format(
+              "checkpoint %d after %d samples took %d ms",
+              checkpoints_written,
+              FileIO.samples_processed,
+              System.currentTimeMillis() - start));
+    } catch (IOException e) {
+      System.out.println();
+      System.out.println("WARNING: Unable to write checkpoint " + file + ": " + e);
+    }
+    // Even after a failure, wait a full interval before trying again.
+    samples_since_checkpoint = 0;
+    last_checkpoint_time = System.currentTimeMillis();
+  }
+
+  /** Returns true if checkpoints to the given file should be serialized program point maps. */
+  static boolean is_serialized(File file) {
+    String name = file.getName();
+    return name.endsWith(".inv") || name.endsWith(".inv.gz");
+  }
+
+  /**
+   * Prints the invariants that currently hold at each program point that has seen samples. Unlike
+   * {@link PrintInvariants}, this does no filtering beyond justification and does not modify the
+   * program points (for example, it does not simplify variable names), so that inference can
+   * continue afterwards exactly as if no checkpoint had been taken.
+   *
+   * @param all_ppts the program points being inferred over
+   * @param out where to print the invariants
+   */
+  public static void print_checkpoint(PptMap all_ppts, PrintWriter out) {
+    String DASHES = "===========================================================================";
+    out.println("Checkpoint after " + FileIO.samples_processed + " samples");
+    for (PptTopLevel ppt : all_ppts.pptIterable()) {
+      if (ppt.num_samples() == 0) {
+        continue;
+      }
+      out.println(DASHES);
+      out.println(ppt.name() + "  " + ppt.num_samples() + " samples");
+
+      if (ppt.equality_view != null) {
+        for (Invariant inv : ppt.equality_view.invs) {
+          Equality eq = (Equality) inv;
+          if (eq.size() > 1) {
+            out.println(eq.format_daikon());
+          }
+        }
+      }
+
+      if (ppt.constants != null) {
+        for (VarInfo vi : ppt.var_infos) {
+          if (vi.isCanonical() && ppt.constants.is_constant(vi)) {
+            out.println(vi.name() + " == " + Debug.toString(ppt.constants.constant_value(vi)));
+          }
+        }
+      }
+
+      List<Invariant> invs = new ArrayList<>();
+      for (Invariant inv : ppt.getInvariants()) {
+        if (!inv.is_false() && inv.justified()) {
+          invs.add(inv);
+        }
+      }
+      Collections.sort(invs, PptTopLevel.icfp);
+      for (Invariant inv : invs) {
+        out.println(inv.format());
+      }
+    }
+  }
+}
@@ -62,6 +62,7 @@ import daikon.inv.unary.string.OneOfString;
 import daikon.inv.unary.stringsequence.EltOneOfString;
 import daikon.inv.unary.stringsequence.OneOfStringSequence;
 import daikon.simplify.LemmaStack;
+import daikon.simplify.QueryCache;
 import daikon.split.ContextSplitterFactory;
 import daikon.split.PptSplitter;
 import daikon.split.SpinfoFile;
@@ -663,6 +664,12 @@ public final class Daikon {
     // Set up debug traces; note this comes after reading command line options.
     LogHelper.setupLogs(Global.debugAll ? FINE : INFO);
 
+    // Start collecting metrics, if requested; this also comes after reading the options.
+    Metrics.start();
+    // Memory is accounted per ppt from the start, so that slices created while reading the
+    // declarations are counted.
+    MemMonitor.enabled = use_mem_monitor || Metrics.enabled;
+
     if (!noversion_output) {
       if (!Daikon.dkconfig_quiet) System.out.println(release_string);
     }
@@ -726,6 +733,7 @@ public final class Daikon {
         }
       }
       System.out.println(total_invs + " invariants total");
+      Metrics.finish(all_ppts);
       return;
     }
 
@@ -815,11 +823,13 @@ public final class Daikon {
 
     // If they want to see discarded invariants, they probably don't
     // want to see the true ones.
+    long print_start = Metrics.begin_stage(Metrics.PRINT_STAGE);
     if (!PrintInvariants.print_discarded_invariants) {
       PrintInvariants.print_invariants(all_ppts);
     } else {
       PrintInvariants.print_reasons(all_ppts);
     }
+    Metrics.end_stage(Metrics.PRINT_STAGE, print_start, all_ppts);
 
     if (output_num_samples) {
       Global.output_statistics();
@@ -837,6 +847,7 @@ public final class Daikon {
 
     duration = System.nanoTime() - startTime;
     debugProgress.fine(" Total time spent in Daikon: " + TimeUnit.NANOSECONDS.toSeconds(duration));
+    Metrics.finish(all_ppts);
 
     // Done
     if (!Daikon.dkconfig_quiet) {
@@ -883,6 +894,7 @@ public final class Daikon {
     use_mem_monitor = false;
 
     proto_invs.clear();
+    Checkpoint.reset();
   }
 
   // Structure for return value of read_options.
@@ -1713,6 +1725,7 @@ public final class Daikon {
       //                     ppt.name, ppt.parents, ppt.children);
       if (ppt.parents.size() == 0) {
         ppt.mergeInvs();
+        Metrics.poll(all_ppts);
       }
     }
   }
@@ -2207,7 +2220,6 @@ public final class Daikon {
     MemMonitor monitor = null;
     if (use_mem_monitor) {
       monitor = new MemMonitor("stat.out");
-      new Thread((Runnable) monitor).start();
     }
 
     long startTime = System.nanoTime();
@@ -2224,7 +2236,9 @@ public final class Daikon {
                 + StringsPlume.nplural(dtrace_files.size(), "dtrace file")
                 + ":");
       }
+      long read_start = Metrics.begin_stage(Metrics.READ_STAGE);
       FileIO.read_data_trace_files(dtrace_files, all_ppts);
+      Metrics.end_stage(Metrics.READ_STAGE, read_start, all_ppts);
       // Final update, so "100%", not "99.70%", is the last thing printed.
       // (This doesn't seem to achieve that, though...)
       fileio_progress.display();
@@ -2250,7 +2264,7 @@ public final class Daikon {
     }
 
     if (monitor != null) {
-      monitor.stop();
+      monitor.stop(all_ppts);
     }
 
     if (FileIO.dkconfig_read_samples_only) {
@@ -2342,7 +2356,9 @@ public final class Daikon {
       debugProgress.fine("createUpperPpts ... ");
       startTime = System.nanoTime();
       // calculates invariants; does not actually create any ppts
+      long merge_start = Metrics.begin_stage(Metrics.MERGE_STAGE);
       createUpperPpts(all_ppts);
+      Metrics.end_stage(Metrics.MERGE_STAGE, merge_start, all_ppts);
       duration = System.nanoTime() - startTime;
       debugProgress.fine(
           "createUpperPpts ... done [" + TimeUnit.NANOSECONDS.toSeconds(duration) + "]");
@@ -2442,17 +2458,25 @@ public final class Daikon {
     System.out.print("Invoking Simplify to identify redundant invariants");
     System.out.flush();
     long startTime = System.nanoTime();
+    long simplify_start = Metrics.begin_stage(Metrics.SIMPLIFY_STAGE);
     for (PptTopLevel ppt : all_ppts.ppt_all_iterable()) {
+      long ppt_start = Metrics.now();
       ppt.mark_implied_via_simplify(all_ppts);
+      Metrics.simplify_done(ppt, ppt_start, all_ppts);
       System.out.print(".");
       System.out.flush();
     }
+    Metrics.end_stage(Metrics.SIMPLIFY_STAGE, simplify_start, all_ppts);
     long duration = System.nanoTime() - startTime;
     System.out.println(TimeUnit.NANOSECONDS.toSeconds(duration));
 
     // Make sure the Simplify process and helper threads are finished
     LemmaStack proverStack = PptTopLevel.getProverStack();
     if (proverStack != null) {
+      QueryCache cache = proverStack.getCache();
+      if (cache != null) {
+        System.out.println(cache.summary());
+      }
       proverStack.close();
     }
   }
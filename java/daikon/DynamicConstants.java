@@ -75,6 +75,13 @@ public class DynamicConstants implements Serializable {
    */
   public static boolean dkconfig_OneOf_only = false;
 
+  /**
+   * Boolean. If true, add() first checks, in a single pass over the sample, whether the sample
+   * changes any constant or always-missing variable; if it does not, add() only updates the sample
+   * counts. If false, every sample is processed in full. The results are the same either way.
+   */
+  public static boolean dkconfig_fast_steady_state = true;
+
   /** Debug tracer. */
   public static final Logger debug = Logger.getLogger("daikon.DynamicConstants");
 
@@ -109,6 +116,26 @@ public class DynamicConstants implements Serializable {
   /** Number of samples received. */
   int sample_cnt = 0;
 
+  // The following arrays are a flattened copy of con_list and missing_list,
+  // used by add() to recognize in a single pass over the ValueTuple that a
+  // sample changes nothing.  They are rebuilt when null, and are set to null
+  // whenever con_list or missing_list changes.
+
+  /** The elements of con_list. */
+  private transient Constant @Nullable [] con_array;
+
+  /** The value_index of each element of con_array, or -1 if it is a static constant. */
+  private transient int @Nullable [] con_indices;
+
+  /** The interned constant value of each element of con_array. */
+  private transient @Nullable Object @Nullable [] con_vals;
+
+  /** The elements of missing_list. */
+  private transient Constant @Nullable [] missing_array;
+
+  /** The value_index of each element of missing_array, or -1 if it is a static constant. */
+  private transient int @Nullable [] missing_indices;
+
   /**
    * Class used to indicate, for each variable, whether it is constant (see boolean field
    * "constant"). If it is, then the class also stores its constant value and its sample count.
@@ -279,6 +306,20 @@ public class DynamicConstants implements Serializable {
     all_vars = all_list.toArray(new Constant[all_list.size()]);
   }
 
+  /**
+   * Returns the estimated bytes retained by this; see {@link MemMonitor}. The constant values
+   * themselves are interned, so they are not counted.
+   *
+   * @return the estimated bytes retained by this
+   */
+  public long estimated_size() {
+    return MemMonitor.estimated_size(this)
+        + MemMonitor.list_size(con_list)
+        + MemMonitor.list_size(missing_list)
+        + MemMonitor.list_size(all_list)
+        + all_vars.length * MemMonitor.shallow_size(Constant.class);
+  }
+
   /**
    * Checks each current constant to see if it is still a constant. Constants must have the same
    * value and cannot be missing. In the long run a better job of dealing with missing might be
@@ -292,6 +333,19 @@ public class DynamicConstants implements Serializable {
 
     // System.out.println("DynamicConstants.add : " + vt.toString(ppt.var_infos));
 
+    // Fast path: in the common steady state, every constant keeps its value
+    // and every always-missing variable is still missing.
+    if (dkconfig_fast_steady_state && !Debug.logDetail() && is_unchanged(vt)) {
+      @SuppressWarnings("nullness") // is_unchanged() set con_array
+      Constant @NonNull [] cons = con_array;
+      for (Constant con : cons) {
+        con.count += count;
+      }
+      sample_cnt += count;
+      return;
+    }
+    clear_index_arrays();
+
     List<Constant> non_missing = new ArrayList<>();
     List<Constant> non_con = new ArrayList<>();
 
@@ -385,7 +439,9 @@ public class DynamicConstants implements Serializable {
     sample_cnt += count;
 
     // Create slices over newly non-constant and non-missing variables
-    instantiate_new_views(non_con, non_missing);
+    if (!non_con.isEmpty() || !non_missing.isEmpty()) {
+      instantiate_new_views(non_con, non_missing);
+    }
 
     // Turn off previously_constant on all newly non-constants
     for (Constant con : non_con) {
@@ -404,6 +460,90 @@ public class DynamicConstants implements Serializable {
     }
   }
 
+  /**
+   * Returns true if adding vt would not change any constant or always-missing variable: that is,
+   * if every constant has its constant value in vt and every always-missing variable is missing
+   * in vt (or is missing out of bounds). Builds the index arrays if necessary.
+   *
+   * @param vt the sample
+   * @return true if vt changes no constant or always-missing variable
+   */
+  @SuppressWarnings("interning") // values are interned
+  private boolean is_unchanged(ValueTuple vt) {
+    if (con_array == null) {
+      build_index_arrays();
+    }
+    @SuppressWarnings("nullness") // build_index_arrays() sets all the arrays
+    int @NonNull [] con_indices = this.con_indices;
+    @SuppressWarnings("nullness") // build_index_arrays() sets all the arrays
+    @Nullable Object @NonNull [] con_vals = this.con_vals;
+    @SuppressWarnings("nullness") // build_index_arrays() sets all the arrays
+    Constant @NonNull [] missing_array = this.missing_array;
+    @SuppressWarnings("nullness") // build_index_arrays() sets all the arrays
+    int @NonNull [] missing_indices = this.missing_indices;
+
+    @Nullable Object[] vals = vt.vals;
+    int[] mods = vt.mods;
+    for (int i = 0; i < con_indices.length; i++) {
+      int vindex = con_indices[i];
+      if (vindex < 0) {
+        // A static constant never changes.
+        continue;
+      }
+      int mod = mods[vindex];
+      if (mod == ValueTuple.MISSING_FLOW
+          || mod == ValueTuple.MISSING_NONSENSICAL
+          || vals[vindex] != con_vals[i]) {
+        return false;
+      }
+    }
+    for (int i = 0; i < missing_indices.length; i++) {
+      int vindex = missing_indices[i];
+      if (vindex >= 0) {
+        int mod = mods[vindex];
+        if (mod == ValueTuple.MISSING_FLOW || mod == ValueTuple.MISSING_NONSENSICAL) {
+          continue;
+        }
+      }
+      if (!missing_array[i].vi.missingOutOfBounds()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Sets the index arrays from con_list and missing_list. */
+  private void build_index_arrays() {
+    Constant[] cons = con_list.toArray(new Constant[0]);
+    int[] cons_idx = new int[cons.length];
+    @Nullable Object[] cons_vals = new Object[cons.length];
+    for (int i = 0; i < cons.length; i++) {
+      VarInfo vi = cons[i].vi;
+      cons_idx[i] = vi.is_static_constant ? -1 : vi.value_index;
+      cons_vals[i] = cons[i].val;
+    }
+    Constant[] missing = missing_list.toArray(new Constant[0]);
+    int[] missing_idx = new int[missing.length];
+    for (int i = 0; i < missing.length; i++) {
+      VarInfo vi = missing[i].vi;
+      missing_idx[i] = vi.is_static_constant ? -1 : vi.value_index;
+    }
+    con_array = cons;
+    con_indices = cons_idx;
+    con_vals = cons_vals;
+    missing_array = missing;
+    missing_indices = missing_idx;
+  }
+
+  /** Discards the index arrays; call this whenever con_list or missing_list changes. */
+  private void clear_index_arrays() {
+    con_array = null;
+    con_indices = null;
+    con_vals = null;
+    missing_array = null;
+    missing_indices = null;
+  }
+
   /** Returns whether the specified variable is missing in this ValueTuple. */
   private boolean missing(VarInfo vi, ValueTuple vt) {
 
@@ -1006,6 +1146,7 @@ public class DynamicConstants implements Serializable {
       con.previously_constant = true;
     }
     con_list = new ArrayList<Constant>();
+    clear_index_arrays();
 
     // Don't do anything with variables that have always been missing.  They
     // should have no invariants over them.
@@ -1143,6 +1284,7 @@ public class DynamicConstants implements Serializable {
     // clear the constant and missing lists
     missing_list.clear();
     con_list.clear();
+    clear_index_arrays();
 
     // Process each variable at this ppt.  If the variable is missing at
     // each of the children, it is also missing here.  Ignore children that
@@ -12,7 +12,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 
 import daikon.Daikon.BugInDaikon;
 import daikon.config.Configuration;
-import daikon.derive.ValueAndModified;
+import daikon.derive.DerivationPlan;
 import daikon.diff.InvMap;
 import daikon.inv.Invariant;
 import java.io.BufferedReader;
@@ -52,6 +52,7 @@ import java.util.Scanner;
 import java.util.StringJoiner;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 import java.util.zip.GZIPInputStream;
 import org.checkerframework.checker.calledmethods.qual.EnsuresCalledMethods;
 import org.checkerframework.checker.interning.qual.Interned;
@@ -202,6 +203,17 @@ public final class FileIO {
    */
   public static boolean dkconfig_rm_stack_dups = false;
 
+  /**
+   * Boolean. If true, {@code .inv} files are written in the indexed format (see {@link InvFile}),
+   * from which a single program point can be read without reading the rest of the file. If false,
+   * the whole PptMap is written as one serialized object, as in older versions of Daikon. Either
+   * way, a file whose name ends in {@code .gz} is gzipped. Both formats can always be read.
+   *
+   * <p>This is off by default because the indexed format cannot be read by older versions of
+   * Daikon, or by other programs that deserialize the PptMap in a {@code .inv} file directly.
+   */
+  public static boolean dkconfig_indexed_inv_files = false;
+
   /// Variables
 
   // This hashmap maps every program point to an array, which contains the
@@ -1572,6 +1584,11 @@ public final class FileIO {
         }
       }
 
+      // Give the conditional program points the samples that are still batched
+      for (PptTopLevel ppt : all_ppts.pptIterable()) {
+        ppt.flush_split_batch();
+      }
+
       if (Global.debugPrintDtrace) {
         assert Global.dtraceWriter != null
             : "@AssumeAssertion(nullness): dependent: set if debugPrintDtrace is true";
@@ -1720,32 +1737,38 @@ public final class FileIO {
                 state.filename, state.reader.getLineNumber(), line));
       }
 
-      // Parse the ppt name
-      try {
-        new PptName(ppt_name);
-      } catch (Throwable t) {
-        @SuppressWarnings("nullness") // thrown exception always has a detail message
-        @NonNull String message = t.getMessage();
-        // Augment the message with line number information.
-        if (!(t instanceof Daikon.UserError)) {
-          message = String.format("Illegal program point name '%s' (%s)", ppt_name, message);
+      // The name of a declared program point was parsed when its declaration was read, and the
+      // only way in which it can be valid there but not here is if it lacks the separator (see
+      // the PptTopLevel constructor).  So the name is parsed again only to report an error, rather
+      // than once per sample.
+      PptTopLevel ppt = state.all_ppts.get(ppt_name);
+      if (ppt == null || !ppt_name.contains(ppt_tag_separator)) {
+        // Parse the ppt name
+        try {
+          new PptName(ppt_name);
+        } catch (Throwable t) {
+          @SuppressWarnings("nullness") // thrown exception always has a detail message
+          @NonNull String message = t.getMessage();
+          // Augment the message with line number information.
+          if (!(t instanceof Daikon.UserError)) {
+            message = String.format("Illegal program point name '%s' (%s)", ppt_name, message);
+          }
+          throw new Daikon.UserError(message, reader, state.filename);
         }
-        throw new Daikon.UserError(message, reader, state.filename);
-      }
 
-      if (state.all_ppts.size() == 0) {
-        throw new Daikon.UserError(
-            "No declarations were provided before the first sample.  Perhaps you did not supply"
-                + " the proper .decls file to Daikon.  (Or, there could be a bug in the front end"
-                + " that created the .dtrace file "
-                + state.filename
-                + ".)");
-      }
+        if (state.all_ppts.size() == 0) {
+          throw new Daikon.UserError(
+              "No declarations were provided before the first sample.  Perhaps you did not supply"
+                  + " the proper .decls file to Daikon.  (Or, there could be a bug in the front end"
+                  + " that created the .dtrace file "
+                  + state.filename
+                  + ".)");
+        }
 
-      PptTopLevel ppt = state.all_ppts.get(ppt_name);
-      if (ppt == null) {
-        throw new Daikon.UserError(
-            "No declaration was provided for program point " + ppt_name, state);
+        if (ppt == null) {
+          throw new Daikon.UserError(
+              "No declaration was provided for program point " + ppt_name, state);
+        }
       }
 
       // not vis.length, as that includes constants, derived variables, etc.
@@ -1895,8 +1918,14 @@ public final class FileIO {
       return;
     }
 
+    long start = Metrics.now();
+    long falsified = Metrics.falsified_so_far();
     @SuppressWarnings({"UnusedVariable", "nullness:contracts.precondition"})
     Object dummy = ppt.add_bottom_up(vt, 1);
+    Metrics.sample_added(ppt, start, falsified, all_ppts);
+
+    // Write a snapshot of the current invariants, if one is due
+    Checkpoint.sample_processed(all_ppts);
 
     if (debugVars.isLoggable(Level.FINE)) {
       debugVars.fine(ppt.name() + " vars: " + Debug.int_vars(ppt, vt));
@@ -2421,15 +2450,11 @@ public final class FileIO {
     for (int i = 0; i < filled_slots; i++) {
       assert !ppt.var_infos[i].isDerived();
     }
-    int num_const = ppt.num_static_constant_vars;
     for (int i = filled_slots; i < ppt.var_infos.length; i++) {
       assert ppt.var_infos[i].derived != null : "variable not derived: " + ppt.var_infos[i].repr();
-      assert ppt.var_infos[i].derived != null : "@AssumeAssertion(nullness): application invariant";
-      // Add this derived variable's value
-      ValueAndModified vm = ppt.var_infos[i].derived.computeValueAndModified(partial_vt);
-      vals[i - num_const] = vm.value;
-      mods[i - num_const] = vm.modified;
     }
+    ppt.derivation_plan = DerivationPlan.of(ppt, ppt.derivation_plan);
+    ppt.derivation_plan.compute(vals, mods, partial_vt);
   }
 
   ///////////////////////////////////////////////////////////////////////////
@@ -2460,13 +2485,19 @@ public final class FileIO {
   }
 
   /**
-   * Write a serialized PptMap to a file.
+   * Write a serialized PptMap to a file. The file is in the indexed format if {@link
+   * #dkconfig_indexed_inv_files} is true; otherwise the file is one serialized object. In either
+   * case, the file is gzipped if its name ends in {@code .gz}.
    *
    * @param map a PptMap
    * @param file the file to which to write
    * @throws IOException if there is trouble writing the file
    */
   public static void write_serialized_pptmap(PptMap map, File file) throws IOException {
+    if (dkconfig_indexed_inv_files) {
+      InvFile.write(map, file);
+      return;
+    }
     SerialFormat record = new SerialFormat(map, Configuration.getInstance());
     FilesPlume.writeObject(record, file);
   }
@@ -2478,6 +2509,36 @@ public final class FileIO {
   @EnsuresNonNull("FileIO.new_decl_format")
   public static PptMap read_serialized_pptmap(File file, boolean use_saved_config)
       throws IOException {
+    return read_serialized_pptmap(file, use_saved_config, null);
+  }
+
+  /**
+   * Read either a serialized PptMap or a InvMap and return a PptMap. If an InvMap is specified, it
+   * is converted to a PptMap.
+   *
+   * <p>If ppt_regexp is non-null and the file is in the indexed format, only the program points
+   * whose names match ppt_regexp are read, along with the other program points that they need
+   * (such as their parents in the program point hierarchy). Otherwise, every program point is read.
+   *
+   * @param file the file to read
+   * @param use_saved_config if true, overlay the configuration saved in the file on the current one
+   * @param ppt_regexp if non-null, the program points that the caller needs
+   * @return the program points read from the file
+   * @throws IOException if there is trouble reading the file
+   */
+  @EnsuresNonNull("FileIO.new_decl_format")
+  public static PptMap read_serialized_pptmap(
+      File file, boolean use_saved_config, @Nullable Pattern ppt_regexp) throws IOException {
+
+    if (InvFile.is_indexed(file)) {
+      try (InvFile inv_file = new InvFile(file)) {
+        if (use_saved_config) {
+          Configuration.getInstance().overlap(inv_file.config());
+        }
+        FileIO.new_decl_format = inv_file.new_decl_format();
+        return inv_file.read_matching(ppt_regexp);
+      }
+    }
 
     try {
       Object obj = FilesPlume.readObject(file);
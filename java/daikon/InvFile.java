@@ -0,0 +1,1220 @@
+package daikon;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import daikon.FileIO.ParentRelation;
+import daikon.PptRelation.PptRelationType;
+import daikon.config.Configuration;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Reads and writes the indexed {@code .inv} file format. Unlike the original format, which is a
+ * single Java serialization stream of the whole {@link PptMap}, an indexed file holds one
+ * independently-readable record per program point (or per small group of program points that refer
+ * to one another's invariants), plus a directory that maps each program point name to its record.
+ * A client can therefore load a single program point, or the ones whose names match a pattern,
+ * without deserializing the rest of the file.
+ *
+ * <p>The layout of an indexed file is:
+ *
+ * <pre>
+ *   magic number "DKINVIDX", format version (int)
+ *   header record: Daikon version, configuration, and FileIO.new_decl_format
+ *   one record per group of program points
+ *   directory: for each record, its offset;
+ *              for each program point, in PptMap order, its name and record number
+ *   offset of the directory (long)
+ * </pre>
+ *
+ * Each record is a deflate-compressed Java serialization stream, preceded by its length. Relations
+ * in the program point hierarchy ({@link PptRelation}) that cross from one record to another are
+ * not serialized as objects; they are stored as the names of their endpoints and the indices of the
+ * related variables, and are recreated when both endpoints have been loaded.
+ *
+ * <p>A file whose name ends in {@code .gz} has the same layout, but each of its parts (the magic
+ * number, format version, and header; each record; the directory; and the offset of the directory)
+ * is written as a gzip member of its own, and the offsets are those of the members. The file is
+ * therefore a valid gzip file, and a record can still be read without decompressing the others.
+ * Records are already compressed, so their members are stored without further compression, as is
+ * the last member, so that it has a fixed size and can be found from the end of the file.
+ *
+ * <p>Loading a program point also loads its ancestors in the hierarchy (which filters such as
+ * {@link daikon.inv.filter.ParentFilter} consult), and loading a combined exit point also loads its
+ * numbered exit points.
+ */
+public final class InvFile implements Closeable {
+
+  /** The magic number at the start of every indexed file. */
+  private static final byte[] MAGIC = "DKINVIDX".getBytes(UTF_8);
+
+  /**
+   * The size of the last gzip member of a gzipped file, which holds the offset of the directory.
+   * It is stored without compression, so its size does not depend on the offset.
+   */
+  private static final int GZIP_DIR_OFFSET_SIZE = gzip_dir_offset_size();
+
+  /**
+   * The version of the format that this class writes. Increment it when the layout changes; {@link
+   * InvFile#InvFile(File)} rejects files with a newer version.
+   */
+  public static final int FORMAT_VERSION = 1;
+
+  /** The file being read. */
+  private final File file;
+
+  /** The open file. */
+  private final RandomAccessFile raf;
+
+  /** True if the file being read is a sequence of gzip members. */
+  private final boolean gzipped;
+
+  /** The format version of the file being read. */
+  private final int version;
+
+  /** The header of the file being read. */
+  private final Header header;
+
+  /** Describes the version of Daikon that wrote the file, for error messages. */
+  private String written_by = "";
+
+  /** The offset of each record in the file. */
+  private final long[] record_offsets;
+
+  /** The offset of the directory in the file. */
+  private final long dir_offset;
+
+  /** All program point names in the file, in their original order. */
+  private final List<String> ppt_names;
+
+  /** Maps each program point name to the number of its record. */
+  private final Map<String, Integer> ppt_records;
+
+  /** The classes of the objects in the file; records refer to them by index. */
+  private final ClassEntry[] classes;
+
+  /** Which records have been loaded. */
+  private final boolean[] record_loaded;
+
+  /** The program points that have been loaded, by name. */
+  private final Map<String, PptTopLevel> loaded = new HashMap<>();
+
+  /**
+   * Records that {@link #prefetch} has read but that have not yet been loaded, by record number.
+   * Each is decompressed, but not yet deserialized.
+   */
+  private final Map<Integer, byte[]> prefetched = new ConcurrentHashMap<>();
+
+  /**
+   * For each loaded program point (including conditional ones) that refers to a relation in
+   * another record, the original contents of its parents and children lists. An element is either
+   * a {@link PptRelation} or a {@link RelationStub}.
+   */
+  private final Map<PptTopLevel, Object[][]> relation_lists = new IdentityHashMap<>();
+
+  /** Relations that have been recreated from stubs, by {@link RelationStub#key()}. */
+  private final Map<String, PptRelation> recreated_relations = new HashMap<>();
+
+  /**
+   * Opens an indexed file and reads its header and directory. No program points are loaded.
+   *
+   * @param file the file to read
+   * @throws IOException if the file cannot be read, is not an indexed file, or was written by a
+   *     newer version of Daikon
+   */
+  @SuppressWarnings("this-escape")
+  public InvFile(File file) throws IOException {
+    this.file = file;
+    this.gzipped = is_gzipped(file);
+    this.raf = new RandomAccessFile(file, "r");
+    boolean ok = false;
+    try {
+      byte[] start = read_start(file, MAGIC.length + Integer.BYTES);
+      if (start == null || !Arrays.equals(Arrays.copyOf(start, MAGIC.length), MAGIC)) {
+        throw new IOException(file + " is not an indexed .inv file");
+      }
+      version =
+          new DataInputStream(new ByteArrayInputStream(start, MAGIC.length, Integer.BYTES))
+              .readInt();
+      if (version > FORMAT_VERSION) {
+        throw new IOException(
+            String.format(
+                "%s has .inv format version %d, but this version of Daikon (%s) reads only"
+                    + " versions up to %d.  Please use a newer version of Daikon.",
+                file, version, Daikon.release_version, FORMAT_VERSION));
+      }
+
+      long dir_end = raf.length() - (gzipped ? GZIP_DIR_OFFSET_SIZE : Long.BYTES);
+      dir_offset = segment(dir_end, raf.length()).readLong();
+      DataInputStream dir = segment(dir_offset, dir_end);
+      int num_records = dir.readInt();
+      record_offsets = new long[num_records];
+      for (int i = 0; i < num_records; i++) {
+        record_offsets[i] = dir.readLong();
+      }
+      int num_ppts = dir.readInt();
+      ppt_names = new ArrayList<>(num_ppts);
+      ppt_records = new HashMap<>();
+      for (int i = 0; i < num_ppts; i++) {
+        String name = dir.readUTF().intern();
+        ppt_names.add(name);
+        ppt_records.put(name, dir.readInt());
+      }
+      int num_classes = dir.readInt();
+      classes = new ClassEntry[num_classes];
+      for (int i = 0; i < num_classes; i++) {
+        classes[i] = new ClassEntry(dir.readUTF(), dir.readLong(), dir.readUTF());
+      }
+      record_loaded = new boolean[num_records];
+
+      header = (Header) read_record(-1, "the header");
+      written_by = " (written by Daikon " + header.daikon_version + ")";
+      ok = true;
+    } finally {
+      if (!ok) {
+        raf.close();
+      }
+    }
+  }
+
+  /**
+   * Returns true if the given file is in the indexed format.
+   *
+   * @param file a file
+   * @return true if the file starts with the indexed format's magic number
+   * @throws IOException if the file cannot be read
+   */
+  public static boolean is_indexed(File file) throws IOException {
+    byte[] magic = read_start(file, MAGIC.length);
+    return magic != null && Arrays.equals(magic, MAGIC);
+  }
+
+  /**
+   * Returns true if the given file starts with the gzip magic number.
+   *
+   * @param file a file
+   * @return true if the file is gzipped
+   * @throws IOException if the file cannot be read
+   */
+  private static boolean is_gzipped(File file) throws IOException {
+    try (InputStream in = new FileInputStream(file)) {
+      return in.read() == 0x1f && in.read() == 0x8b;
+    }
+  }
+
+  /**
+   * Returns the first bytes of the contents of the given file, decompressed if it is gzipped.
+   *
+   * @param file a file
+   * @param len the number of bytes to read
+   * @return the first len bytes of the contents of the file, or null if it is shorter
+   * @throws IOException if the file cannot be read
+   */
+  private static byte @Nullable [] read_start(File file, int len) throws IOException {
+    byte[] result = new byte[len];
+    boolean gzipped = is_gzipped(file);
+    try (InputStream in =
+        gzipped ? new GZIPInputStream(new FileInputStream(file)) : new FileInputStream(file)) {
+      int read = 0;
+      while (read < len) {
+        int n = in.read(result, read, len - read);
+        if (n < 0) {
+          return null;
+        }
+        read += n;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the size of a gzip member that holds a long, stored without compression.
+   *
+   * @return the size of the last gzip member of a gzipped file
+   */
+  private static int gzip_dir_offset_size() {
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      ByteArrayOutputStream segment = new ByteArrayOutputStream();
+      new DataOutputStream(segment).writeLong(0);
+      write_segment(bytes, segment, true, Deflater.NO_COMPRESSION);
+      return bytes.size();
+    } catch (IOException e) {
+      throw new Error("writing to a ByteArrayOutputStream", e);
+    }
+  }
+
+  /** Returns the format version of this file. */
+  public int version() {
+    return version;
+  }
+
+  /** Returns the version of Daikon that wrote this file. */
+  public String daikon_version() {
+    return header.daikon_version;
+  }
+
+  /** Returns the configuration that was in effect when this file was written. */
+  public Configuration config() {
+    return header.config;
+  }
+
+  /** Returns the value of {@link FileIO#new_decl_format} when this file was written. */
+  public boolean new_decl_format() {
+    return header.new_decl_format;
+  }
+
+  /** Returns the names of all the program points in this file, in their original order. */
+  public List<String> ppt_names() {
+    return Collections.unmodifiableList(ppt_names);
+  }
+
+  /**
+   * Returns the named program point, loading it (and its ancestors) if necessary.
+   *
+   * @param name a program point name
+   * @return the program point, or null if it is not in the file
+   * @throws IOException if there is trouble reading the file
+   */
+  public @Nullable PptTopLevel get(String name) throws IOException {
+    if (!loaded.containsKey(name)) {
+      load(Collections.singletonList(name));
+    }
+    return loaded.get(name);
+  }
+
+  /**
+   * Loads every program point in the file.
+   *
+   * @return a map containing every program point
+   * @throws IOException if there is trouble reading the file
+   */
+  public PptMap read_all() throws IOException {
+    return read(ppt_names);
+  }
+
+  /**
+   * Loads the program points whose names match the given pattern (using {@link
+   * java.util.regex.Matcher#find}), plus the other program points they need.
+   *
+   * @param ppt_regexp the pattern to match, or null to load every program point
+   * @return a map containing every program point loaded so far
+   * @throws IOException if there is trouble reading the file
+   */
+  public PptMap read_matching(@Nullable Pattern ppt_regexp) throws IOException {
+    if (ppt_regexp == null) {
+      return read_all();
+    }
+    List<String> names = new ArrayList<>();
+    for (String name : ppt_names) {
+      if (ppt_regexp.matcher(name).find()) {
+        names.add(name);
+      }
+    }
+    return read(names);
+  }
+
+  /**
+   * Loads the named program points, plus the other program points they need.
+   *
+   * @param names the program points to load; names that are not in the file are ignored
+   * @return a map containing every program point loaded so far, in their original order
+   * @throws IOException if there is trouble reading the file
+   */
+  public PptMap read(Collection<String> names) throws IOException {
+    load(names);
+    PptMap result = new PptMap();
+    for (String name : ppt_names) {
+      PptTopLevel ppt = loaded.get(name);
+      if (ppt != null) {
+        result.add(ppt);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the number of program points (not counting conditional ones) that have been loaded and
+   * not unloaded.
+   *
+   * @return the number of loaded program points
+   */
+  public int num_loaded() {
+    return loaded.size();
+  }
+
+  /**
+   * Forgets every loaded program point, so that a client that processes a file a few program points
+   * at a time can bound its memory use. The program points that were returned earlier are not
+   * changed, but later calls read them from the file again, as new objects that are unrelated to
+   * the earlier ones.
+   */
+  public void unload() {
+    loaded.clear();
+    relation_lists.clear();
+    recreated_relations.clear();
+    Arrays.fill(record_loaded, false);
+  }
+
+  /**
+   * Loads the named program points and the ones they need, and reconnects the relations among all
+   * the loaded program points.
+   *
+   * @param names the program points to load
+   * @throws IOException if there is trouble reading the file
+   */
+  private void load(Collection<String> names) throws IOException {
+    Deque<String> worklist = new ArrayDeque<>(names);
+    while (!worklist.isEmpty()) {
+      String name = worklist.remove();
+      Integer record = ppt_records.get(name);
+      if (record == null) {
+        continue;
+      }
+      if (record_loaded[record]) {
+        // In case it was prefetched while it was being loaded.
+        prefetched.remove(record);
+        continue;
+      }
+      record_loaded[record] = true;
+      String description = "the record for program point " + name;
+      byte[] bytes = prefetched.remove(record);
+      PptTopLevel[] ppts =
+          (PptTopLevel[])
+              ((bytes != null)
+                  ? deserialize(new ByteArrayInputStream(bytes), description)
+                  : read_record(record, description));
+      for (PptTopLevel ppt : ppts) {
+        loaded.put(ppt.name(), ppt);
+        add_needed(ppt, worklist);
+        for (PptConditional pcond : ppt.cond_iterable()) {
+          add_needed(pcond, worklist);
+        }
+      }
+    }
+    relink();
+  }
+
+  /**
+   * Records the relation stubs of the given program point, and adds the program points that it
+   * needs to the worklist.
+   *
+   * @param ppt a newly-loaded program point
+   * @param worklist the names of program points to load
+   */
+  private void add_needed(PptTopLevel ppt, Deque<String> worklist) {
+    Object[] parents = ((List<?>) ppt.parents).toArray();
+    Object[] children = ((List<?>) ppt.children).toArray();
+    boolean has_stub = false;
+    for (Object o : parents) {
+      if (o instanceof RelationStub) {
+        has_stub = true;
+        worklist.add(((RelationStub) o).parent_name);
+      }
+    }
+    for (Object o : children) {
+      if (o instanceof RelationStub) {
+        has_stub = true;
+        RelationStub stub = (RelationStub) o;
+        if (ppt.ppt_name.isCombinedExitPoint()
+            && stub.relationship == PptRelationType.EXIT_EXITNN) {
+          worklist.add(stub.child_name);
+        }
+      }
+    }
+    if (ppt.parent_relations != null) {
+      for (ParentRelation pr : ppt.parent_relations) {
+        worklist.add(pr.parent_ppt_name);
+      }
+    }
+    if (has_stub) {
+      relation_lists.put(ppt, new Object[][] {parents, children});
+    }
+  }
+
+  /**
+   * Rebuilds the parents and children lists of every loaded program point that has relations to
+   * another record. Each list keeps its original order; relations whose other endpoint has not been
+   * loaded are omitted.
+   */
+  @SuppressWarnings("unchecked") // the lists temporarily held RelationStub objects
+  private void relink() {
+    for (Map.Entry<PptTopLevel, Object[][]> e : relation_lists.entrySet()) {
+      PptTopLevel ppt = e.getKey();
+      ppt.parents.clear();
+      for (Object o : e.getValue()[0]) {
+        PptRelation rel = resolve(o);
+        if (rel != null) {
+          ppt.parents.add(rel);
+        }
+      }
+      ppt.children.clear();
+      for (Object o : e.getValue()[1]) {
+        PptRelation rel = resolve(o);
+        if (rel != null) {
+          ppt.children.add(rel);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the relation represented by an element of an original parents or children list, or null
+   * if it refers to a program point that has not been loaded.
+   *
+   * @param o a PptRelation or a RelationStub
+   * @return the relation, or null if one of its endpoints has not been loaded
+   */
+  private @Nullable PptRelation resolve(Object o) {
+    if (o instanceof PptRelation) {
+      return (PptRelation) o;
+    }
+    RelationStub stub = (RelationStub) o;
+    String key = stub.key();
+    PptRelation rel = recreated_relations.get(key);
+    if (rel != null) {
+      return rel;
+    }
+    PptTopLevel parent = locate(stub.parent_name, stub.parent_cond);
+    PptTopLevel child = locate(stub.child_name, stub.child_cond);
+    if (parent == null || child == null) {
+      return null;
+    }
+    rel = PptRelation.newUnconnectedRel(parent, child, stub.relationship);
+    for (int i = 0; i < stub.p2c_parent.length; i++) {
+      rel.parent_to_child_map.put(
+          parent.var_infos[stub.p2c_parent[i]], child.var_infos[stub.p2c_child[i]]);
+    }
+    for (int i = 0; i < stub.c2p_child.length; i++) {
+      rel.child_to_parent_map.put(
+          child.var_infos[stub.c2p_child[i]], parent.var_infos[stub.c2p_parent[i]]);
+    }
+    recreated_relations.put(key, rel);
+    return rel;
+  }
+
+  /**
+   * Returns a loaded program point.
+   *
+   * @param name the name of a program point in the PptMap
+   * @param cond -1 for that program point, otherwise the index of one of its conditional program
+   *     points in {@link PptTopLevel#cond_iterable}
+   * @return the program point, or null if it has not been loaded
+   */
+  private @Nullable PptTopLevel locate(String name, int cond) {
+    PptTopLevel ppt = loaded.get(name);
+    if (ppt == null || cond < 0) {
+      return ppt;
+    }
+    int i = 0;
+    for (PptConditional pcond : ppt.cond_iterable()) {
+      if (i++ == cond) {
+        return pcond;
+      }
+    }
+    throw new Error(String.format("No conditional ppt %d at %s in %s", cond, name, file));
+  }
+
+  /**
+   * Returns the contents of a part of the file: its bytes, or, in a gzipped file, the decompressed
+   * contents of the gzip member there.
+   *
+   * @param start the offset of the part
+   * @param end the offset just past the part
+   * @return the contents of the part
+   * @throws IOException if there is trouble reading the file
+   */
+  private DataInputStream segment(long start, long end) throws IOException {
+    byte[] bytes = new byte[(int) (end - start)];
+    synchronized (raf) {
+      raf.seek(start);
+      raf.readFully(bytes);
+    }
+    InputStream in = new ByteArrayInputStream(bytes);
+    if (gzipped) {
+      in = new GZIPInputStream(in);
+    }
+    return new DataInputStream(in);
+  }
+
+  /**
+   * Reads one record, without decompressing it.
+   *
+   * @param record the number of the record, or -1 for the header
+   * @return the compressed record
+   * @throws IOException if there is trouble reading the file
+   */
+  private byte[] record_bytes(int record) throws IOException {
+    long start = (record < 0) ? 0 : record_offsets[record];
+    long end = (record + 1 < record_offsets.length) ? record_offsets[record + 1] : dir_offset;
+    DataInputStream in = segment(start, end);
+    if (record < 0) {
+      // The header follows the magic number and the format version.
+      in.readFully(new byte[MAGIC.length + Integer.BYTES]);
+    }
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return bytes;
+  }
+
+  /**
+   * Reads and deserializes one record.
+   *
+   * @param record the number of the record, or -1 for the header
+   * @param description a description of the record, for error messages
+   * @return the deserialized object
+   * @throws IOException if there is trouble reading the file
+   */
+  private Object read_record(int record, String description) throws IOException {
+    byte[] bytes = record_bytes(record);
+    return deserialize(new InflaterInputStream(new ByteArrayInputStream(bytes)), description);
+  }
+
+  /**
+   * Deserializes one record.
+   *
+   * @param record the decompressed record
+   * @param description a description of the record, for error messages
+   * @return the deserialized object
+   * @throws IOException if there is trouble deserializing the record
+   */
+  private Object deserialize(InputStream record, String description) throws IOException {
+    try (ObjectInputStream in = new RecordInputStream(record)) {
+      return in.readObject();
+    } catch (ClassNotFoundException | InvalidClassException e) {
+      throw new IOException(
+          String.format(
+              "Unable to read %s in %s%s, probably because a Daikon data structure has changed"
+                  + " since it was written.  Please regenerate the .inv file.  (%s)",
+              description, file, written_by, e),
+          e);
+    }
+  }
+
+  /**
+   * Reads and decompresses the record that holds the named program point, so that a later {@link
+   * #get} only has to deserialize it. This does no deserialization, and it is the only method that
+   * may be called concurrently with the other methods of this object, so clients can read ahead on
+   * other threads while they process the program points that have already been loaded. The record
+   * is held until it is loaded, even across {@link #unload}.
+   *
+   * @param name a program point name; nothing is done if it is not in the file
+   * @throws IOException if there is trouble reading the file
+   */
+  public void prefetch(String name) throws IOException {
+    Integer record = ppt_records.get(name);
+    if (record == null || prefetched.containsKey(record)) {
+      return;
+    }
+    byte[] bytes = record_bytes(record);
+    ByteArrayOutputStream inflated = new ByteArrayOutputStream(4 * bytes.length);
+    try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(bytes))) {
+      byte[] buf = new byte[8192];
+      int n;
+      while ((n = in.read(buf)) > 0) {
+        inflated.write(buf, 0, n);
+      }
+    }
+    prefetched.put(record, inflated.toByteArray());
+  }
+
+  @Override
+  public void close() throws IOException {
+    raf.close();
+  }
+
+  ///////////////////////////////////////////////////////////////////////////
+  /// Writing
+  ///
+
+  /**
+   * Writes a PptMap to a file in the indexed format. If the name of the file ends in {@code .gz},
+   * the file is gzipped, as described in the class comment.
+   *
+   * @param map the program points to write
+   * @param file the file to which to write
+   * @throws IOException if there is trouble writing the file
+   */
+  public static void write(PptMap map, File file) throws IOException {
+    List<PptTopLevel> ppts = new ArrayList<>(map.all_ppts());
+    Map<PptTopLevel, Integer> index = new IdentityHashMap<>();
+    for (int i = 0; i < ppts.size(); i++) {
+      index.put(ppts.get(i), i);
+    }
+
+    // Serialize each program point on its own.  A program point whose invariants refer to another
+    // one (for example, implications at a combined exit point over invariants at its numbered
+    // exits) must share a record with it, so union those together.
+    ClassTable table = new ClassTable();
+    int[] group = new int[ppts.size()];
+    byte[][] single = new byte[ppts.size()][];
+    for (int i = 0; i < ppts.size(); i++) {
+      group[i] = i;
+    }
+    for (int i = 0; i < ppts.size(); i++) {
+      Set<PptTopLevel> foreign = Collections.newSetFromMap(new IdentityHashMap<>());
+      PptTopLevel[] members = {ppts.get(i)};
+      single[i] = serialize(members, table, foreign);
+      for (PptTopLevel other : foreign) {
+        Integer j = index.get(other);
+        if (j != null) {
+          group[find(group, i)] = find(group, j);
+        }
+      }
+    }
+    Map<Integer, List<PptTopLevel>> groups = new LinkedHashMap<>();
+    for (int i = 0; i < ppts.size(); i++) {
+      groups.computeIfAbsent(find(group, i), k -> new ArrayList<>()).add(ppts.get(i));
+    }
+
+    boolean gzip = file.getName().endsWith(".gz");
+    try (CountingOutputStream counter =
+        new CountingOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+      // Each part of the file is assembled here, then written by write_segment.
+      ByteArrayOutputStream segment = new ByteArrayOutputStream();
+      DataOutputStream out = new DataOutputStream(segment);
+      out.write(MAGIC);
+      out.writeInt(FORMAT_VERSION);
+      write_record(out, serialize(new Header(), table, null));
+      write_segment(counter, segment, gzip, Deflater.DEFAULT_COMPRESSION);
+
+      Map<PptTopLevel, Integer> ppt_record = new IdentityHashMap<>();
+      long[] offsets = new long[groups.size()];
+      int record = 0;
+      for (List<PptTopLevel> members : groups.values()) {
+        byte[] bytes;
+        if (members.size() == 1) {
+          bytes = single[index.get(members.get(0))];
+        } else {
+          bytes = serialize(members.toArray(new PptTopLevel[0]), table, null);
+        }
+        offsets[record] = counter.count;
+        write_record(out, bytes);
+        write_segment(counter, segment, gzip, Deflater.NO_COMPRESSION);
+        for (PptTopLevel ppt : members) {
+          ppt_record.put(ppt, record);
+        }
+        record++;
+      }
+
+      long dir_offset = counter.count;
+      out.writeInt(offsets.length);
+      for (int i = 0; i < offsets.length; i++) {
+        out.writeLong(offsets[i]);
+      }
+      out.writeInt(ppts.size());
+      for (PptTopLevel ppt : ppts) {
+        out.writeUTF(ppt.name());
+        out.writeInt(ppt_record.get(ppt));
+      }
+      out.writeInt(table.entries.size());
+      for (ClassEntry entry : table.entries) {
+        out.writeUTF(entry.name);
+        out.writeLong(entry.suid);
+        out.writeUTF(entry.fields);
+      }
+      write_segment(counter, segment, gzip, Deflater.DEFAULT_COMPRESSION);
+      out.writeLong(dir_offset);
+      write_segment(counter, segment, gzip, Deflater.NO_COMPRESSION);
+    }
+  }
+
+  /**
+   * Writes one part of a file, and clears it. If gzip is true, the part is written as a gzip member
+   * of its own.
+   *
+   * @param out where to write
+   * @param segment the part to write
+   * @param gzip true if the file is gzipped
+   * @param level the compression level of the gzip member
+   * @throws IOException if there is trouble writing
+   */
+  private static void write_segment(
+      OutputStream out, ByteArrayOutputStream segment, boolean gzip, int level)
+      throws IOException {
+    if (gzip) {
+      try (GZIPOutputStream member = new LevelGZIPOutputStream(new NonClosingStream(out), level)) {
+        segment.writeTo(member);
+      }
+    } else {
+      segment.writeTo(out);
+    }
+    segment.reset();
+  }
+
+  /**
+   * Returns the representative of element i in a union-find forest.
+   *
+   * @param forest the parent of each element
+   * @param i an element
+   * @return the representative of i's set
+   */
+  private static int find(int[] forest, int i) {
+    while (forest[i] != i) {
+      forest[i] = forest[forest[i]];
+      i = forest[i];
+    }
+    return i;
+  }
+
+  /**
+   * Writes one record, preceded by its length.
+   *
+   * @param out where to write
+   * @param bytes the record
+   * @throws IOException if there is trouble writing
+   */
+  private static void write_record(DataOutputStream out, byte[] bytes) throws IOException {
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  /**
+   * Serializes and compresses an object.
+   *
+   * @param obj the header, or an array of the program points that make up one record
+   * @param table the classes written so far
+   * @param foreign if non-null, the program points outside the record that obj refers to are added
+   *     to it
+   * @return the compressed serialized form of obj
+   * @throws IOException if there is trouble serializing obj
+   */
+  private static byte[] serialize(
+      Object obj, ClassTable table, @Nullable Set<PptTopLevel> foreign) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    Set<PptTopLevel> members = Collections.newSetFromMap(new IdentityHashMap<>());
+    if (obj instanceof PptTopLevel[]) {
+      members.addAll(Arrays.asList((PptTopLevel[]) obj));
+    }
+    try (RecordOutputStream out = new RecordOutputStream(bytes, table, members, foreign)) {
+      out.writeObject(obj);
+    }
+    return bytes.toByteArray();
+  }
+
+  /** Returns the program point in the PptMap that ppt is, or is a conditional program point of. */
+  private static PptTopLevel root(PptTopLevel ppt) {
+    while (ppt instanceof PptConditional) {
+      ppt = ((PptConditional) ppt).parent;
+    }
+    return ppt;
+  }
+
+  /**
+   * An object stream that writes the program points of one record. It writes each class
+   * descriptor as an index into a table that is shared by all the records in the file, rather than
+   * repeating the descriptor in every record.
+   */
+  private static class RecordOutputStream extends ObjectOutputStream {
+
+    /** The classes written so far. */
+    private final ClassTable table;
+
+    /** The program points in the record. */
+    private final Set<PptTopLevel> members;
+
+    /** If non-null, the program points outside the record that it refers to. */
+    private final @Nullable Set<PptTopLevel> foreign;
+
+    /**
+     * Creates a stream that compresses its output.
+     *
+     * @param out where to write
+     * @param table the classes written so far
+     * @param members the program points in the record
+     * @param foreign if non-null, the set to which to add program points outside the record that
+     *     it refers to
+     * @throws IOException if there is trouble writing the stream header
+     */
+    RecordOutputStream(
+        OutputStream out,
+        ClassTable table,
+        Set<PptTopLevel> members,
+        @Nullable Set<PptTopLevel> foreign)
+        throws IOException {
+      super(new DeflaterOutputStream(out));
+      this.table = table;
+      this.members = members;
+      this.foreign = foreign;
+      enableReplaceObject(true);
+    }
+
+    @Override
+    protected Object replaceObject(Object obj) {
+      if (obj instanceof PptRelation) {
+        PptRelation rel = (PptRelation) obj;
+        if (!members.contains(root(rel.parent)) || !members.contains(root(rel.child))) {
+          return new RelationStub(rel);
+        }
+      } else if (obj instanceof PptTopLevel && foreign != null) {
+        PptTopLevel root = root((PptTopLevel) obj);
+        if (!members.contains(root)) {
+          foreign.add(root);
+        }
+      }
+      return obj;
+    }
+
+    @Override
+    protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+      writeInt(table.index(desc));
+    }
+  }
+
+  /** An object stream that reads one record, looking up class descriptors in {@link #classes}. */
+  private class RecordInputStream extends ObjectInputStream {
+
+    /**
+     * Creates a stream that reads a record.
+     *
+     * @param in the decompressed record
+     * @throws IOException if there is trouble reading the stream header
+     */
+    RecordInputStream(InputStream in) throws IOException {
+      super(in);
+    }
+
+    @Override
+    protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+      int index = readInt();
+      if (index < 0 || index >= classes.length) {
+        throw new IOException("Bad class index " + index + " in " + file);
+      }
+      return classes[index].local_descriptor();
+    }
+  }
+
+  /** The classes written to an indexed file, each of which is assigned an index. */
+  private static class ClassTable {
+
+    /** The classes, in order of their indices. */
+    final List<ClassEntry> entries = new ArrayList<>();
+
+    /** Maps a class name to its index. */
+    final Map<String, Integer> indices = new HashMap<>();
+
+    /**
+     * Returns the index of the given class, adding it to the table if necessary.
+     *
+     * @param desc a class descriptor
+     * @return the index of the class
+     */
+    int index(ObjectStreamClass desc) {
+      Integer index = indices.get(desc.getName());
+      if (index == null) {
+        index = entries.size();
+        entries.add(new ClassEntry(desc.getName(), desc.getSerialVersionUID(), fields(desc)));
+        indices.put(desc.getName(), index);
+      }
+      return index;
+    }
+  }
+
+  /**
+   * Returns a description of the serialized fields of a class. If it differs between the writer
+   * and the reader of a file, the file cannot be read.
+   *
+   * @param desc a class descriptor
+   * @return the names and types of the class's serialized fields
+   */
+  private static String fields(ObjectStreamClass desc) {
+    StringJoiner result = new StringJoiner(";");
+    for (ObjectStreamField field : desc.getFields()) {
+      String type =
+          field.isPrimitive() ? String.valueOf(field.getTypeCode()) : field.getTypeString();
+      result.add(type + " " + field.getName());
+    }
+    return result.toString();
+  }
+
+  /** A class that appears in an indexed file. */
+  private static class ClassEntry {
+
+    /** The class's name. */
+    final String name;
+
+    /** The class's serialVersionUID when the file was written. */
+    final long suid;
+
+    /** The class's serialized fields when the file was written; see {@link InvFile#fields}. */
+    final String fields;
+
+    /** The local descriptor for the class, or null if it has not been looked up yet. */
+    @Nullable ObjectStreamClass local = null;
+
+    /**
+     * Creates a ClassEntry.
+     *
+     * @param name the class's name
+     * @param suid the class's serialVersionUID
+     * @param fields the class's serialized fields
+     */
+    ClassEntry(String name, long suid, String fields) {
+      this.name = name;
+      this.suid = suid;
+      this.fields = fields;
+    }
+
+    /**
+     * Returns the descriptor of the local version of this class.
+     *
+     * @return the descriptor of the local version of this class
+     * @throws ClassNotFoundException if the class does not exist
+     * @throws InvalidClassException if the class has changed since the file was written
+     */
+    ObjectStreamClass local_descriptor() throws ClassNotFoundException, InvalidClassException {
+      if (local == null) {
+        Class<?> c = Class.forName(name, false, InvFile.class.getClassLoader());
+        ObjectStreamClass desc = ObjectStreamClass.lookupAny(c);
+        if (desc.getSerialVersionUID() != suid || !fields(desc).equals(fields)) {
+          throw new InvalidClassException(name, "the class has changed since the file was written");
+        }
+        local = desc;
+      }
+      return local;
+    }
+  }
+
+  /** A gzip stream that compresses at a given level. */
+  private static class LevelGZIPOutputStream extends GZIPOutputStream {
+
+    /**
+     * Creates a LevelGZIPOutputStream.
+     *
+     * @param out where to write
+     * @param level the compression level, as for {@link Deflater#setLevel}
+     * @throws IOException if the gzip header cannot be written
+     */
+    LevelGZIPOutputStream(OutputStream out, int level) throws IOException {
+      super(out);
+      def.setLevel(level);
+    }
+  }
+
+  /** An output stream that does not close the stream it writes to. */
+  private static class NonClosingStream extends FilterOutputStream {
+
+    /**
+     * Creates a NonClosingStream.
+     *
+     * @param out where to write
+     */
+    NonClosingStream(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+    }
+
+    @Override
+    public void close() throws IOException {
+      flush();
+    }
+  }
+
+  /** An output stream that counts the bytes written to it. */
+  private static class CountingOutputStream extends FilterOutputStream {
+
+    /** The number of bytes written so far. */
+    long count = 0;
+
+    /**
+     * Creates a CountingOutputStream.
+     *
+     * @param out where to write
+     */
+    CountingOutputStream(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+      count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+      count += len;
+    }
+  }
+
+  /** The header record of an indexed file. */
+  private static class Header implements Serializable {
+    // We are Serializable, so we specify a version to allow changes to
+    // method signatures without breaking serialization.  If you add or
+    // remove fields, you should change this number to the current date.
+    static final long serialVersionUID = 20261019L;
+
+    /** The version of Daikon that wrote the file. */
+    final String daikon_version;
+
+    /** The configuration when the file was written. */
+    final Configuration config;
+
+    /** The value of {@link FileIO#new_decl_format} when the file was written. */
+    final boolean new_decl_format;
+
+    /** Creates a header that describes the current state of Daikon. */
+    Header() {
+      daikon_version = Daikon.release_version;
+      config = Configuration.getInstance();
+      new_decl_format = (FileIO.new_decl_format != null) && FileIO.new_decl_format;
+    }
+  }
+
+  /**
+   * Stands in for a PptRelation whose endpoints are in different records. It identifies the
+   * endpoints by name and the related variables by index.
+   */
+  private static class RelationStub implements Serializable {
+    // We are Serializable, so we specify a version to allow changes to
+    // method signatures without breaking serialization.  If you add or
+    // remove fields, you should change this number to the current date.
+    static final long serialVersionUID = 20261019L;
+
+    /** The name of the parent, or of the program point whose conditional is the parent. */
+    final String parent_name;
+
+    /** See {@link InvFile#locate}. */
+    final int parent_cond;
+
+    /** The name of the child, or of the program point whose conditional is the child. */
+    final String child_name;
+
+    /** See {@link InvFile#locate}. */
+    final int child_cond;
+
+    /** The type of the relation. */
+    final PptRelationType relationship;
+
+    /**
+     * Distinguishes this relation from others between the same endpoints with the same type: the
+     * number of such relations that precede it in the parent's children list.
+     */
+    final int ordinal;
+
+    /** The parent variable indices of parent_to_child_map, in order. */
+    final int[] p2c_parent;
+
+    /** The child variable indices of parent_to_child_map, in order. */
+    final int[] p2c_child;
+
+    /** The child variable indices of child_to_parent_map, in order. */
+    final int[] c2p_child;
+
+    /** The parent variable indices of child_to_parent_map, in order. */
+    final int[] c2p_parent;
+
+    /**
+     * Creates a stub for the given relation.
+     *
+     * @param rel a relation
+     */
+    RelationStub(PptRelation rel) {
+      parent_name = root(rel.parent).name();
+      parent_cond = cond_index(rel.parent);
+      child_name = root(rel.child).name();
+      child_cond = cond_index(rel.child);
+      relationship = rel.relationship;
+      int n = 0;
+      for (PptRelation other : rel.parent.children) {
+        if (other == rel) {
+          break;
+        }
+        if (other.child == rel.child && other.relationship == rel.relationship) {
+          n++;
+        }
+      }
+      ordinal = n;
+      p2c_parent = new int[rel.parent_to_child_map.size()];
+      p2c_child = new int[p2c_parent.length];
+      int i = 0;
+      for (Map.Entry<VarInfo, VarInfo> e : rel.parent_to_child_map.entrySet()) {
+        p2c_parent[i] = e.getKey().varinfo_index;
+        p2c_child[i] = e.getValue().varinfo_index;
+        i++;
+      }
+      c2p_child = new int[rel.child_to_parent_map.size()];
+      c2p_parent = new int[c2p_child.length];
+      i = 0;
+      for (Map.Entry<VarInfo, VarInfo> e : rel.child_to_parent_map.entrySet()) {
+        c2p_child[i] = e.getKey().varinfo_index;
+        c2p_parent[i] = e.getValue().varinfo_index;
+        i++;
+      }
+    }
+
+    /**
+     * Returns the index of a conditional program point among its parent's conditional program
+     * points, or -1 if ppt is not conditional.
+     */
+    private static int cond_index(PptTopLevel ppt) {
+      if (!(ppt instanceof PptConditional)) {
+        return -1;
+      }
+      int i = 0;
+      for (PptConditional pcond : root(ppt).cond_iterable()) {
+        if (pcond == ppt) {
+          return i;
+        }
+        i++;
+      }
+      throw new Error("Conditional ppt " + ppt.name() + " not found in its parent");
+    }
+
+    /** Returns a string that is the same for the two stubs of one relation. */
+    String key() {
+      return String.join(
+          "\u0000",
+          parent_name,
+          Integer.toString(parent_cond),
+          child_name,
+          Integer.toString(child_cond),
+          relationship.name(),
+          Integer.toString(ordinal));
+    }
+  }
+}
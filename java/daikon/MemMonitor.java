@@ -4,71 +4,412 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.StandardOpenOption.APPEND;
 import static java.nio.file.StandardOpenOption.CREATE;
 
+import com.sun.management.GarbageCollectionNotificationInfo;
+import daikon.inv.Invariant;
+import daikon.inv.ValueSet;
 import java.io.PrintWriter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import org.checkerframework.checker.initialization.qual.UnknownInitialization;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
-public class MemMonitor implements Runnable {
+/**
+ * Memory accounting for a Daikon run. It has two parts.
+ *
+ * <p>The peak heap usage of the JVM is obtained from garbage collection notifications, so it costs
+ * nothing between collections. Just before a collection the heap is at a local maximum, so the
+ * largest heap usage before any collection is the peak; the largest usage after any collection is
+ * the peak of the data that is actually live.
+ *
+ * <p>The memory retained by each program point is estimated: its slices and invariants, its {@link
+ * ValueSet}s, its {@link ModBitTracker}, and its {@link DynamicConstants}. The estimate for the
+ * slices and invariants, which are the bulk of it, is maintained incrementally by {@link
+ * PptTopLevel#addSlice}, {@link PptTopLevel#removeSlice}, and the methods that add and remove
+ * invariants; the other parts have a size proportional to the number of variables and are
+ * estimated when they are asked for. The estimates assume a 64-bit JVM with compressed object
+ * pointers, and count each object and the arrays that it refers to directly, but not objects that
+ * are shared, such as VarInfos and interned values. They are meant to show which program points
+ * use the memory, not to add up to the heap usage.
+ *
+ * <p>Accounting is done when {@link #enabled} is set, which happens for the {@code --mem_stat}
+ * command-line option and when {@link Metrics} are collected. The {@code --mem_stat} option writes
+ * the peaks and the estimate for each program point to the file {@code stat.out}, largest first.
+ */
+public class MemMonitor {
 
-  boolean keep_going;
-  long max_mem_usage;
+  /** True if the memory of each program point is being estimated. */
+  public static boolean enabled = false;
+
+  /** The size of an object header. */
+  private static final int OBJECT_HEADER = 12;
+
+  /** The size of an array header. */
+  private static final int ARRAY_HEADER = 16;
+
+  /** The size of a (compressed) reference. */
+  private static final int REFERENCE = 4;
+
+  /** The shallow size of each class. */
+  private static final ClassValue<Long> shallow_sizes =
+      new ClassValue<Long>() {
+        @Override
+        protected Long computeValue(Class<?> c) {
+          long size = OBJECT_HEADER;
+          for (Class<?> k = c; k != null; k = k.getSuperclass()) {
+            for (Field f : k.getDeclaredFields()) {
+              if (!Modifier.isStatic(f.getModifiers())) {
+                size += field_size(f.getType());
+              }
+            }
+          }
+          return align(size);
+        }
+      };
+
+  /** The fields of each class that hold arrays and that can be read by reflection. */
+  private static final ClassValue<Field[]> array_fields =
+      new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(Class<?> c) {
+          List<Field> result = new ArrayList<>();
+          for (Class<?> k = c; k != null; k = k.getSuperclass()) {
+            for (Field f : k.getDeclaredFields()) {
+              if (!Modifier.isStatic(f.getModifiers()) && f.getType().isArray()) {
+                try {
+                  f.setAccessible(true);
+                  result.add(f);
+                } catch (RuntimeException e) {
+                  // The field is in a module that is not open to Daikon; skip it.
+                }
+              }
+            }
+          }
+          return result.toArray(new Field[0]);
+        }
+      };
+
+  /** The number of users of the garbage collection listeners; see {@link #watch_gc}. */
+  private static int gc_watchers = 0;
+
+  /** The garbage collectors to which {@link #gc_listener} has been added. */
+  private static final List<NotificationEmitter> gc_emitters = new ArrayList<>();
+
+  /** Records the heap usage around each garbage collection. */
+  private static final NotificationListener gc_listener = MemMonitor::gc_notification;
+
+  /** The largest heap usage seen just before a garbage collection. */
+  private static volatile long peak_heap = 0;
+
+  /** The largest heap usage seen just after a garbage collection. */
+  private static volatile long peak_live = 0;
+
+  /** The number of garbage collections seen. */
+  private static volatile long gc_count = 0;
+
+  /** The file to which the memory statistics are written. */
   String filename;
 
+  /**
+   * Creates a MemMonitor that writes to the given file, and starts watching garbage collections.
+   *
+   * @param filename the file to write
+   */
   public MemMonitor(String filename) {
     this.filename = filename;
     try (PrintWriter fout = new PrintWriter(Files.newBufferedWriter(Paths.get(filename), UTF_8))) {
-
-      keep_going = true;
-      max_mem_usage = 0;
-
-      long initial_mem_load = mem_usage();
-      fout.println("Initial memory load, " + initial_mem_load);
-      fout.println(
-          "Format: pptName, peak_mem_usage, num_samples, num_static_vars, num_orig_vars,"
-              + " num_scalar_vars, num_array_vars, num_derived_scalar_vars,"
-              + " num_derived_array_vars");
+      fout.println("Initial memory load, " + mem_usage());
     } catch (java.io.IOException e) {
       throw new Error("could not open " + filename, e);
     }
+    watch_gc();
   }
 
-  private long mem_usage(@UnknownInitialization(MemMonitor.class) MemMonitor this) {
+  /**
+   * Returns the memory currently used by the heap.
+   *
+   * @return the memory currently used by the heap
+   */
+  private static long mem_usage() {
     return (java.lang.Runtime.getRuntime().totalMemory()
         - java.lang.Runtime.getRuntime().freeMemory());
   }
 
-  @Override
-  public void run() {
-    while (keep_going) {
-      max_mem_usage = Math.max(max_mem_usage, mem_usage());
+  /**
+   * Stops watching garbage collections, and writes the peak memory usage and the estimated memory
+   * of each program point, largest first.
+   *
+   * @param all_ppts the program points
+   */
+  public void stop(PptMap all_ppts) {
+    unwatch_gc();
+    List<PptTopLevel> ppts = new ArrayList<>();
+    for (PptTopLevel ppt : all_ppts.ppt_all_iterable()) {
+      ppts.add(ppt);
     }
-  }
-
-  public void end_of_iteration(
-      String pptName,
-      int num_samples,
-      int num_static_vars,
-      int num_orig_vars,
-      int num_scalar_vars,
-      int num_array_vars,
-      int num_derived_scalar_vars,
-      int num_derived_array_vars) {
+    Map<PptTopLevel, Long> sizes = new IdentityHashMap<>();
+    for (PptTopLevel ppt : ppts) {
+      sizes.put(ppt, ppt.estimated_size());
+    }
+    Collections.sort(ppts, (p1, p2) -> Long.compare(sizes.get(p2), sizes.get(p1)));
 
     try (PrintWriter fout =
         new PrintWriter(Files.newBufferedWriter(Paths.get(filename), UTF_8, CREATE, APPEND))) {
-
-      fout.print(pptName + ", " + max_mem_usage + ", " + num_samples + ", ");
-      fout.print(num_static_vars + ", " + num_orig_vars + ", " + num_scalar_vars + ", ");
-      fout.println(num_array_vars + ", " + num_derived_scalar_vars + ", " + num_derived_array_vars);
-
-      max_mem_usage = mem_usage();
+      fout.println("Peak memory load, " + peak_heap());
+      fout.println("Peak live memory, " + peak_live());
+      fout.println("Garbage collections, " + gc_count);
+      fout.println(
+          "Format: pptName, estimated_bytes, peak_slice_bytes, num_samples, num_slices,"
+              + " num_invariants, slice_bytes, value_set_bytes, modbit_bytes, constant_bytes");
+      for (PptTopLevel ppt : ppts) {
+        fout.print(ppt.name() + ", " + sizes.get(ppt) + ", " + ppt.peak_slice_bytes + ", ");
+        fout.print(ppt.num_samples() + ", " + ppt.numViews() + ", " + ppt.invariant_cnt() + ", ");
+        fout.print(ppt.slice_bytes + ", " + value_sets_size(ppt.value_sets) + ", ");
+        fout.print(ppt.mbtracker.estimated_size() + ", ");
+        fout.println((ppt.constants == null) ? 0 : ppt.constants.estimated_size());
+      }
     } catch (java.io.IOException e) {
       System.out.println("could not open " + filename);
     }
   }
 
-  public void stop() {
-    keep_going = false;
+  ///////////////////////////////////////////////////////////////////////////
+  /// Garbage collection peaks
+  ///
+
+  /**
+   * Starts recording the heap usage at each garbage collection, if it is not already being
+   * recorded. Each call must be matched by a call to {@link #unwatch_gc}.
+   */
+  public static synchronized void watch_gc() {
+    if (gc_watchers++ > 0) {
+      return;
+    }
+    peak_heap = 0;
+    peak_live = 0;
+    gc_count = 0;
+    for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+      if (gc instanceof NotificationEmitter) {
+        NotificationEmitter emitter = (NotificationEmitter) gc;
+        emitter.addNotificationListener(gc_listener, null, null);
+        gc_emitters.add(emitter);
+      }
+    }
+  }
+
+  /** Stops recording the heap usage at each garbage collection, once nothing else needs it. */
+  public static synchronized void unwatch_gc() {
+    if (gc_watchers == 0 || --gc_watchers > 0) {
+      return;
+    }
+    for (NotificationEmitter emitter : gc_emitters) {
+      try {
+        emitter.removeNotificationListener(gc_listener);
+      } catch (ListenerNotFoundException e) {
+        // The listener was never added; nothing to do.
+      }
+    }
+    gc_emitters.clear();
+  }
+
+  /**
+   * Returns the peak heap usage since {@link #watch_gc} was called. This is the usage just before
+   * the fullest garbage collection, or the current usage if that is larger.
+   *
+   * @return the peak heap usage
+   */
+  public static long peak_heap() {
+    return Math.max(peak_heap, mem_usage());
+  }
+
+  /**
+   * Returns the largest heap usage after a garbage collection since {@link #watch_gc} was called:
+   * the peak of the memory that was actually live. It is 0 if there has been no collection.
+   *
+   * @return the peak live heap usage
+   */
+  public static long peak_live() {
+    return peak_live;
+  }
+
+  /**
+   * Returns the number of garbage collections since {@link #watch_gc} was called.
+   *
+   * @return the number of garbage collections
+   */
+  public static long gc_count() {
+    return gc_count;
+  }
+
+  /**
+   * Records the heap usage before and after a garbage collection. This is called on a thread of
+   * the JVM's, not on Daikon's.
+   *
+   * @param n the notification
+   * @param handback unused
+   */
+  private static void gc_notification(Notification n, @Nullable Object handback) {
+    if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(n.getType())) {
+      return;
+    }
+    GarbageCollectionNotificationInfo info =
+        GarbageCollectionNotificationInfo.from((CompositeData) n.getUserData());
+    long before = 0;
+    for (MemoryUsage mu : info.getGcInfo().getMemoryUsageBeforeGc().values()) {
+      before += mu.getUsed();
+    }
+    long after = 0;
+    for (MemoryUsage mu : info.getGcInfo().getMemoryUsageAfterGc().values()) {
+      after += mu.getUsed();
+    }
+    synchronized (gc_emitters) {
+      gc_count++;
+      peak_heap = Math.max(peak_heap, before);
+      peak_live = Math.max(peak_live, after);
+    }
+  }
+
+  ///////////////////////////////////////////////////////////////////////////
+  /// Size estimates
+  ///
+
+  /**
+   * Returns the size of a field of the given type.
+   *
+   * @param type the type of a field
+   * @return the bytes that the field takes in its object
+   */
+  private static int field_size(Class<?> type) {
+    if (!type.isPrimitive()) {
+      return REFERENCE;
+    } else if (type == long.class || type == double.class) {
+      return 8;
+    } else if (type == int.class || type == float.class) {
+      return 4;
+    } else if (type == short.class || type == char.class) {
+      return 2;
+    } else {
+      return 1;
+    }
+  }
+
+  /**
+   * Rounds a size up to a multiple of 8, the alignment of objects.
+   *
+   * @param size a size
+   * @return size, rounded up to a multiple of 8
+   */
+  private static long align(long size) {
+    return (size + 7) & ~7L;
+  }
+
+  /**
+   * Returns the estimated size of an object, not counting the objects that it refers to.
+   *
+   * @param c the class of the object
+   * @return the estimated size of an instance of c
+   */
+  public static long shallow_size(Class<?> c) {
+    return shallow_sizes.get(c);
+  }
+
+  /**
+   * Returns the estimated size of an array, not counting the objects that it refers to.
+   *
+   * @param array an array
+   * @return the estimated size of array
+   */
+  public static long array_size(Object array) {
+    return align(
+        ARRAY_HEADER
+            + (long) Array.getLength(array) * field_size(array.getClass().getComponentType()));
+  }
+
+  /**
+   * Returns the estimated size of a list that is implemented by an array, such as an ArrayList,
+   * not counting its elements.
+   *
+   * @param list a list
+   * @return the estimated size of list
+   */
+  public static long list_size(List<?> list) {
+    return shallow_size(list.getClass()) + align(ARRAY_HEADER + (long) list.size() * REFERENCE);
+  }
+
+  /**
+   * Returns the estimated size of an object and of the arrays that it refers to directly.
+   *
+   * @param o an object, or null
+   * @return the estimated size of o and its arrays, or 0 if o is null
+   */
+  public static long estimated_size(@Nullable Object o) {
+    if (o == null) {
+      return 0;
+    }
+    long size = shallow_size(o.getClass());
+    for (Field f : array_fields.get(o.getClass())) {
+      try {
+        Object array = f.get(o);
+        if (array != null) {
+          size += array_size(array);
+        }
+      } catch (IllegalAccessException e) {
+        throw new Error("field " + f + " was made accessible", e);
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Returns the estimated size of a BitSet.
+   *
+   * @param bs a BitSet
+   * @return the estimated size of bs
+   */
+  public static long bitset_size(BitSet bs) {
+    return shallow_size(BitSet.class) + align(ARRAY_HEADER + bs.size() / 8);
+  }
+
+  /**
+   * Returns the estimated size of a slice and of its invariants.
+   *
+   * @param slice a slice
+   * @return the estimated size of slice and its invariants
+   */
+  public static long slice_size(PptSlice slice) {
+    long size = estimated_size(slice) + list_size(slice.invs);
+    for (Invariant inv : slice.invs) {
+      size += estimated_size(inv);
+    }
+    return size;
+  }
+
+  /**
+   * Returns the estimated size of the ValueSets of a program point.
+   *
+   * @param value_sets the ValueSets of a program point
+   * @return the estimated size of value_sets and their contents
+   */
+  public static long value_sets_size(ValueSet[] value_sets) {
+    long size = array_size(value_sets);
+    for (ValueSet vs : value_sets) {
+      size += estimated_size(vs);
+    }
+    return size;
   }
 }
@@ -7,15 +7,22 @@ import daikon.split.PptSplitter;
 import daikon.suppress.NIS;
 import gnu.getopt.Getopt;
 import gnu.getopt.LongOpt;
+import java.io.Closeable;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.OptionalDataException;
 import java.io.StreamCorruptedException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -30,12 +37,44 @@ import org.plumelib.util.StringsPlume;
  * <p>The ppts from each invariant file are merged to create a single ppt map that contains the ppts
  * from all of the files. At each leaf of the merged map, a hierarchy is formed to the ppts from
  * each of the input files.
+ *
+ * <p>If every input file is in the indexed format (see {@link InvFile}) and no {@code .spinfo}
+ * files are given, the input files are not read all at once. Instead, the leaves are merged one at
+ * a time, and only the program points of the input files that the current leaf needs are kept in
+ * memory. The result is the same.
  */
 public final class MergeInvariants {
   private MergeInvariants() {
     throw new Error("do not instantiate");
   }
 
+  // Variables starting with dkconfig_ should only be set via the
+  // daikon.config.Configuration interface.
+
+  /**
+   * If true, and every input file is in the indexed format, merge the leaves one at a time instead
+   * of reading every input file into memory first.
+   */
+  public static boolean dkconfig_streaming = true;
+
+  /**
+   * When merging one leaf at a time, the number of leaves after the current one whose input
+   * records are read and decompressed ahead of time, on other threads.
+   */
+  public static int dkconfig_read_ahead = 4;
+
+  /**
+   * When merging one leaf at a time, the number of threads that read ahead. If 0 or less, the
+   * number of available processors is used.
+   */
+  public static int dkconfig_read_threads = 0;
+
+  /**
+   * When merging one leaf at a time, the number of program points that may be loaded from each
+   * input file before they are all discarded.
+   */
+  public static int dkconfig_max_loaded_ppts = 64;
+
   /** Debug logger. */
   public static final Logger debug = Logger.getLogger("daikon.MergeInvariants");
 
@@ -209,14 +248,21 @@ public final class MergeInvariants {
     Daikon.setup_proto_invs();
     NIS.init_ni_suppression();
 
-    // Read in each of the specified maps
+    // Read in each of the specified maps, or, if the leaves will be merged one at a time, just
+    // open them.
     List<PptMap> pptmaps = new ArrayList<>();
-    for (File file : inv_files) {
-      debugProgress.fine("Processing " + file);
-      PptMap ppts = FileIO.read_serialized_pptmap(file, true);
-      ppts.repCheck();
-      pptmaps.add(ppts);
-      Debug.check(ppts, "After initial reading of " + file);
+    LeafReader reader = null;
+    if (dkconfig_streaming && splitter_files.isEmpty() && all_indexed(inv_files)) {
+      debugProgress.fine("Opening " + inv_files);
+      reader = new LeafReader(inv_files);
+    } else {
+      for (File file : inv_files) {
+        debugProgress.fine("Processing " + file);
+        PptMap ppts = FileIO.read_serialized_pptmap(file, true);
+        ppts.repCheck();
+        pptmaps.add(ppts);
+        Debug.check(ppts, "After initial reading of " + file);
+      }
     }
 
     // Merged ppt map (result of merging each specified inv file)
@@ -282,7 +328,7 @@ public final class MergeInvariants {
     // should only be created at the exitNN points (i.e., the leaves)
     // so that the normal processing will create the invariants at
     // upper points.
-    debugProgress.fine("Building hierarchy between leaves of the maps");
+    List<PptTopLevel> leaves = new ArrayList<>();
     for (PptTopLevel ppt : merge_ppts.pptIterable()) {
 
       // Skip everything that is not a final exit point
@@ -294,75 +340,44 @@ public final class MergeInvariants {
         assert ppt.children.size() > 0 : ppt;
         continue;
       }
+      leaves.add(ppt);
+    }
 
-      // System.out.printf("Including ppt %s, %d children%n", ppt,
-      //                   ppt.children.size());
-
-      // Splitters should not have any children to begin with
-      if (ppt.has_splitters()) {
-        assert ppt.splitters != null; // because ppt.has_splitters() = true
-        for (PptSplitter ppt_split : ppt.splitters) {
-          for (PptTopLevel p : ppt_split.ppts) {
-            assert p.children.size() == 0 : p;
-          }
+    if (reader == null) {
+      debugProgress.fine("Building hierarchy between leaves of the maps");
+      for (PptTopLevel ppt : leaves) {
+        List<@Nullable PptTopLevel> children = new ArrayList<>(pptmaps.size());
+        for (PptMap pmap : pptmaps) {
+          children.add(pmap.get(ppt.name()));
         }
+        add_leaf_children(ppt, children, inv_files);
       }
-
-      // Loop over each of the input ppt maps, looking for the same ppt
-      for (int j = 0; j < pptmaps.size(); j++) {
-        PptMap pmap = pptmaps.get(j);
-        PptTopLevel child = pmap.get(ppt.name());
-        // System.out.printf("found child %s from pmap %d%n", child, j);
-        if (child == null) {
-          continue;
-        }
-        if (child.equality_view == null) {
-          System.out.println(
-              "equality_view == null in child ppt: "
-                  + child.name()
-                  + " ("
-                  + inv_files.get(j)
-                  + ")");
-        } else if (child.equality_view.invs == null) {
-          System.out.println(
-              "equality_view.invs == null in child ppt: "
-                  + child.name()
-                  + " ("
-                  + inv_files.get(j)
-                  + ")"
-                  + " samples = "
-                  + child.num_samples());
-        }
-
-        // Remove the equality invariants added during equality post
-        // processing.  These are not over leaders and will cause problems
-        // in the merge
-        child.remove_equality_invariants();
-        child.in_merge = false;
-
-        // Remove implications, they don't merge correctly
-        child.remove_implications();
-
-        // If the ppt has splitters, attach the child's splitters to the
-        // splitters.  Don't attach the ppt itself, as its invariants can
-        // be built from the invariants in the splitters.
-        if (ppt.has_splitters()) {
-          assert ppt.splitters != null; // because ppt.has_splitters() = true
-          setup_conditional_merge(ppt, child);
-        } else {
-          PptRelation.newMergeChildRel(ppt, child);
+    } else {
+      // Merge each leaf as soon as its children are read, then unlink them so that they
+      // can be discarded.  Daikon.createUpperPpts skips the leaves, which are already merged.
+      debugProgress.fine("Merging the leaves of the maps");
+      try {
+        List<String> leaf_names = new ArrayList<>(leaves.size());
+        for (PptTopLevel ppt : leaves) {
+          leaf_names.add(ppt.name());
         }
-      }
-
-      // Make sure at least one child was found
-      assert ppt.children.size() > 0 : ppt;
-      if (ppt.has_splitters()) {
-        assert ppt.splitters != null; // because ppt.has_splitters() = true
-        for (PptSplitter ppt_split : ppt.splitters) {
-          for (PptTopLevel p : ppt_split.ppts) {
-            assert p.children.size() > 0 : p;
+        reader.start(leaf_names);
+        for (PptTopLevel ppt : leaves) {
+          List<@Nullable PptTopLevel> children = reader.next();
+          for (PptTopLevel child : children) {
+            if (child != null) {
+              child.repCheck();
+            }
+          }
+          add_leaf_children(ppt, children, inv_files);
+          ppt.mergeInvs();
+          ppt.children.clear();
+          for (PptConditional cond : ppt.cond_iterable()) {
+            cond.children.clear();
           }
         }
+      } finally {
+        reader.close();
       }
     }
 
@@ -427,6 +442,104 @@ public final class MergeInvariants {
     }
   }
 
+  /**
+   * Returns true if every one of the given files is in the indexed format.
+   *
+   * @param files the files to check
+   * @return true if every file is an indexed {@code .inv} file
+   * @throws IOException if there is trouble reading one of the files
+   */
+  private static boolean all_indexed(List<File> files) throws IOException {
+    for (File file : files) {
+      if (!InvFile.is_indexed(file)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Creates a hierarchy between a leaf of the merged map (an exitNN point) and the corresponding
+   * program points in each of the input maps.
+   *
+   * @param ppt a leaf of the merged map
+   * @param children the program point with the same name in each input map, or null if there is
+   *     none
+   * @param inv_files the input files, in the same order as children
+   */
+  private static void add_leaf_children(
+      PptTopLevel ppt, List<@Nullable PptTopLevel> children, List<File> inv_files) {
+
+    // System.out.printf("Including ppt %s, %d children%n", ppt,
+    //                   ppt.children.size());
+
+    // Splitters should not have any children to begin with
+    if (ppt.has_splitters()) {
+      assert ppt.splitters != null; // because ppt.has_splitters() = true
+      for (PptSplitter ppt_split : ppt.splitters) {
+        for (PptTopLevel p : ppt_split.ppts) {
+          assert p.children.size() == 0 : p;
+        }
+      }
+    }
+
+    // Loop over each of the input ppt maps, looking for the same ppt
+    for (int j = 0; j < children.size(); j++) {
+      PptTopLevel child = children.get(j);
+      // System.out.printf("found child %s from pmap %d%n", child, j);
+      if (child == null) {
+        continue;
+      }
+      if (child.equality_view == null) {
+        System.out.println(
+            "equality_view == null in child ppt: "
+                + child.name()
+                + " ("
+                + inv_files.get(j)
+                + ")");
+      } else if (child.equality_view.invs == null) {
+        System.out.println(
+            "equality_view.invs == null in child ppt: "
+                + child.name()
+                + " ("
+                + inv_files.get(j)
+                + ")"
+                + " samples = "
+                + child.num_samples());
+      }
+
+      // Remove the equality invariants added during equality post
+      // processing.  These are not over leaders and will cause problems
+      // in the merge
+      child.remove_equality_invariants();
+      child.in_merge = false;
+
+      // Remove implications, they don't merge correctly
+      child.remove_implications();
+
+      // If the ppt has splitters, attach the child's splitters to the
+      // splitters.  Don't attach the ppt itself, as its invariants can
+      // be built from the invariants in the splitters.
+      if (ppt.has_splitters()) {
+        assert ppt.splitters != null; // because ppt.has_splitters() = true
+        setup_conditional_merge(ppt, child);
+      } else {
+        PptRelation.newMergeChildRel(ppt, child);
+      }
+    }
+
+    // Make sure at least one child was found
+    assert ppt.children.size() > 0 : ppt;
+    if (ppt.has_splitters()) {
+      assert ppt.splitters != null; // because ppt.has_splitters() = true
+      for (PptSplitter ppt_split : ppt.splitters) {
+        for (PptTopLevel p : ppt_split.ppts) {
+          assert p.children.size() > 0 : p;
+        }
+      }
+    }
+  }
+
   /**
    * Ses up the specified relation beteween each of the conditionals in ppt and the matching
    * conditionals in child. Each must have the same number of splitters setup in the same order. The
@@ -482,4 +595,130 @@ public final class MergeInvariants {
       }
     }
   }
+
+  /**
+   * Reads, from indexed {@code .inv} files, the program points that correspond to each leaf of the
+   * merged map, in the order in which the leaves are merged. The records for the next few leaves
+   * are read and decompressed on other threads while the current leaf is merged; they are
+   * deserialized on the calling thread, because the interning tables that deserialization uses are
+   * not thread-safe.
+   */
+  private static final class LeafReader implements Closeable {
+
+    /** The input files, in the order given on the command line. */
+    private final List<InvFile> files = new ArrayList<>();
+
+    /** The threads that read ahead. */
+    private final ExecutorService executor;
+
+    /** The names of the leaves, in the order in which they are read. */
+    private List<String> leaf_names = new ArrayList<>();
+
+    /** The index in leaf_names of the next leaf that {@link #next} returns. */
+    private int next_leaf = 0;
+
+    /** The index in leaf_names of the next leaf to read ahead. */
+    private int next_prefetch = 0;
+
+    /** The read-ahead tasks for leaves next_leaf, next_leaf + 1, and so on. */
+    private final Deque<List<Future<?>>> pending = new ArrayDeque<>();
+
+    /**
+     * Opens each of the files, overlaying the configuration saved in each on the current one, as
+     * {@link FileIO#read_serialized_pptmap} does.
+     *
+     * @param inv_files the indexed files to read
+     * @throws IOException if there is trouble reading one of the files
+     */
+    LeafReader(List<File> inv_files) throws IOException {
+      try {
+        for (File file : inv_files) {
+          InvFile inv_file = new InvFile(file);
+          files.add(inv_file);
+          daikon.config.Configuration.getInstance().overlap(inv_file.config());
+          FileIO.new_decl_format = inv_file.new_decl_format();
+        }
+      } catch (IOException e) {
+        for (InvFile inv_file : files) {
+          inv_file.close();
+        }
+        throw e;
+      }
+      int num_threads =
+          (dkconfig_read_threads > 0)
+              ? dkconfig_read_threads
+              : Runtime.getRuntime().availableProcessors();
+      executor = Executors.newFixedThreadPool(num_threads);
+    }
+
+    /**
+     * Sets the leaves that {@link #next} returns.
+     *
+     * @param leaf_names the names of the leaves, in the order in which they are merged
+     */
+    void start(List<String> leaf_names) {
+      this.leaf_names = leaf_names;
+    }
+
+    /**
+     * Returns the program points for the next leaf. Program points returned by earlier calls may
+     * be discarded, so they should not be used afterward.
+     *
+     * @return the program point with the name of the next leaf in each file, or null if there is
+     *     none, in the order of the files
+     * @throws IOException if there is trouble reading one of the files
+     */
+    List<@Nullable PptTopLevel> next() throws IOException {
+      String name = leaf_names.get(next_leaf);
+      while (next_prefetch < leaf_names.size()
+          && next_prefetch <= next_leaf + Math.max(0, dkconfig_read_ahead)) {
+        String prefetch_name = leaf_names.get(next_prefetch++);
+        List<Future<?>> tasks = new ArrayList<>(files.size());
+        for (InvFile inv_file : files) {
+          tasks.add(
+              executor.submit(
+                  () -> {
+                    inv_file.prefetch(prefetch_name);
+                    return null;
+                  }));
+        }
+        pending.add(tasks);
+      }
+      for (Future<?> task : pending.remove()) {
+        try {
+          task.get();
+        } catch (ExecutionException e) {
+          Throwable cause = e.getCause();
+          if (cause instanceof IOException) {
+            throw (IOException) cause;
+          } else if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+          } else if (cause instanceof Error) {
+            throw (Error) cause;
+          }
+          throw new Error(cause);
+        } catch (InterruptedException e) {
+          throw new Error("Interrupted while reading " + name, e);
+        }
+      }
+      next_leaf++;
+
+      List<@Nullable PptTopLevel> result = new ArrayList<>(files.size());
+      for (InvFile inv_file : files) {
+        if (inv_file.num_loaded() > dkconfig_max_loaded_ppts) {
+          inv_file.unload();
+        }
+        result.add(inv_file.get(name));
+      }
+      return result;
+    }
+
+    @Override
+    public void close() throws IOException {
+      executor.shutdownNow();
+      for (InvFile inv_file : files) {
+        inv_file.close();
+      }
+    }
+  }
 }
@@ -0,0 +1,502 @@
+package daikon;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import org.checkerframework.checker.mustcall.qual.Owning;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.plumelib.util.FilesPlume;
+
+/**
+ * A registry of metrics about a Daikon run: the time spent in each stage, the rate at which samples
+ * are processed, the slices and invariants that are alive, the invariants falsified per sample, the
+ * peak heap usage, and per program point the samples, processing time, falsifications, and
+ * estimated memory (see {@link MemMonitor}). The metrics are written as JSON objects, one per line,
+ * so that a long run can be watched while it is in progress and runs can be compared afterwards.
+ *
+ * <p>Metrics are enabled by setting {@link #dkconfig_file}. A line is written whenever {@link
+ * #dkconfig_interval} seconds have passed since the previous one, at the end of each stage, when
+ * {@link #request_snapshot} has been called, and at the end of the run. Like checkpoints (see
+ * {@link Checkpoint}), the lines are written on the thread that does the work, between two samples
+ * or two program points, so they see a consistent state; the periodic lines are only written while
+ * that thread is in code that checks for them.
+ *
+ * <p>When metrics are disabled, each instrumented point costs one test of {@link #enabled}.
+ */
+public final class Metrics {
+
+  /** This class is a collection of methods; it does not represent anything. */
+  private Metrics() {
+    throw new Error("do not instantiate");
+  }
+
+  /** Debug tracer. */
+  public static final Logger debug = Logger.getLogger("daikon.Metrics");
+
+  // Variables starting with dkconfig_ should only be set via the
+  // daikon.config.Configuration interface.
+
+  /**
+   * The file to which metrics are written, one JSON object per line, or null to collect no metrics.
+   * If the name ends in ".gz", the file is compressed.
+   */
+  public static @Nullable String dkconfig_file = null;
+
+  /**
+   * Write the metrics whenever this many seconds have passed since they were last written. Zero or
+   * negative means that they are only written at the end of each stage and on request.
+   */
+  public static int dkconfig_interval = 10;
+
+  /**
+   * The number of program points whose metrics are included in each line: those with the most
+   * processing time, and separately those with the most estimated memory. Negative means all of
+   * them.
+   */
+  public static int dkconfig_ppt_limit = 20;
+
+  /** The stage in which samples are read from the data trace files and added to the ppts. */
+  public static final String READ_STAGE = "read_data_trace";
+
+  /** The stage in which samples are added to the invariants ({@link PptTopLevel#add_bottom_up}). */
+  public static final String ADD_STAGE = "add_bottom_up";
+
+  /** The stage in which non-instantiating suppressions are processed, within {@link #ADD_STAGE}. */
+  public static final String NIS_STAGE = "nis";
+
+  /** The stage in which the invariants of the upper ppts are merged from their children. */
+  public static final String MERGE_STAGE = "merge_invs";
+
+  /** The stage in which redundant invariants are found with Simplify. */
+  public static final String SIMPLIFY_STAGE = "simplify";
+
+  /** The stage in which the invariants are printed. */
+  public static final String PRINT_STAGE = "print_invariants";
+
+  /** True if metrics are being collected. */
+  public static boolean enabled = false;
+
+  /** The time spent in each stage, and the number of times that it was entered. */
+  private static final Map<String, Stage> stages = new LinkedHashMap<>();
+
+  /** The metrics of each program point, by name. */
+  private static final Map<String, PptMetrics> ppts = new HashMap<>();
+
+  /** The number of samples that were added to a program point. */
+  private static long samples = 0;
+
+  /** The number of invariants that were falsified, at all program points. */
+  private static long falsified = 0;
+
+  /** The stage that the run is in, or "" if none. */
+  private static String current_stage = "";
+
+  /** The writer for the metrics file, if metrics are enabled. */
+  private static @Owning @Nullable PrintWriter out = null;
+
+  /** The time, from {@link System#nanoTime}, at which metrics collection started. */
+  private static long start_time = 0;
+
+  /** The time at which the previous line was written. */
+  private static long last_write_time = 0;
+
+  /** The number of samples when the previous line was written. */
+  private static long last_write_samples = 0;
+
+  /** True if a line has been requested by {@link #request_snapshot}. */
+  private static volatile boolean requested = false;
+
+  /** The time spent in a stage. */
+  private static final class Stage {
+    /** The number of times that the stage was entered. */
+    long count = 0;
+
+    /** The total time spent in the stage, in nanoseconds. */
+    long nanos = 0;
+  }
+
+  /** The metrics of one program point. */
+  private static final class PptMetrics {
+    /** The number of samples added to the program point. */
+    long samples = 0;
+
+    /** The time spent adding samples to the program point, in nanoseconds. */
+    long nanos = 0;
+
+    /** The number of invariants falsified at the program point. */
+    long falsified = 0;
+
+    /** The time spent finding redundant invariants with Simplify, in nanoseconds. */
+    long simplify_nanos = 0;
+  }
+
+  /**
+   * Starts collecting metrics, if {@link #dkconfig_file} is set. Any metrics from a previous run
+   * are discarded.
+   */
+  public static void start() {
+    stop();
+    stages.clear();
+    ppts.clear();
+    samples = 0;
+    falsified = 0;
+    current_stage = "";
+    requested = false;
+    String filename = dkconfig_file;
+    if (filename == null) {
+      return;
+    }
+    try {
+      out = new PrintWriter(FilesPlume.newBufferedFileWriter(filename));
+    } catch (IOException e) {
+      throw new Daikon.UserError("Unable to write metrics file " + filename + ": " + e);
+    }
+    start_time = System.nanoTime();
+    last_write_time = start_time;
+    last_write_samples = 0;
+    MemMonitor.watch_gc();
+    enabled = true;
+  }
+
+  /**
+   * Writes the final metrics and stops collecting metrics. Does nothing if metrics are not being
+   * collected.
+   *
+   * @param all_ppts the program points, or null if they are not known
+   */
+  public static void finish(@Nullable PptMap all_ppts) {
+    if (enabled) {
+      write("end", all_ppts);
+    }
+    stop();
+  }
+
+  /** Stops collecting metrics, and closes the metrics file. */
+  private static void stop() {
+    if (enabled) {
+      MemMonitor.unwatch_gc();
+    }
+    enabled = false;
+    if (out != null) {
+      out.close();
+      out = null;
+    }
+  }
+
+  /**
+   * Requests that the metrics be written as soon as possible: at the next sample or program point
+   * at which metrics are checked. This may be called from any thread.
+   */
+  public static void request_snapshot() {
+    requested = true;
+  }
+
+  /**
+   * Returns the current time, for a later call to {@link #end}.
+   *
+   * @return the current time, from {@link System#nanoTime}, or 0 if metrics are disabled
+   */
+  public static long now() {
+    return enabled ? System.nanoTime() : 0;
+  }
+
+  /**
+   * Records the time spent in one pass through a stage that is entered many times, such as {@link
+   * #NIS_STAGE}.
+   *
+   * @param stage the stage
+   * @param start the time at which the pass started, from {@link #now}
+   */
+  public static void end(String stage, long start) {
+    if (!enabled) {
+      return;
+    }
+    Stage s = stages.computeIfAbsent(stage, __ -> new Stage());
+    s.count++;
+    s.nanos += System.nanoTime() - start;
+  }
+
+  /**
+   * Marks the start of a top-level stage of the run, such as {@link #MERGE_STAGE}.
+   *
+   * @param stage the stage
+   * @return the current time, to be passed to {@link #end_stage}
+   */
+  public static long begin_stage(String stage) {
+    if (!enabled) {
+      return 0;
+    }
+    current_stage = stage;
+    return System.nanoTime();
+  }
+
+  /**
+   * Marks the end of a top-level stage of the run, and writes the metrics.
+   *
+   * @param stage the stage
+   * @param start the time returned by {@link #begin_stage}
+   * @param all_ppts the program points
+   */
+  public static void end_stage(String stage, long start, PptMap all_ppts) {
+    if (!enabled) {
+      return;
+    }
+    end(stage, start);
+    write("stage " + stage, all_ppts);
+    current_stage = "";
+  }
+
+  /**
+   * Counts an invariant that was falsified and removed from its slice.
+   *
+   * @param count the number of invariants
+   */
+  public static void falsified(int count) {
+    falsified += count;
+  }
+
+  /**
+   * Returns the number of invariants falsified so far, for a later call to {@link #sample_added}.
+   *
+   * @return the number of invariants falsified so far
+   */
+  public static long falsified_so_far() {
+    return falsified;
+  }
+
+  /**
+   * Records that a sample was added to a program point, and writes the metrics if they are due.
+   *
+   * @param ppt the program point
+   * @param start the time at which the sample was added, from {@link #now}
+   * @param falsified_before the value of {@link #falsified_so_far} before the sample was added
+   * @param all_ppts the program points
+   */
+  public static void sample_added(
+      PptTopLevel ppt, long start, long falsified_before, PptMap all_ppts) {
+    if (!enabled) {
+      return;
+    }
+    long elapsed = System.nanoTime() - start;
+    Stage s = stages.computeIfAbsent(ADD_STAGE, __ -> new Stage());
+    s.count++;
+    s.nanos += elapsed;
+    PptMetrics pm = ppt_metrics(ppt);
+    pm.samples++;
+    pm.nanos += elapsed;
+    pm.falsified += falsified - falsified_before;
+    samples++;
+    poll(all_ppts);
+  }
+
+  /**
+   * Records the time spent finding the redundant invariants of a program point with Simplify, and
+   * writes the metrics if they are due.
+   *
+   * @param ppt the program point
+   * @param start the time at which the work started, from {@link #now}
+   * @param all_ppts the program points
+   */
+  public static void simplify_done(PptTopLevel ppt, long start, PptMap all_ppts) {
+    if (!enabled) {
+      return;
+    }
+    ppt_metrics(ppt).simplify_nanos += System.nanoTime() - start;
+    poll(all_ppts);
+  }
+
+  /**
+   * Writes the metrics if they are due or have been requested. Call this between units of work
+   * during a long stage.
+   *
+   * @param all_ppts the program points
+   */
+  public static void poll(PptMap all_ppts) {
+    if (!enabled) {
+      return;
+    }
+    if (requested) {
+      requested = false;
+      write("request", all_ppts);
+    } else if (dkconfig_interval > 0
+        && System.nanoTime() - last_write_time >= dkconfig_interval * 1_000_000_000L) {
+      write("periodic", all_ppts);
+    }
+  }
+
+  /**
+   * Returns the metrics of a program point, creating them if necessary.
+   *
+   * @param ppt the program point
+   * @return the metrics of ppt
+   */
+  private static PptMetrics ppt_metrics(PptTopLevel ppt) {
+    return ppts.computeIfAbsent(ppt.name(), __ -> new PptMetrics());
+  }
+
+  /**
+   * Writes one line of metrics.
+   *
+   * @param event why the line is written, such as "periodic" or "stage print_invariants"
+   * @param all_ppts the program points, or null if they are not known
+   */
+  private static void write(String event, @Nullable PptMap all_ppts) {
+    if (out == null) {
+      return;
+    }
+    long now = System.nanoTime();
+    double seconds = (now - last_write_time) / 1e9;
+    Runtime rt = Runtime.getRuntime();
+
+    StringBuilder sb = new StringBuilder("{");
+    field(sb, "event", event);
+    field(sb, "stage", current_stage);
+    field(sb, "elapsed_ms", (now - start_time) / 1_000_000);
+    field(sb, "samples", samples);
+    field(
+        sb,
+        "samples_per_sec",
+        (seconds > 0) ? Math.round((samples - last_write_samples) / seconds) : 0);
+    field(sb, "falsified", falsified);
+    field(sb, "falsified_per_sample", (samples > 0) ? (double) falsified / samples : 0);
+    field(sb, "heap_used", rt.totalMemory() - rt.freeMemory());
+    field(sb, "heap_max", rt.maxMemory());
+    field(sb, "heap_peak", MemMonitor.peak_heap());
+    field(sb, "heap_live_peak", MemMonitor.peak_live());
+    field(sb, "gc_count", MemMonitor.gc_count());
+
+    // For each ppt: slices, invariants, estimated bytes, and peak estimated bytes of the slices.
+    Map<String, long[]> alive = new HashMap<>();
+    if (all_ppts != null) {
+      int ppt_count = 0;
+      long slices = 0;
+      long invariants = 0;
+      long bytes = 0;
+      for (PptTopLevel ppt : all_ppts.ppt_all_iterable()) {
+        long[] counts =
+            new long[] {
+              ppt.numViews(), ppt.invariant_cnt(), ppt.estimated_size(), ppt.peak_slice_bytes
+            };
+        alive.put(ppt.name(), counts);
+        ppt_count++;
+        slices += counts[0];
+        invariants += counts[1];
+        bytes += counts[2];
+      }
+      field(sb, "ppts", ppt_count);
+      field(sb, "slices", slices);
+      field(sb, "invariants", invariants);
+      field(sb, "estimated_bytes", bytes);
+    }
+
+    sb.append("\"stages\":{");
+    boolean first = true;
+    for (Map.Entry<String, Stage> e : stages.entrySet()) {
+      if (!first) {
+        sb.append(',');
+      }
+      first = false;
+      sb.append(quote(e.getKey())).append(":{");
+      field(sb, "count", e.getValue().count);
+      sb.append("\"ms\":").append(e.getValue().nanos / 1_000_000).append('}');
+    }
+    sb.append("},");
+
+    List<Map.Entry<String, PptMetrics>> by_time = new ArrayList<>(ppts.entrySet());
+    Collections.sort(
+        by_time,
+        (e1, e2) ->
+            Long.compare(
+                e2.getValue().nanos + e2.getValue().simplify_nanos,
+                e1.getValue().nanos + e1.getValue().simplify_nanos));
+    if (dkconfig_ppt_limit >= 0 && by_time.size() > dkconfig_ppt_limit) {
+      by_time = by_time.subList(0, dkconfig_ppt_limit);
+    }
+    sb.append("\"ppt_metrics\":[");
+    first = true;
+    for (Map.Entry<String, PptMetrics> e : by_time) {
+      PptMetrics pm = e.getValue();
+      sb.append(first ? "{" : ",{");
+      first = false;
+      field(sb, "ppt", e.getKey());
+      field(sb, "samples", pm.samples);
+      field(sb, "ms", pm.nanos / 1_000_000);
+      field(sb, "falsified", pm.falsified);
+      long[] counts = alive.get(e.getKey());
+      if (counts != null) {
+        field(sb, "slices", counts[0]);
+        field(sb, "invariants", counts[1]);
+        field(sb, "estimated_bytes", counts[2]);
+      }
+      sb.append("\"simplify_ms\":").append(pm.simplify_nanos / 1_000_000).append('}');
+    }
+    sb.append("],");
+
+    List<Map.Entry<String, long[]>> by_size = new ArrayList<>(alive.entrySet());
+    Collections.sort(by_size, (e1, e2) -> Long.compare(e2.getValue()[2], e1.getValue()[2]));
+    if (dkconfig_ppt_limit >= 0 && by_size.size() > dkconfig_ppt_limit) {
+      by_size = by_size.subList(0, dkconfig_ppt_limit);
+    }
+    sb.append("\"ppt_memory\":[");
+    first = true;
+    for (Map.Entry<String, long[]> e : by_size) {
+      sb.append(first ? "{" : ",{");
+      first = false;
+      field(sb, "ppt", e.getKey());
+      field(sb, "estimated_bytes", e.getValue()[2]);
+      sb.append("\"peak_slice_bytes\":").append(e.getValue()[3]).append('}');
+    }
+    sb.append("]}");
+
+    out.println(sb);
+    out.flush();
+    last_write_time = System.nanoTime();
+    last_write_samples = samples;
+    debug.fine(
+        String.format("wrote %s metrics in %d ms", event, (last_write_time - now) / 1_000_000));
+  }
+
+  /**
+   * Appends a JSON field and a comma.
+   *
+   * @param sb where to append the field
+   * @param name the name of the field
+   * @param value the value of the field: a String or a Number
+   */
+  private static void field(StringBuilder sb, String name, Object value) {
+    sb.append(quote(name)).append(':');
+    if (value instanceof String) {
+      sb.append(quote((String) value));
+    } else {
+      sb.append(value);
+    }
+    sb.append(',');
+  }
+
+  /**
+   * Returns a string as a JSON string literal.
+   *
+   * @param s a string
+   * @return the JSON string literal for s
+   */
+  static String quote(String s) {
+    StringBuilder sb = new StringBuilder("\"");
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      if (c == '"' || c == '\\') {
+        sb.append('\\').append(c);
+      } else if (c < ' ') {
+        sb.append(String.format("\\u%04x", (int) c));
+      } else {
+        sb.append(c);
+      }
+    }
+    return sb.append('"').toString();
+  }
+}
@@ -7,16 +7,31 @@ import org.checkerframework.checker.initialization.qual.UnknownInitialization;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.checker.signedness.qual.Signed;
+import org.plumelib.util.CollectionsPlume;
 
 // "ModBitTracker" is a poor name for this class, since it tracks
 // whether a value is missing, not whether it is modified.
 /**
  * ModBitTracker maintains a BitSet for each variable at a program point. The BitSet indicates, for
  * each sample seen in order, whether that variable was present or not.
+ *
+ * <p>If {@link #dkconfig_run_length_encoding} is set, each BitSet is stored as a {@link
+ * RunLengthBitSet} instead, which takes space proportional to the number of changes in the
+ * modbits rather than to the number of samples.
  */
 public class ModBitTracker implements Serializable, Cloneable {
   static final long serialVersionUID = 20031014L;
 
+  // Variables starting with dkconfig_ should only be set via the
+  // daikon.config.Configuration interface.
+
+  /**
+   * If true, store the modbits of each equivalence set run-length encoded rather than as a BitSet.
+   * This uses much less memory on long traces whose modbits rarely change, at the cost of slower
+   * random access via {@link #get(int,int)}.
+   */
+  public static boolean dkconfig_run_length_encoding = false;
+
   // Should make this a configuration option.
   private static boolean debug = false;
 
@@ -26,11 +41,19 @@ public class ModBitTracker implements Serializable, Cloneable {
   /** The size of each BitSet in modbits_arrays. */
   private int num_samples;
 
-  /** The BitSets themselves. */
-  // In the future, I could imagine trying to optimize this with (say)
-  // run-length encoding; but it's probably not worth it.
+  /**
+   * True if this uses modbits_runs rather than modbits_arrays. Fixed when this is constructed,
+   * from {@link #dkconfig_run_length_encoding}.
+   */
+  private boolean run_length;
+
+  /** The BitSets themselves. Null if run_length is true. */
   // All elements of modbits_arrays at or past num_sets are null.
-  private @Nullable BitSet[] modbits_arrays;
+  private @Nullable BitSet @Nullable [] modbits_arrays;
+
+  /** The run-length encoded BitSets. Null if run_length is false. */
+  // All elements of modbits_runs at or past num_sets are null.
+  private @Nullable RunLengthBitSet @Nullable [] modbits_runs;
 
   /**
    * Conceptually, there is a BitSet per variable. In actuality, when two different variables have
@@ -67,9 +90,18 @@ public class ModBitTracker implements Serializable, Cloneable {
   public ModBitTracker(int num_vars) {
     assert num_vars >= 0;
     this.num_vars = num_vars;
-    modbits_arrays = new @Nullable BitSet[num_vars];
+    run_length = dkconfig_run_length_encoding;
+    if (run_length) {
+      modbits_runs = new @Nullable RunLengthBitSet[num_vars];
+    } else {
+      modbits_arrays = new @Nullable BitSet[num_vars];
+    }
     if (num_vars > 0) {
-      modbits_arrays[0] = new BitSet();
+      if (run_length) {
+        modbits_runs[0] = new RunLengthBitSet();
+      } else {
+        modbits_arrays[0] = new BitSet();
+      }
       num_sets = 1;
     } else {
       num_sets = 0;
@@ -95,9 +127,53 @@ public class ModBitTracker implements Serializable, Cloneable {
     return num_sets;
   }
 
+  /** Returns true if the modbits are stored run-length encoded. */
+  public boolean is_run_length_encoded() {
+    return run_length;
+  }
+
+  /**
+   * Returns the estimated bytes retained by this ModBitTracker; see {@link MemMonitor}.
+   *
+   * @return the estimated bytes retained by this
+   */
+  @SuppressWarnings("nullness") // application invariant: exactly one of the arrays is non-null
+  public long estimated_size() {
+    long size = MemMonitor.estimated_size(this);
+    for (int i = 0; i < num_sets; i++) {
+      if (run_length) {
+        size += MemMonitor.estimated_size(modbits_runs[i]);
+      } else {
+        size += MemMonitor.bitset_size(modbits_arrays[i]);
+      }
+    }
+    return size;
+  }
+
   /** Check the representation invariant. */
+  @SuppressWarnings("nullness") // application invariant: exactly one of the arrays is non-null
   public void checkRep(@UnknownInitialization(ModBitTracker.class) ModBitTracker this) {
     assert index.length == num_vars;
+    if (run_length) {
+      assert modbits_arrays == null;
+      assert modbits_runs.length == num_vars;
+      for (int i = 0; i < num_vars; i++) {
+        assert index[i] >= 0;
+        assert index[i] < num_sets;
+        if (i < num_sets) {
+          assert modbits_runs[i] != null;
+          assert modbits_runs[i].size() == num_samples
+              : "modbits_runs.[" + i + "].size() == "
+                  + modbits_runs[i].size()
+                  + ", num_samples == "
+                  + num_samples;
+        } else {
+          assert modbits_runs[i] == null;
+        }
+      }
+      return;
+    }
+    assert modbits_runs == null;
     assert modbits_arrays.length == num_vars;
     for (int i = 0; i < num_vars; i++) {
       int this_index = index[i];
@@ -124,17 +200,62 @@ public class ModBitTracker implements Serializable, Cloneable {
   /**
    * Returns a BitSet of modbit values for the given variable. The caller must not modify the
    * returned value!
+   *
+   * <p>If the modbits are run-length encoded, this creates a new BitSet on each call; prefer
+   * {@link #get(int,int)}, {@link #cardinality}, and {@link #intersectionCardinality}.
    */
   @SuppressWarnings(
       "nullness") // application invariant: index[varindex] is an index for a non-null BitSet in
-  // modbits_arrays
+  // modbits_arrays or modbits_runs
   public BitSet get(int varindex) {
+    if (run_length) {
+      return modbits_runs[index[varindex]].toBitSet();
+    }
     return modbits_arrays[index[varindex]];
   }
 
   /** Returns the modbit for the given variable and sample number. */
+  @SuppressWarnings("nullness") // application invariant: as for get(int)
   public boolean get(int varindex, int sampleno) {
-    return get(varindex).get(sampleno);
+    if (run_length) {
+      return modbits_runs[index[varindex]].get(sampleno);
+    }
+    return modbits_arrays[index[varindex]].get(sampleno);
+  }
+
+  /** Returns the number of samples in which the given variable was present. */
+  @SuppressWarnings("nullness") // application invariant: as for get(int)
+  public int cardinality(int varindex) {
+    if (run_length) {
+      return modbits_runs[index[varindex]].cardinality();
+    }
+    return modbits_arrays[index[varindex]].cardinality();
+  }
+
+  /** Returns the number of samples in which both of the given variables were present. */
+  @SuppressWarnings("nullness") // application invariant: as for get(int)
+  public int intersectionCardinality(int varindex1, int varindex2) {
+    if (run_length) {
+      return RunLengthBitSet.intersectionCardinality(
+          modbits_runs[index[varindex1]], modbits_runs[index[varindex2]]);
+    }
+    return CollectionsPlume.intersectionCardinality(
+        modbits_arrays[index[varindex1]], modbits_arrays[index[varindex2]]);
+  }
+
+  /** Returns the number of samples in which all three of the given variables were present. */
+  @SuppressWarnings("nullness") // application invariant: as for get(int)
+  public int intersectionCardinality(int varindex1, int varindex2, int varindex3) {
+    if (run_length) {
+      return RunLengthBitSet.intersectionCardinality(
+          modbits_runs[index[varindex1]],
+          modbits_runs[index[varindex2]],
+          modbits_runs[index[varindex3]]);
+    }
+    return CollectionsPlume.intersectionCardinality(
+        modbits_arrays[index[varindex1]],
+        modbits_arrays[index[varindex2]],
+        modbits_arrays[index[varindex3]]);
   }
 
   /**
@@ -143,15 +264,22 @@ public class ModBitTracker implements Serializable, Cloneable {
    * @param split_index where to split modbits_arrays
    * @return the index of the copy
    */
+  @SuppressWarnings("nullness") // application invariant: split_index is in range
   private int split(int split_index) {
-    @SuppressWarnings("nullness") // application invariant: split_index is in range
-    @NonNull BitSet bs = (BitSet) modbits_arrays[split_index].clone();
-    modbits_arrays[num_sets] = bs;
+    if (run_length) {
+      modbits_runs[num_sets] = modbits_runs[split_index].clone();
+    } else {
+      @NonNull BitSet bs = (BitSet) modbits_arrays[split_index].clone();
+      modbits_arrays[num_sets] = bs;
+    }
     num_sets++;
     return num_sets - 1;
   }
 
-  /** Add to this the modbits for the given ValueTuple. */
+  /**
+   * Add to this the modbits for the given ValueTuple, count times. In run-length mode, this
+   * extends the existing runs rather than recording count separate bits.
+   */
   public void add(ValueTuple vt, int count) {
     if (debug) checkRep();
     assert vt.size() == num_vars : "vt.size()=" + vt.size() + ", num_vars = " + num_vars;
@@ -190,10 +318,18 @@ public class ModBitTracker implements Serializable, Cloneable {
         }
       }
     }
-    for (int i = 0; i < num_sets; i++) {
-      @SuppressWarnings("nullness") // application invariant: non-null up to index=num_sets
-      @NonNull BitSet bs = modbits_arrays[i];
-      bs.set(num_samples, num_samples + count, this_bits[i]);
+    if (run_length) {
+      for (int i = 0; i < num_sets; i++) {
+        @SuppressWarnings("nullness") // application invariant: non-null up to index=num_sets
+        @NonNull RunLengthBitSet rs = modbits_runs[i];
+        rs.append(this_bits[i], count);
+      }
+    } else {
+      for (int i = 0; i < num_sets; i++) {
+        @SuppressWarnings("nullness") // application invariant: non-null up to index=num_sets
+        @NonNull BitSet bs = modbits_arrays[i];
+        bs.set(num_samples, num_samples + count, this_bits[i]);
+      }
     }
     num_samples += count;
 
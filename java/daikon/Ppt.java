@@ -146,9 +146,20 @@ public abstract class Ppt implements Serializable {
         return 0;
       }
 
-      String name1 = p1.name();
-      String name2 = p2.name();
+      return compareNames(p1.name(), p2.name());
+    }
 
+    /**
+     * Compares two program point names in the order that this comparator uses for program points
+     * with those names.
+     *
+     * @param name1 a program point name
+     * @param name2 a program point name
+     * @return a negative number, zero, or a positive number as name1 sorts before, with, or after
+     *     name2
+     */
+    @Pure
+    public static int compareNames(String name1, String name2) {
       String swapped1 = swap(name1, '.', ':');
       String swapped2 = swap(name2, '.', ':');
 
@@ -103,6 +103,16 @@ public class PptRelation implements Serializable {
    * the child.
    */
   private PptRelation(PptTopLevel parent, PptTopLevel child, PptRelationType rel_type) {
+    this(parent, child, rel_type, true);
+  }
+
+  /**
+   * Create a relation between the specified parent and child. The actual variable relations are
+   * filled in by the caller. If connect is true, the relation is stored in both the parent and the
+   * child.
+   */
+  private PptRelation(
+      PptTopLevel parent, PptTopLevel child, PptRelationType rel_type, boolean connect) {
 
     this.parent = parent;
     this.child = child;
@@ -111,7 +121,20 @@ public class PptRelation implements Serializable {
     // rel_type is one of the above relationship types because this is a
     // private constructor, called only within this file.
     relationship = rel_type;
-    connect();
+    if (connect) {
+      connect();
+    }
+  }
+
+  /**
+   * Returns a relation between the specified parent and child with empty variable maps. Unlike the
+   * other factory methods, this does not add the relation to the parent's children list or the
+   * child's parents list; the caller is responsible for doing so. It is used by {@link InvFile},
+   * which restores each relation to its original position in those lists.
+   */
+  static PptRelation newUnconnectedRel(
+      PptTopLevel parent, PptTopLevel child, PptRelationType rel_type) {
+    return new PptRelation(parent, child, rel_type, false);
   }
 
   /** Adds this relation to its child's parent list and its parent's children list. */
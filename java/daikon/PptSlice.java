@@ -60,6 +60,12 @@ public abstract class PptSlice extends Ppt {
   @SuppressWarnings("serial")
   public List<Invariant> invs;
 
+  /**
+   * The estimated bytes of this slice that are counted in its parent's {@link
+   * PptTopLevel#slice_bytes}, or -1 if the slice is not counted there. See {@link MemMonitor}.
+   */
+  long accounted_bytes = -1;
+
   PptSlice(PptTopLevel parent, VarInfo[] var_infos) {
     super(var_infos);
     this.parent = parent;
@@ -139,6 +145,7 @@ public abstract class PptSlice extends Ppt {
     boolean removed = invs.remove(inv);
     assert removed : "inv " + inv + " not in ppt " + name();
     Global.falsified_invariants++;
+    parent.account_slice(this);
     if (invs.size() == 0) {
       if (Debug.logDetail()) log("last invariant removed");
     }
@@ -157,6 +164,7 @@ public abstract class PptSlice extends Ppt {
       invs.removeAll(to_remove);
       assert old_invs_size - invs.size() == to_remove.size();
       Global.falsified_invariants += to_remove.size();
+      parent.account_slice(this);
       if (invs.size() == 0) {
         if (Debug.logDetail()) log("last invariant removed");
       }
@@ -177,11 +185,19 @@ public abstract class PptSlice extends Ppt {
   protected void remove_falsified() {
 
     // Remove the dead invariants
+    int removed = 0;
     for (Iterator<Invariant> iFalsified = invs.iterator(); iFalsified.hasNext(); ) {
       Invariant inv = iFalsified.next();
       if (inv.is_false()) {
         iFalsified.remove();
         NIS.falsified(inv);
+        removed++;
+      }
+    }
+    if (removed != 0) {
+      parent.account_slice(this);
+      if (Metrics.enabled) {
+        Metrics.falsified(removed);
       }
     }
   }
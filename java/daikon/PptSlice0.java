@@ -92,6 +92,7 @@ public class PptSlice0 extends PptSlice {
     initInvariantsSeen();
     invs.add(inv);
     invariantsSeen.add(new ImplicationWrapper((Implication) inv));
+    parent.account_slice(this);
     // checkRep();
   }
 
@@ -104,6 +105,7 @@ public class PptSlice0 extends PptSlice {
     initInvariantsSeen();
     invs.remove(inv);
     invariantsSeen.remove(new ImplicationWrapper((Implication) inv));
+    parent.account_slice(this);
     // checkRep();
   }
 
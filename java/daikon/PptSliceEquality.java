@@ -1,5 +1,6 @@
 package daikon;
 
+import static daikon.tools.nullness.NullnessUtil.castNonNull;
 import static daikon.tools.nullness.NullnessUtil.castNonNullDeep;
 
 import daikon.inv.Equality;
@@ -8,7 +9,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -19,7 +20,6 @@ import java.util.logging.Logger;
 import org.checkerframework.checker.initialization.qual.UnknownInitialization;
 import org.checkerframework.checker.lock.qual.GuardSatisfied;
 import org.checkerframework.checker.nullness.qual.EnsuresNonNullIf;
-import org.checkerframework.checker.nullness.qual.KeyFor;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.dataflow.qual.Pure;
 import org.checkerframework.dataflow.qual.SideEffectFree;
@@ -248,12 +248,13 @@ public class PptSliceEquality extends PptSlice {
   @Override
   public List<Invariant> add(ValueTuple vt, int count) {
 
-    ArrayList<Equality> allNewInvs = new ArrayList<>();
-    ArrayList<Invariant> weakenedInvs = new ArrayList<>();
+    // Allocated only if some equality set splits.
+    List<Equality> allNewInvs = Collections.emptyList();
+    List<Invariant> weakenedInvs = Collections.emptyList();
 
     // Loop through each existing equality invariant
-    for (Invariant invar : invs) {
-      Equality inv = (Equality) invar;
+    for (int invIndex = 0, numInvs = invs.size(); invIndex < numInvs; invIndex++) {
+      Equality inv = (Equality) invs.get(invIndex);
 
       // Add this sample to the invariant and track any vars that fall
       // out of the set.
@@ -290,15 +291,23 @@ public class PptSliceEquality extends PptSlice {
         }
 
         // Create new slices and invariants for each new leader
+        if (weakenedInvs.isEmpty()) {
+          weakenedInvs = new ArrayList<>();
+        }
         weakenedInvs.addAll(copyInvsFromLeader(inv.leader(), newInvsLeaders));
 
         // Keep track of all of the new invariants created.
+        if (allNewInvs.isEmpty()) {
+          allNewInvs = new ArrayList<>();
+        }
         allNewInvs.addAll(newInvs);
       }
     }
 
     // Add all of the new equality sets to our list
-    invs.addAll(allNewInvs);
+    if (!allNewInvs.isEmpty()) {
+      invs.addAll(allNewInvs);
+    }
 
     return weakenedInvs;
   }
@@ -308,6 +317,24 @@ public class PptSliceEquality extends PptSlice {
    */
   private static final Object dummyMissing = new Object();
 
+  // Scratch space for createEqualityInvs, reused so that splitting an equality set allocates
+  // nothing but the new Equality invariants.  Null until first use, and after deserialization.
+
+  /** The group number of each distinct value, which indexes group_keys and groups. */
+  private transient @Nullable IdentityHashMap<Object, Integer> group_of = null;
+
+  /** The key of each group: a value, or dummyMissing. */
+  private transient @Nullable ArrayList<Object> group_keys = null;
+
+  /**
+   * The variables of each group. Only the first group_keys.size() lists are in use; the rest are
+   * empty and kept for reuse.
+   */
+  private transient @Nullable ArrayList<ArrayList<VarInfo>> groups = null;
+
+  /** The variables that are missing because they are out of bounds. */
+  private transient @Nullable ArrayList<VarInfo> out_of_bounds = null;
+
   /**
    * Create a List of Equality invariants based on the values given by vt for the VarInfos in vis.
    * Any variables that are out of bounds are forced into a separate equality set (since they no
@@ -325,16 +352,29 @@ public class PptSliceEquality extends PptSlice {
    * @return a List of Equality invariants bundling together same values from vis, and if needed,
    *     another representing all the missing values
    */
+  // Variables are partitioned by the identity of their (interned) values; missing variables all
+  // share the key dummyMissing.
+  @SuppressWarnings("interning") // values are interned; dummyMissing is a special value
   private List<Equality> createEqualityInvs(
       List<VarInfo> vis, ValueTuple vt, Equality leader, int count) {
     assert vis.size() > 0;
-    HashMap<Object, List<VarInfo>> multiMap = new HashMap<>(); /* key is a value */
-    List<VarInfo> out_of_bounds = new ArrayList<>();
+    if (group_of == null) {
+      group_of = new IdentityHashMap<>();
+      group_keys = new ArrayList<>();
+      groups = new ArrayList<>();
+      out_of_bounds = new ArrayList<>();
+    }
+    IdentityHashMap<Object, Integer> group_of = this.group_of;
+    ArrayList<Object> group_keys = castNonNull(this.group_keys);
+    ArrayList<ArrayList<VarInfo>> groups = castNonNull(this.groups);
+    ArrayList<VarInfo> out_of_bounds = castNonNull(this.out_of_bounds);
     for (VarInfo vi : vis) {
+      Object key;
       if (vi.missingOutOfBounds()) {
         out_of_bounds.add(vi);
+        continue;
       } else if (vt.isMissing(vi)) {
-        addToBindingList(multiMap, dummyMissing, vi);
+        key = dummyMissing;
       } else {
         if (vi.getValue(vt) == null) {
           System.out.printf(
@@ -345,20 +385,30 @@ public class PptSliceEquality extends PptSlice {
           System.out.println("return value = " + Debug.toString(rv.getValue(vt)));
           System.out.println("At line number " + FileIO.get_linenum());
         }
-        addToBindingList(multiMap, vi.getValue(vt), vi);
+        key = vi.getValue(vt);
       }
+      Integer group = group_of.get(key);
+      if (group == null) {
+        group = group_keys.size();
+        group_of.put(key, group);
+        group_keys.add(key);
+        if (group == groups.size()) {
+          groups.add(new ArrayList<>());
+        }
+      }
+      groups.get(group).add(vi);
     }
+    int numGroups = group_keys.size();
     // Why use an array?  Because we'll be sorting shortly
     /*NNC:@MonotonicNonNull*/ Equality[] resultArray =
-        new Equality[multiMap.values().size() + out_of_bounds.size()];
+        new Equality[numGroups + out_of_bounds.size()];
     int resultCount = 0;
-    for (Map.Entry<@KeyFor("multiMap") Object, List<VarInfo>> entry : multiMap.entrySet()) {
-      Object key = entry.getKey();
-      List<VarInfo> list = entry.getValue();
+    for (int group = 0; group < numGroups; group++) {
+      List<VarInfo> list = groups.get(group);
       assert list.size() > 0;
+      // The Equality copies list, so list can be reused.
       Equality eq = new Equality(list, this);
-      @SuppressWarnings("interning") // special value
-      boolean isMissing = (key == dummyMissing);
+      boolean isMissing = (group_keys.get(group) == dummyMissing);
       if (isMissing) {
         eq.setSamples(leader.numSamples() - count);
       } else {
@@ -369,12 +419,20 @@ public class PptSliceEquality extends PptSlice {
       }
       resultArray[resultCount] = eq;
       resultCount++;
+      list.clear();
     }
     for (VarInfo oob : out_of_bounds) {
       List<VarInfo> list = Collections.singletonList(oob);
       resultArray[resultCount] = new Equality(list, this);
       resultCount++;
     }
+    // Remove only the keys that were added; IdentityHashMap.clear() takes time proportional to
+    // the largest number of groups ever seen, not to the number seen this time.
+    for (Object key : group_keys) {
+      group_of.remove(key);
+    }
+    group_keys.clear();
+    out_of_bounds.clear();
     resultArray = castNonNullDeep(resultArray); // https://tinyurl.com/cfissue/986
 
     // Sort for determinism
@@ -5,6 +5,7 @@ import static daikon.PptRelation.PptRelationType;
 import static daikon.tools.nullness.NullnessUtil.castNonNullDeep;
 
 import daikon.derive.Derivation;
+import daikon.derive.DerivationPlan;
 import daikon.derive.binary.BinaryDerivation;
 import daikon.derive.binary.BinaryDerivationFactory;
 import daikon.derive.binary.SequenceFloatIntersectionFactory;
@@ -68,6 +69,7 @@ import daikon.simplify.LemmaStack;
 import daikon.simplify.SessionManager;
 import daikon.simplify.SimplifyError;
 import daikon.split.PptSplitter;
+import daikon.split.SplitBatch;
 import daikon.split.Splitter;
 import daikon.split.SplitterList;
 import daikon.split.misc.ReturnTrueSplitter;
@@ -79,7 +81,6 @@ import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -259,6 +260,15 @@ public class PptTopLevel extends Ppt {
   /** Keep track of values we have seen for each variable. */
   ValueSet[] value_sets;
 
+  /**
+   * The estimated bytes retained by the slices in {@link #views} and their invariants. Maintained
+   * only while {@link MemMonitor#enabled} is set.
+   */
+  long slice_bytes = 0;
+
+  /** The largest value that {@link #slice_bytes} has had. */
+  long peak_slice_bytes = 0;
+
   /**
    * All the Views (that is, slices) on this are stored as values in the HashMap. Indexed by a
    * Arrays.asList array list of Integers holding varinfo_index values.
@@ -273,6 +283,12 @@ public class PptTopLevel extends Ppt {
   // Not List because List doesn't support the trimToSize() method.
   public @MonotonicNonNull ArrayList<PptSplitter> splitters = null;
 
+  /**
+   * Samples that have not yet been given to the splitters; see PptSplitter.batch_size and {@link
+   * #flush_split_batch}.
+   */
+  private transient @Nullable SplitBatch split_batch = null;
+
   /**
    * Iterator for all of the conditional ppts. Returns each PptConditional from each entry in
    * splitters.
@@ -557,9 +573,7 @@ public class PptTopLevel extends Ppt {
     if (vi1.is_static_constant) {
       return mbtracker.num_samples();
     }
-    BitSet b1 = mbtracker.get(vi1.value_index);
-    int num_slice_samples = b1.cardinality();
-    return num_slice_samples;
+    return mbtracker.cardinality(vi1.value_index);
   }
 
   /** Return the number of samples where vi1 and vi2 are both present (not missing). */
@@ -570,10 +584,7 @@ public class PptTopLevel extends Ppt {
     if (vi2.is_static_constant) {
       return num_samples(vi1);
     }
-    BitSet b1 = mbtracker.get(vi1.value_index);
-    BitSet b2 = mbtracker.get(vi2.value_index);
-    int num_slice_samples = CollectionsPlume.intersectionCardinality(b1, b2);
-    return num_slice_samples;
+    return mbtracker.intersectionCardinality(vi1.value_index, vi2.value_index);
   }
 
   /** Return the number of samples where vi1, vi2, and vi3 are all present (not missing). */
@@ -587,11 +598,8 @@ public class PptTopLevel extends Ppt {
     if (vi3.is_static_constant) {
       return num_samples(vi1, vi2);
     }
-    BitSet b1 = mbtracker.get(vi1.value_index);
-    BitSet b2 = mbtracker.get(vi2.value_index);
-    BitSet b3 = mbtracker.get(vi3.value_index);
-    int num_slice_samples = CollectionsPlume.intersectionCardinality(b1, b2, b3);
-    return num_slice_samples;
+    return mbtracker.intersectionCardinality(
+        vi1.value_index, vi2.value_index, vi3.value_index);
   }
 
   /** The number of distinct values that have been seen. */
@@ -711,6 +719,12 @@ public class PptTopLevel extends Ppt {
 
   }
 
+  /**
+   * How FileIO.compute_derived_variables computes the derived variables of a sample; made on first
+   * use, and again whenever the variables change.
+   */
+  transient @Nullable DerivationPlan derivation_plan = null;
+
   // To verify that these are all the factories of interest, do
   // cd ~/research/invariants/daikon/derive; search -i -n 'extends.*derivationfactory'
 
@@ -994,6 +1008,18 @@ public class PptTopLevel extends Ppt {
     return result_array;
   }
 
+  /**
+   * Gives the samples that this program point has batched for its splitters to the conditional
+   * program points. Must be called before the invariants of the conditional program points are
+   * used; does nothing if no samples are batched.
+   */
+  @SuppressWarnings("nullness:contracts.precondition") // NIS is set up before any sample is batched
+  public void flush_split_batch() {
+    if (split_batch != null) {
+      split_batch.flush();
+    }
+  }
+
   /**
    * Add the sample to the equality sets, dynamic constants, and invariants at this program point.
    * This version is specific to the bottom up processing mechanism.
@@ -1041,8 +1067,15 @@ public class PptTopLevel extends Ppt {
     // If there are conditional program points, add the sample there instead
     if (has_splitters()) {
       assert splitters != null; // guaranteed by call to has_splitters
-      for (PptSplitter ppt_split : splitters) {
-        ppt_split.add_bottom_up(vt, count);
+      if (PptSplitter.dkconfig_batch_size > 1) {
+        if (split_batch == null) {
+          split_batch = new SplitBatch(this, PptSplitter.dkconfig_batch_size);
+        }
+        split_batch.add(vt, count);
+      } else {
+        for (PptSplitter ppt_split : splitters) {
+          ppt_split.add_bottom_up(vt, count);
+        }
       }
       if (Daikon.use_dataflow_hierarchy) {
         return null;
@@ -1174,7 +1207,9 @@ public class PptTopLevel extends Ppt {
     }
 
     // Create any newly unsuppressed invariants
+    long nis_start = Metrics.now();
     NIS.process_falsified_invs(this, vt);
+    Metrics.end(Metrics.NIS_STAGE, nis_start);
 
     // NIS.newly_falsified is a list of invariants that are falsified by
     // the current sample when using the falsified method of processing
@@ -1200,7 +1235,9 @@ public class PptTopLevel extends Ppt {
       // Apply the sample to any invariants created by non-instantiating
       // suppressions. This must happen before we remove slices without
       // invariants below.
+      nis_start = Metrics.now();
       NIS.apply_samples(vt, count);
+      Metrics.end(Metrics.NIS_STAGE, nis_start);
       first_pass_with_sample = false;
     } while (NIS.newly_falsified.size() != 0);
 
@@ -1212,6 +1249,7 @@ public class PptTopLevel extends Ppt {
       PptSlice view = itor.next();
       if (view.invs.size() == 0) {
         itor.remove();
+        unaccount_slice(view);
         if (Global.debugInfer.isLoggable(Level.FINE)) {
           Global.debugInfer.fine("add(ValueTulple,int): slice died: " + name() + view.varNames());
         }
@@ -1363,6 +1401,24 @@ public class PptTopLevel extends Ppt {
     return (constants != null) && constants.is_prev_missing(v);
   }
 
+  /**
+   * Returns the estimated bytes retained by this ppt: its slices and invariants, its ValueSets, its
+   * ModBitTracker, and its DynamicConstants. The estimate is only maintained while {@link
+   * MemMonitor#enabled} is set; see {@link MemMonitor}.
+   *
+   * @return the estimated bytes retained by this ppt
+   */
+  public long estimated_size() {
+    long size = slice_bytes + MemMonitor.value_sets_size(value_sets) + mbtracker.estimated_size();
+    if (constants != null) {
+      size += constants.estimated_size();
+    }
+    if (equality_view != null) {
+      size += MemMonitor.slice_size(equality_view);
+    }
+    return size;
+  }
+
   /** Returns the number of true invariants at this ppt. */
   public int invariant_cnt() {
 
@@ -1594,12 +1650,48 @@ public class PptTopLevel extends Ppt {
 
     views.put(sliceIndex(slice.var_infos), slice);
     if (Debug.logOn()) slice.log("Adding slice");
+    if (MemMonitor.enabled) {
+      slice.accounted_bytes = 0;
+      account_slice(slice);
+    }
   }
 
   /** Remove a slice from this PptTopLevel. */
   public void removeSlice(PptSlice slice) {
     Object o = views.remove(sliceIndex(slice.var_infos));
     assert o != null;
+    unaccount_slice(slice);
+  }
+
+  /**
+   * Removes a slice that has been removed from {@link #views} from {@link #slice_bytes}.
+   *
+   * @param slice a slice that was a view of this ppt
+   */
+  private void unaccount_slice(PptSlice slice) {
+    if (slice.accounted_bytes >= 0) {
+      slice_bytes -= slice.accounted_bytes;
+      slice.accounted_bytes = -1;
+    }
+  }
+
+  /**
+   * Updates {@link #slice_bytes} after the invariants of one of this ppt's slices have changed.
+   * Does nothing if the slice is not accounted for, because it has not been added to this ppt or
+   * because memory accounting is disabled.
+   *
+   * @param slice a slice of this ppt
+   */
+  public void account_slice(PptSlice slice) {
+    if (slice.accounted_bytes < 0) {
+      return;
+    }
+    long bytes = MemMonitor.slice_size(slice);
+    slice_bytes += bytes - slice.accounted_bytes;
+    slice.accounted_bytes = bytes;
+    if (slice_bytes > peak_slice_bytes) {
+      peak_slice_bytes = slice_bytes;
+    }
   }
 
   /** Remove a list of invariants. */
@@ -2853,6 +2945,7 @@ public class PptTopLevel extends Ppt {
       if (slice != newSlice) {
         pivoted.add(newSlice);
         iSlices.remove(); // Because the key is now wrong
+        unaccount_slice(slice);
       }
     }
 
@@ -3984,6 +4077,7 @@ public class PptTopLevel extends Ppt {
           parent_inv.log("Added %s to %s", parent_inv.format(), pslice);
         }
       }
+      account_slice(pslice);
     }
   }
 
@@ -4212,6 +4306,8 @@ public class PptTopLevel extends Ppt {
         }
       }
 
+      account_slice(slice);
+
       // If all of the invariants in a slice were removed, note it for removal
       if (slice.invs.size() == 0) slices_to_remove.add(slice);
     }
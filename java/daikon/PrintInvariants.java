@@ -38,9 +38,12 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.StreamCorruptedException;
+import java.io.StringWriter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -50,6 +53,10 @@ import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
 import org.checkerframework.checker.mustcall.qual.Owning;
@@ -81,15 +88,15 @@ public final class PrintInvariants {
    * program point.
    */
   public static void resetPrestateExpressions() {
-    varNameCounter = 0;
-    exprToVar = new HashMap<>();
+    exprToVar.set(new HashMap<>());
   }
 
-  // Used to create distinct variable names (see See dkconfig_replace_prestate).
-  private static int varNameCounter = 0;
-
-  // Maps prestate expressions to variable names (see See dkconfig_replace_prestate)>
-  private static Map<String, String> exprToVar = new HashMap<>();
+  // Maps prestate expressions to variable names (see See dkconfig_replace_prestate).  The
+  // variable names are v0, v1, ... in the order the expressions were added, so the size of the
+  // map is the number of the next variable.  Each thread that prints program points has its own
+  // map, because a program point is printed entirely by one thread.
+  private static final ThreadLocal<Map<String, String>> exprToVar =
+      ThreadLocal.withInitial(HashMap::new);
 
   /**
    * See dkconfig_replace_prestate.
@@ -101,11 +108,12 @@ public final class PrintInvariants {
     if (expr == null) {
       throw new IllegalArgumentException(expr);
     }
-    if (exprToVar.containsKey(expr)) {
-      return exprToVar.get(expr);
+    Map<String, String> exprs = exprToVar.get();
+    if (exprs.containsKey(expr)) {
+      return exprs.get(expr);
     }
-    String v = "v" + Integer.toString(varNameCounter++);
-    exprToVar.put(expr, v);
+    String v = "v" + Integer.toString(exprs.size());
+    exprs.put(expr, v);
     return v;
   }
 
@@ -182,6 +190,14 @@ public final class PrintInvariants {
    */
   public static boolean dkconfig_print_implementer_entry_ppts = true;
 
+  /**
+   * The number of threads used to format program points. Each program point (together with its
+   * conditional program points) is formatted into a separate buffer, and the buffers are written in
+   * the usual order, so the output is the same for every setting. If 1, program points are
+   * formatted one at a time. If 0 or negative, one thread per available processor is used.
+   */
+  public static int dkconfig_print_threads = 1;
+
   /** Main debug tracer for PrintInvariants (for things unrelated to printing). */
   public static final Logger debug = Logger.getLogger("daikon.PrintInvariants");
 
@@ -455,12 +471,13 @@ public final class PrintInvariants {
       throw new Daikon.UserError("Wrong number of arguments (expected 1)");
     }
 
-    // Read in the invariants
+    // Read in the invariants.  Only the ppts that will be printed (and those they depend on)
+    // are read, if the file format permits.
     String filename = args[fileIndex];
     PptMap ppts =
         FileIO.read_serialized_pptmap(
-            new File(filename), true // use saved config
-            );
+            new File(filename), true, // use saved config
+            ppt_regexp);
     // Setup the list of prototype invariants and initialize NIS suppressions
     Daikon.setup_proto_invs();
     Daikon.setup_NISuppression();
@@ -588,7 +605,7 @@ public final class PrintInvariants {
         if (propFilter != null) {
           DiscardInfo di;
           if (propFilter instanceof ObviousFilter) {
-            di = nextInv.isObvious();
+            di = nextInv.isObviousMemoized();
             assert di != null : "@AssumeAssertion(nullness)";
             if (Invariant.logOn()) {
               nextInv.log("DiscardInfo's stuff: %s%s%s", di.className(), lineSep, di.format());
@@ -760,6 +777,8 @@ public final class PrintInvariants {
       // System.out.printf("considering ppt %s%n", ppts[ii-1].name());
     }
 
+    // The program points to print, in the order to print them
+    List<PptTopLevel> to_print = new ArrayList<>();
     for (int i = 0; i < ppts.length; i++) {
       PptTopLevel ppt = ppts[i];
 
@@ -771,7 +790,7 @@ public final class PrintInvariants {
       // exit point
       if (enable_exit_swap && !ppt.ppt_name.isExitPoint()) {
         if (combined_exit != null) {
-          print_invariants_maybe(combined_exit, pw, all_ppts);
+          to_print.add(combined_exit);
         }
         combined_exit = null;
       }
@@ -811,12 +830,31 @@ public final class PrintInvariants {
         }
       }
 
-      print_invariants_maybe(ppt, pw, all_ppts);
+      to_print.add(ppt);
     }
 
     // print a last remaining combined exit point (if any)
     if (enable_exit_swap && combined_exit != null) {
-      print_invariants_maybe(combined_exit, pw, all_ppts);
+      to_print.add(combined_exit);
+    }
+
+    // The invariants do not change while they are printed.
+    Invariant.memoizeObvious(true);
+    try {
+      int num_threads = print_threads();
+      if (num_threads > 1 && to_print.size() > 1) {
+        print_invariants_parallel(to_print, pw, all_ppts, num_threads);
+      } else {
+        for (PptTopLevel ppt : to_print) {
+          print_invariants_maybe(ppt, pw, all_ppts);
+        }
+      }
+    } finally {
+      Invariant.memoizeObvious(false);
+    }
+
+    if (InvariantFilters.debugStats.isLoggable(FINE)) {
+      InvariantFilters.defaultFilters().logStats(InvariantFilters.debugStats);
     }
 
     if (wrap_xml) {
@@ -826,6 +864,102 @@ public final class PrintInvariants {
     pw.flush();
   }
 
+  /**
+   * Returns the number of threads to use to format program points, according to {@link
+   * #dkconfig_print_threads}. Returns 1 when {@link #must_format_in_order} is true.
+   */
+  @RequiresNonNull("FileIO.new_decl_format")
+  private static int print_threads() {
+    if (must_format_in_order()) {
+      return 1;
+    }
+    if (dkconfig_print_threads > 0) {
+      return dkconfig_print_threads;
+    }
+    return Runtime.getRuntime().availableProcessors();
+  }
+
+  /**
+   * Returns true if invariants must be formatted in order, on one thread: the Simplify output
+   * format numbers hashcode values in the order they are printed; in the old declaration format,
+   * the Java, JML, and DBC names of a variable are cached when they are first computed, based on
+   * whichever VarInfo asked first; and invariant logging should not be interleaved.
+   *
+   * @return true if invariants must not be formatted on several threads at once
+   */
+  @RequiresNonNull("FileIO.new_decl_format")
+  public static boolean must_format_in_order() {
+    return (Daikon.output_format == OutputFormat.SIMPLIFY)
+        || (!FileIO.new_decl_format
+            && (Daikon.output_format == OutputFormat.JAVA
+                || Daikon.output_format == OutputFormat.JML
+                || Daikon.output_format == OutputFormat.DBCJAVA))
+        || Invariant.logOn();
+  }
+
+  /**
+   * Prints the invariants for each of the given program points, as {@link #print_invariants_maybe}
+   * does, but formats them on num_threads threads. Each program point is formatted into its own
+   * buffer, and the buffers are printed in the order of ppts. Only a few buffers per thread are
+   * held at once.
+   *
+   * @param ppts the program points to print, in order
+   * @param out where to print the invariants
+   * @param all_ppts all the program points
+   * @param num_threads the number of threads to use
+   */
+  @RequiresNonNull("FileIO.new_decl_format")
+  private static void print_invariants_parallel(
+      List<PptTopLevel> ppts, PrintWriter out, PptMap all_ppts, int num_threads) {
+    // Create the shared filters before any thread uses them.
+    InvariantFilters.defaultFilters();
+
+    ExecutorService executor = Executors.newFixedThreadPool(num_threads);
+    try {
+      int window = 4 * num_threads;
+      // The program points being formatted, and the corresponding results
+      Deque<PptTopLevel> todo_ppts = new ArrayDeque<>(window);
+      Deque<Future<String>> pending = new ArrayDeque<>(window);
+      Iterator<PptTopLevel> todo = ppts.iterator();
+      while (todo.hasNext() || !pending.isEmpty()) {
+        while (todo.hasNext() && pending.size() < window) {
+          PptTopLevel ppt = todo.next();
+          todo_ppts.add(ppt);
+          pending.add(executor.submit(() -> format_invariants_maybe(ppt, all_ppts)));
+        }
+        PptTopLevel ppt = todo_ppts.remove();
+        Future<String> next = pending.remove();
+        try {
+          out.print(next.get());
+        } catch (ExecutionException e) {
+          // Print the program point again on this thread, so that the partial output before the
+          // error and the error itself are the same as when printing sequentially.
+          print_invariants_maybe(ppt, out, all_ppts);
+        } catch (InterruptedException e) {
+          throw new Error("Interrupted while printing invariants", e);
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Returns what {@link #print_invariants_maybe} prints for the given program point.
+   *
+   * @param ppt the program point to format
+   * @param all_ppts all the program points
+   * @return the invariants for ppt and its conditionals, as they would be printed
+   */
+  @RequiresNonNull("FileIO.new_decl_format")
+  private static String format_invariants_maybe(PptTopLevel ppt, PptMap all_ppts) {
+    StringWriter sw = new StringWriter();
+    try (PrintWriter pw = new PrintWriter(sw)) {
+      print_invariants_maybe(ppt, pw, all_ppts);
+    }
+    return sw.toString();
+  }
+
   /**
    * Print invariants for a single program point and its conditionals. Does no output if no samples
    * or no views.
@@ -1066,11 +1200,15 @@ public final class PrintInvariants {
 
   /** Count statistics (via Global) on variables (canonical, missing, etc.) */
   public static void count_global_stats(PptTopLevel ppt) {
+    int derived_variables = 0;
     for (int i = 0; i < ppt.var_infos.length; i++) {
       if (ppt.var_infos[i].isDerived()) {
-        Global.derived_variables++;
+        derived_variables++;
       }
     }
+    synchronized (Global.class) {
+      Global.derived_variables += derived_variables;
+    }
   }
 
   /** Prints the specified invariant to out. */
@@ -1400,8 +1538,6 @@ public final class PrintInvariants {
     Invariant[] invs_array = invs_vector.toArray(new Invariant[invs_vector.size()]);
     Arrays.sort(invs_array, PptTopLevel.icfp);
 
-    Global.non_falsified_invariants += invs_array.length;
-
     List<Invariant> accepted_invariants = new ArrayList<>();
 
     for (int i = 0; i < invs_array.length; i++) {
@@ -1434,7 +1570,6 @@ public final class PrintInvariants {
       // Never print the guarding predicates themselves, they should only
       // print as part of GuardingImplications
       if (fi_accepted && !inv.isGuardingPredicate) {
-        Global.reported_invariants++;
         accepted_invariants.add(inv);
       } else {
         if (Invariant.logOn() || debugPrint.isLoggable(FINE)) {
@@ -1450,6 +1585,12 @@ public final class PrintInvariants {
       }
     }
 
+    // Program points may be printed on several threads (see print_invariants_parallel).
+    synchronized (Global.class) {
+      Global.non_falsified_invariants += invs_array.length;
+      Global.reported_invariants += accepted_invariants.size();
+    }
+
     accepted_invariants = InvariantFilters.addEqualityInvariants(accepted_invariants);
 
     if (debugFiltering.isLoggable(FINE)) {
@@ -1494,7 +1635,8 @@ public final class PrintInvariants {
     }
 
     if (dkconfig_replace_prestate) {
-      for (Map.Entry<@KeyFor("exprToVar") String, String> e : exprToVar.entrySet()) {
+      Map<String, String> exprs = exprToVar.get();
+      for (Map.Entry<@KeyFor("exprs") String, String> e : exprs.entrySet()) {
         out.println("prestate assignment: " + e.getValue() + "=" + e.getKey());
       }
       resetPrestateExpressions();
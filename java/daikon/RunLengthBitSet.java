@@ -0,0 +1,203 @@
+package daikon;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.BitSet;
+import org.checkerframework.checker.lock.qual.GuardSatisfied;
+import org.checkerframework.dataflow.qual.Pure;
+import org.checkerframework.dataflow.qual.SideEffectFree;
+
+/**
+ * A run-length encoded, append-only sequence of bits. It is used by {@link ModBitTracker} as a
+ * compact alternative to {@link BitSet}: modbits tend to be the same for long stretches of
+ * samples, so a long trace is usually a handful of runs rather than one bit per sample.
+ *
+ * <p>The runs alternate in value, starting with {@link #first_value}. Run {@code i} covers the
+ * bits from {@code run_ends[i-1]} (or 0) up to but not including {@code run_ends[i]}. Bits at or
+ * past {@link #size()} are false, as for a BitSet.
+ */
+public final class RunLengthBitSet implements Serializable, Cloneable {
+  static final long serialVersionUID = 20261019L;
+
+  /** The value of every bit in the first run. */
+  private boolean first_value;
+
+  /**
+   * The exclusive end index of each run, in increasing order. Only the first {@link #num_runs}
+   * elements are meaningful.
+   */
+  private int[] run_ends;
+
+  /** The number of runs in use. */
+  private int num_runs;
+
+  /** Creates an empty RunLengthBitSet. */
+  public RunLengthBitSet() {
+    run_ends = new int[2];
+    num_runs = 0;
+  }
+
+  /** Returns the number of bits that have been appended. */
+  @Pure
+  public int size(@GuardSatisfied RunLengthBitSet this) {
+    return (num_runs == 0) ? 0 : run_ends[num_runs - 1];
+  }
+
+  /** Returns the number of runs. */
+  @Pure
+  public int num_runs(@GuardSatisfied RunLengthBitSet this) {
+    return num_runs;
+  }
+
+  /** Returns the value of every bit in the given run. */
+  @Pure
+  private boolean runValue(@GuardSatisfied RunLengthBitSet this, int run) {
+    return first_value ^ ((run & 1) != 0);
+  }
+
+  /**
+   * Appends count copies of value. This extends the last run when possible, so it takes constant
+   * time no matter how large count is.
+   *
+   * @param value the bit to append
+   * @param count how many times to append it
+   */
+  public void append(boolean value, int count) {
+    assert count >= 0 : count;
+    if (count == 0) {
+      return;
+    }
+    int end = size() + count;
+    if (num_runs == 0) {
+      first_value = value;
+    } else if (runValue(num_runs - 1) == value) {
+      run_ends[num_runs - 1] = end;
+      return;
+    }
+    if (num_runs == run_ends.length) {
+      run_ends = Arrays.copyOf(run_ends, 2 * run_ends.length);
+    }
+    run_ends[num_runs] = end;
+    num_runs++;
+  }
+
+  /**
+   * Returns the index of the run that contains the given bit.
+   *
+   * @param bitIndex a bit index less than {@link #size()}
+   * @return the index of the run that contains bitIndex
+   */
+  @Pure
+  private int findRun(@GuardSatisfied RunLengthBitSet this, int bitIndex) {
+    // Most lookups are sequential, and most sets have few runs.
+    if (num_runs == 1 || bitIndex < run_ends[0]) {
+      return 0;
+    }
+    int lo = 1;
+    int hi = num_runs - 1;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (run_ends[mid] > bitIndex) {
+        hi = mid;
+      } else {
+        lo = mid + 1;
+      }
+    }
+    return lo;
+  }
+
+  /** Returns the value of the bit with the specified index. */
+  @Pure
+  public boolean get(@GuardSatisfied RunLengthBitSet this, int bitIndex) {
+    if (bitIndex < 0) {
+      throw new IndexOutOfBoundsException("bitIndex < 0: " + bitIndex);
+    }
+    if (bitIndex >= size()) {
+      return false;
+    }
+    return runValue(findRun(bitIndex));
+  }
+
+  /** Returns the number of bits set to true. */
+  @Pure
+  public int cardinality(@GuardSatisfied RunLengthBitSet this) {
+    int result = 0;
+    int start = 0;
+    for (int i = 0; i < num_runs; i++) {
+      if (runValue(i)) {
+        result += run_ends[i] - start;
+      }
+      start = run_ends[i];
+    }
+    return result;
+  }
+
+  /**
+   * Returns the number of bits that are true in every one of the given sets. This walks the runs
+   * of all the sets in step, without expanding them.
+   *
+   * @param sets the sets to intersect; must be non-empty
+   * @return the cardinality of the intersection of the sets
+   */
+  public static int intersectionCardinality(RunLengthBitSet... sets) {
+    assert sets.length > 0;
+    int limit = Integer.MAX_VALUE;
+    for (RunLengthBitSet set : sets) {
+      limit = Math.min(limit, set.size());
+    }
+    int[] runs = new int[sets.length];
+    int result = 0;
+    int pos = 0;
+    while (pos < limit) {
+      int end = limit;
+      boolean all_true = true;
+      for (int i = 0; i < sets.length; i++) {
+        RunLengthBitSet set = sets[i];
+        end = Math.min(end, set.run_ends[runs[i]]);
+        all_true &= set.runValue(runs[i]);
+      }
+      if (all_true) {
+        result += end - pos;
+      }
+      for (int i = 0; i < sets.length; i++) {
+        if (sets[i].run_ends[runs[i]] == end) {
+          runs[i]++;
+        }
+      }
+      pos = end;
+    }
+    return result;
+  }
+
+  /** Returns a BitSet with the same bits as this. */
+  @SideEffectFree
+  public BitSet toBitSet(@GuardSatisfied RunLengthBitSet this) {
+    BitSet result = new BitSet(size());
+    int start = 0;
+    for (int i = 0; i < num_runs; i++) {
+      if (runValue(i)) {
+        result.set(start, run_ends[i]);
+      }
+      start = run_ends[i];
+    }
+    return result;
+  }
+
+  @SideEffectFree
+  @Override
+  public RunLengthBitSet clone(@GuardSatisfied RunLengthBitSet this) {
+    try {
+      RunLengthBitSet result = (RunLengthBitSet) super.clone();
+      result.run_ends = Arrays.copyOf(run_ends, Math.max(2, num_runs));
+      return result;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("This can't happen: ", e);
+    }
+  }
+
+  @SideEffectFree
+  @Override
+  public String toString(@GuardSatisfied RunLengthBitSet this) {
+    return toBitSet().toString();
+  }
+}
@@ -1,30 +1,25 @@
 package daikon;
 
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
-import java.io.BufferedReader;
+import daikon.tools.BlockGzipOutputStream;
+import daikon.tools.DtraceIndex;
 import java.io.BufferedWriter;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.util.ArrayList;
-import java.util.Enumeration;
 import java.util.HashSet;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
-import org.checkerframework.checker.mustcall.qual.Owning;
-import org.checkerframework.dataflow.qual.Pure;
 
 /**
  * Takes one argument: a .dtrace or dtrace.gz file. Splits it into 100 files: the first file
  * contains the first 1% of the original file, the second contains 1-2%, ... until the last one
  * contains 99-100%.
+ *
+ * <p>The trace is read through its {@link DtraceIndex}, so only the records that are written are
+ * read, and the index is reused by later runs.
  */
 public final class SplitDtrace {
   /**
@@ -43,26 +38,15 @@ public final class SplitDtrace {
       throw new RuntimeException(
           "Filename must end with .dtrace or .dtrace.gz: filename=" + filename);
     }
+    DtraceIndex index = DtraceIndex.forFile(filename);
+    int firstDecl = firstDeclaration(index);
     int declNum = 1;
     int recNum = 0;
-    try (BufferedReader reader = getStream(filename)) {
-      ArrayList<String> rec = new ArrayList<>();
-      while (true) {
-        readRec(reader, rec);
-        if (isDeclare(rec)) {
-          break;
-        }
-      }
-      while (true) {
-        readRec(reader, rec);
-        if (rec.size() == 0) {
-          break;
-        }
-        if (isDeclare(rec)) {
-          declNum++;
-        } else {
-          recNum++;
-        }
+    for (int i = firstDecl + 1; i < index.size(); i++) {
+      if (index.kind(i) == DtraceIndex.Kind.DECLARATION) {
+        declNum++;
+      } else {
+        recNum++;
       }
     }
 
@@ -70,45 +54,62 @@ public final class SplitDtrace {
         "Number of DECLARE statements: " + declNum + " and number of records is: " + recNum);
 
     // DecimalFormat formatter = new DecimalFormat("000");
-    // for (int i = 1; i<=100; i++) writeDtrace(filename, formatter.format(i), 0, 2+recNum*i/200);
-    writeDtrace(filename, "second-half", recNum / 2, 2 + recNum);
+    // for (int i = 1; i<=100; i++) writeDtrace(index, formatter.format(i), 0, 2+recNum*i/200);
+    writeDtrace(index, "second-half", recNum / 2, 2 + recNum);
+  }
+
+  /**
+   * Returns the number of the first declaration in the trace.
+   *
+   * @param index the index of the trace
+   * @return the number of the first declaration record
+   */
+  private static int firstDeclaration(DtraceIndex index) {
+    for (int i = 0; i < index.size(); i++) {
+      if (index.kind(i) == DtraceIndex.Kind.DECLARATION) {
+        return i;
+      }
+    }
+    throw new RuntimeException("No declarations in " + index.filename());
   }
 
-  private static void writeDtrace(String filename, String out_name, int fromRec, int toRec)
+  /**
+   * Writes the records before the first declaration, all the declarations, and the samples
+   * numbered fromRec to toRec. Uses the index to read only the records that are written, and does
+   * not write an EXIT sample whose ENTER sample was not written.
+   */
+  private static void writeDtrace(DtraceIndex index, String out_name, int fromRec, int toRec)
       throws IOException {
+    String filename = index.filename();
     String out = filename.replace(".dtrace", "." + out_name + ".dtrace");
     System.out.println("Writing file " + out);
     try (FileOutputStream fos = new FileOutputStream(out);
-        OutputStream output = filename.endsWith(".dtrace.gz") ? new GZIPOutputStream(fos) : fos;
+        OutputStream output =
+            filename.endsWith(".dtrace.gz") ? new BlockGzipOutputStream(fos) : fos;
         BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(output, UTF_8));
-        BufferedReader reader = getStream(filename)) {
+        DtraceIndex.Reader reader = index.newReader()) {
 
-      int currRecCount = 0;
-      HashSet<Integer> nonceSet = new HashSet<>();
+      int firstDecl = firstDeclaration(index);
       ArrayList<String> rec = new ArrayList<>();
-      while (true) {
-        readRec(reader, rec);
-        if (isDeclare(rec)) writer.newLine();
+      for (int i = 0; i <= firstDecl; i++) {
+        readRec(reader, i, rec);
+        if (i == firstDecl) writer.newLine();
         writeRec(writer, rec);
-        if (isDeclare(rec)) {
-          break;
-        }
       }
-      while (true) {
-        readRec(reader, rec);
-        if (rec.size() == 0) {
-          break;
-        }
-        boolean isDecl = isDeclare(rec);
-        if ((currRecCount >= fromRec || isDecl) && currRecCount <= toRec) {
+      int currRecCount = 0;
+      HashSet<Integer> nonceSet = new HashSet<>();
+      for (int i = firstDecl + 1; i < index.size() && currRecCount <= toRec; i++) {
+        DtraceIndex.Kind kind = index.kind(i);
+        boolean isDecl = (kind == DtraceIndex.Kind.DECLARATION);
+        if (currRecCount >= fromRec || isDecl) {
           boolean shouldWrite = true;
           if (!isDecl) {
-            int nonce = getNonce(rec);
-            if (isEnter(rec)) {
+            int nonce = getNonce(index, i);
+            if (kind == DtraceIndex.Kind.ENTER) {
               nonceSet.add(nonce);
             } else {
-              if (!isExit(rec)) {
-                throw new RuntimeException("Must be either ENTER or EXIT:" + rec);
+              if (kind != DtraceIndex.Kind.EXIT) {
+                throw new RuntimeException("Must be either ENTER or EXIT:" + index.pptName(i));
               }
               if (!nonceSet.contains(nonce)) {
                 shouldWrite = false;
@@ -116,35 +117,21 @@ public final class SplitDtrace {
               nonceSet.remove(nonce);
             }
           }
-          if (shouldWrite) writeRec(writer, rec);
+          if (shouldWrite) {
+            readRec(reader, i, rec);
+            writeRec(writer, rec);
+          }
         }
         if (!isDecl) currRecCount++;
       }
     }
   }
 
-  static int getNonce(ArrayList<String> res) {
-    for (int i = 0; i < res.size(); i++) {
-      if (res.get(i).equals("this_invocation_nonce")) {
-        return Integer.parseInt(res.get(i + 1));
-      }
+  static int getNonce(DtraceIndex index, int record) {
+    if (!index.hasNonce(record)) {
+      throw new RuntimeException("no nonce: " + index.pptName(record));
     }
-    throw new RuntimeException("no nonce: " + res);
-  }
-
-  @Pure
-  static boolean isEnter(ArrayList<String> res) {
-    return res.get(0).contains(":::ENTER");
-  }
-
-  @Pure
-  static boolean isExit(ArrayList<String> res) {
-    return res.get(0).contains(":::EXIT");
-  }
-
-  @Pure
-  static boolean isDeclare(ArrayList<String> res) {
-    return res.get(0).equals("DECLARE");
+    return index.nonce(record);
   }
 
   static void writeRec(BufferedWriter writer, ArrayList<String> res) throws IOException {
@@ -155,71 +142,12 @@ public final class SplitDtrace {
     writer.newLine();
   }
 
-  @SuppressWarnings(
-      "all:purity") // non-deterministic call to trim is used only for equals(), does not affect
-  // result
-  @Pure
-  static boolean isEmpty(String l) {
-    return l.trim().equals("") || l.startsWith("#");
-  }
-
-  static void readRec(BufferedReader reader, ArrayList<String> res) throws IOException {
+  /** Reads the lines of a record, trimmed, into res. */
+  static void readRec(DtraceIndex.Reader reader, int record, ArrayList<String> res)
+      throws IOException {
     res.clear();
-    String line;
-    while ((line = reader.readLine()) != null) {
-      if (!isEmpty(line)) {
-        break;
-      }
-    } // eat white space
-    while (line != null) {
-      line = line.trim();
-      if (isEmpty(line)) {
-        break;
-      }
+    for (String line : reader.readString(record, ISO_8859_1).split("\n")) {
       res.add(line.trim());
-      line = reader.readLine();
-    }
-  }
-
-  @SuppressWarnings({
-    "JdkObsolete", // ZipFile uses Enumeration
-    "builder:required.method.not.called" // @MustCall flows through an enumeration
-  })
-  static @Owning BufferedReader getStream(String filename) throws IOException {
-    InputStream stream = null; // dummy initialization for compiler's definite assignment check
-    ZipFile zipfile = null; // declare outside try so that it can be closed if an exception occurs
-    try {
-      if (filename.endsWith(".dtrace.zip")) {
-        zipfile = new ZipFile(filename);
-        Enumeration<? extends ZipEntry> e = zipfile.entries();
-        if (!e.hasMoreElements()) throw new RuntimeException("No entries in the gz");
-        ZipEntry entry = e.nextElement();
-        if (e.hasMoreElements()) throw new RuntimeException("More than one entry in the gz");
-        stream = zipfile.getInputStream(entry);
-        assert stream != null : "@AssumeAssertion(nullness): just tested that one entry exists";
-      } else {
-        stream = new FileInputStream(filename);
-        if (filename.endsWith(".dtrace.gz")) {
-          stream = new GZIPInputStream(stream);
-        }
-      }
-    } catch (IOException e) {
-      if (zipfile != null) {
-        try {
-          zipfile.close();
-        } catch (IOException e2) {
-          // do nothing
-        }
-      }
-      if (stream != null) {
-        try {
-          stream.close();
-        } catch (IOException e2) {
-          // do nothing
-        }
-      }
-      throw e;
     }
-    return new BufferedReader(new InputStreamReader(stream, "ISO-8859-1"));
   }
 }
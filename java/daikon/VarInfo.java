@@ -2304,8 +2304,17 @@ public final @Interned class VarInfo implements Cloneable, Serializable {
       throw new Error(message);
     }
 
-    // For now associating with the variable's PptSlice
-    PptSlice slice = ppt.get_or_instantiate_slice(this);
+    // For now associating with the variable's PptSlice.  Don't add a new
+    // slice to the ppt unless the predicate is to be installed in it:
+    // PrintInvariants creates uninstalled predicates while other threads may
+    // be reading this ppt's slices.
+    PptSlice slice;
+    if (install) {
+      slice = ppt.get_or_instantiate_slice(this);
+    } else {
+      PptSlice existing = ppt.findSlice(this);
+      slice = (existing != null) ? existing : new PptSlice1(ppt, this);
+    }
 
     Invariant result = Invariant.find(NonZero.class, slice);
 
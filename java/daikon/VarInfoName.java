@@ -447,13 +447,19 @@ public abstract @Interned class VarInfoName implements Serializable, Comparable<
 
   // This does not make any guarantee that the components of the
   // VarInfoName are themselves interned.  Should it?  (I suspect so...)
+  //
+  // PrintInvariants may format invariants (and so create names) on several threads at once, so
+  // access to the intern table is synchronized.  The other caches in this class hold interned
+  // Strings computed from immutable names, so a race between two threads filling the same cache
+  // is harmless: both store the same String.
   @InternMethod
   public VarInfoName intern() {
-    WeakReference<VarInfoName> ref = internTable.get(this);
-    if (ref != null) {
-      VarInfoName result = ref.get();
-      return result;
-    } else {
+    synchronized (internTable) {
+      WeakReference<VarInfoName> ref = internTable.get(this);
+      VarInfoName result = (ref == null) ? null : ref.get();
+      if (result != null) {
+        return result;
+      }
       @SuppressWarnings("interning") // intern method
       @Interned VarInfoName this_interned = this;
       internTable.put(this_interned, new WeakReference<>(this_interned));
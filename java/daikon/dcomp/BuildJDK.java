@@ -4,8 +4,12 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 
 import daikon.DynComp;
 import daikon.plumelib.bcelutil.BcelUtil;
+import daikon.plumelib.bcelutil.InstructionListUtils;
+import daikon.plumelib.options.Option;
 import daikon.plumelib.options.Options;
 import daikon.plumelib.reflection.Signatures;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -19,15 +23,21 @@ import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import org.apache.bcel.Const;
@@ -37,6 +47,7 @@ import org.apache.bcel.generic.ClassGen;
 import org.apache.bcel.generic.MethodGen;
 import org.apache.bcel.generic.Type;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.checker.signature.qual.BinaryName;
 
 /**
@@ -60,6 +71,25 @@ public class BuildJDK {
    */
   public static final String java_home = System.getProperty("java.home");
 
+  /** The number of worker processes that instrument the JDK; 0 means the number of processors. */
+  @Option("Number of worker processes that instrument the JDK (0 = number of processors)")
+  public static int jobs = 0;
+
+  /** Reinstrument every class, even if the destination directory holds an earlier build. */
+  @Option("Reinstrument every class, ignoring any earlier build in the destination directory")
+  public static boolean full_rebuild = false;
+
+  /** The number of classes, the ones that took longest, listed in the timing report. */
+  @Option("Number of slowest classes to list in the timing report")
+  public static int timing_outliers = 10;
+
+  /**
+   * If non-null, this is a worker process started by another BuildJDK, and this file lists the
+   * classes that it instruments.
+   */
+  @Option("(internal) Instrument only the classes listed in this file, as a worker process")
+  public static @Nullable File worker = null;
+
   /** Whether to print information about the classes being instrumented. */
   private static boolean verbose = false;
 
@@ -69,6 +99,23 @@ public class BuildJDK {
   /** Name of file in output jar containing the static-fields map. */
   private static String static_field_id_filename = "dcomp_jdk_static_field_id";
 
+  /**
+   * Name of file in the destination directory that holds the hash of each class file that was
+   * instrumented, so that a later build can skip the classes that have not changed.
+   */
+  private static String class_hashes_filename = "dcomp_jdk_class_hashes";
+
+  /**
+   * The classes whose code determines the result of instrumentation. If one of them changes, an
+   * earlier build is not reused.
+   */
+  private static final Class<?>[] instrumenter_classes = {
+    BuildJDK.class, DCInstrument.class, Premain.class, InstructionListUtils.class
+  };
+
+  /** The time taken to instrument each class, in nanoseconds, keyed by class file name. */
+  private final Map<String, Long> class_times = new HashMap<>();
+
   /**
    * Collects names of all methods that DCInstrument could not process. Should be empty. Format is
    * &lt;fully-qualified class name&gt;.&lt;method name&gt;
@@ -109,7 +156,8 @@ public class BuildJDK {
         new Options(
             "daikon.BuildJDK [options] dest_dir [classfiles...]",
             DynComp.class,
-            DCInstrument.class);
+            DCInstrument.class,
+            BuildJDK.class);
     String[] cl_args = options.parse(true, args);
     if (cl_args.length < 1) {
       System.err.println("must specify destination dir");
@@ -120,6 +168,11 @@ public class BuildJDK {
 
     File dest_dir = new File(cl_args[0]);
 
+    if (worker != null) {
+      build.run_worker(worker, dest_dir);
+      return;
+    }
+
     /**
      * Key is a class file name, value is a stream that opens that file name.
      *
@@ -167,8 +220,54 @@ public class BuildJDK {
         class_stream_map = build.gather_runtime_from_jar();
       }
 
-      // Instrument the Java runtime classes identified in class_stream_map.
-      build.instrument_classes(dest_dir, class_stream_map);
+      Map<String, byte[]> class_bytes = read_streams(class_stream_map);
+
+      // A class whose class file has not changed since an earlier build into dest_dir need not be
+      // instrumented again.  The earlier build's static field ids must then be kept.
+      Map<String, String> hashes = new TreeMap<>();
+      for (Map.Entry<String, byte[]> entry : class_bytes.entrySet()) {
+        hashes.put(entry.getKey(), sha1(entry.getValue()));
+      }
+      Map<String, String> old_hashes = read_class_hashes(dest_dir);
+      if (old_hashes.isEmpty()) {
+        // Every class is instrumented again, so nothing from an earlier build may be kept: the
+        // classes of a different JDK would have stale static field ids.
+        clear_directory(dest_dir);
+      } else {
+        DCInstrument.restore_static_field_id(new File(dest_dir, static_field_id_filename));
+        delete_removed_classes(dest_dir, old_hashes.keySet(), hashes.keySet());
+      }
+      Map<String, byte[]> changed = new TreeMap<>();
+      for (Map.Entry<String, byte[]> entry : class_bytes.entrySet()) {
+        String classFileName = entry.getKey();
+        if (!hashes.get(classFileName).equals(old_hashes.get(classFileName))
+            || (has_output(classFileName) && !new File(dest_dir, classFileName).exists())) {
+          changed.put(classFileName, entry.getValue());
+        }
+      }
+      if (changed.size() < class_bytes.size()) {
+        System.out.printf(
+            "Instrumenting %d of %d files; the others are unchanged since the last build.%n",
+            changed.size(), class_bytes.size());
+      }
+
+      // Give each static field its id before any class is instrumented, so that the ids do not
+      // depend on how the classes are divided among worker processes.
+      allocate_static_field_ids(class_bytes);
+      dest_dir.mkdirs();
+      DCInstrument.save_static_field_id(new File(dest_dir, static_field_id_filename));
+
+      // Instrument the Java runtime classes that have changed.
+      int num_jobs = (jobs > 0) ? jobs : Runtime.getRuntime().availableProcessors();
+      if (num_jobs > 1 && changed.size() > num_jobs) {
+        build.instrument_in_workers(dest_dir, changed, num_jobs, args);
+      } else {
+        Map<String, InputStream> changed_streams = new TreeMap<>();
+        for (Map.Entry<String, byte[]> entry : changed.entrySet()) {
+          changed_streams.put(entry.getKey(), new ByteArrayInputStream(entry.getValue()));
+        }
+        build.instrument_classes(dest_dir, changed_streams);
+      }
 
       // We've finished instrumenting all the class files. Now we create some
       // abstract interface classes for use by the DynComp runtime.
@@ -187,8 +286,13 @@ public class BuildJDK {
           pw.println(classFileName.replace(".class", ""));
         }
       }
+
+      // Written last, so that an interrupted build is not taken to be complete.
+      write_class_hashes(dest_dir, hashes);
     }
 
+    build.print_timing_report();
+
     // Print out any methods that could not be instrumented
     print_skipped_methods();
 
@@ -329,6 +433,348 @@ public class BuildJDK {
     }
   }
 
+  /**
+   * Returns true if {@link #instrument_classes} writes a file to the destination directory for the
+   * given file of the Java runtime.
+   *
+   * @param classFileName the name of a file of the Java runtime
+   * @return true if the file is instrumented or copied
+   */
+  static boolean has_output(String classFileName) {
+    if (classFileName.equals("module-info.class")) {
+      return false;
+    }
+    return BcelUtil.javaVersion <= 8
+        || (classFileName.endsWith(".class") && !classFileName.equals("java/lang/Object.class"));
+  }
+
+  /**
+   * Reads and closes each of the given streams.
+   *
+   * @param class_stream_map a map from class file name to an input stream on that file
+   * @return a map from class file name to the contents of that file, sorted by file name
+   */
+  static Map<String, byte[]> read_streams(Map<String, InputStream> class_stream_map) {
+    Map<String, byte[]> result = new TreeMap<>();
+    byte[] buffer = new byte[8192];
+    for (Map.Entry<String, InputStream> entry : class_stream_map.entrySet()) {
+      try (InputStream is = entry.getValue()) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int n;
+        while ((n = is.read(buffer)) != -1) {
+          bytes.write(buffer, 0, n);
+        }
+        result.put(entry.getKey(), bytes.toByteArray());
+      } catch (IOException e) {
+        throw new UncheckedIOException("Problem while reading " + entry.getKey(), e);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Gives an id to each static field of the given classes, in order of class file name; see {@link
+   * DCInstrument#allocate_jdk_static_field_ids}.
+   *
+   * @param class_bytes a map from class file name to the contents of that file, sorted by name
+   */
+  static void allocate_static_field_ids(Map<String, byte[]> class_bytes) {
+    for (Map.Entry<String, byte[]> entry : class_bytes.entrySet()) {
+      String classFileName = entry.getKey();
+      if (!classFileName.endsWith(".class") || classFileName.equals("module-info.class")) {
+        continue;
+      }
+      JavaClass jc;
+      try {
+        jc = new ClassParser(new ByteArrayInputStream(entry.getValue()), classFileName).parse();
+      } catch (Throwable e) {
+        throw new Error("Failed to parse classfile " + classFileName, e);
+      }
+      DCInstrument.allocate_jdk_static_field_ids(jc);
+    }
+  }
+
+  /**
+   * Returns the SHA-1 hash of the given bytes, as a hexadecimal string.
+   *
+   * @param bytes the bytes to hash
+   * @return the hash of bytes
+   */
+  static String sha1(byte[] bytes) {
+    byte[] digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-1").digest(bytes);
+    } catch (NoSuchAlgorithmException e) {
+      throw new Error("SHA-1 is not available", e);
+    }
+    StringBuilder sb = new StringBuilder(2 * digest.length);
+    for (byte b : digest) {
+      sb.append(Character.forDigit((b >> 4) & 0xf, 16));
+      sb.append(Character.forDigit(b & 0xf, 16));
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Returns a string that identifies the instrumenter: the Java version, and the hash of each of
+   * the {@link #instrumenter_classes}. An earlier build is reused only if it was made by the same
+   * instrumenter.
+   *
+   * @return a string that identifies the instrumenter
+   */
+  static String instrumenter_id() {
+    StringBuilder sb = new StringBuilder(System.getProperty("java.version"));
+    for (Class<?> c : instrumenter_classes) {
+      String resource = c.getName().replace('.', '/') + ".class";
+      InputStream is = c.getClassLoader().getResourceAsStream(resource);
+      if (is == null) {
+        sb.append(" ?");
+      } else {
+        byte[] bytes = read_streams(Collections.singletonMap(resource, is)).get(resource);
+        sb.append(' ').append(sha1(bytes));
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Deletes everything in the given directory, but not the directory itself. Does nothing if the
+   * directory does not exist.
+   *
+   * @param dir a directory
+   * @throws IOException if a file cannot be deleted
+   */
+  static void clear_directory(File dir) throws IOException {
+    File[] files = dir.listFiles();
+    if (files == null) {
+      return;
+    }
+    for (File file : files) {
+      if (file.isDirectory()) {
+        clear_directory(file);
+      }
+      Files.delete(file.toPath());
+    }
+  }
+
+  /**
+   * Deletes the output of each class that an earlier build instrumented but that is no longer in
+   * the Java runtime, so that it is not packed into the runtime jar.
+   *
+   * @param dest_dir the destination directory
+   * @param old_classes the class files of the earlier build
+   * @param classes the class files of the current Java runtime
+   * @throws IOException if a file cannot be deleted
+   */
+  static void delete_removed_classes(File dest_dir, Set<String> old_classes, Set<String> classes)
+      throws IOException {
+    int removed = 0;
+    for (String classFileName : old_classes) {
+      if (!classes.contains(classFileName)
+          && Files.deleteIfExists(new File(dest_dir, classFileName).toPath())) {
+        removed++;
+      }
+    }
+    if (removed > 0) {
+      System.out.printf("Deleted %d files that are no longer in the Java runtime.%n", removed);
+    }
+  }
+
+  /**
+   * Reads the hashes of the class files of the build in dest_dir. Returns an empty map if there is
+   * no complete build, if it was made by a different instrumenter, or if {@code --full-rebuild} was
+   * given.
+   *
+   * @param dest_dir the destination directory
+   * @return a map from class file name to the hash of its contents, when it was instrumented
+   * @throws IOException if the hashes file cannot be read
+   */
+  static Map<String, String> read_class_hashes(File dest_dir) throws IOException {
+    Map<String, String> result = new HashMap<>();
+    File hashes_file = new File(dest_dir, class_hashes_filename);
+    if (full_rebuild
+        || !hashes_file.exists()
+        || !new File(dest_dir, static_field_id_filename).exists()) {
+      return result;
+    }
+    List<String> lines = Files.readAllLines(hashes_file.toPath(), UTF_8);
+    if (lines.isEmpty() || !lines.get(0).equals("# " + instrumenter_id())) {
+      System.out.println("The instrumenter has changed since the last build; rebuilding all");
+      return result;
+    }
+    for (String line : lines.subList(1, lines.size())) {
+      int space = line.lastIndexOf(' ');
+      result.put(line.substring(0, space), line.substring(space + 1));
+    }
+    return result;
+  }
+
+  /**
+   * Writes the hashes of the class files of the build in dest_dir.
+   *
+   * @param dest_dir the destination directory
+   * @param hashes a map from class file name to the hash of its contents
+   * @throws IOException if the hashes file cannot be written
+   */
+  static void write_class_hashes(File dest_dir, Map<String, String> hashes) throws IOException {
+    try (PrintWriter pw =
+        new PrintWriter(new File(dest_dir, class_hashes_filename), UTF_8.name())) {
+      pw.println("# " + instrumenter_id());
+      for (Map.Entry<String, String> entry : hashes.entrySet()) {
+        pw.println(entry.getKey() + " " + entry.getValue());
+      }
+    }
+  }
+
+  /**
+   * Instruments the given classes in {@code num_jobs} worker processes, each of which is a
+   * BuildJDK run with the {@code --worker} option. BCEL's verifier, which DCInstrument uses, keeps
+   * state in static fields, so classes cannot be instrumented by several threads of one process.
+   *
+   * <p>The workers read the static field ids from dest_dir, and instrument only classes whose ids
+   * have all been allocated, so they need not communicate. Each worker reports the methods that it
+   * could not instrument and the time it took for each class in a file that is read when it exits.
+   *
+   * @param dest_dir where to store the instrumented classes
+   * @param classes a map from class file name to the contents of that file
+   * @param num_jobs the number of worker processes
+   * @param args the command-line arguments of this process, which are passed to the workers
+   * @throws IOException if a file used to communicate with a worker cannot be written or read
+   */
+  void instrument_in_workers(
+      File dest_dir, Map<String, byte[]> classes, int num_jobs, String[] args) throws IOException {
+
+    // Give each class to the worker that has the fewest bytes so far, largest classes first.
+    List<String> names = new ArrayList<>(classes.keySet());
+    names.sort((n1, n2) -> Integer.compare(classes.get(n2).length, classes.get(n1).length));
+    List<List<String>> parts = new ArrayList<>();
+    long[] load = new long[num_jobs];
+    for (int i = 0; i < num_jobs; i++) {
+      parts.add(new ArrayList<>());
+    }
+    for (String name : names) {
+      int least = 0;
+      for (int i = 1; i < num_jobs; i++) {
+        if (load[i] < load[least]) {
+          least = i;
+        }
+      }
+      parts.get(least).add(name);
+      load[least] += classes.get(name).length;
+    }
+
+    System.out.printf("Instrumenting in %d worker processes%n", num_jobs);
+    File tmp_dir = Files.createTempDirectory("buildjdk").toFile();
+    List<File> class_lists = new ArrayList<>();
+    List<Process> processes = new ArrayList<>();
+    for (int i = 0; i < num_jobs; i++) {
+      File class_list = new File(tmp_dir, "worker" + i);
+      Files.write(class_list.toPath(), parts.get(i), UTF_8);
+      List<String> command = new ArrayList<>();
+      command.add(java_home + File.separator + "bin" + File.separator + "java");
+      command.add("-cp");
+      command.add(System.getProperty("java.class.path"));
+      command.add(BuildJDK.class.getName());
+      command.add("--worker=" + class_list);
+      command.addAll(Arrays.asList(args));
+      class_lists.add(class_list);
+      processes.add(new ProcessBuilder(command).inheritIO().start());
+    }
+
+    for (int i = 0; i < num_jobs; i++) {
+      int status;
+      try {
+        status = processes.get(i).waitFor();
+      } catch (InterruptedException e) {
+        throw new Error("Interrupted while waiting for worker " + i, e);
+      }
+      if (status != 0) {
+        throw new Error("Worker " + i + " failed with status " + status);
+      }
+      File report = new File(class_lists.get(i).getPath() + ".out");
+      for (String line : Files.readAllLines(report.toPath(), UTF_8)) {
+        if (line.startsWith("skipped ")) {
+          skipped_methods.add(line.substring("skipped ".length()));
+        } else if (line.startsWith("time ")) {
+          String[] fields = line.split(" ", 3);
+          class_times.put(fields[2], Long.valueOf(fields[1]));
+        }
+      }
+      report.delete();
+      class_lists.get(i).delete();
+    }
+    tmp_dir.delete();
+  }
+
+  /**
+   * Instruments the classes listed in class_list, as a worker process started by {@link
+   * #instrument_in_workers}, and writes a report for that method to read.
+   *
+   * @param class_list the file that lists the class file names to instrument
+   * @param dest_dir where to store the instrumented classes
+   * @throws IOException if a file cannot be read or written
+   */
+  @SuppressWarnings("builder:required.method.not.called") // streams are closed when read
+  void run_worker(File class_list, File dest_dir) throws IOException {
+    DCInstrument.restore_static_field_id(new File(dest_dir, static_field_id_filename));
+    int num_ids = DCInstrument.static_field_id.size();
+
+    Set<String> names = new HashSet<>(Files.readAllLines(class_list.toPath(), UTF_8));
+    Map<String, InputStream> all_streams =
+        (BcelUtil.javaVersion > 8) ? gather_runtime_from_modules() : gather_runtime_from_jar();
+    Map<String, InputStream> class_stream_map = new HashMap<>();
+    for (Map.Entry<String, InputStream> entry : all_streams.entrySet()) {
+      if (names.contains(entry.getKey())) {
+        class_stream_map.put(entry.getKey(), entry.getValue());
+      } else {
+        entry.getValue().close();
+      }
+    }
+    instrument_classes(dest_dir, class_stream_map);
+
+    if (DCInstrument.static_field_id.size() != num_ids) {
+      throw new Error("A worker allocated a static field id; ids would differ between workers");
+    }
+    try (PrintWriter pw =
+        new PrintWriter(new File(class_list.getPath() + ".out"), UTF_8.name())) {
+      for (String method : skipped_methods) {
+        pw.println("skipped " + method);
+      }
+      for (Map.Entry<String, Long> entry : class_times.entrySet()) {
+        pw.println("time " + entry.getValue() + " " + entry.getKey());
+      }
+    }
+  }
+
+  /**
+   * Prints the time taken to instrument all the classes, and lists the classes that took the
+   * longest.
+   */
+  private void print_timing_report() {
+    if (class_times.isEmpty()) {
+      return;
+    }
+    List<Map.Entry<String, Long>> entries = new ArrayList<>(class_times.entrySet());
+    entries.sort((e1, e2) -> Long.compare(e2.getValue(), e1.getValue()));
+    long total = 0;
+    for (Map.Entry<String, Long> entry : entries) {
+      total += entry.getValue();
+    }
+    System.out.printf(
+        "Instrumented %d classes in %.1f seconds (mean %.2f ms, median %.2f ms per class)%n",
+        entries.size(),
+        total / 1e9,
+        total / 1e6 / entries.size(),
+        entries.get(entries.size() / 2).getValue() / 1e6);
+    int num_outliers = Math.min(timing_outliers, entries.size());
+    if (num_outliers > 0) {
+      System.out.printf("The %d classes that took longest:%n", num_outliers);
+      for (Map.Entry<String, Long> entry : entries.subList(0, num_outliers)) {
+        System.out.printf("  %10.2f ms  %s%n", entry.getValue() / 1e6, entry.getKey());
+      }
+    }
+  }
+
   /**
    * Instrument each of the classes indentified by the class_stream_map argument.
    *
@@ -474,6 +920,7 @@ public class BuildJDK {
       JavaClass jc, File outputDir, String classFileName, int classTotal)
       throws java.io.IOException {
     if (verbose) System.out.printf("processing target %s%n", classFileName);
+    long start = System.nanoTime();
     DCInstrument dci = new DCInstrument(jc, true, null);
     JavaClass inst_jc;
     inst_jc = dci.instrument_jdk();
@@ -489,6 +936,7 @@ public class BuildJDK {
     File classpath = new File(dir, classfile.getName());
     if (verbose) System.out.printf("writing to file %s%n", classpath);
     inst_jc.dump(classpath);
+    class_times.put(classFileName, System.nanoTime() - start);
     _numFilesProcessed++;
     if (((_numFilesProcessed % 100) == 0) && (System.console() != null)) {
       System.out.printf(
@@ -22,8 +22,8 @@ import java.net.URL;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -229,14 +229,18 @@ public class DCInstrument extends InstructionListUtils {
    * superclass can be accessed through each of its subclasses. Tag accessor methods must be added
    * in each subclass and each should return the same id. We thus will lookup the same name multiple
    * times.
+   *
+   * <p>Classes may be instrumented concurrently, so code that adds to the map, or that iterates
+   * over it, must synchronize on it.
    */
-  static Map<String, Integer> static_field_id = new LinkedHashMap<>();
+  static Map<String, Integer> static_field_id =
+      Collections.synchronizedMap(new LinkedHashMap<String, Integer>());
 
   /**
    * Map from class name to its access_flags. Used to cache the results of the lookup done in {@link
    * #getAccessFlags}. If a class is marked ACC_ANNOTATION then it will not have been instrumented.
    */
-  static Map<String, Integer> accessFlags = new HashMap<>();
+  static Map<String, Integer> accessFlags = new ConcurrentHashMap<>();
 
   /** Integer constant of access_flag value of ACC_ANNOTATION. */
   static Integer Integer_ACC_ANNOTATION = Integer.valueOf(Const.ACC_ANNOTATION);
@@ -273,8 +277,9 @@ public class DCInstrument extends InstructionListUtils {
         new MethodDef("wait", new Type[] {Type.LONG, Type.INT}),
       };
 
-  protected static InstructionList global_catch_il;
-  protected static CodeExceptionGen global_exception_handler;
+  // These are per-instance, not static, because classes may be instrumented concurrently.
+  protected InstructionList global_catch_il;
+  protected CodeExceptionGen global_exception_handler;
   private InstructionHandle insertion_placeholder;
 
   /** Class that defines a method (by its name and argument types) */
@@ -3899,19 +3904,13 @@ public class DCInstrument extends InstructionListUtils {
       }
       if (f.isStatic()) {
         if (!in_jdk) {
-          int min_size = static_field_id.size() + DCRuntime.max_jdk_static;
-          while (DCRuntime.static_tags.size() <= min_size) DCRuntime.static_tags.add(null);
-          static_field_id.put(full_name(jc, f), min_size);
-        } else { // building jdk
-          String full_name = full_name(jc, f);
-          if (static_field_id.containsKey(full_name)) {
-            // System.out.printf("Reusing static field %s value %d%n",
-            //                    full_name, static_field_id.get(full_name));
-          } else {
-            // System.out.printf("Allocating new static field %s%n",
-            //                    full_name);
-            static_field_id.put(full_name, static_field_id.size() + 1);
+          synchronized (static_field_id) {
+            int min_size = static_field_id.size() + DCRuntime.max_jdk_static;
+            while (DCRuntime.static_tags.size() <= min_size) DCRuntime.static_tags.add(null);
+            static_field_id.put(full_name(jc, f), min_size);
           }
+        } else { // building jdk
+          allocate_jdk_static_field_id(full_name(jc, f));
         }
       } else {
         field_map.put(f, offset);
@@ -3922,6 +3921,36 @@ public class DCInstrument extends InstructionListUtils {
     return field_map;
   }
 
+  /**
+   * Gives each primitive static field of a JDK class an id in {@link #static_field_id}, if it does
+   * not have one yet. BuildJDK calls this for every class, in a fixed order, before instrumenting
+   * any of them, so that the ids do not depend on the order in which the classes are instrumented.
+   *
+   * @param jc a class of the JDK
+   */
+  static void allocate_jdk_static_field_ids(JavaClass jc) {
+    for (Field f : jc.getFields()) {
+      Type type = f.getType();
+      if (f.isStatic() && (type instanceof BasicType) && (type != Type.VOID)) {
+        allocate_jdk_static_field_id(jc.getClassName() + "." + f.getName());
+      }
+    }
+  }
+
+  /**
+   * Gives a static field of a JDK class the next id in {@link #static_field_id}, if it does not
+   * have one yet.
+   *
+   * @param full_name the fully qualified name of the field
+   */
+  private static void allocate_jdk_static_field_id(String full_name) {
+    synchronized (static_field_id) {
+      if (!static_field_id.containsKey(full_name)) {
+        static_field_id.put(full_name, static_field_id.size() + 1);
+      }
+    }
+  }
+
   /**
    * Creates a get tag method for field f. The tag corresponding to field f will be pushed on the
    * tag stack.
@@ -4318,8 +4347,11 @@ public class DCInstrument extends InstructionListUtils {
   static void save_static_field_id(File file) throws IOException {
 
     PrintStream ps = new PrintStream(file);
-    for (Map.Entry<@KeyFor("static_field_id") String, Integer> entry : static_field_id.entrySet()) {
-      ps.printf("%s  %d%n", entry.getKey(), entry.getValue());
+    synchronized (static_field_id) {
+      for (Map.Entry<@KeyFor("static_field_id") String, Integer> entry :
+          static_field_id.entrySet()) {
+        ps.printf("%s  %d%n", entry.getKey(), entry.getValue());
+      }
     }
     ps.close();
   }
@@ -0,0 +1,313 @@
+package daikon.derive;
+
+import daikon.PptTopLevel;
+import daikon.ProglangType;
+import daikon.ValueTuple;
+import daikon.VarInfo;
+import daikon.derive.unary.SequenceLength;
+import daikon.derive.unary.SequenceMax;
+import daikon.derive.unary.SequenceMin;
+import daikon.derive.unary.SequenceSum;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import org.checkerframework.checker.interning.qual.Interned;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.plumelib.util.Intern;
+
+/**
+ * Computes the values of the derived variables of a program point, for one sample at a time. The
+ * plan is made once per program point.
+ *
+ * <p>The length, minimum, maximum, and sum of a sequence (see {@link SequenceLength}, {@link
+ * SequenceMin}, {@link SequenceMax}, and {@link SequenceSum}) are computed together, in one pass
+ * over the sequence, for all the derived variables over the same sequence. Sequence values are
+ * interned, so when a sequence has the same value as in the previous sample, the interned results
+ * of the previous sample are reused without looking at the sequence at all. All other derived
+ * variables are computed by their {@link Derivation#computeValueAndModified} method.
+ */
+public final class DerivationPlan {
+
+  // Variables starting with dkconfig_ should only be set via the
+  // daikon.config.Configuration interface.
+  /**
+   * Boolean. If true, the sequence statistics (length, minimum, maximum, and sum) of each sequence
+   * variable are computed in a single pass over the sequence. If false, each derived variable is
+   * computed separately. The results are the same either way.
+   */
+  public static boolean dkconfig_fuse_sequence_derivations = true;
+
+  /** The variables of the program point when the plan was made. */
+  private final VarInfo[] var_infos;
+
+  /** The index of the first derived variable. */
+  private final int first_derived;
+
+  /** The number of static constant variables, which have no slot in a sample's values. */
+  private final int num_const;
+
+  /**
+   * For each variable from {@link #first_derived} on, the sequence whose statistics the variable
+   * is, or null if the variable is computed by its derivation.
+   */
+  private final @Nullable SequenceStats[] stats;
+
+  /**
+   * Creates the plan for the derived variables of a program point.
+   *
+   * @param ppt the program point
+   */
+  private DerivationPlan(PptTopLevel ppt) {
+    var_infos = ppt.var_infos;
+    first_derived = ppt.num_orig_vars + ppt.num_tracevars + ppt.num_static_constant_vars;
+    num_const = ppt.num_static_constant_vars;
+    stats = new SequenceStats[var_infos.length - first_derived];
+    if (!dkconfig_fuse_sequence_derivations) {
+      return;
+    }
+    Map<VarInfo, SequenceStats> by_base = new IdentityHashMap<>();
+    for (int i = first_derived; i < var_infos.length; i++) {
+      Derivation d = var_infos[i].derived;
+      Statistic stat;
+      int shift = 0;
+      if (d instanceof SequenceLength) {
+        stat = Statistic.LENGTH;
+        shift = ((SequenceLength) d).shift;
+      } else if (d instanceof SequenceMin) {
+        stat = Statistic.MIN;
+      } else if (d instanceof SequenceMax) {
+        stat = Statistic.MAX;
+      } else if (d instanceof SequenceSum) {
+        stat = Statistic.SUM;
+      } else {
+        continue;
+      }
+      VarInfo base = d.getBase(0);
+      SequenceStats ss = by_base.get(base);
+      if (ss == null) {
+        ss = new SequenceStats(base, i);
+        by_base.put(base, ss);
+      }
+      ss.add(i, stat, shift);
+      stats[i - first_derived] = ss;
+    }
+  }
+
+  /**
+   * Returns the plan for the given program point, making it if the program point has none or if
+   * its variables have changed since its plan was made.
+   *
+   * @param ppt the program point
+   * @param plan the plan that was last returned for the program point, or null
+   * @return the plan for the program point
+   */
+  public static DerivationPlan of(PptTopLevel ppt, @Nullable DerivationPlan plan) {
+    if (plan != null && plan.var_infos == ppt.var_infos) {
+      return plan;
+    }
+    return new DerivationPlan(ppt);
+  }
+
+  /**
+   * Computes the values of the derived variables of one sample.
+   *
+   * @param vals the values of the sample; the derived variables' slots are filled in
+   * @param mods the modified bits of the sample; the derived variables' slots are filled in
+   * @param partial_vt a value tuple whose values and modified bits are {@code vals} and {@code
+   *     mods}
+   */
+  public void compute(@Nullable Object[] vals, int[] mods, ValueTuple partial_vt) {
+    for (int i = first_derived; i < var_infos.length; i++) {
+      SequenceStats ss = stats[i - first_derived];
+      if (ss != null) {
+        if (ss.first == i) {
+          ss.compute(vals, mods, partial_vt);
+        }
+        continue;
+      }
+      assert var_infos[i].derived != null : "@AssumeAssertion(nullness): application invariant";
+      ValueAndModified vm = var_infos[i].derived.computeValueAndModified(partial_vt);
+      vals[i - num_const] = vm.value;
+      mods[i - num_const] = vm.modified;
+    }
+  }
+
+  /** The statistics of a sequence that are derived variables. */
+  private enum Statistic {
+    LENGTH,
+    MIN,
+    MAX,
+    SUM
+  }
+
+  /** The derived variables that are statistics of one sequence variable. */
+  private final class SequenceStats {
+
+    /** The sequence variable. */
+    final VarInfo base;
+
+    /** The index of the first derived variable over {@link #base}. */
+    final int first;
+
+    /** The indices of the derived variables over {@link #base}. */
+    int[] indices = new int[0];
+
+    /** The statistic that each derived variable is. */
+    Statistic[] statistics = new Statistic[0];
+
+    /** For each derived variable, the shift of a {@link SequenceLength}, or 0. */
+    int[] shifts = new int[0];
+
+    /** The value of {@link #base} for which {@link #results} were computed, or null. */
+    @Nullable Object last_value = null;
+
+    /** The interned value of each derived variable, or null if it is nonsensical. */
+    @Nullable @Interned Object[] results = new Object[0];
+
+    /**
+     * Creates an empty group of derived variables.
+     *
+     * @param base the sequence variable
+     * @param first the index of the first derived variable over base
+     */
+    SequenceStats(VarInfo base, int first) {
+      this.base = base;
+      this.first = first;
+    }
+
+    /**
+     * Adds a derived variable to the group.
+     *
+     * @param index the index of the derived variable
+     * @param stat the statistic that the variable is
+     * @param shift the shift of a length, or 0
+     */
+    void add(int index, Statistic stat, int shift) {
+      int n = indices.length;
+      indices = Arrays.copyOf(indices, n + 1);
+      statistics = Arrays.copyOf(statistics, n + 1);
+      shifts = Arrays.copyOf(shifts, n + 1);
+      results = new Object[n + 1];
+      indices[n] = index;
+      statistics[n] = stat;
+      shifts[n] = shift;
+    }
+
+    /**
+     * Fills in the values of all the derived variables of the group, as their derivations would.
+     *
+     * @param vals the values of the sample
+     * @param mods the modified bits of the sample
+     * @param vt a value tuple whose values and modified bits are {@code vals} and {@code mods}
+     */
+    void compute(@Nullable Object[] vals, int[] mods, ValueTuple vt) {
+      int source_mod = base.getModified(vt);
+      Object val = null;
+      if (source_mod != ValueTuple.MISSING_NONSENSICAL && source_mod != ValueTuple.MISSING_FLOW) {
+        val = base.getValue(vt);
+      }
+      if (val == null) {
+        int mod =
+            (source_mod == ValueTuple.MISSING_FLOW)
+                ? ValueTuple.MISSING_FLOW
+                : ValueTuple.MISSING_NONSENSICAL;
+        for (int index : indices) {
+          vals[index - num_const] = null;
+          mods[index - num_const] = mod;
+        }
+        return;
+      }
+      if (val != last_value) {
+        scan(val);
+        last_value = val;
+      }
+      for (int j = 0; j < indices.length; j++) {
+        Object result = results[j];
+        int slot = indices[j] - num_const;
+        vals[slot] = result;
+        mods[slot] = (result == null) ? ValueTuple.MISSING_NONSENSICAL : source_mod;
+      }
+    }
+
+    /**
+     * Computes the results for a new value of the sequence.
+     *
+     * @param val the value of the sequence
+     */
+    private void scan(Object val) {
+      @Interned Object min = null;
+      @Interned Object max = null;
+      @Interned Object sum = null;
+      if (val instanceof long[]) {
+        long[] a = (long[]) val;
+        long lsum = 0;
+        for (int i = 0; i < a.length; i++) {
+          lsum += a[i];
+        }
+        sum = Intern.internedLong(lsum);
+        if (a.length > 0) {
+          long lmin = a[0];
+          long lmax = a[0];
+          for (int i = 1; i < a.length; i++) {
+            lmin = Math.min(lmin, a[i]);
+            lmax = Math.max(lmax, a[i]);
+          }
+          min = Intern.internedLong(lmin);
+          max = Intern.internedLong(lmax);
+        }
+      } else if (val instanceof double[]) {
+        double[] a = (double[]) val;
+        double dsum = 0;
+        for (int i = 0; i < a.length; i++) {
+          dsum += a[i];
+        }
+        sum = Intern.internedDouble(dsum);
+        if (a.length > 0) {
+          double dmin = a[0];
+          double dmax = a[0];
+          for (int i = 1; i < a.length; i++) {
+            dmin = Math.min(dmin, a[i]);
+            dmax = Math.max(dmax, a[i]);
+          }
+          min = Intern.internedDouble(dmin);
+          max = Intern.internedDouble(dmax);
+        }
+      }
+      @Interned Object[] new_results = new Object[indices.length];
+      for (int j = 0; j < indices.length; j++) {
+        switch (statistics[j]) {
+          case LENGTH:
+            new_results[j] = Intern.internedLong(length(val) + shifts[j]);
+            break;
+          case MIN:
+            new_results[j] = min;
+            break;
+          case MAX:
+            new_results[j] = max;
+            break;
+          case SUM:
+            new_results[j] = sum;
+            break;
+        }
+      }
+      results = new_results;
+    }
+
+    /**
+     * Returns the length of a value of {@link #base}, as {@link SequenceLength} determines it.
+     *
+     * @param val the value of the sequence
+     * @return the length of the sequence
+     */
+    private int length(Object val) {
+      ProglangType rep_type = base.rep_type;
+      if (rep_type == ProglangType.INT_ARRAY) {
+        return ((long[]) val).length;
+      } else if (rep_type == ProglangType.DOUBLE_ARRAY) {
+        return ((double[]) val).length;
+      } else {
+        return ((Object[]) val).length;
+      }
+    }
+  }
+}
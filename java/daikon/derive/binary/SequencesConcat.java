@@ -8,6 +8,7 @@ import daikon.derive.ValueAndModified;
 import java.util.logging.Logger;
 import org.checkerframework.checker.interning.qual.Interned;
 import org.checkerframework.checker.lock.qual.GuardSatisfied;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.dataflow.qual.Pure;
 import org.checkerframework.dataflow.qual.SideEffectFree;
 import org.plumelib.util.ArraysPlume;
@@ -28,6 +29,13 @@ public final class SequencesConcat extends BinaryDerivation {
   /** Boolean. True iff SequencesConcat derived variables should be created. */
   public static boolean dkconfig_enabled = false;
 
+  // The values of the bases at the last call to computeValueAndModifiedImpl, and their
+  // concatenation. Values are interned, so if the bases have the same values as at the last call,
+  // the result is reused instead of being allocated and interned again.
+  private transient @Nullable Object last_val1 = null;
+  private transient @Nullable Object last_val2 = null;
+  private transient @Nullable @Interned Object last_result = null;
+
   @Override
   public VarInfo var1(@GuardSatisfied SequencesConcat this) {
     return base1;
@@ -67,17 +75,32 @@ public final class SequencesConcat extends BinaryDerivation {
     if (val1 == null && val2 == null) {
       return new ValueAndModified(null, mod);
     }
+    if (last_result != null && val1 == last_val1 && val2 == last_val2) {
+      return new ValueAndModified(last_result, mod);
+    }
+    @Interned Object result = concat(val1, val2);
+    last_val1 = val1;
+    last_val2 = val2;
+    last_result = result;
+    return new ValueAndModified(result, mod);
+  }
+
+  /**
+   * Returns the interned concatenation of two values of the bases, at least one of which is
+   * non-null.
+   */
+  private @Interned Object concat(@Nullable Object val1, @Nullable Object val2) {
     if (var1().rep_type == ProglangType.INT_ARRAY) {
       // val1 instanceof long[] || val2 instanceof long[]
       long[] result =
           ArraysPlume.concat(
               val1 == null ? null : (long[]) val1, val2 == null ? null : (long[]) val2);
-      return new ValueAndModified(Intern.intern(result), mod);
+      return Intern.intern(result);
     } else if (var1().rep_type == ProglangType.DOUBLE_ARRAY) {
       double[] result =
           ArraysPlume.concat(
               val1 == null ? null : (double[]) val1, val2 == null ? null : (double[]) val2);
-      return new ValueAndModified(Intern.intern(result), mod);
+      return Intern.intern(result);
 
     } else if (var1().rep_type == ProglangType.STRING_ARRAY) {
       // val1 instanceof String[] || val2 instanceof String[]
@@ -85,7 +108,7 @@ public final class SequencesConcat extends BinaryDerivation {
           ArraysPlume.concat(
               val1 == null ? null : (@Interned String[]) val1,
               val2 == null ? null : (@Interned String[]) val2);
-      return new ValueAndModified(Intern.intern(result), mod);
+      return Intern.intern(result);
     } else {
       throw new Error("Attempted to concatenate unknown arrays");
     }
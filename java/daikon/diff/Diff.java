@@ -5,9 +5,11 @@ import static java.util.logging.Level.INFO;
 
 import daikon.Daikon;
 import daikon.FileIO;
+import daikon.InvFile;
 import daikon.Ppt;
 import daikon.PptConditional;
 import daikon.PptMap;
+import daikon.PptName;
 import daikon.PptTopLevel;
 import daikon.inv.Invariant;
 import gnu.getopt.Getopt;
@@ -18,14 +20,20 @@ import java.io.IOException;
 import java.io.OptionalDataException;
 import java.io.StreamCorruptedException;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NavigableSet;
+import java.util.Set;
 import java.util.TreeSet;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 import org.checkerframework.checker.initialization.qual.UnknownInitialization;
 import org.checkerframework.checker.nullness.qual.EnsuresNonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -76,10 +84,17 @@ public final class Diff {
   private static final String INV_PAIR_COMPARATOR_SWITCH = "invPairComparator";
   private static final String IGNORE_UNJUSTIFIED_SWITCH = "ignore_unjustified";
   private static final String IGNORE_NUMBERED_EXITS_SWITCH = "ignore_exitNN";
+  private static final String HASH_JOIN_SWITCH = "hash_join";
 
   /** Determine which ppts should be paired together in the tree. */
   private static final Comparator<PptTopLevel> PPT_COMPARATOR = new Ppt.NameComparator();
 
+  /**
+   * When program points are read one at a time from indexed files (see {@link #diffInvFiles}),
+   * forget the loaded program points whenever more than this many are held in memory.
+   */
+  private static final int STREAM_BATCH_SIZE = 256;
+
   /**
    * Comparators to sort the sets of invs, and to combine the two sets into the pair tree. Can be
    * overriden by command-line options.
@@ -92,6 +107,18 @@ public final class Diff {
   private boolean examineAllPpts;
   private boolean ignoreNumberedExits;
 
+  /** If non-null, only program points whose names match this are read and compared. */
+  private @Nullable Pattern pptRegexp = null;
+
+  /**
+   * If true, the invariants of two program points are paired by their {@link InvariantFingerprint}
+   * rather than by sorting them with the comparators.
+   */
+  private boolean hashJoin = false;
+
+  /** If true, the fingerprints used by {@link #hashJoin} include the formula. */
+  private boolean hashJoinFormula = false;
+
   public Diff() {
     this(false, false);
   }
@@ -185,6 +212,8 @@ public final class Diff {
     @ClassGetName String invSortComparator1Classname = null;
     @ClassGetName String invSortComparator2Classname = null;
     @ClassGetName String invPairComparatorClassname = null;
+    String pptRegexpString = null;
+    boolean hashJoin = false;
 
     boolean optionSelected = false;
 
@@ -199,6 +228,8 @@ public final class Diff {
           new LongOpt(INV_PAIR_COMPARATOR_SWITCH, LongOpt.REQUIRED_ARGUMENT, null, 0),
           new LongOpt(IGNORE_UNJUSTIFIED_SWITCH, LongOpt.NO_ARGUMENT, null, 0),
           new LongOpt(IGNORE_NUMBERED_EXITS_SWITCH, LongOpt.NO_ARGUMENT, null, 0),
+          new LongOpt(Daikon.ppt_regexp_SWITCH, LongOpt.REQUIRED_ARGUMENT, null, 0),
+          new LongOpt(HASH_JOIN_SWITCH, LongOpt.NO_ARGUMENT, null, 0),
         };
 
     Getopt g =
@@ -251,6 +282,14 @@ public final class Diff {
           } else if (IGNORE_NUMBERED_EXITS_SWITCH.equals(optionName)) {
             ignoreNumberedExits = true;
             break;
+          } else if (Daikon.ppt_regexp_SWITCH.equals(optionName)) {
+            if (pptRegexpString != null) {
+              throw new Error(
+                  "multiple --" + Daikon.ppt_regexp_SWITCH + " regular expressions supplied");
+            }
+            pptRegexpString = Daikon.getOptarg(g);
+          } else if (HASH_JOIN_SWITCH.equals(optionName)) {
+            hashJoin = true;
           } else {
             throw new RuntimeException("Unknown long option received: " + optionName);
           }
@@ -358,6 +397,17 @@ public final class Diff {
             invSortComparator2Classname,
             invPairComparatorClassname,
             defaultComparator);
+    if (pptRegexpString != null) {
+      diff.pptRegexp = Pattern.compile(pptRegexpString);
+    }
+    if (hashJoin) {
+      if (invSortComparator1Classname != null
+          || invSortComparator2Classname != null
+          || invPairComparatorClassname != null) {
+        throw new Error("--" + HASH_JOIN_SWITCH + " cannot be used with comparator classnames");
+      }
+      diff.setHashJoin(minus || xor || union);
+    }
 
     if (!diff.invSortComparator1
             .getClass()
@@ -377,8 +427,8 @@ public final class Diff {
     int firstFileIndex = g.getOptind();
     int numFiles = args.length - firstFileIndex;
 
-    InvMap invMap1 = null;
-    InvMap invMap2 = null;
+    File file1;
+    File file2 = null;
 
     if (logging) {
       System.err.println("Invariant Diff: Reading Files");
@@ -386,32 +436,29 @@ public final class Diff {
 
     if (numFiles == 1) {
       String filename1 = args[firstFileIndex];
-      invMap1 = diff.readInvMap(new File(filename1));
-      invMap2 = new InvMap();
+      file1 = new File(filename1);
     } else if (numFiles == 2) {
       String filename1 = args[firstFileIndex];
       String filename2 = args[firstFileIndex + 1];
-      invMap1 = diff.readInvMap(new File(filename1));
-      invMap2 = diff.readInvMap(new File(filename2));
+      file1 = new File(filename1);
+      file2 = new File(filename2);
     } else if (numFiles > 2) {
 
       // The new stuff that allows multiple files -LL
 
-      PptMap[] mapAr = new PptMap[numFiles];
-      int j = 0;
-      for (int i = firstFileIndex; i < args.length; i++) {
-        String fileName = args[i];
-        mapAr[j++] = FileIO.read_serialized_pptmap(new File(fileName), false);
-      }
-
       // Cascade a lot of the different invariants into one map,
-      // and then put them into map1, map2
+      // and then put them into map1, map2.  Only one file is read at
+      // a time, so that the maps of the other files need not be held
+      // in memory.
 
       // Initialize it all
-      MultiDiffVisitor v1 = new MultiDiffVisitor(mapAr[0]);
+      MultiDiffVisitor v1 =
+          new MultiDiffVisitor(
+              FileIO.read_serialized_pptmap(new File(args[firstFileIndex]), false));
 
-      for (int i = 1; i < mapAr.length; i++) {
-        RootNode root = diff.diffPptMap(mapAr[i], v1.currMap, includeUnjustified);
+      for (int i = firstFileIndex + 1; i < args.length; i++) {
+        PptMap map = FileIO.read_serialized_pptmap(new File(args[i]), false);
+        RootNode root = diff.diffPptMap(map, v1.currMap, includeUnjustified);
         root.accept(v1);
       }
 
@@ -426,6 +473,44 @@ public final class Diff {
       throw new Daikon.NormalTermination();
     }
 
+    // Indexed files are diffed one program point at a time, unless the requested output needs the
+    // whole tree: each kind of printed output is produced by its own traversal, and the set
+    // operations hold on to every program point anyway.
+    int numPrintedOutputs =
+        ((stats || tabSeparatedStats) ? 1 : 0) + (printDiff ? 1 : 0) + (printAll ? 1 : 0);
+    if (!examineAllPpts
+        && numPrintedOutputs <= 1
+        && !(minus || xor || union)
+        && InvFile.is_indexed(file1)
+        && (file2 == null || InvFile.is_indexed(file2))) {
+      List<Visitor> visitors = new ArrayList<>();
+      DetailedStatisticsVisitor statsVisitor =
+          new DetailedStatisticsVisitor(continuousJustification);
+      if (stats || tabSeparatedStats) {
+        visitors.add(statsVisitor);
+      }
+      if (printDiff) {
+        visitors.add(new PrintDifferingInvariantsVisitor(System.out, verbose, printEmptyPpts));
+      }
+      if (printAll) {
+        visitors.add(new PrintAllVisitor(System.out, verbose, printEmptyPpts));
+      }
+      diff.diffInvFiles(file1, file2, includeUnjustified, visitors);
+      if (stats) {
+        System.out.print(statsVisitor.format());
+      }
+      if (tabSeparatedStats) {
+        System.out.print(statsVisitor.repr());
+      }
+      if (logging) {
+        System.err.println("Invariant Diff: Ending Log");
+      }
+      return;
+    }
+
+    InvMap invMap1 = diff.readInvMap(file1);
+    InvMap invMap2 = (file2 == null) ? new InvMap() : diff.readInvMap(file2);
+
     if (logging) {
       System.err.println("Invariant Diff: Creating Tree");
     }
@@ -513,6 +598,10 @@ public final class Diff {
    * @throws ClassNotFoundException if an object in the serialized file has an unloadable class
    */
   private InvMap readInvMap(File file) throws IOException, ClassNotFoundException {
+    if (InvFile.is_indexed(file)) {
+      // Only read the program points that will be compared.
+      return convertToInvMap(FileIO.read_serialized_pptmap(file, false, pptRegexp));
+    }
     Object o = FilesPlume.readObject(file);
     if (o instanceof InvMap) {
       return (InvMap) o;
@@ -542,6 +631,9 @@ public final class Diff {
       if (ignoreNumberedExits && ppt.ppt_name.isNumberedExitPoint()) {
         continue;
       }
+      if (pptRegexp != null && !pptRegexp.matcher(ppt.name()).find()) {
+        continue;
+      }
 
       // List<Invariant> invs = ppt.getInvariants();
       List<Invariant> invs = CollectionsPlume.sortList(ppt.getInvariants(), PptTopLevel.icfp);
@@ -613,6 +705,97 @@ public final class Diff {
     return diffInvMap(map1, map2, includeUnjustified);
   }
 
+  /**
+   * Diffs two files in the indexed {@code .inv} format (see {@link InvFile}) without reading either
+   * file into memory. Corresponding program points are read from the two files one pair at a time,
+   * in the same order as {@link #diffInvMap}, and the PptNode for each pair is passed to each of
+   * the visitors in turn; no RootNode is built. Only a bounded number of program points are held in
+   * memory at once, besides any that the visitors keep.
+   *
+   * <p>Conditional program points are not compared, so examineAllPpts must be false.
+   *
+   * @param file1 an indexed file
+   * @param file2 an indexed file, or null to compare file1 with the empty set
+   * @param includeUnjustified if true, the unjustified invariants are included
+   * @param visitors the visitors to apply to each PptNode
+   * @throws IOException if there is trouble reading either file
+   */
+  public void diffInvFiles(
+      File file1, @Nullable File file2, boolean includeUnjustified, List<Visitor> visitors)
+      throws IOException {
+    if (examineAllPpts) {
+      throw new Error("Conditional program points cannot be compared one at a time");
+    }
+    try (InvFile invFile1 = new InvFile(file1);
+        InvFile invFile2 = (file2 == null) ? null : new InvFile(file2)) {
+      // As when the files are read in full, the second file determines the format.
+      FileIO.new_decl_format = (invFile2 == null ? invFile1 : invFile2).new_decl_format();
+      List<String> names1 = selectPptNames(invFile1);
+      List<String> names2 =
+          (invFile2 == null) ? new ArrayList<String>() : selectPptNames(invFile2);
+      Iterator<MPair<@Nullable String, @Nullable String>> opi =
+          new OrderedPairIterator<String>(
+              names1.iterator(), names2.iterator(), Ppt.NameComparator::compareNames);
+      while (opi.hasNext()) {
+        MPair<@Nullable String, @Nullable String> names = opi.next();
+        PptTopLevel ppt1 = (names.first == null) ? null : invFile1.get(names.first);
+        PptTopLevel ppt2 =
+            (names.second == null || invFile2 == null) ? null : invFile2.get(names.second);
+        PptNode node =
+            diffInvariants(
+                ppt1,
+                ppt2,
+                (ppt1 == null) ? new ArrayList<Invariant>() : sortedInvariants(ppt1),
+                (ppt2 == null) ? new ArrayList<Invariant>() : sortedInvariants(ppt2),
+                includeUnjustified);
+        for (Visitor v : visitors) {
+          node.accept(v);
+        }
+        if (invFile1.num_loaded() > STREAM_BATCH_SIZE) {
+          invFile1.unload();
+        }
+        if (invFile2 != null && invFile2.num_loaded() > STREAM_BATCH_SIZE) {
+          invFile2.unload();
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the names of the program points in an indexed file that {@link #diffInvMap} would
+   * compare, sorted in the order that it compares them.
+   *
+   * @param invFile an indexed file
+   * @return the names of the program points to compare
+   */
+  private List<String> selectPptNames(InvFile invFile) {
+    List<String> result = new ArrayList<>();
+    for (String name : invFile.ppt_names()) {
+      PptName pptName = new PptName(name);
+      if (ignoreNumberedExits && pptName.isNumberedExitPoint()) {
+        continue;
+      }
+      if (pptRegexp != null && !pptRegexp.matcher(name).find()) {
+        continue;
+      }
+      if (pptName.isEnterPoint() || pptName.isCombinedExitPoint()) {
+        result.add(name);
+      }
+    }
+    Collections.sort(result, Ppt.NameComparator::compareNames);
+    return result;
+  }
+
+  /**
+   * Returns the invariants of a program point, sorted as in {@link #convertToInvMap}.
+   *
+   * @param ppt a program point
+   * @return the invariants of ppt
+   */
+  private static List<Invariant> sortedInvariants(PptTopLevel ppt) {
+    return CollectionsPlume.sortList(ppt.getInvariants(), PptTopLevel.icfp);
+  }
+
   /** Returns true if the program point should be added to the tree, false otherwise. */
   private boolean shouldAdd(@Nullable PptTopLevel ppt) {
     if (examineAllPpts) {
@@ -641,29 +824,38 @@ public final class Diff {
       InvMap map1,
       InvMap map2,
       boolean includeUnjustified) {
+    List<Invariant> invs1 = (ppt1 == null) ? new ArrayList<Invariant>() : map1.get(ppt1);
+    List<Invariant> invs2 = (ppt2 == null) ? new ArrayList<Invariant>() : map2.get(ppt2);
+    return diffInvariants(ppt1, ppt2, invs1, invs2, includeUnjustified);
+  }
+
+  /**
+   * Takes a pair of corresponding top-level program points and their invariants, and returns a
+   * tree of the corresponding invariants. Either of the program points may be null. The lists of
+   * invariants may be sorted in place. If includeUnjustied is true, the unjustified invariants are
+   * included.
+   */
+  private PptNode diffInvariants(
+      @Nullable PptTopLevel ppt1,
+      @Nullable PptTopLevel ppt2,
+      List<Invariant> invs1,
+      List<Invariant> invs2,
+      boolean includeUnjustified) {
     PptNode pptNode = new PptNode(ppt1, ppt2);
 
     assert ppt1 == null || ppt2 == null || PPT_COMPARATOR.compare(ppt1, ppt2) == 0
         : "Program points do not correspond";
 
-    List<Invariant> invs1;
-    if (ppt1 != null) {
-      invs1 = map1.get(ppt1);
-      Collections.sort(invs1, invSortComparator1);
+    Iterator<MPair<@Nullable Invariant, @Nullable Invariant>> opi;
+    if (hashJoin) {
+      opi = hashJoinInvariants(invs1, invs2);
     } else {
-      invs1 = new ArrayList<Invariant>();
-    }
-
-    List<Invariant> invs2;
-    if (ppt2 != null) {
-      invs2 = map2.get(ppt2);
+      Collections.sort(invs1, invSortComparator1);
       Collections.sort(invs2, invSortComparator2);
-    } else {
-      invs2 = new ArrayList<Invariant>();
+      opi =
+          new OrderedPairIterator<Invariant>(
+              invs1.iterator(), invs2.iterator(), invPairComparator);
     }
-
-    Iterator<MPair<@Nullable Invariant, @Nullable Invariant>> opi =
-        new OrderedPairIterator<Invariant>(invs1.iterator(), invs2.iterator(), invPairComparator);
     while (opi.hasNext()) {
       MPair<@Nullable Invariant, @Nullable Invariant> invariants = opi.next();
       Invariant inv1 = invariants.first;
@@ -685,6 +877,60 @@ public final class Diff {
     return pptNode;
   }
 
+  /**
+   * Pairs the invariants that have equal fingerprints, without sorting either list. An invariant
+   * is paired with the first unpaired invariant in the other list that has the same fingerprint.
+   * The pairs are returned in the order of invs1, followed by the unpaired invariants of invs2 in
+   * their order. Hashing each invariant once is much cheaper than the comparisons that sorting
+   * makes when there are many invariants at a program point.
+   *
+   * @param invs1 the invariants of the first program point
+   * @param invs2 the invariants of the second program point
+   * @return the pairs of corresponding invariants
+   */
+  private Iterator<MPair<@Nullable Invariant, @Nullable Invariant>> hashJoinInvariants(
+      List<Invariant> invs1, List<Invariant> invs2) {
+    Map<InvariantFingerprint, ArrayDeque<Invariant>> unpaired = new LinkedHashMap<>();
+    for (Invariant inv2 : invs2) {
+      unpaired
+          .computeIfAbsent(
+              InvariantFingerprint.of(inv2, hashJoinFormula), k -> new ArrayDeque<Invariant>())
+          .add(inv2);
+    }
+    List<MPair<@Nullable Invariant, @Nullable Invariant>> result = new ArrayList<>();
+    for (Invariant inv1 : invs1) {
+      ArrayDeque<Invariant> candidates =
+          unpaired.get(InvariantFingerprint.of(inv1, hashJoinFormula));
+      Invariant inv2 = (candidates == null) ? null : candidates.poll();
+      result.add(MPair.of(inv1, inv2));
+    }
+    // The unpaired invariants of invs2, in their original order.
+    Set<Invariant> left = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (ArrayDeque<Invariant> candidates : unpaired.values()) {
+      left.addAll(candidates);
+    }
+    for (Invariant inv2 : invs2) {
+      if (left.contains(inv2)) {
+        result.add(MPair.of(null, inv2));
+      }
+    }
+    return result.iterator();
+  }
+
+  /**
+   * Pair the invariants of corresponding program points by their {@link InvariantFingerprint}
+   * instead of by sorting them with the comparators. This is much faster for program points with
+   * many invariants. The same pairs are found as with {@link Invariant.ClassVarnameComparator} (if
+   * includeFormula is false) or, approximately, {@link Invariant.ClassVarnameFormulaComparator}
+   * (if includeFormula is true), but the pairs of a program point are in a different order.
+   *
+   * @param includeFormula if true, invariants whose formulas differ are not paired
+   */
+  public void setHashJoin(boolean includeFormula) {
+    hashJoin = true;
+    hashJoinFormula = includeFormula;
+  }
+
   /** Use the comparator for sorting both sets and creating the pair tree. */
   @EnsuresNonNull({"invSortComparator1", "invSortComparator2", "invPairComparator"})
   public void setAllInvComparators(@UnknownInitialization Diff this, Comparator<Invariant> c) {
@@ -52,7 +52,7 @@ public class InvMap implements Serializable {
   }
 
   public void put(PptTopLevel ppt, List<Invariant> invs) {
-    if (ppts.contains(ppt)) {
+    if (pptToInvs.containsKey(ppt)) {
       throw new Error("Tried to add duplicate PptTopLevel " + ppt.name());
     }
     ppts.add(ppt);
@@ -60,7 +60,7 @@ public class InvMap implements Serializable {
   }
 
   public void add(PptTopLevel ppt, Invariant inv) {
-    if (!ppts.contains(ppt)) {
+    if (!pptToInvs.containsKey(ppt)) {
       throw new Error("ppt has not yet been added: " + ppt.name());
     }
     get(ppt).add(inv);
@@ -0,0 +1,106 @@
+package daikon.diff;
+
+import daikon.VarInfo;
+import daikon.inv.DummyInvariant;
+import daikon.inv.Implication;
+import daikon.inv.Invariant;
+import java.util.Arrays;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.dataflow.qual.Pure;
+
+/**
+ * A canonical key for an invariant, used to pair the invariants of two program points by hashing
+ * rather than by sorting (see {@link Diff#setHashJoin}). Two invariants have equal fingerprints
+ * exactly when {@link Invariant.ClassVarnameComparator} considers them equal: they are of the same
+ * class and are over variables with the same names, and implications are compared by their
+ * predicates and consequents. A fingerprint that includes the formula also distinguishes
+ * invariants whose printed formulas differ, which approximates {@link
+ * Invariant.ClassVarnameFormulaComparator}.
+ */
+public final class InvariantFingerprint {
+
+  /** Marks the fingerprint of an implication, whatever its class. */
+  private static final String IMPLICATION = "==>";
+
+  /**
+   * The components of the fingerprint: a class name (or {@link #IMPLICATION}), then the variable
+   * names or the fingerprints of the predicate and consequent, then possibly the formula.
+   */
+  private final Object[] parts;
+
+  /** The hash code of {@link #parts}, cached because fingerprints are used as hash keys. */
+  private final int hashCode;
+
+  /**
+   * Creates a fingerprint.
+   *
+   * @param parts the components of the fingerprint
+   */
+  private InvariantFingerprint(Object[] parts) {
+    this.parts = parts;
+    this.hashCode = Arrays.hashCode(parts);
+  }
+
+  /**
+   * Returns the fingerprint of an invariant.
+   *
+   * @param inv an invariant
+   * @param includeFormula if true, invariants whose formulas print differently have different
+   *     fingerprints
+   * @return the fingerprint of inv
+   */
+  public static InvariantFingerprint of(Invariant inv, boolean includeFormula) {
+    Object[] parts;
+    int i;
+    if (inv instanceof Implication) {
+      Implication imp = (Implication) inv;
+      parts = new Object[includeFormula ? 4 : 3];
+      parts[0] = IMPLICATION;
+      parts[1] = of(imp.predicate(), false);
+      parts[2] = of(imp.consequent(), false);
+      i = 3;
+    } else {
+      VarInfo[] vars = inv.ppt.var_infos;
+      boolean dummy = inv instanceof DummyInvariant;
+      parts = new Object[1 + (dummy ? 2 : 0) + vars.length + (includeFormula ? 1 : 0)];
+      i = 0;
+      parts[i++] = inv.getClass().getName();
+      if (dummy) {
+        // Dummy invariants of one class have different formulas and arities.
+        parts[i++] = inv.format();
+        parts[i++] = vars.length;
+      }
+      for (VarInfo vi : vars) {
+        parts[i++] = vi.name();
+      }
+    }
+    if (includeFormula) {
+      parts[i] = inv.format();
+    }
+    return new InvariantFingerprint(parts);
+  }
+
+  @Pure
+  @Override
+  public boolean equals(@Nullable Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof InvariantFingerprint)) {
+      return false;
+    }
+    InvariantFingerprint that = (InvariantFingerprint) other;
+    return hashCode == that.hashCode && Arrays.equals(parts, that.parts);
+  }
+
+  @Pure
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(parts);
+  }
+}
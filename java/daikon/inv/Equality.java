@@ -9,9 +9,9 @@ import daikon.ValueTuple;
 import daikon.VarComparability;
 import daikon.VarInfo;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
@@ -79,6 +79,16 @@ public final /*(at)Interned*/ class Equality extends Invariant {
    */
   private TreeSet<VarInfo> vars;
 
+  /**
+   * The members of vars other than the leader, in index order. This and {@link #otherIndices}
+   * are a flattened copy of vars that lets {@link #add} compare values without iterating over the
+   * TreeSet. They are rebuilt from vars when null.
+   */
+  private transient VarInfo @Nullable [] others;
+
+  /** The value_index of each element of {@link #others}, or -1 if it is a static constant. */
+  private transient int @Nullable [] otherIndices;
+
   /** Returns the number of variables in the set. */
   @Pure
   public int size(@GuardSatisfied Equality this) {
@@ -125,6 +135,24 @@ public final /*(at)Interned*/ class Equality extends Invariant {
     }
   }
 
+  /** Sets {@link #others} and {@link #otherIndices} from vars and the leader. */
+  private void buildOthers() {
+    VarInfo leader = leader();
+    VarInfo[] newOthers = new VarInfo[vars.size() - 1];
+    int[] newIndices = new int[newOthers.length];
+    int i = 0;
+    for (VarInfo vi : vars) {
+      if (vi == leader) {
+        continue;
+      }
+      newOthers[i] = vi;
+      newIndices[i] = vi.is_static_constant ? -1 : vi.value_index;
+      i++;
+    }
+    others = newOthers;
+    otherIndices = newIndices;
+  }
+
   ////////////////////////
   // Accessors
 
@@ -402,31 +430,65 @@ public final /*(at)Interned*/ class Equality extends Invariant {
       numSamples += count;
     }
 
-    List<VarInfo> result = new ArrayList<>();
     if (debug.isLoggable(Level.FINE)) {
       debug.fine("Doing add at " + this.ppt.parent.name() + " for " + this);
     }
-    for (Iterator<VarInfo> i = vars.iterator(); i.hasNext(); ) {
-      VarInfo vi = i.next();
-      if (vi == leader) {
-        continue;
+    if (others == null || otherIndices == null) {
+      buildOthers();
+      assert others != null && otherIndices != null : "@AssumeAssertion(nullness)";
+    }
+    VarInfo[] others = this.others;
+    int[] otherIndices = this.otherIndices;
+    int numOthers = others.length;
+
+    // If the leader is out of bounds or NaN, nothing can be equal to it.
+    // (The identity test below is possible because values are interned.
+    // It also takes into account missing values, since they are null.)
+    boolean leaderComparable =
+        !leaderOutOfBounds && !((leaderValue instanceof Double) && ((Double) leaderValue).isNaN());
+
+    // Fast path: find the first variable that differs from the leader.
+    int first_diff = 0;
+    if (leaderComparable) {
+      @Nullable Object[] vals = vt.vals;
+      int[] mods = vt.mods;
+      for (; first_diff < numOthers; first_diff++) {
+        int vindex = otherIndices[first_diff];
+        if (vindex >= 0) {
+          if (vals[vindex] != leaderValue || mods[vindex] != leaderMod) {
+            break;
+          }
+        } else if (!sameAsLeader(others[first_diff], vt, leaderValue, leaderMod)) {
+          break;
+        }
+        if (others[first_diff].missingOutOfBounds()) {
+          break;
+        }
+      }
+      if (first_diff == numOthers) {
+        return Collections.emptyList();
       }
+    }
+
+    // Slow path: some variable splits off.  Compact the ones that remain
+    // equal to the leader towards the front of the arrays.
+    List<VarInfo> result = new ArrayList<>();
+    int numKept = first_diff;
+    for (int i = first_diff; i < numOthers; i++) {
+      VarInfo vi = others[i];
       assert vi.comparableNWay(leader);
-      Object viValue = vi.getValueOrNull(vt);
-      int viMod = vi.getModified(vt);
-      // The following is possible because values are interned.  The
-      // test also takes into account missing values, since they are
-      // null.
-      if ((leaderValue == viValue)
-          && (leaderMod == viMod)
-          && !leaderOutOfBounds
-          && !vi.missingOutOfBounds()
-          // If the values are NaN, treat them as different.
-          && !((leaderValue instanceof Double) && ((Double) leaderValue).isNaN())) {
+      if (leaderComparable
+          && sameAsLeader(vi, vt, leaderValue, leaderMod)
+          && !vi.missingOutOfBounds()) {
         // The values are the same.
+        others[numKept] = vi;
+        otherIndices[numKept] = otherIndices[i];
+        numKept++;
         continue;
       }
       // The values differ.  Remove this from the equality set.
+      Object viValue = vi.getValueOrNull(vt);
+      int viMod = vi.getModified(vt);
 
       //       if (debug.isLoggable(Level.FINE)) {
       //         debug.fine ("  vi name: " + vi.name.name());
@@ -454,12 +516,28 @@ public final /*(at)Interned*/ class Equality extends Invariant {
       }
 
       result.add(vi);
-      i.remove();
+      vars.remove(vi);
     }
+    this.others = Arrays.copyOf(others, numKept);
+    this.otherIndices = Arrays.copyOf(otherIndices, numKept);
 
     return result;
   }
 
+  /**
+   * Returns true if vi has the same value and modbit as the leader in vt.
+   *
+   * @param vi a variable in this set
+   * @param vt the current sample
+   * @param leaderValue the leader's value in vt
+   * @param leaderMod the leader's modbit in vt
+   * @return true if vi has the same value and modbit as the leader
+   */
+  private static boolean sameAsLeader(
+      VarInfo vi, ValueTuple vt, @Nullable Object leaderValue, int leaderMod) {
+    return (vi.getValueOrNull(vt) == leaderValue) && (vi.getModified(vt) == leaderMod);
+  }
+
   //  This method isn't going to be called, but it's declared abstract in Invariant.
   @Override
   protected Invariant resurrect_done(int[] permutation) {
@@ -565,6 +643,8 @@ public final /*(at)Interned*/ class Equality extends Invariant {
     //                    leaderCache.complexity(), newLeader,
     //                    newLeader.complexity());
     leaderCache = newLeader;
+    others = null;
+    otherIndices = null;
   }
 
   @Override
@@ -26,6 +26,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
@@ -1414,6 +1417,44 @@ public abstract class Invariant implements Serializable, Cloneable // but don't
     }
   }
 
+  /**
+   * Returns the same result as {@link #isObvious}, but remembers it while {@link #memoizeObvious}
+   * is on, so that each invariant is examined only once by the filters and by PrintInvariants.
+   * Unlike isObvious, this is not {@code @Pure}: it updates the remembered results.
+   *
+   * @return the result of {@link #isObvious}
+   */
+  public final @Nullable DiscardInfo isObviousMemoized(@NonPrototype Invariant this) {
+    Map<Invariant, Optional<DiscardInfo>> memo = obviousMemo;
+    if (memo == null) {
+      return isObvious();
+    }
+    Optional<DiscardInfo> result = memo.get(this);
+    if (result == null) {
+      result = Optional.ofNullable(isObvious());
+      memo.put(this, result);
+    }
+    return result.orElse(null);
+  }
+
+  /**
+   * The results of {@link #isObviousMemoized}, or null if they are not being remembered. See
+   * {@link #memoizeObvious}.
+   */
+  private static volatile @Nullable Map<Invariant, Optional<DiscardInfo>> obviousMemo = null;
+
+  /**
+   * Starts or stops remembering the results of {@link #isObviousMemoized}. Whether an invariant is
+   * obvious depends on the other invariants, so the results may only be remembered while no
+   * invariant is added, removed, or falsified; PrintInvariants remembers them while it prints.
+   * Stopping forgets the remembered results.
+   *
+   * @param memoize true to start remembering results, false to stop
+   */
+  public static void memoizeObvious(boolean memoize) {
+    obviousMemo = memoize ? new ConcurrentHashMap<>() : null;
+  }
+
   /**
    * Return non-null if this invariant is necessarily true from a fact that can be determined
    * dynamically (after checking data) -- for the given varInfos rather than the varInfos of this.
@@ -3,10 +3,26 @@ package daikon.inv.filter;
 // The template for an invariant filter.
 // Groups of invariant filters are managed by InvariantFilters.
 import daikon.inv.Invariant;
+import java.util.concurrent.atomic.LongAdder;
 
 public abstract class InvariantFilter {
   boolean isOn;
 
+  // Statistics about this filter.  They are updated by shouldDiscard, which
+  // may be called on several threads at once (see PrintInvariants).
+
+  /** The number of invariants this filter has been applied to while it was on. */
+  private final LongAdder num_applied = new LongAdder();
+
+  /** The number of invariants this filter has discarded. */
+  private final LongAdder num_discarded = new LongAdder();
+
+  /**
+   * The time spent deciding whether to discard invariants, in nanoseconds. Only measured when
+   * InvariantFilters asks for it; see {@link #shouldDiscard(Invariant, boolean)}.
+   */
+  private final LongAdder nanos = new LongAdder();
+
   protected InvariantFilter(boolean isOn) {
     this.isOn = isOn;
   }
@@ -32,11 +48,60 @@ public abstract class InvariantFilter {
   }
 
   public boolean shouldDiscard(Invariant invariant) {
+    return shouldDiscard(invariant, false);
+  }
+
+  /**
+   * Returns true if this filter is on and discards the invariant, and updates the statistics about
+   * this filter.
+   *
+   * @param invariant the invariant to filter
+   * @param timed if true, also measure how long the filter takes
+   * @return true if the invariant should be discarded
+   */
+  boolean shouldDiscard(Invariant invariant, boolean timed) {
     if (!isOn) {
       return false;
+    }
+    boolean result;
+    if (timed) {
+      long start = System.nanoTime();
+      result = shouldDiscardInvariant(invariant);
+      nanos.add(System.nanoTime() - start);
     } else {
-      return shouldDiscardInvariant(invariant);
+      result = shouldDiscardInvariant(invariant);
+    }
+    num_applied.increment();
+    if (result) {
+      num_discarded.increment();
     }
+    return result;
+  }
+
+  /** Returns the number of invariants this filter has been applied to while it was on. */
+  public long num_applied() {
+    return num_applied.sum();
+  }
+
+  /** Returns the number of invariants this filter has discarded. */
+  public long num_discarded() {
+    return num_discarded.sum();
+  }
+
+  /**
+   * Returns the time spent in this filter, in nanoseconds. Time is only measured while {@link
+   * InvariantFilters#dkconfig_adaptive_order} is set or {@link InvariantFilters#debugStats} is
+   * enabled.
+   */
+  public long nanos() {
+    return nanos.sum();
+  }
+
+  /** Resets the statistics about this filter to zero. */
+  public void reset_stats() {
+    num_applied.reset();
+    num_discarded.reset();
+    nanos.reset();
   }
 
   abstract boolean shouldDiscardInvariant(Invariant invariant);
@@ -8,8 +8,14 @@ import daikon.inv.Implication;
 import daikon.inv.Invariant;
 import daikon.inv.OutputFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.checkerframework.checker.initialization.qual.UnknownInitialization;
@@ -55,6 +61,33 @@ public class InvariantFilters {
   List<InvariantFilter> propertyFilters = new ArrayList<>();
   List<VariableFilter> variableFilters = new ArrayList<>();
 
+  // Variables starting with dkconfig_ should only be set via the
+  // daikon.config.Configuration interface.
+
+  /**
+   * If true, apply the property filters cheapest first: in increasing order of the time each has
+   * taken per invariant it discarded, as measured so far. Otherwise, apply them in the order they
+   * were registered. Each filter decides independently of the others, so the set of invariants
+   * that are kept is the same either way. When more than one filter would discard an invariant,
+   * though, {@link #shouldKeep} may report a different one.
+   */
+  public static boolean dkconfig_adaptive_order = false;
+
+  /**
+   * Logs how often each property filter was applied, how many invariants it discarded, and how long
+   * it took. Enabling this logger also turns on the timing of filters.
+   */
+  public static final Logger debugStats = Logger.getLogger("daikon.filtering.stats");
+
+  /** The number of invariants to filter between two reorderings of the property filters. */
+  private static final int REORDER_INTERVAL = 1000;
+
+  /** The property filters, in the order to apply them when dkconfig_adaptive_order is set. */
+  private volatile InvariantFilter[] adaptiveOrder = new InvariantFilter[0];
+
+  /** The number of invariants filtered since the property filters were last reordered. */
+  private final AtomicInteger filteredSinceReorder = new AtomicInteger();
+
   public InvariantFilters() {
 
     addPropertyFilter(new UnjustifiedFilter());
@@ -92,6 +125,7 @@ public class InvariantFilters {
       @UnknownInitialization(InvariantFilters.class) InvariantFilters this,
       InvariantFilter filter) {
     propertyFilters.add(filter);
+    adaptiveOrder = propertyFilters.toArray(new InvariantFilter[0]);
   }
 
   public @Nullable InvariantFilter shouldKeepVarFilters(Invariant invariant) {
@@ -124,11 +158,19 @@ public class InvariantFilters {
 
   public @Nullable InvariantFilter shouldKeepPropFilters(Invariant invariant) {
     Logger df = PrintInvariants.debugFiltering;
-    for (InvariantFilter filter : propertyFilters) {
+    boolean timed = dkconfig_adaptive_order || debugStats.isLoggable(Level.FINE);
+    List<InvariantFilter> filters = propertyFilters;
+    if (dkconfig_adaptive_order) {
+      if (filteredSinceReorder.incrementAndGet() >= REORDER_INTERVAL) {
+        reorder();
+      }
+      filters = Arrays.asList(adaptiveOrder);
+    }
+    for (InvariantFilter filter : filters) {
       if (Invariant.logDetail() || df.isLoggable(Level.FINE)) {
         invariant.log(df, "applying " + filter.getClass().getName());
       }
-      if (filter.shouldDiscard(invariant)) {
+      if (filter.shouldDiscard(invariant, timed)) {
         if (Invariant.logOn() || df.isLoggable(Level.FINE)) {
           invariant.log(
               df,
@@ -167,6 +209,47 @@ public class InvariantFilters {
     return shouldKeepPropFilters(invariant);
   }
 
+  /**
+   * Sorts the property filters in increasing order of the time each has taken per invariant it
+   * discarded. Filters that have not discarded anything go last, in the order they were
+   * registered.
+   */
+  private synchronized void reorder() {
+    filteredSinceReorder.set(0);
+    InvariantFilter[] order = propertyFilters.toArray(new InvariantFilter[0]);
+    // Take a snapshot of the statistics, which other threads may be updating.
+    Map<InvariantFilter, Double> costs = new IdentityHashMap<>();
+    for (InvariantFilter filter : order) {
+      long discarded = filter.num_discarded();
+      double cost = (double) filter.nanos() / discarded;
+      costs.put(filter, (discarded == 0) ? Double.POSITIVE_INFINITY : cost);
+    }
+    // The sort is stable, so ties keep the registration order.
+    Arrays.sort(order, Comparator.comparing(costs::get));
+    adaptiveOrder = order;
+  }
+
+  /**
+   * Logs, for each property filter, how many invariants it was applied to, how many it discarded,
+   * and how long it took.
+   *
+   * @param log where to log the statistics
+   */
+  public void logStats(Logger log) {
+    log.fine(String.format("%-32s %10s %10s %10s", "filter", "applied", "discarded", "ms"));
+    List<InvariantFilter> filters =
+        dkconfig_adaptive_order ? Arrays.asList(adaptiveOrder) : propertyFilters;
+    for (InvariantFilter filter : filters) {
+      log.fine(
+          String.format(
+              "%-32s %10d %10d %10d",
+              filter.getClass().getSimpleName(),
+              filter.num_applied(),
+              filter.num_discarded(),
+              TimeUnit.NANOSECONDS.toMillis(filter.nanos())));
+    }
+  }
+
   public Iterator<InvariantFilter> getPropertyFiltersIterator() {
     return propertyFilters.iterator();
   }
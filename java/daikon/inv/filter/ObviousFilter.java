@@ -22,7 +22,7 @@ public class ObviousFilter extends InvariantFilter {
   @EnsuresNonNullIf(result = true, expression = "#1.isObvious()")
   boolean shouldDiscardInvariant(Invariant invariant) {
     // if ((invariant.ppt.arity() == 1) || invariant.isEqualityComparison()) {
-    DiscardInfo discard = invariant.isObvious();
+    DiscardInfo discard = invariant.isObviousMemoized();
     if (discard != null) {
       invariant.log("discard because %s", discard.discardString());
     }
@@ -16,6 +16,7 @@ import org.checkerframework.checker.mustcall.qual.CreatesMustCallFor;
 import org.checkerframework.checker.mustcall.qual.MustCall;
 import org.checkerframework.checker.mustcall.qual.Owning;
 import org.checkerframework.checker.nullness.qual.EnsuresNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * A stack of Lemmas that shadows the stack of assumptions that Simplify keeps. Keeping this stack
@@ -55,10 +56,23 @@ import org.checkerframework.checker.nullness.qual.EnsuresNonNull;
   private Stack<Lemma> lemmas;
   private @Owning SessionManager session;
 
+  /** The answers to earlier queries, or null if they are not remembered. */
+  private final @Nullable QueryCache cache;
+
+  /**
+   * The context (see {@link QueryCache}) after each assumption on Simplify's stack, which may
+   * differ from {@link #lemmas} while assumptions are being minimized. The bottom element is the
+   * context of the prover background. Empty if {@link #cache} is null.
+   */
+  private final Stack<byte[]> contexts = new Stack<>();
+
   /** Tell Simplify to assume a lemma, which should already be on our stack. */
   private void assume(@UnknownInitialization(LemmaStack.class) LemmaStack this, Lemma lemma)
       throws TimeoutException {
     session.request(new CmdAssume(lemma.formula));
+    if (cache != null) {
+      contexts.push(QueryCache.extend(contexts.peek(), lemma.formula));
+    }
   }
 
   /** Assume a list of lemmas. */
@@ -76,6 +90,9 @@ import org.checkerframework.checker.nullness.qual.EnsuresNonNull;
     } catch (TimeoutException e) {
       throw new Error("Unexpected timeout on (BG_POP)");
     }
+    if (cache != null) {
+      contexts.pop();
+    }
   }
 
   /**
@@ -104,6 +121,10 @@ import org.checkerframework.checker.nullness.qual.EnsuresNonNull;
     }
     if (session_try != null) {
       session = session_try;
+      if (cache != null) {
+        contexts.clear();
+        contexts.push(QueryCache.initialContext());
+      }
     } else {
       throw new SimplifyError("Couldn't start Simplify");
     }
@@ -121,8 +142,19 @@ import org.checkerframework.checker.nullness.qual.EnsuresNonNull;
     }
   }
 
-  /** Create a new LemmaStack. */
+  /** Create a new LemmaStack, which uses the query cache configured for Daikon. */
   public LemmaStack() throws SimplifyError {
+    this(QueryCache.shared());
+  }
+
+  /**
+   * Create a new LemmaStack.
+   *
+   * @param cache the answers to earlier queries, which is consulted before each query is sent to
+   *     Simplify and updated with its answer; or null to send every query to Simplify
+   */
+  public LemmaStack(@Nullable QueryCache cache) throws SimplifyError {
+    this.cache = cache;
     startProver();
     lemmas = new Stack<Lemma>();
     if (daikon.inv.Invariant.dkconfig_simplify_define_predicates) pushLemmas(Lemma.lemmasList());
@@ -152,7 +184,7 @@ import org.checkerframework.checker.nullness.qual.EnsuresNonNull;
         // to Simplify after each lemma, and is useful to figure out
         // which lemma an error message refers to.
         try {
-          checkString("(AND)");
+          checkString("(AND)", false);
         } catch (SimplifyError err) {
           System.err.println("Error after pushing " + lem.summarize() + " " + lem.formula);
           throw err;
@@ -183,10 +215,31 @@ import org.checkerframework.checker.nullness.qual.EnsuresNonNull;
    * @param str the string to check
    * @return 'T' if Simplify says yes, 'F' if Simplify says no, or '?' if Simplify does not answer
    */
-  @SuppressWarnings("builder:reset.not.owning") // only resets conditionally, on exception path
   private char checkString(@UnknownInitialization(LemmaStack.class) LemmaStack this, String str)
       throws SimplifyError {
+    return checkString(str, true);
+  }
+
+  /**
+   * Ask Simplify whether a string is a valid statement, given our assumptions.
+   *
+   * @param str the string to check
+   * @param useCache if false, the query is always sent to Simplify, as when its purpose is to
+   *     receive error messages from Simplify
+   * @return 'T' if Simplify says yes, 'F' if Simplify says no, or '?' if Simplify does not answer
+   */
+  @SuppressWarnings("builder:reset.not.owning") // only resets conditionally, on exception path
+  private char checkString(
+      @UnknownInitialization(LemmaStack.class) LemmaStack this, String str, boolean useCache)
+      throws SimplifyError {
     SimpUtil.assert_well_formed(str);
+    byte[] context = (cache != null && useCache) ? contexts.peek() : null;
+    if (context != null) {
+      Character known = cache.lookup(context, str);
+      if (known != null) {
+        return known;
+      }
+    }
     CmdCheck cc = new CmdCheck(str);
     try {
       session.request(cc);
@@ -197,7 +250,11 @@ import org.checkerframework.checker.nullness.qual.EnsuresNonNull;
     if (cc.unknown) {
       return '?';
     }
-    return cc.valid ? 'T' : 'F';
+    char result = cc.valid ? 'T' : 'F';
+    if (context != null) {
+      cache.store(context, str, result);
+    }
+    return result;
   }
 
   /**
@@ -533,11 +590,23 @@ import org.checkerframework.checker.nullness.qual.EnsuresNonNull;
     }
   }
 
+  /**
+   * Returns the cache of answers to queries that this consults.
+   *
+   * @return the query cache, or null if queries are not cached
+   */
+  public @Nullable QueryCache getCache() {
+    return cache;
+  }
+
   /** Releases resources held by this. */
   @SuppressWarnings("builder:contracts.postcondition") // performed on a local alias, not the field
   @EnsuresCalledMethods(value = "session", methods = "close")
   @Override
   public void close(@GuardSatisfied LemmaStack this) {
+    if (cache != null) {
+      cache.save();
+    }
     // this.session should be effectively final in that it refers
     // to the same value throughout the execution of this method.
     // Unfortunately, the Lock Checker cannot verify this,
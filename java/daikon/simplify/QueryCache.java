@@ -0,0 +1,282 @@
+package daikon.simplify;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A cache of the answers that Simplify has given to queries. Simplify's answer to a query depends
+ * only on the query and on the assumptions that have been pushed before it, so a query is
+ * identified by the query text together with a <em>context</em>: a digest of the prover
+ * background and of each assumption on Simplify's stack, in order. {@link LemmaStack} maintains
+ * the context as it pushes and pops assumptions, and consults the cache before it sends a query to
+ * Simplify. The same queries recur at many program points, and in every run of Daikon over the same
+ * program, so the cache can also be kept in a file from one run to the next.
+ *
+ * <p>Only definite answers ('T' and 'F') are cached; a query that Simplify gave up on, or that
+ * timed out, is asked again the next time.
+ */
+public class QueryCache {
+  // Variables starting with dkconfig_ should only be set via the
+  // daikon.config.Configuration interface.
+
+  /**
+   * Boolean. If true, the answers that Simplify gives during the {@code --suppress_redundant} check
+   * are remembered, and a query that has already been answered, under the same assumptions, is not
+   * sent to Simplify again.
+   */
+  public static boolean dkconfig_enabled = true;
+
+  /**
+   * String. If non-null, the name of a file in which Simplify's answers are kept from one run of
+   * Daikon to the next. The answers in the file are read when Simplify is first used, and new
+   * answers are appended to it. The file depends only on the queries, so it may be shared by runs
+   * over different programs.
+   */
+  public static @Nullable String dkconfig_file = null;
+
+  /** The cache used by Daikon, as configured by the options above; created on first use. */
+  private static @MonotonicNonNull QueryCache shared = null;
+
+  /** The first line of a cache file. */
+  private static final String FILE_HEADER = "# Simplify query cache";
+
+  /** The number of new answers that are buffered before they are appended to the file. */
+  private static final int SAVE_INTERVAL = 100;
+
+  /** The answers, keyed by the digest of the context and the query. */
+  private final Map<String, Character> answers = new HashMap<>();
+
+  /** The file in which answers are kept, or null if they are kept only in memory. */
+  private final @Nullable File file;
+
+  /** New answers that have not yet been appended to the file; a key and its answer. */
+  private final List<String> unsaved = new ArrayList<>();
+
+  /** The number of queries whose answer was in the cache. */
+  private long hits = 0;
+
+  /** The number of queries whose answer was not in the cache. */
+  private long misses = 0;
+
+  /**
+   * Creates a cache, reading the answers that are already in the given file.
+   *
+   * @param file the file in which answers are kept, or null to keep them only in memory
+   * @throws IOException if the file exists but cannot be read
+   */
+  public QueryCache(@Nullable File file) throws IOException {
+    this.file = file;
+    if (file != null && file.exists()) {
+      read(file);
+    }
+  }
+
+  /**
+   * Returns the cache configured by {@link #dkconfig_enabled} and {@link #dkconfig_file}, or null
+   * if caching is disabled.
+   *
+   * @return the cache that Daikon uses, or null
+   */
+  public static @Nullable QueryCache shared() {
+    if (!dkconfig_enabled) {
+      return null;
+    }
+    if (shared == null) {
+      File f = (dkconfig_file == null) ? null : new File(dkconfig_file);
+      try {
+        shared = new QueryCache(f);
+      } catch (IOException e) {
+        System.err.println("Could not read Simplify query cache " + f + ": " + e);
+        try {
+          shared = new QueryCache(null);
+        } catch (IOException e2) {
+          throw new Error("unreachable", e2);
+        }
+      }
+    }
+    return shared;
+  }
+
+  /**
+   * Reads the answers in the given file. Lines that are not well-formed, such as a last line that
+   * was cut short, are ignored.
+   */
+  private void read(File f) throws IOException {
+    try (BufferedReader reader =
+        new BufferedReader(new InputStreamReader(new FileInputStream(f), UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        int space = line.indexOf(' ');
+        if (line.startsWith("#") || space == -1 || space != line.length() - 2) {
+          continue;
+        }
+        char answer = line.charAt(space + 1);
+        if (answer == 'T' || answer == 'F') {
+          answers.put(line.substring(0, space), answer);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the context in which Simplify starts, before any assumption has been pushed. It
+   * depends on the prover background and on the limits that determine when Simplify gives up.
+   *
+   * @return the digest of the initial context
+   */
+  public static byte[] initialContext() {
+    MessageDigest md = newDigest();
+    md.update(SessionManager.proverBackground().getBytes(UTF_8));
+    md.update(
+        ("\0" + Session.dkconfig_simplify_max_iterations + " " + Session.dkconfig_simplify_timeout)
+            .getBytes(UTF_8));
+    return md.digest();
+  }
+
+  /**
+   * Returns the context that results from pushing an assumption in the given context.
+   *
+   * @param context the digest of a context
+   * @param assumption the formula that is assumed
+   * @return the digest of the new context
+   */
+  public static byte[] extend(byte[] context, String assumption) {
+    MessageDigest md = newDigest();
+    md.update(context);
+    md.update(assumption.getBytes(UTF_8));
+    return md.digest();
+  }
+
+  /**
+   * Returns the answer to a query, if it is in the cache, and counts the lookup as a hit or a miss.
+   *
+   * @param context the digest of the assumptions under which the query is asked
+   * @param query the formula to check
+   * @return 'T' or 'F' if the answer is known, or null
+   */
+  public @Nullable Character lookup(byte[] context, String query) {
+    Character result = answers.get(key(context, query));
+    if (result == null) {
+      misses++;
+    } else {
+      hits++;
+    }
+    return result;
+  }
+
+  /**
+   * Records Simplify's answer to a query. Answers other than 'T' and 'F' are not recorded.
+   *
+   * @param context the digest of the assumptions under which the query was asked
+   * @param query the formula that was checked
+   * @param answer Simplify's answer
+   */
+  public void store(byte[] context, String query, char answer) {
+    if (answer != 'T' && answer != 'F') {
+      return;
+    }
+    String key = key(context, query);
+    if (answers.put(key, answer) == null && file != null) {
+      unsaved.add(key + " " + answer);
+      if (unsaved.size() >= SAVE_INTERVAL) {
+        save();
+      }
+    }
+  }
+
+  /** Appends the answers that have not yet been saved to the cache file, if there is one. */
+  public void save() {
+    if (file == null || unsaved.isEmpty()) {
+      return;
+    }
+    boolean isNew = !file.exists();
+    try (Writer w =
+        new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), UTF_8))) {
+      if (isNew) {
+        w.write(FILE_HEADER + System.lineSeparator());
+      }
+      for (String line : unsaved) {
+        w.write(line + System.lineSeparator());
+      }
+    } catch (IOException e) {
+      System.err.println("Could not write Simplify query cache " + file + ": " + e);
+    }
+    unsaved.clear();
+  }
+
+  /**
+   * Returns the number of answers in the cache.
+   *
+   * @return the number of answers in the cache
+   */
+  public int size() {
+    return answers.size();
+  }
+
+  /**
+   * Returns the number of queries whose answer was found in the cache.
+   *
+   * @return the number of cache hits
+   */
+  public long hits() {
+    return hits;
+  }
+
+  /**
+   * Returns the number of queries whose answer was not found in the cache.
+   *
+   * @return the number of cache misses
+   */
+  public long misses() {
+    return misses;
+  }
+
+  /**
+   * Returns a one-line description of how often the cache was used.
+   *
+   * @return a description of the hit rate
+   */
+  public String summary() {
+    long lookups = hits + misses;
+    return String.format(
+        "Simplify query cache: %d hits, %d misses (%.1f%% hit rate), %d answers",
+        hits, misses, (lookups == 0) ? 0.0 : (100.0 * hits / lookups), answers.size());
+  }
+
+  /** Returns the key under which the answer to a query is stored. */
+  private static String key(byte[] context, String query) {
+    byte[] digest = extend(context, query);
+    StringBuilder sb = new StringBuilder(2 * digest.length);
+    for (byte b : digest) {
+      sb.append(Character.forDigit((b >> 4) & 0xf, 16));
+      sb.append(Character.forDigit(b & 0xf, 16));
+    }
+    return sb.toString();
+  }
+
+  /** Returns a new digest of the kind used for contexts and keys. */
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-1");
+    } catch (NoSuchAlgorithmException e) {
+      throw new Error("SHA-1 is not available", e);
+    }
+  }
+}
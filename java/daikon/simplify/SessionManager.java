@@ -117,7 +117,12 @@ public class SessionManager implements Closeable {
 
   private static @MonotonicNonNull String prover_background = null;
 
-  private static String proverBackground() {
+  /**
+   * Returns the universal background that is sent to every new Simplify process.
+   *
+   * @return the prover background
+   */
+  /* package */ static String proverBackground() {
     if (prover_background == null) {
       try {
         StringBuilder result = new StringBuilder("");
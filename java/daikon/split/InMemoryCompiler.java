@@ -0,0 +1,388 @@
+package daikon.split;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import daikon.Daikon;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * This class has method {@link #compile(Map)} that compiles Java source code, all in one
+ * compilation task, within the running JVM by means of {@link javax.tools.JavaCompiler}. Neither
+ * the source nor the class files are read from or written to disk: the classes are kept in memory
+ * and are loaded by {@link #loadClass}. This avoids starting an external compiler, which is the
+ * most expensive part of loading splitters; compare {@link FileCompiler}.
+ *
+ * <p>If a cache directory is given, the class files compiled from each source are also stored
+ * there, in a file whose name is a hash of the source. A later compilation of the same source, in
+ * this run or a later one, reads the class files from the cache instead of compiling the source.
+ */
+public final class InMemoryCompiler {
+
+  /** The compiler of the running JVM, or null if it has none (for instance, it is a JRE). */
+  private static final @Nullable JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+
+  /** The directory that holds compiled classes from one run to the next, or null. */
+  private final @Nullable File cacheDir;
+
+  /** The class files that have been compiled or read from the cache, keyed by binary name. */
+  private final Map<String, byte[]> classes = new HashMap<>();
+
+  /** Loads the classes in {@link #classes}. */
+  private final ClassLoader loader;
+
+  /**
+   * Creates a new InMemoryCompiler.
+   *
+   * @param cacheDir the directory in which compiled classes are kept from one run to the next, or
+   *     null to not keep them
+   */
+  public InMemoryCompiler(@Nullable File cacheDir) {
+    this.cacheDir = cacheDir;
+    this.loader = new BytesClassLoader(InMemoryCompiler.class.getClassLoader(), classes);
+  }
+
+  /**
+   * Returns true if the running JVM provides a Java compiler, so that InMemoryCompiler can be used.
+   *
+   * @return true if an in-process compiler is available
+   */
+  public static boolean isAvailable() {
+    return javac != null;
+  }
+
+  /**
+   * Compiles the given sources, in a single compilation task, and makes the resulting classes
+   * available to {@link #loadClass}. Sources whose classes are in the cache are not compiled.
+   * Returns the error output.
+   *
+   * @param sources the source code of top-level classes in the unnamed package, keyed by class name
+   * @return the error output from compiling the sources
+   */
+  public String compile(Map<String, String> sources) {
+    Map<String, String> keys = new HashMap<>();
+    Map<String, String> toCompile = new LinkedHashMap<>();
+    for (Map.Entry<String, String> entry : sources.entrySet()) {
+      String className = entry.getKey();
+      String source = entry.getValue();
+      String key = hash(source);
+      keys.put(className, key);
+      if (!readCached(key)) {
+        toCompile.put(className, source);
+      }
+    }
+    if (toCompile.isEmpty()) {
+      return "";
+    }
+
+    StringBuilder errors = new StringBuilder();
+    Map<String, Map<String, byte[]>> compiled = new HashMap<>();
+    Set<String> erring = compile_sources(toCompile, compiled, errors);
+
+    // javac does not produce any class files if one of the sources has an error, so remove all the
+    // erring sources and recompile only the good ones (and keep the error output from the first
+    // attempt only).
+    if (!erring.isEmpty()) {
+      Map<String, String> retry = new LinkedHashMap<>();
+      for (Map.Entry<String, String> entry : toCompile.entrySet()) {
+        if (!erring.contains(entry.getKey()) && !compiled.containsKey(entry.getKey())) {
+          retry.put(entry.getKey(), entry.getValue());
+        }
+      }
+      if (!retry.isEmpty()) {
+        compile_sources(retry, compiled, new StringBuilder());
+      }
+    }
+
+    for (Map.Entry<String, Map<String, byte[]>> entry : compiled.entrySet()) {
+      classes.putAll(entry.getValue());
+      String key = keys.get(entry.getKey());
+      assert key != null : "@AssumeAssertion(nullness): every compiled source has a key";
+      writeCached(key, entry.getValue());
+    }
+    return errors.toString();
+  }
+
+  /**
+   * Runs one compilation task.
+   *
+   * @param sources the sources to compile, keyed by class name
+   * @param compiled receives, for each source that compiled, the class files that were produced
+   *     from it, keyed by binary name
+   * @param errors receives the error output
+   * @return the names of the classes whose source had an error
+   */
+  private static Set<String> compile_sources(
+      Map<String, String> sources,
+      Map<String, Map<String, byte[]>> compiled,
+      StringBuilder errors) {
+    assert javac != null : "@AssumeAssertion(nullness): checked by isAvailable()";
+    List<SourceObject> units = new ArrayList<>();
+    for (Map.Entry<String, String> entry : sources.entrySet()) {
+      units.add(new SourceObject(entry.getKey(), entry.getValue()));
+    }
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    StandardJavaFileManager standard = javac.getStandardFileManager(diagnostics, null, UTF_8);
+    MemoryFileManager fileManager = new MemoryFileManager(standard);
+    List<String> options =
+        Arrays.asList("-nowarn", "-classpath", System.getProperty("java.class.path"));
+    javac.getTask(null, fileManager, diagnostics, options, null, units).call();
+
+    Set<String> erring = new HashSet<>();
+    for (Diagnostic<? extends JavaFileObject> d : diagnostics.getDiagnostics()) {
+      if (d.getKind() != Diagnostic.Kind.ERROR) {
+        continue;
+      }
+      errors.append(d.toString()).append(System.lineSeparator());
+      JavaFileObject source = d.getSource();
+      if (source instanceof SourceObject) {
+        erring.add(((SourceObject) source).className);
+      }
+    }
+    for (SourceObject unit : units) {
+      Map<String, byte[]> output = fileManager.outputs.get(unit);
+      if (output != null && !erring.contains(unit.className)) {
+        compiled.put(unit.className, output);
+      }
+    }
+    return erring;
+  }
+
+  /**
+   * Returns the class with the given name, if it was compiled by this InMemoryCompiler.
+   *
+   * @param className the binary name of a class
+   * @return the class, or null if it was not compiled or cannot be loaded
+   */
+  public @Nullable Class<?> loadClass(String className) {
+    if (!classes.containsKey(className)) {
+      return null;
+    }
+    try {
+      return Class.forName(className, false, loader);
+    } catch (ClassNotFoundException | LinkageError e) {
+      System.out.println("Error while loading class " + className + ": " + e);
+      return null;
+    }
+  }
+
+  /**
+   * Returns the name of the cache file for a source. The name depends on the source, and on the
+   * versions of Java and of Daikon, whose classes the source uses.
+   *
+   * @param source the source code of a class
+   * @return the hash of the source
+   */
+  private static String hash(String source) {
+    MessageDigest md;
+    try {
+      md = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new Error("SHA-256 is not available", e);
+    }
+    md.update(
+        (System.getProperty("java.specification.version") + " " + Daikon.release_version + "\0")
+            .getBytes(UTF_8));
+    byte[] digest = md.digest(source.getBytes(UTF_8));
+    StringBuilder sb = new StringBuilder(2 * digest.length);
+    for (byte b : digest) {
+      sb.append(Character.forDigit((b >> 4) & 0xf, 16));
+      sb.append(Character.forDigit(b & 0xf, 16));
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Adds the class files stored in the cache under the given key to {@link #classes}.
+   *
+   * @param key the hash of a source
+   * @return true if the cache had the class files for the source
+   */
+  private boolean readCached(String key) {
+    if (cacheDir == null) {
+      return false;
+    }
+    File file = new File(cacheDir, key + ".classes");
+    if (!file.exists()) {
+      return false;
+    }
+    Map<String, byte[]> read = new HashMap<>();
+    try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+      int count = in.readInt();
+      for (int i = 0; i < count; i++) {
+        String name = in.readUTF();
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        read.put(name, bytes);
+      }
+    } catch (IOException e) {
+      // A damaged cache file; compile the source again, which overwrites the file.
+      return false;
+    }
+    classes.putAll(read);
+    return true;
+  }
+
+  /**
+   * Stores class files in the cache under the given key. The file is written under a temporary
+   * name and then renamed, so that a concurrent run never reads a partial file.
+   *
+   * @param key the hash of the source from which the classes were compiled
+   * @param output the class files, keyed by binary name
+   */
+  private void writeCached(String key, Map<String, byte[]> output) {
+    if (cacheDir == null) {
+      return;
+    }
+    File tmp = null;
+    try {
+      cacheDir.mkdirs();
+      tmp = File.createTempFile(key, ".tmp", cacheDir);
+      try (DataOutputStream out = new DataOutputStream(new FileOutputStream(tmp))) {
+        out.writeInt(output.size());
+        for (Map.Entry<String, byte[]> entry : output.entrySet()) {
+          out.writeUTF(entry.getKey());
+          out.writeInt(entry.getValue().length);
+          out.write(entry.getValue());
+        }
+      }
+      if (!tmp.renameTo(new File(cacheDir, key + ".classes"))) {
+        tmp.delete();
+      }
+    } catch (IOException e) {
+      System.out.println("Error while writing splitter cache in " + cacheDir + ": " + e);
+      if (tmp != null) {
+        tmp.delete();
+      }
+    }
+  }
+
+  /** The source code of a class, held in memory. */
+  private static class SourceObject extends SimpleJavaFileObject {
+
+    /** The name of the class. */
+    final String className;
+
+    /** The source code. */
+    final String source;
+
+    /**
+     * Creates a new SourceObject.
+     *
+     * @param className the name of the class, which is in the unnamed package
+     * @param source the source code
+     */
+    SourceObject(String className, String source) {
+      super(URI.create("string:///" + className + Kind.SOURCE.extension), Kind.SOURCE);
+      this.className = className;
+      this.source = source;
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      return source;
+    }
+  }
+
+  /** A file manager that keeps the class files that the compiler writes in memory. */
+  private static class MemoryFileManager
+      extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+    /**
+     * The class files that were written, grouped by the source from which they were compiled, and
+     * keyed by binary name.
+     */
+    final Map<FileObject, Map<String, byte[]>> outputs = new HashMap<>();
+
+    /**
+     * Creates a new MemoryFileManager.
+     *
+     * @param fileManager the file manager that finds the classes on the classpath
+     */
+    MemoryFileManager(StandardJavaFileManager fileManager) {
+      super(fileManager);
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForOutput(
+        JavaFileManager.Location location,
+        String className,
+        JavaFileObject.Kind kind,
+        @Nullable FileObject sibling) {
+      Map<String, byte[]> output = outputs.get(sibling);
+      if (output == null) {
+        output = new HashMap<>();
+        outputs.put(sibling, output);
+      }
+      Map<String, byte[]> destination = output;
+      return new SimpleJavaFileObject(
+          URI.create("bytes:///" + className.replace('.', '/') + kind.extension), kind) {
+        @Override
+        public OutputStream openOutputStream() {
+          return new ByteArrayOutputStream() {
+            @Override
+            public void close() throws IOException {
+              super.close();
+              destination.put(className, toByteArray());
+            }
+          };
+        }
+      };
+    }
+  }
+
+  /** Defines classes from class files that are held in memory. */
+  private static class BytesClassLoader extends ClassLoader {
+
+    /** The class files, keyed by binary name. */
+    private final Map<String, byte[]> classes;
+
+    /**
+     * Creates a new BytesClassLoader.
+     *
+     * @param parent the loader of the classes that the class files refer to
+     * @param classes the class files, keyed by binary name
+     */
+    BytesClassLoader(@Nullable ClassLoader parent, Map<String, byte[]> classes) {
+      super(parent);
+      this.classes = classes;
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+      byte[] bytes = classes.get(name);
+      if (bytes == null) {
+        throw new ClassNotFoundException(name);
+      }
+      return defineClass(name, bytes, 0, bytes.length);
+    }
+  }
+}
@@ -73,6 +73,14 @@ public class PptSplitter implements Serializable {
    */
   public static boolean dkconfig_suppressSplitterErrors = true;
 
+  /**
+   * Integer. The number of samples at a program point with splitters that are collected before the
+   * splitters are tested on them and they are given to the conditional program points (see {@link
+   * SplitBatch}). A value of 1 or less, the default, means that each sample is handled as soon as
+   * it is read.
+   */
+  public static int dkconfig_batch_size = 1;
+
   /** General debug tracer. */
   public static final Logger debug = Logger.getLogger("daikon.split.PptSplitter");
 
@@ -0,0 +1,225 @@
+package daikon.split;
+
+import daikon.Debug;
+import daikon.PptConditional;
+import daikon.PptTopLevel;
+import daikon.ValueTuple;
+import daikon.VarInfo;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.checker.nullness.qual.RequiresNonNull;
+
+/**
+ * Samples at a program point with splitters that have not yet been given to its conditional
+ * program points. Rather than testing every splitter and updating the chosen conditional program
+ * points once per sample, the samples are collected, and a batch of them is handled at once: all
+ * the splitters are tested on every sample of the batch in one loop, which yields a bitmask per
+ * sample, and then each conditional program point is given the samples that belong to it, in order.
+ *
+ * <p>Each conditional program point sees the same samples, in the same order and with the same
+ * counts, as it would without batching; only the interleaving of work among different program
+ * points changes. Consecutive equal samples are not combined into one sample with a larger count:
+ * {@link PptTopLevel#add_bottom_up} does not give the same result for one sample of count 2 as for
+ * two samples of count 1, because an equality set that is split on a sample whose leader is
+ * missing does not count that sample. The batch belongs
+ * to its program point, which hands over the remaining samples when asked to by {@link
+ * PptTopLevel#flush_split_batch}; that must happen before the invariants of the conditional program
+ * points are used.
+ */
+public final class SplitBatch {
+
+  /** The program point whose splitters the samples are for. */
+  private final PptTopLevel parent;
+
+  /** The samples. */
+  private final ValueTuple[] vts;
+
+  /** The number of times that each sample occurred. */
+  private final int[] counts;
+
+  /**
+   * For each sample, the indices of the variables of {@link #parent} that were missing out of
+   * bounds when the sample was added; see {@link PptTopLevel#get_missingOutOfBounds}. Samples share
+   * the array until the set changes.
+   */
+  private final int[][] out_of_bounds;
+
+  /** The number of samples in the batch. */
+  private int size = 0;
+
+  /** The most recent value stored in {@link #out_of_bounds}. */
+  private int[] last_out_of_bounds = new int[0];
+
+  /** The variables of {@link #parent} when {@link #last_out_of_bounds} was computed. */
+  private VarInfo @Nullable [] last_var_infos = null;
+
+  /**
+   * Creates an empty batch.
+   *
+   * @param parent the program point whose splitters the samples are for
+   * @param capacity the number of samples after which the batch is handled
+   */
+  public SplitBatch(PptTopLevel parent, int capacity) {
+    this.parent = parent;
+    vts = new ValueTuple[capacity];
+    counts = new int[capacity];
+    out_of_bounds = new int[capacity][];
+  }
+
+  /**
+   * Adds a sample to the batch, and handles the batch if it is full.
+   *
+   * @param vt the sample
+   * @param count the number of samples that vt represents
+   */
+  @RequiresNonNull({
+    "daikon.suppress.NIS.suppressor_map",
+    "daikon.suppress.NIS.suppressor_map_suppression_count",
+    "daikon.suppress.NIS.all_suppressions",
+    "daikon.suppress.NIS.suppressor_proto_invs"
+  })
+  public void add(ValueTuple vt, int count) {
+    vts[size] = vt;
+    counts[size] = count;
+    out_of_bounds[size] = parent_out_of_bounds();
+    size++;
+    if (size == vts.length) {
+      flush();
+    }
+  }
+
+  /** Gives the samples of this batch to the conditional program points, and empties the batch. */
+  @RequiresNonNull({
+    "daikon.suppress.NIS.suppressor_map",
+    "daikon.suppress.NIS.suppressor_map_suppression_count",
+    "daikon.suppress.NIS.all_suppressions",
+    "daikon.suppress.NIS.suppressor_proto_invs"
+  })
+  public void flush() {
+    if (size == 0) {
+      return;
+    }
+    List<PptSplitter> splitters = parent.splitters;
+    assert splitters != null : "@AssumeAssertion(nullness): batches exist only with splitters";
+    int num_splitters = splitters.size();
+    int words = (num_splitters + 63) / 64;
+
+    // For sample s and splitter k, bit k of tested[s*words..] is set if the splitter could be
+    // evaluated, and bit k of holds[s*words..] if it was true.
+    long[] tested = new long[size * words];
+    long[] holds = new long[size * words];
+    Splitter[] tests = new Splitter[num_splitters];
+    for (int k = 0; k < num_splitters; k++) {
+      tests[k] = ((PptConditional) splitters.get(k).ppts[0]).splitter;
+    }
+    for (int s = 0; s < size; s++) {
+      ValueTuple vt = vts[s];
+      for (int k = 0; k < num_splitters; k++) {
+        boolean result;
+        try {
+          result = tests[k].test(vt);
+        } catch (Throwable e) {
+          // If an exception is thrown, don't put the data on either side of the split.
+          continue;
+        }
+        int word = s * words + (k >> 6);
+        tested[word] |= 1L << (k & 63);
+        if (result) {
+          holds[word] |= 1L << (k & 63);
+        }
+      }
+    }
+
+    for (int k = 0; k < num_splitters; k++) {
+      PptSplitter ppt_split = splitters.get(k);
+      for (int side = 0; side < 2; side++) {
+        PptConditional ppt_cond = (PptConditional) ppt_split.ppts[side];
+        boolean want = (side == 0);
+        for (int s = 0; s < size; s++) {
+          int word = s * words + (k >> 6);
+          long bit = 1L << (k & 63);
+          if ((tested[word] & bit) == 0 || ((holds[word] & bit) != 0) != want) {
+            continue;
+          }
+          add_to_conditional(ppt_cond, vts[s], counts[s], out_of_bounds[s]);
+        }
+      }
+    }
+
+    Arrays.fill(vts, 0, size, null);
+    Arrays.fill(out_of_bounds, 0, size, null);
+    size = 0;
+  }
+
+  /**
+   * Adds a sample to a conditional program point, as {@link PptSplitter#add_bottom_up} does.
+   *
+   * @param ppt_cond the conditional program point
+   * @param vt the sample
+   * @param count the number of samples that vt represents
+   * @param oob the indices of the parent's variables that were missing out of bounds
+   */
+  @RequiresNonNull({
+    "daikon.suppress.NIS.suppressor_map",
+    "daikon.suppress.NIS.suppressor_map_suppression_count",
+    "daikon.suppress.NIS.all_suppressions",
+    "daikon.suppress.NIS.suppressor_proto_invs"
+  })
+  private void add_to_conditional(
+      PptConditional ppt_cond, ValueTuple vt, int count, int @Nullable [] oob) {
+    if (oob != null) {
+      for (int ii : oob) {
+        if (vt.getModified(parent.var_infos[ii]) == ValueTuple.MISSING_NONSENSICAL) {
+          VarInfo vi = ppt_cond.var_infos[ii];
+          assert vi.derived != null : "@AssumeAssertion(nullness)";
+          vi.derived.missing_array_bounds = true;
+        }
+      }
+    }
+
+    ppt_cond.add_bottom_up(vt, count);
+
+    if (Debug.ppt_match(ppt_cond) && PptSplitter.debug.isLoggable(Level.FINE)) {
+      String related_vars = Debug.related_vars(ppt_cond, vt);
+      PptSplitter.debug.fine(
+          "Adding sample to "
+              + ppt_cond
+              + " with "
+              + vt.size()
+              + " vars"
+              + (!related_vars.equals("") ? (" including " + related_vars) : ""));
+    }
+  }
+
+  /**
+   * Returns the indices of the variables of {@link #parent} that are now missing out of bounds.
+   * Returns the previous result if it has not changed.
+   *
+   * @return the indices of the parent's variables that are missing out of bounds
+   */
+  private int[] parent_out_of_bounds() {
+    VarInfo[] vis = parent.var_infos;
+    int n = 0;
+    for (VarInfo vi : vis) {
+      if (vi.missingOutOfBounds()) {
+        n++;
+      }
+    }
+    if (vis == last_var_infos && n == last_out_of_bounds.length) {
+      // The set only grows, so if its size is the same, the set is the same.
+      return last_out_of_bounds;
+    }
+    int[] result = new int[n];
+    n = 0;
+    for (int ii = 0; ii < vis.length; ii++) {
+      if (vis[ii].missingOutOfBounds()) {
+        result[n++] = ii;
+      }
+    }
+    last_out_of_bounds = result;
+    last_var_infos = vis;
+    return result;
+  }
+}
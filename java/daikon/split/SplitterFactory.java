@@ -7,13 +7,16 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import jtb.ParseException;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.checker.nullness.qual.RequiresNonNull;
 import org.checkerframework.checker.regex.qual.Regex;
 import org.checkerframework.checker.signature.qual.BinaryName;
@@ -59,8 +62,26 @@ public class SplitterFactory {
    */
   public static int dkconfig_compile_timeout = 20;
 
+  /**
+   * Boolean. If true, Splitters are compiled within the running JVM, through the javax.tools API,
+   * rather than by the external command {@code daikon.split.SplitterFactory.compiler}. This is
+   * much faster. It has no effect if the JVM provides no Java compiler (for instance, if it is a
+   * JRE), in which case the external command is used.
+   */
+  public static boolean dkconfig_compile_in_process = true;
+
+  /**
+   * String. If non-null, the directory in which compiled Splitters are kept from one run of Daikon
+   * to the next, so that a Splitter whose source has not changed is not compiled again. The
+   * directory is created if necessary. Used only when {@code
+   * daikon.split.SplitterFactory.compile_in_process} is true.
+   */
+  public static @Nullable String dkconfig_splitter_cache = null;
+
   private static @MonotonicNonNull FileCompiler fileCompiler; // lazily initialized
 
+  private static @MonotonicNonNull InMemoryCompiler inMemoryCompiler; // lazily initialized
+
   /**
    * guid is a counter that increments every time a file is written. It is used to ensure that every
    * file written has a unique name.
@@ -170,6 +191,8 @@ public class SplitterFactory {
     if (splitterObjects.length == 0) {
       return;
     }
+    // The source of each splitter, keyed by class name, for the in-process compiler
+    Map<String, String> sources = new LinkedHashMap<>();
     for (int i = 0; i < splitterObjects.length; i++) {
       SplitterObject splitObj = splitterObjects[i];
       String fileName = getFileName(splitObj.getPptName());
@@ -188,6 +211,7 @@ public class SplitterFactory {
       @SuppressWarnings("signature") // safe, has been quoted
       @BinaryName String fileName_bn = fileName;
       splitObj.setClassName(fileName_bn);
+      sources.put(fileName, fileContents.toString());
       try (BufferedWriter writer = FilesPlume.newBufferedFileWriter(fileAddress + ".java")) {
         if (dkconfig_delete_splitters_on_exit) {
           new File(fileAddress + ".java").deleteOnExit();
@@ -200,16 +224,26 @@ public class SplitterFactory {
         debug.fine(ioe.toString());
       }
     }
-    List<String> fileNames = new ArrayList<>();
-    for (int i = 0; i < splitterObjects.length; i++) {
-      fileNames.add(splitterObjects[i].getFullSourcePath());
-    }
+    boolean inProcess = dkconfig_compile_in_process && InMemoryCompiler.isAvailable();
     String errorOutput = null;
-    try {
-      errorOutput = compileFiles(fileNames);
-    } catch (IOException ioe) {
-      System.out.println("Error while compiling Splitter files (Daikon will continue):");
-      debug.fine(ioe.toString());
+    if (inProcess) {
+      if (inMemoryCompiler == null) {
+        inMemoryCompiler =
+            new InMemoryCompiler(
+                (dkconfig_splitter_cache == null) ? null : new File(dkconfig_splitter_cache));
+      }
+      errorOutput = inMemoryCompiler.compile(sources);
+    } else {
+      List<String> fileNames = new ArrayList<>();
+      for (int i = 0; i < splitterObjects.length; i++) {
+        fileNames.add(splitterObjects[i].getFullSourcePath());
+      }
+      try {
+        errorOutput = compileFiles(fileNames);
+      } catch (IOException ioe) {
+        System.out.println("Error while compiling Splitter files (Daikon will continue):");
+        debug.fine(ioe.toString());
+      }
     }
     boolean errorOutputExists = errorOutput != null && !errorOutput.equals("");
     if (errorOutputExists && !PptSplitter.dkconfig_suppressSplitterErrors) {
@@ -219,7 +253,12 @@ public class SplitterFactory {
       System.out.println(errorOutput);
     }
     for (int i = 0; i < splitterObjects.length; i++) {
-      splitterObjects[i].load();
+      if (inProcess) {
+        assert inMemoryCompiler != null : "@AssumeAssertion(nullness): set above";
+        splitterObjects[i].load(inMemoryCompiler.loadClass(splitterObjects[i].getClassName()));
+      } else {
+        splitterObjects[i].load();
+      }
     }
 
     Global.debugSplit.fine("<<exit>>  loadSplitters");
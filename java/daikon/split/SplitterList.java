@@ -76,6 +76,11 @@ public abstract class SplitterList {
     return sb.toString();
   }
 
+  /** Removes all the splitters, for instance before Daikon is run again in the same JVM. */
+  public static void clear() {
+    ppt_splitters.clear();
+  }
+
   public static Splitter @Nullable [] get_raw(String pptname) {
     return ppt_splitters.get(pptname);
   }
@@ -87,7 +87,16 @@ public class SplitterObject implements Comparable<SplitterObject> {
 
   /** Sets the "splitter" field of this object to a newly-instantiated object. */
   public void load() {
-    Class<?> tempClass = defineSplitterClass(className, directory + className + ".class");
+    load(defineSplitterClass(className, directory + className + ".class"));
+  }
+
+  /**
+   * Sets the "splitter" field of this object to a newly-instantiated object of the given class,
+   * which has already been loaded.
+   *
+   * @param tempClass the compiled splitter class, or null if it could not be compiled or loaded
+   */
+  void load(@Nullable Class<?> tempClass) {
     if (tempClass != null) {
       try {
         splitter = (Splitter) tempClass.getDeclaredConstructor().newInstance();
@@ -177,6 +177,12 @@ public class NIS {
   /** Number of suppressions processed by the falsified method. */
   public static int suppressions_processed_falsified = 0;
 
+  /**
+   * Number of antecedents that the antecedent method did not need to examine, because a lookup by
+   * class and variables in {@link Antecedents#get(Class, VarInfo, VarInfo)} excluded them.
+   */
+  public static int antecedents_skipped = 0;
+
   /** Number of invariants that are no longer suppressed by a suppression. */
   static int new_invs_cnt = 0;
 
@@ -434,6 +440,7 @@ public class NIS {
         still_suppressed_cnt++;
         inv.log("removed, still suppressed in second pass");
         inv.ppt.invs.remove(inv);
+        inv.ppt.parent.account_slice(inv.ppt);
         i.remove();
       }
     }
@@ -450,6 +457,7 @@ public class NIS {
     false_cnts = 0;
     suppressions_processed = 0;
     suppressions_processed_falsified = 0;
+    antecedents_skipped = 0;
     new_invs_cnt = 0;
     false_invs_cnt = 0;
     created_invs_cnt = 0;
@@ -462,6 +470,7 @@ public class NIS {
     false_cnts = 0;
     suppressions_processed = 0;
     suppressions_processed_falsified = 0;
+    antecedents_skipped = 0;
     new_invs_cnt = 0;
     false_invs_cnt = 0;
     created_invs_cnt = 0;
@@ -473,6 +482,7 @@ public class NIS {
     log.fine(
         "false invs  : "
             + "suppressions processed  : "
+            + "antecedents skipped  : "
             + "new invs cnt  : "
             + "false invs cnt  : "
             + "created invs cnt  : "
@@ -495,6 +505,8 @@ public class NIS {
               + " : "
               + suppressions_processed
               + " : "
+              + antecedents_skipped
+              + " : "
               + new_invs_cnt
               + " : "
               + false_invs_cnt
@@ -1053,6 +1065,15 @@ public class NIS {
      */
     Map<Class<? extends Invariant>, List<Invariant>> antecedent_map;
 
+    /**
+     * Map from an antecedent class and variables to the antecedent invariants of that class over
+     * those variables, in the same order as in antecedent_map. A binary antecedent is also indexed
+     * under each of its two variables alone, with null in place of the other one. Built by {@link
+     * #get(Class, VarInfo, VarInfo)} when it is first needed, and discarded when an antecedent is
+     * added.
+     */
+    @Nullable Map<AntecedentKey, List<Invariant>> vars_index = null;
+
     /** Number of antecedents that are false. */
     int false_cnt = 0;
 
@@ -1098,6 +1119,7 @@ public class NIS {
       }
 
       // Add the invariant to the map for its class
+      vars_index = null;
       List<Invariant> antecedents = get(inv.getClass());
       if (antecedents == null) {
         antecedents = new ArrayList<Invariant>();
@@ -1130,6 +1152,50 @@ public class NIS {
       return antecedent_map.get(cls);
     }
 
+    /**
+     * Returns a list of the antecedent invariants of the specified class whose first variable is v1
+     * and whose second variable, if any, is v2. A null variable matches any variable. The
+     * antecedents are in the same order as in {@link #get(Class)}, so falsified ones are first.
+     * Returns null if there are none.
+     *
+     * @param cls the class of the antecedents
+     * @param v1 the first variable of the antecedents, or null to match any variable
+     * @param v2 the second variable of the antecedents, or null to match any variable
+     * @return the matching antecedents, or null if there are none
+     */
+    public @Nullable List<Invariant> get(
+        Class<? extends Invariant> cls, @Nullable VarInfo v1, @Nullable VarInfo v2) {
+
+      if (vars_index == null) {
+        vars_index = new LinkedHashMap<>();
+        for (List<Invariant> invs : antecedent_map.values()) {
+          for (Invariant inv : invs) {
+            VarInfo[] vis = inv.ppt.var_infos;
+            if (vis.length == 1) {
+              index_put(vars_index, new AntecedentKey(inv.getClass(), vis[0], null), inv);
+            } else {
+              index_put(vars_index, new AntecedentKey(inv.getClass(), vis[0], vis[1]), inv);
+              index_put(vars_index, new AntecedentKey(inv.getClass(), vis[0], null), inv);
+              index_put(vars_index, new AntecedentKey(inv.getClass(), null, vis[1]), inv);
+            }
+          }
+        }
+      }
+
+      return vars_index.get(new AntecedentKey(cls, v1, v2));
+    }
+
+    /** Adds inv to the end of the list for key in index. */
+    private static void index_put(
+        Map<AntecedentKey, List<Invariant>> index, AntecedentKey key, Invariant inv) {
+      List<Invariant> invs = index.get(key);
+      if (invs == null) {
+        invs = new ArrayList<Invariant>();
+        index.put(key, invs);
+      }
+      invs.add(inv);
+    }
+
     /** Returns a string representation of all of the antecedents by class. */
     @SideEffectFree
     @Override
@@ -1154,6 +1220,53 @@ public class NIS {
     }
   }
 
+  /** The class and variables of an antecedent; the key of {@link Antecedents#vars_index}. */
+  static final class AntecedentKey {
+
+    /** The class of the antecedent. */
+    final Class<? extends Invariant> cls;
+
+    /** The first variable of the antecedent, or null for any variable. */
+    final @Nullable VarInfo v1;
+
+    /** The second variable of the antecedent, or null for any variable. */
+    final @Nullable VarInfo v2;
+
+    /** Create a key for the specified class and variables. */
+    AntecedentKey(Class<? extends Invariant> cls, @Nullable VarInfo v1, @Nullable VarInfo v2) {
+      this.cls = cls;
+      this.v1 = v1;
+      this.v2 = v2;
+    }
+
+    /** Equal iff the class and variables match exactly. */
+    @EnsuresNonNullIf(result = true, expression = "#1")
+    @Pure
+    @Override
+    public boolean equals(
+        @GuardSatisfied AntecedentKey this, @GuardSatisfied @Nullable Object obj) {
+      if (!(obj instanceof AntecedentKey)) {
+        return false;
+      }
+      AntecedentKey key = (AntecedentKey) obj;
+      return (key.cls == cls) && (key.v1 == v1) && (key.v2 == v2);
+    }
+
+    /** Hash on class and variables. */
+    @Pure
+    @Override
+    public int hashCode(@GuardSatisfied AntecedentKey this) {
+      int code = cls.hashCode();
+      if (v1 != null) {
+        code = 31 * code + v1.hashCode();
+      }
+      if (v2 != null) {
+        code = 37 * code + v2.hashCode();
+      }
+      return code;
+    }
+  }
+
   static class Count {
     public int val;
 
@@ -202,18 +202,17 @@ public class NISuppression {
       return;
     }
 
-    int total_false_cnt = 0;
+    // Falsified antecedents are at the beginning of each list, so it is
+    // enough to check the first element of each.
+    boolean any_false = false;
     for (int i = 0; i < antecedents.length; i++) {
-      List<Invariant> a = antecedents[i];
-      int false_cnt = 0;
-      for (Invariant inv : a) {
-        if (inv.is_false()) false_cnt++;
+      if (antecedents[i].get(0).is_false()) {
+        any_false = true;
+        break;
       }
-
-      total_false_cnt += false_cnt;
     }
 
-    if (total_false_cnt == 0) {
+    if (!any_false) {
       return;
     }
 
@@ -222,7 +221,7 @@ public class NISuppression {
     VarInfo vis[] = new VarInfo[suppressee.var_count];
     // int old_size = unsuppressed_invs.size();
     Invariant[] cinvs = new Invariant[antecedents.length];
-    find_unsuppressed_invs(unsuppressed_invs, antecedents, vis, 0, false, cinvs);
+    find_unsuppressed_invs(unsuppressed_invs, ants, antecedents, vis, 0, false, cinvs);
     if (debug) System.out.println("  unsuppressed invariants: " + unsuppressed_invs);
   }
 
@@ -300,6 +299,8 @@ public class NISuppression {
    *
    * @param unsuppressed_invs this set is updated with any invariants that were suppressed, but one
    *     of the suppressors is falsified (thus, the invariant is no longer suppressed)
+   * @param ants antecedents organized by class, used to look up the antecedents over variables
+   *     that previous antecedents have already determined
    * @param antecedents array of antecedents per suppressor
    * @param vis current variables for the suppressed invariant As antecedents are chosen, their
    *     variables are placed into vis
@@ -312,6 +313,7 @@ public class NISuppression {
    */
   private void find_unsuppressed_invs(
       Set<NIS.SupInv> unsuppressed_invs,
+      NIS.Antecedents ants,
       List<Invariant> antecedents[],
       VarInfo vis[],
       int idx,
@@ -320,9 +322,26 @@ public class NISuppression {
 
     boolean all_true_at_end = ((idx + 1) == suppressors.length) && !false_antecedents;
 
-    // Loop through each antecedent that matches the current suppressor
+    // If previous antecedents have determined any of the variables of the
+    // current suppressor, only the antecedents over those variables can
+    // match.  Look them up rather than trying each antecedent of the class.
+    // They are in the same order, so falsified ones are still first.
     NISuppressor s = suppressors[idx];
-    for (Invariant inv : antecedents[idx]) {
+    List<Invariant> candidates = antecedents[idx];
+    @Nullable VarInfo v1 = vis[s.v1_index];
+    @Nullable VarInfo v2 = (s.v2_index == -1) ? null : vis[s.v2_index];
+    if ((v1 != null) || (v2 != null)) {
+      List<Invariant> matches = ants.get(s.get_inv_class(), v1, v2);
+      if (matches == null) {
+        NIS.antecedents_skipped += candidates.size();
+        return;
+      }
+      NIS.antecedents_skipped += candidates.size() - matches.size();
+      candidates = matches;
+    }
+
+    // Loop through each antecedent that matches the current suppressor
+    for (Invariant inv : candidates) {
       PptTopLevel ppt = inv.ppt.parent;
       assert ppt.equality_view != null : "@AssumeAssertion(nullness): need to check justification";
       cinvs[idx] = inv;
@@ -378,6 +397,7 @@ public class NISuppression {
         // Recursively process the next suppressor
         find_unsuppressed_invs(
             unsuppressed_invs,
+            ants,
             antecedents,
             cvis,
             idx + 1,
@@ -26,7 +26,20 @@ import org.junit.runners.Suite;
   daikon.test.inv.unary.sequence.OneOfSequenceTester.class,
   daikon.test.LinearTernaryCoreTest.class,
   daikon.test.ModBitTrackerTest.class,
+  daikon.test.InvFileTest.class,
+  daikon.test.MergeInvariantsTest.class,
+  daikon.test.SplitBatchTest.class,
+  daikon.test.CheckpointTest.class,
+  daikon.test.FilterOrderTest.class,
+  daikon.test.PrintThreadsTest.class,
+  daikon.test.DynamicConstantsTest.class,
+  daikon.test.InvariantCheckerTest.class,
+  daikon.test.RuntimeCheckerTest.class,
+  daikon.test.DerivationPlanTest.class,
+  daikon.test.DtraceIndexTest.class,
+  daikon.test.InMemoryCompilerTest.class,
   daikon.test.ProglangTypeTest.class,
+  daikon.test.QueryCacheTest.class,
   daikon.test.VarComparabilityTest.class,
   daikon.test.VarInfoNameTest.class,
   daikon.test.inv.InvariantAddAndCheckTester.class,
@@ -0,0 +1,118 @@
+package daikon.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import daikon.Checkpoint;
+import daikon.Daikon;
+import daikon.FileIO;
+import daikon.PptMap;
+import daikon.PptTopLevel;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import org.junit.Test;
+
+/** Tests that checkpoints taken while a trace is read can be read back. */
+@SuppressWarnings("nullness") // testing code
+public class CheckpointTest {
+
+  /**
+   * Copies the truncated Hanoi trace to a temporary file, since the tests may be run from a jar
+   * file.
+   *
+   * @return a temporary copy of the trace
+   */
+  private static File copy_trace() throws Exception {
+    File trace = File.createTempFile("CheckpointTest", "-Hanoi-truncated.dtrace.gz");
+    trace.deleteOnExit();
+    try (InputStream in =
+        CheckpointTest.class.getResourceAsStream("dtracediff/Hanoi-truncated.dtrace.gz")) {
+      Files.copy(in, trace.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+    return trace;
+  }
+
+  /**
+   * Runs Daikon on a trace, taking a checkpoint every sample_interval samples.
+   *
+   * @param trace the trace
+   * @param checkpoint where to write the checkpoints
+   * @param sample_interval the value of {@link Checkpoint#dkconfig_sample_interval}
+   * @return the number of checkpoints written
+   */
+  private static int infer(File trace, File checkpoint, int sample_interval) throws Exception {
+    File inv_file = File.createTempFile("CheckpointTest", ".inv.gz");
+    String saved_file = Checkpoint.dkconfig_file;
+    int saved_sample_interval = Checkpoint.dkconfig_sample_interval;
+    boolean saved_quiet = Daikon.dkconfig_quiet;
+    boolean saved_no_text_output = Daikon.no_text_output;
+    Boolean saved_new_decl_format = FileIO.new_decl_format;
+    Checkpoint.dkconfig_file = checkpoint.getPath();
+    Checkpoint.dkconfig_sample_interval = sample_interval;
+    Daikon.dkconfig_quiet = true;
+    // The Hanoi traces use the old declaration format.
+    FileIO.new_decl_format = null;
+    int written = Checkpoint.checkpoints_written;
+    try {
+      Daikon.mainHelper(
+          new String[] {"--no_text_output", "-o", inv_file.getPath(), trace.getPath()});
+    } finally {
+      Checkpoint.dkconfig_file = saved_file;
+      Checkpoint.dkconfig_sample_interval = saved_sample_interval;
+      Daikon.dkconfig_quiet = saved_quiet;
+      Daikon.no_text_output = saved_no_text_output;
+      FileIO.new_decl_format = saved_new_decl_format;
+      Files.deleteIfExists(inv_file.toPath());
+    }
+    return Checkpoint.checkpoints_written - written;
+  }
+
+  /** A checkpoint forced partway through a small trace is a readable program point map. */
+  @Test
+  public void testReadBack() throws Exception {
+    File checkpoint = File.createTempFile("CheckpointTest", ".inv.gz");
+    try {
+      assertTrue(infer(copy_trace(), checkpoint, 10) > 0);
+
+      PptMap ppts = FileIO.read_serialized_pptmap(checkpoint, false);
+      int samples = 0;
+      for (PptTopLevel ppt : ppts.pptIterable()) {
+        samples += ppt.num_samples();
+      }
+      assertTrue(samples >= 10);
+    } finally {
+      Files.deleteIfExists(checkpoint.toPath());
+    }
+  }
+
+  /**
+   * A second run in the same JVM checkpoints at the same samples as the first. The trace has 14
+   * samples, so a run with an interval of 4 leaves 2 samples that must not count toward the next
+   * run's first checkpoint.
+   */
+  @Test
+  public void testSecondRun() throws Exception {
+    File trace = copy_trace();
+    File checkpoint = File.createTempFile("CheckpointTest", ".inv.gz");
+    try {
+      int first = infer(trace, checkpoint, 4);
+      assertEquals(3, first);
+      assertEquals(first, infer(trace, checkpoint, 4));
+    } finally {
+      Files.deleteIfExists(checkpoint.toPath());
+    }
+  }
+
+  /** A checkpoint that cannot be written is not counted. */
+  @Test
+  public void testWriteFailure() throws Exception {
+    File dir = Files.createTempDirectory("CheckpointTest").toFile();
+    File missing = new File(new File(dir, "missing"), "checkpoint.txt");
+    int written = Checkpoint.checkpoints_written;
+    Checkpoint.write_checkpoint(new PptMap(), missing);
+    assertEquals(written, Checkpoint.checkpoints_written);
+    assertTrue(dir.delete());
+  }
+}
@@ -0,0 +1,180 @@
+package daikon.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import daikon.FileIO;
+import daikon.PptTopLevel;
+import daikon.ProglangType;
+import daikon.ValueTuple;
+import daikon.VarComparabilityNone;
+import daikon.VarInfo;
+import daikon.VarInfoAux;
+import daikon.derive.DerivationPlan;
+import daikon.derive.unary.SequenceMax;
+import daikon.derive.unary.SequenceMin;
+import daikon.derive.unary.SequenceSum;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import org.junit.Test;
+import org.plumelib.util.Intern;
+
+/**
+ * Tests that computing the sequence statistics of a sample in one pass (see {@link
+ * DerivationPlan#dkconfig_fuse_sequence_derivations}) gives the same values and modified bits as
+ * computing each derived variable separately.
+ */
+@SuppressWarnings({"nullness", "interning"}) // testing code
+public class DerivationPlanTest {
+
+  /** The samples; each row holds the values of a, d, and i. */
+  private static final Object[][] values = {
+    {new long[] {3, 1, 2}, new double[] {1.5, -2.5}, 1L},
+    // The same sequences again, so the results of the previous sample are reused.
+    {new long[] {3, 1, 2}, new double[] {1.5, -2.5}, 0L},
+    {new long[] {}, new double[] {}, 0L},
+    {new long[] {Long.MAX_VALUE, 1}, new double[] {0.0, -0.0}, 1L},
+    {new long[] {-7}, new double[] {-0.0, 0.0}, 0L},
+    {new long[] {4, 4}, new double[] {1.0, Double.NaN, -3.0}, 1L},
+    {new long[] {5}, new double[] {Double.NaN}, 0L},
+    {null, null, 0L},
+    {null, null, 0L},
+    {new long[] {5}, new double[] {2.0, Double.NEGATIVE_INFINITY}, null},
+  };
+
+  /** The modified bits of the samples in {@link #values}. */
+  private static final int[][] modbits = {
+    {ValueTuple.MODIFIED, ValueTuple.MODIFIED, ValueTuple.MODIFIED},
+    {ValueTuple.UNMODIFIED, ValueTuple.UNMODIFIED, ValueTuple.MODIFIED},
+    {ValueTuple.MODIFIED, ValueTuple.MODIFIED, ValueTuple.MODIFIED},
+    {ValueTuple.MODIFIED, ValueTuple.MODIFIED, ValueTuple.MODIFIED},
+    {ValueTuple.MODIFIED, ValueTuple.MODIFIED, ValueTuple.MODIFIED},
+    {ValueTuple.MODIFIED, ValueTuple.MODIFIED, ValueTuple.MODIFIED},
+    {ValueTuple.MODIFIED, ValueTuple.MODIFIED, ValueTuple.MODIFIED},
+    {ValueTuple.MISSING_FLOW, ValueTuple.MISSING_FLOW, ValueTuple.MODIFIED},
+    {ValueTuple.MISSING_NONSENSICAL, ValueTuple.MISSING_NONSENSICAL, ValueTuple.MODIFIED},
+    {ValueTuple.MODIFIED, ValueTuple.MODIFIED, ValueTuple.MISSING_FLOW},
+  };
+
+  /**
+   * Returns a program point with an int sequence a, a double sequence d, and an int i, and all the
+   * variables derived from them. Daikon does not derive the minimum, maximum, and sum of a double
+   * sequence, so they are added explicitly.
+   *
+   * @return a new program point
+   */
+  private static PptTopLevel makePpt() throws Exception {
+    VarInfo a = Common.makeIntArrayVarInfo("a[]");
+    VarInfo d =
+        new VarInfo(
+            "d[]",
+            ProglangType.DOUBLE_ARRAY,
+            ProglangType.DOUBLE_ARRAY,
+            VarComparabilityNone.it,
+            VarInfoAux.getDefault());
+    VarInfo i = Common.newIntVarInfo("i");
+    PptTopLevel ppt =
+        Common.makePptTopLevel("DerivationPlanTest.m():::EXIT", new VarInfo[] {a, d, i});
+    ppt.create_derived_variables();
+
+    // Invoke package-private method using reflection
+    Method mAddVarInfos =
+        PptTopLevel.class.getDeclaredMethod("addVarInfos", new Class<?>[] {VarInfo[].class});
+    mAddVarInfos.setAccessible(true);
+    VarInfo[] d_stats = {
+      new SequenceMin(d).getVarInfo(),
+      new SequenceMax(d).getVarInfo(),
+      new SequenceSum(d).getVarInfo()
+    };
+    mAddVarInfos.invoke(ppt, new Object[] {d_stats});
+    return ppt;
+  }
+
+  /**
+   * Computes the derived variables of every sample at a program point.
+   *
+   * @param ppt the program point
+   * @return for each sample, its values followed by its modified bits
+   */
+  private static Object[][] derive(PptTopLevel ppt) {
+    Object[][] result = new Object[values.length][];
+    for (int s = 0; s < values.length; s++) {
+      Object[] vals = new Object[ppt.var_infos.length];
+      int[] mods = new int[ppt.var_infos.length];
+      for (int j = 0; j < values[s].length; j++) {
+        Object val = values[s][j];
+        if (val instanceof long[]) {
+          val = Intern.intern((long[]) val);
+        } else if (val instanceof double[]) {
+          val = Intern.intern((double[]) val);
+        } else if (val instanceof Long) {
+          val = Intern.internedLong((Long) val);
+        }
+        vals[j] = val;
+        mods[j] = modbits[s][j];
+      }
+      FileIO.compute_derived_variables(ppt, vals, mods);
+      Object[] row = Arrays.copyOf(vals, vals.length * 2);
+      for (int j = 0; j < mods.length; j++) {
+        row[vals.length + j] = mods[j];
+      }
+      result[s] = row;
+    }
+    return result;
+  }
+
+  /** The fused and unfused computations give the same values and modified bits. */
+  @Test
+  public void testSameValues() throws Exception {
+    boolean saved_fuse = DerivationPlan.dkconfig_fuse_sequence_derivations;
+    boolean saved_min = SequenceMin.dkconfig_enabled;
+    boolean saved_max = SequenceMax.dkconfig_enabled;
+    boolean saved_sum = SequenceSum.dkconfig_enabled;
+    Boolean saved_new_decl_format = FileIO.new_decl_format;
+    SequenceMin.dkconfig_enabled = true;
+    SequenceMax.dkconfig_enabled = true;
+    SequenceSum.dkconfig_enabled = true;
+    FileIO.new_decl_format = false;
+    try {
+      DerivationPlan.dkconfig_fuse_sequence_derivations = false;
+      PptTopLevel unfused_ppt = makePpt();
+      Object[][] unfused = derive(unfused_ppt);
+      DerivationPlan.dkconfig_fuse_sequence_derivations = true;
+      PptTopLevel fused_ppt = makePpt();
+      Object[][] fused = derive(fused_ppt);
+
+      assertEquals(unfused_ppt.var_infos.length, fused_ppt.var_infos.length);
+      String derived = Arrays.toString(fused_ppt.var_infos);
+      String[] stats = {"min(a[])", "size(d[])", "min(d[])", "max(d[])", "sum(d[])"};
+      for (String name : stats) {
+        assertTrue(derived, derived.contains(name));
+      }
+      for (int s = 0; s < values.length; s++) {
+        for (int j = 0; j < fused[s].length; j++) {
+          VarInfo vi = fused_ppt.var_infos[j % fused_ppt.var_infos.length];
+          String kind = (j < fused_ppt.var_infos.length) ? "value" : "mod";
+          String what = String.format("sample %d, %s of %s", s, kind, vi);
+          // Double.equals distinguishes -0.0 from 0.0 and considers NaN equal to itself.
+          assertTrue(what, objectEquals(unfused[s][j], fused[s][j]));
+        }
+      }
+    } finally {
+      DerivationPlan.dkconfig_fuse_sequence_derivations = saved_fuse;
+      SequenceMin.dkconfig_enabled = saved_min;
+      SequenceMax.dkconfig_enabled = saved_max;
+      SequenceSum.dkconfig_enabled = saved_sum;
+      FileIO.new_decl_format = saved_new_decl_format;
+    }
+  }
+
+  /**
+   * Returns true if the two values are equal, comparing arrays by their contents.
+   *
+   * @param o1 a value
+   * @param o2 a value
+   * @return true if the values are equal
+   */
+  private static boolean objectEquals(Object o1, Object o2) {
+    return Arrays.deepEquals(new Object[] {o1}, new Object[] {o2});
+  }
+}
@@ -0,0 +1,141 @@
+package daikon.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import daikon.tools.BlockGzipOutputStream;
+import daikon.tools.DtraceIndex;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.Test;
+
+/** Tests {@link DtraceIndex} and {@link BlockGzipOutputStream}. */
+@SuppressWarnings("nullness") // testing code
+public class DtraceIndexTest {
+
+  /** The records of the test trace: declarations, nested invocations, and an unreturned call. */
+  private static final String[] RECORDS = {
+    "decl-version 2.0",
+    "ppt Foo.bar(int):::ENTER\nppt-type enter\nvariable x\n  var-kind variable\n  rep-type int",
+    "ppt Foo.bar(int):::EXIT12\nppt-type subexit\nvariable x\n  var-kind variable\n  rep-type int",
+    "Foo.bar(int):::ENTER\nthis_invocation_nonce\n0\nx\n1\n1",
+    "Foo.bar(int):::ENTER\nthis_invocation_nonce\n1\nx\n2\n1",
+    "Foo.bar(int):::EXIT12\nthis_invocation_nonce\n1\nx\n2\n1",
+    "Foo.bar(int):::EXIT12\nthis_invocation_nonce\n0\nx\n1\n1",
+    "Foo:::OBJECT\nx\n3\n1",
+    "Foo.bar(int):::ENTER\nthis_invocation_nonce\n2\nx\n4\n1",
+  };
+
+  /** Returns the text of the test trace, with comments and extra blank lines between records. */
+  private static String traceText() {
+    StringBuilder sb = new StringBuilder("// A comment\n# Another comment\n");
+    for (int i = 0; i < RECORDS.length; i++) {
+      sb.append(RECORDS[i]).append("\n\n");
+      if (i % 3 == 0) {
+        sb.append("\n");
+      }
+    }
+    return sb.toString();
+  }
+
+  /** Writes the test trace, gzipped in blocks of blockSize bytes if blockSize is positive. */
+  private static File writeTrace(int blockSize) throws IOException {
+    File file = File.createTempFile("DtraceIndexTest", blockSize > 0 ? ".dtrace.gz" : ".dtrace");
+    file.deleteOnExit();
+    new File(file.getPath() + DtraceIndex.SIDECAR_SUFFIX).deleteOnExit();
+    try (OutputStream fos = new FileOutputStream(file);
+        OutputStream out = blockSize > 0 ? new BlockGzipOutputStream(fos, blockSize) : fos) {
+      out.write(traceText().getBytes(UTF_8));
+    }
+    return file;
+  }
+
+  /** Returns the text of each record, as read through the index, last record first. */
+  private static List<String> readBackwards(DtraceIndex index) throws IOException {
+    List<String> result = new ArrayList<>();
+    try (DtraceIndex.Reader reader = index.newReader()) {
+      for (int i = index.size() - 1; i >= 0; i--) {
+        result.add(0, reader.readString(i, UTF_8));
+      }
+    }
+    return result;
+  }
+
+  /** Checks the index of the test trace. */
+  private static void checkIndex(DtraceIndex index) throws IOException {
+    assertEquals(RECORDS.length, index.size());
+    assertEquals(DtraceIndex.Kind.HEADER, index.kind(0));
+    assertEquals(DtraceIndex.Kind.DECLARATION, index.kind(1));
+    assertEquals("Foo.bar(int):::EXIT12", index.pptName(2));
+    assertEquals(DtraceIndex.Kind.ENTER, index.kind(3));
+    assertEquals(DtraceIndex.Kind.EXIT, index.kind(5));
+    assertEquals(DtraceIndex.Kind.SAMPLE, index.kind(7));
+    assertFalse(index.hasNonce(7));
+    assertEquals(1, index.nonce(4));
+    assertEquals(index.pptNumber(3), index.pptNumber(8));
+
+    // Nested invocations are matched by nonce.
+    assertEquals(6, index.match(3));
+    assertEquals(5, index.match(4));
+    assertEquals(3, index.match(6));
+    assertEquals(-1, index.match(8));
+    assertEquals(-1, index.match(1));
+
+    List<String> texts = readBackwards(index);
+    for (int i = 0; i < RECORDS.length; i++) {
+      assertEquals(RECORDS[i] + "\n", texts.get(i));
+    }
+  }
+
+  /** Indexes an uncompressed trace. */
+  @Test
+  public void testPlain() throws IOException {
+    File file = writeTrace(0);
+    checkIndex(DtraceIndex.build(file.getPath()));
+  }
+
+  /** Indexes a trace that is gzipped in small blocks, and reads its records in any order. */
+  @Test
+  public void testBlockGzip() throws IOException {
+    File file = writeTrace(40);
+    // Any gzip reader decompresses the file.
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (InputStream in = new GZIPInputStream(new FileInputStream(file))) {
+      byte[] buf = new byte[100];
+      int n;
+      while ((n = in.read(buf)) > 0) {
+        bytes.write(buf, 0, n);
+      }
+    }
+    assertEquals(traceText(), new String(bytes.toByteArray(), UTF_8));
+
+    checkIndex(DtraceIndex.build(file.getPath()));
+  }
+
+  /** The sidecar file is reused until the trace changes. */
+  @Test
+  public void testSidecar() throws IOException {
+    File file = writeTrace(1 << 16);
+    File sidecar = new File(file.getPath() + DtraceIndex.SIDECAR_SUFFIX);
+    assertFalse(sidecar.exists());
+    checkIndex(DtraceIndex.forFile(file.getPath()));
+    assertTrue(sidecar.exists());
+    checkIndex(DtraceIndex.forFile(file.getPath()));
+
+    // A trace that has changed is indexed again.
+    try (OutputStream out = new BlockGzipOutputStream(new FileOutputStream(file))) {
+      out.write((RECORDS[0] + "\n").getBytes(UTF_8));
+    }
+    assertEquals(1, DtraceIndex.forFile(file.getPath()).size());
+  }
+}
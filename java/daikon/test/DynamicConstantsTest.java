@@ -0,0 +1,222 @@
+package daikon.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import daikon.Daikon;
+import daikon.DynamicConstants;
+import daikon.FileIO;
+import daikon.PptMap;
+import daikon.PptTopLevel;
+import daikon.ValueTuple;
+import daikon.VarInfo;
+import daikon.inv.Invariant;
+import daikon.suppress.NIS;
+import java.io.File;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests that the steady-state fast path of {@link DynamicConstants#add} (see {@link
+ * DynamicConstants#dkconfig_fast_steady_state}) leaves the constants, the non-constants, and the
+ * missing variables exactly as processing every sample in full does.
+ */
+@SuppressWarnings("nullness") // testing code
+public class DynamicConstantsTest {
+
+  /** The name of the program point. */
+  private static final String ppt_name = "DynamicConstantsTest.m():::POINT";
+
+  /** The declarations of the program point, whose variables are x, y, z, and w. */
+  private static final String decls =
+      String.join(
+          "\n",
+          "VarComparability",
+          "none",
+          "",
+          "DECLARE",
+          ppt_name,
+          "x",
+          "int",
+          "int",
+          "22",
+          "y",
+          "int",
+          "int",
+          "22",
+          "z",
+          "int",
+          "int",
+          "22",
+          "w",
+          "int",
+          "int",
+          "22",
+          "");
+
+  /**
+   * The samples; each row holds the values of x, y, z, and w, and null for a missing value. The
+   * comments say what the sample changes, if anything.
+   */
+  private static final Long[][] samples = {
+    {1L, 2L, null, 5L}, // x, y, and w are constant; z is missing
+    {1L, 2L, null, 5L},
+    {1L, 2L, null, 5L},
+    {1L, 3L, null, 5L}, // y is no longer constant
+    {1L, 3L, null, 5L},
+    {null, 3L, null, 5L}, // x is missing, so no longer constant
+    {1L, 3L, null, 5L}, // x is present again, but not constant
+    {1L, 3L, 7L, 5L}, // z is no longer always missing
+    {1L, 3L, 7L, 5L},
+    {1L, 4L, null, 5L}, // z is missing again
+    {1L, 4L, null, 5L},
+  };
+
+  /**
+   * Whether each sample in {@link #samples} changes a constant or an always-missing variable, and
+   * so must be processed in full.
+   */
+  private static final boolean[] changes = {
+    true, false, false, true, false, true, false, true, false, false, false
+  };
+
+  /**
+   * Reads the declarations into a new program point, and sets up its equality sets.
+   *
+   * @return the program point
+   */
+  private static PptTopLevel makePpt() throws Exception {
+    File decl_file = File.createTempFile("DynamicConstantsTest", ".decls");
+    decl_file.deleteOnExit();
+    Files.write(decl_file.toPath(), decls.getBytes(UTF_8));
+    // Let the file determine its declaration format.
+    FileIO.new_decl_format = null;
+    PptMap ppts = FileIO.read_declaration_files(Collections.singleton(decl_file));
+    PptTopLevel ppt = ppts.get(ppt_name);
+    Daikon.setupEquality(ppt);
+    return ppt;
+  }
+
+  /**
+   * Adds each sample to a new program point, and describes the dynamic constants after each one.
+   *
+   * @param fast the value of {@link DynamicConstants#dkconfig_fast_steady_state}
+   * @return for each sample, the state of the dynamic constants after it was added
+   */
+  private static List<String> addSamples(boolean fast) throws Exception {
+    DynamicConstants.dkconfig_fast_steady_state = fast;
+    PptTopLevel ppt = makePpt();
+    List<String> result = new ArrayList<>();
+    for (int s = 0; s < samples.length; s++) {
+      Object[] vals = new Object[ppt.var_infos.length];
+      int[] mods = new int[ppt.var_infos.length];
+      for (int j = 0; j < samples[s].length; j++) {
+        vals[j] = samples[s][j];
+        mods[j] = (samples[s][j] == null) ? ValueTuple.MISSING_NONSENSICAL : ValueTuple.MODIFIED;
+      }
+      // Causes interning
+      ValueTuple vt = new ValueTuple(vals, mods);
+      ppt.add_bottom_up(vt, 1);
+
+      if (fast) {
+        // A sample that changes the constants discards the index arrays; one that doesn't leaves
+        // them in place.
+        Object con_array = getConArray(ppt.constants);
+        if (changes[s]) {
+          assertNull("sample " + s, con_array);
+        } else {
+          assertNotNull("sample " + s, con_array);
+        }
+      }
+      result.add(describe(ppt));
+    }
+    return result;
+  }
+
+  /**
+   * Returns the index array of the constants, which the fast path builds and every other sample
+   * discards.
+   *
+   * @param constants the dynamic constants
+   * @return the index array of the constants, or null
+   */
+  private static Object getConArray(DynamicConstants constants) throws Exception {
+    // Get private field using reflection
+    Field f = DynamicConstants.class.getDeclaredField("con_array");
+    f.setAccessible(true);
+    return f.get(constants);
+  }
+
+  /**
+   * Describes each variable of a program point as constant (with its value and sample count),
+   * missing, or non-constant, followed by the invariants that have been instantiated.
+   *
+   * @param ppt the program point
+   * @return the description
+   */
+  private static String describe(PptTopLevel ppt) {
+    DynamicConstants constants = ppt.constants;
+    StringBuilder sb = new StringBuilder();
+    for (VarInfo vi : ppt.var_infos) {
+      sb.append(vi.name()).append(": ");
+      if (constants.is_constant(vi)) {
+        DynamicConstants.Constant con = constants.getConstant(vi);
+        sb.append("constant ").append(con.val).append(" count ").append(con.count);
+      } else if (constants.is_missing(vi)) {
+        sb.append("missing");
+      } else {
+        sb.append("nonconstant");
+      }
+      sb.append("\n");
+    }
+    for (Invariant inv : ppt.getInvariants()) {
+      sb.append(inv.format()).append("\n");
+    }
+    return sb.toString();
+  }
+
+  /** The fast path and full processing give the same constants, non-constants, and missings. */
+  @Test
+  public void testSameConstants() throws Exception {
+    boolean saved_fast = DynamicConstants.dkconfig_fast_steady_state;
+    boolean saved_dynamic_constants = DynamicConstants.dkconfig_use_dynamic_constant_optimization;
+    boolean saved_nis = NIS.dkconfig_enabled;
+    Boolean saved_new_decl_format = FileIO.new_decl_format;
+    List<Invariant> saved_proto_invs = new ArrayList<>(Daikon.proto_invs);
+    DynamicConstants.dkconfig_use_dynamic_constant_optimization = true;
+    NIS.dkconfig_enabled = true;
+    Daikon.proto_invs.clear();
+    Daikon.setup_proto_invs();
+    Daikon.setup_NISuppression();
+    try {
+      List<String> full = addSamples(false);
+      List<String> fast = addSamples(true);
+      for (int s = 0; s < samples.length; s++) {
+        assertEquals("sample " + s, full.get(s), fast.get(s));
+      }
+
+      // Spot-check the states that the samples were designed to reach.
+      String after_x_returns = fast.get(6);
+      String expected = "x: nonconstant\ny: nonconstant\nz: missing\nw: constant 5 count 7\n";
+      assertTrue(after_x_returns, after_x_returns.startsWith(expected));
+      String last = fast.get(samples.length - 1);
+      expected = "x: nonconstant\ny: nonconstant\nz: nonconstant\nw: constant 5 count 11\n";
+      assertTrue(last, last.startsWith(expected));
+    } finally {
+      DynamicConstants.dkconfig_fast_steady_state = saved_fast;
+      DynamicConstants.dkconfig_use_dynamic_constant_optimization = saved_dynamic_constants;
+      NIS.dkconfig_enabled = saved_nis;
+      FileIO.new_decl_format = saved_new_decl_format;
+      Daikon.proto_invs.clear();
+      Daikon.proto_invs.addAll(saved_proto_invs);
+      Daikon.setup_NISuppression();
+    }
+  }
+}
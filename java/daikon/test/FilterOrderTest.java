@@ -0,0 +1,87 @@
+package daikon.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import daikon.Daikon;
+import daikon.FileIO;
+import daikon.PptMap;
+import daikon.PptTopLevel;
+import daikon.PrintInvariants;
+import daikon.inv.Invariant;
+import daikon.inv.filter.InvariantFilters;
+import java.io.File;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import org.junit.Test;
+
+/**
+ * Tests that applying the invariant filters in adaptive order, and remembering which invariants are
+ * obvious, prints the same invariants as the registered filter order without memoization.
+ */
+@SuppressWarnings("nullness") // testing code
+public class FilterOrderTest {
+
+  /**
+   * Prints the invariants of every program point in an .inv file.
+   *
+   * @param inv_file the .inv file to read; it is read afresh because printing modifies the ppts
+   * @param adaptive the value of {@link InvariantFilters#dkconfig_adaptive_order}
+   * @param memoize whether {@link Invariant#memoizeObvious} is on while printing
+   * @return the printed invariants
+   */
+  private static String print(File inv_file, boolean adaptive, boolean memoize) throws Exception {
+    PptMap ppts = FileIO.read_serialized_pptmap(inv_file, false);
+    InvariantFilters.dkconfig_adaptive_order = adaptive;
+    Invariant.memoizeObvious(memoize);
+    StringWriter sw = new StringWriter();
+    try (PrintWriter pw = new PrintWriter(sw)) {
+      for (PptTopLevel ppt : ppts.pptIterable()) {
+        PrintInvariants.print_invariants(ppt, pw, ppts);
+      }
+    } finally {
+      Invariant.memoizeObvious(false);
+    }
+    return sw.toString();
+  }
+
+  /** Both filter orders, with and without memoization, keep the same invariants. */
+  @Test
+  public void testSameInvariants() throws Exception {
+    File trace = File.createTempFile("FilterOrderTest", "-Hanoi.dtrace.gz");
+    trace.deleteOnExit();
+    try (InputStream in = FilterOrderTest.class.getResourceAsStream("dtracediff/Hanoi.dtrace.gz")) {
+      Files.copy(in, trace.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+    File inv_file = File.createTempFile("FilterOrderTest", ".inv.gz");
+    inv_file.deleteOnExit();
+
+    boolean saved_adaptive = InvariantFilters.dkconfig_adaptive_order;
+    boolean saved_quiet = Daikon.dkconfig_quiet;
+    boolean saved_no_text_output = Daikon.no_text_output;
+    Boolean saved_new_decl_format = FileIO.new_decl_format;
+    Daikon.dkconfig_quiet = true;
+    // The Hanoi trace uses the old declaration format.
+    FileIO.new_decl_format = null;
+    try {
+      Daikon.mainHelper(
+          new String[] {"--no_text_output", "-o", inv_file.getPath(), trace.getPath()});
+
+      String registered = print(inv_file, false, false);
+      assertTrue(registered.contains("six170.Hanoi.showTowers():::EXIT"));
+      assertEquals(registered, print(inv_file, false, true));
+      // Filter enough invariants that the adaptive order is recomputed at least twice.
+      for (int i = 0; i < 3; i++) {
+        assertEquals(registered, print(inv_file, true, true));
+      }
+    } finally {
+      InvariantFilters.dkconfig_adaptive_order = saved_adaptive;
+      Daikon.dkconfig_quiet = saved_quiet;
+      Daikon.no_text_output = saved_no_text_output;
+      FileIO.new_decl_format = saved_new_decl_format;
+    }
+  }
+}
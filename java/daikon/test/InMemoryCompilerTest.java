@@ -0,0 +1,95 @@
+package daikon.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import daikon.split.InMemoryCompiler;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Tests {@link InMemoryCompiler}. */
+@SuppressWarnings("nullness") // testing code
+public class InMemoryCompilerTest {
+
+  /** A temporary directory for the cache. */
+  private File dir;
+
+  @Before
+  public void setUp() throws IOException {
+    assumeTrue(InMemoryCompiler.isAvailable());
+    dir = Files.createTempDirectory("InMemoryCompilerTest").toFile();
+  }
+
+  @After
+  public void tearDown() {
+    if (dir == null) {
+      return;
+    }
+    File[] files = dir.listFiles();
+    if (files != null) {
+      for (File f : files) {
+        f.delete();
+      }
+    }
+    dir.delete();
+  }
+
+  /** Returns the source of a class whose toString method returns the given expression. */
+  private static String source(String className, String expression) {
+    return "public class "
+        + className
+        + " { public String toString() { return "
+        + expression
+        + "; } }";
+  }
+
+  /** Returns a new instance of a class that the given compiler compiled. */
+  private static Object newInstance(InMemoryCompiler compiler, String className) throws Exception {
+    return compiler.loadClass(className).getDeclaredConstructor().newInstance();
+  }
+
+  /** A source with an error does not prevent the other sources from being compiled. */
+  @Test
+  public void testErrors() throws Exception {
+    Map<String, String> sources = new LinkedHashMap<>();
+    sources.put("Good1", source("Good1", "\"good1\""));
+    sources.put("Bad", source("Bad", "1 +"));
+    sources.put("Good2", source("Good2", "\"good\" + 2"));
+    InMemoryCompiler compiler = new InMemoryCompiler(null);
+    String errors = compiler.compile(sources);
+    assertTrue(errors, errors.contains("Bad.java"));
+    assertEquals("good1", newInstance(compiler, "Good1").toString());
+    assertEquals("good2", newInstance(compiler, "Good2").toString());
+    assertNull(compiler.loadClass("Bad"));
+    assertNull(compiler.loadClass("Missing"));
+  }
+
+  /** Compiled classes are read from the cache by a later compiler. */
+  @Test
+  public void testCache() throws Exception {
+    Map<String, String> sources = new LinkedHashMap<>();
+    sources.put("Cached", source("Cached", "\"cached\""));
+    assertEquals("", new InMemoryCompiler(dir).compile(sources));
+    assertEquals(1, dir.listFiles().length);
+
+    // A new compiler finds the class in the cache; a changed source gets its own entry.
+    InMemoryCompiler reloaded = new InMemoryCompiler(dir);
+    assertEquals("", reloaded.compile(sources));
+    assertNotNull(reloaded.loadClass("Cached"));
+
+    sources.put("Cached", source("Cached", "\"changed\""));
+    InMemoryCompiler changed = new InMemoryCompiler(dir);
+    assertEquals("", changed.compile(sources));
+    assertEquals("changed", newInstance(changed, "Cached").toString());
+    assertEquals(2, dir.listFiles().length);
+  }
+}
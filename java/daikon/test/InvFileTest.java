@@ -0,0 +1,225 @@
+package daikon.test;
+
+import static java.util.logging.Level.INFO;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import daikon.FileIO;
+import daikon.InvFile;
+import daikon.PptMap;
+import daikon.PptRelation;
+import daikon.PptSlice;
+import daikon.PptSlice1;
+import daikon.PptTopLevel;
+import daikon.VarInfo;
+import daikon.inv.Invariant;
+import daikon.inv.unary.scalar.LowerBound;
+import daikon.inv.unary.scalar.UpperBound;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/** Tests the indexed {@code .inv} file format, and its compatibility with the original format. */
+@SuppressWarnings("nullness") // testing code
+public class InvFileTest {
+
+  /** prepare for tests */
+  @BeforeClass
+  public static void setUpClass() {
+    daikon.LogHelper.setupLogs(INFO);
+    FileIO.new_decl_format = true;
+  }
+
+  /** Returns a program point with an invariant over each of the given variables. */
+  private static PptTopLevel makePpt(String name, String... varnames) throws Exception {
+    VarInfo[] vars = new VarInfo[varnames.length];
+    for (int i = 0; i < varnames.length; i++) {
+      vars[i] = Common.newIntVarInfo(varnames[i]);
+    }
+    PptTopLevel ppt = Common.makePptTopLevel(name, vars);
+    List<PptSlice> slices = new ArrayList<>();
+    for (int i = 0; i < vars.length; i++) {
+      PptSlice slice = new PptSlice1(ppt, new VarInfo[] {vars[i]});
+      Invariant inv =
+          (i % 2 == 0)
+              ? LowerBound.get_proto().instantiate(slice)
+              : UpperBound.get_proto().instantiate(slice);
+      slice.addInvariant(inv);
+      slices.add(slice);
+    }
+    // Invoke private method using reflection
+    Method mAddViews = PptTopLevel.class.getDeclaredMethod("addViews", new Class<?>[] {List.class});
+    mAddViews.setAccessible(true);
+    mAddViews.invoke(ppt, new Object[] {slices});
+    return ppt;
+  }
+
+  /**
+   * Returns a map with three program points: an object point, a method point that is its child,
+   * and an unrelated point.
+   */
+  private static PptMap makeMap() throws Exception {
+    PptMap map = new PptMap();
+    PptTopLevel object = makePpt("Foo:::OBJECT", "this.x", "this.y");
+    PptTopLevel method = makePpt("Foo.bar():::ENTER", "this.x", "this.y");
+    PptTopLevel other = makePpt("Baz.qux():::ENTER", "a", "b", "c");
+    PptRelation.newMergeChildRel(object, method);
+    map.add(object);
+    map.add(method);
+    map.add(other);
+    return map;
+  }
+
+  /** Returns a description of the program points, invariants, and relations in a map. */
+  private static String describe(PptMap map) {
+    StringBuilder result = new StringBuilder();
+    for (PptTopLevel ppt : map.pptIterable()) {
+      result.append(ppt.name()).append(" ").append(ppt.var_names());
+      result.append(System.lineSeparator());
+      List<String> invs = new ArrayList<>();
+      for (Invariant inv : ppt.getInvariants()) {
+        invs.add("  " + inv.format());
+      }
+      Collections.sort(invs);
+      for (String inv : invs) {
+        result.append(inv).append(System.lineSeparator());
+      }
+      for (PptRelation rel : ppt.parents) {
+        result.append("  parent ").append(rel).append(" ");
+        for (Map.Entry<VarInfo, VarInfo> e : rel.parent_to_child_map.entrySet()) {
+          assertTrue(e.getKey().ppt == rel.parent);
+          assertTrue(e.getValue().ppt == rel.child);
+          result.append(e.getKey().name()).append("->").append(e.getValue().name()).append(" ");
+        }
+        assertTrue(rel.parent.children.contains(rel));
+        result.append(System.lineSeparator());
+      }
+    }
+    return result.toString();
+  }
+
+  /** Writes a map in the original or the indexed format. */
+  private static File write(PptMap map, boolean indexed) throws IOException {
+    File file = File.createTempFile("InvFileTest", indexed ? ".inv" : ".inv.gz");
+    file.deleteOnExit();
+    boolean saved = FileIO.dkconfig_indexed_inv_files;
+    FileIO.dkconfig_indexed_inv_files = indexed;
+    try {
+      FileIO.write_serialized_pptmap(map, file);
+    } finally {
+      FileIO.dkconfig_indexed_inv_files = saved;
+    }
+    return file;
+  }
+
+  /** Both formats read back the same program points, invariants, and relations. */
+  @Test
+  public void testRoundTrip() throws Exception {
+    PptMap map = makeMap();
+    String expected = describe(map);
+
+    File original = write(map, false);
+    File indexed = write(map, true);
+    assertFalse(InvFile.is_indexed(original));
+    assertTrue(InvFile.is_indexed(indexed));
+
+    assertEquals(expected, describe(FileIO.read_serialized_pptmap(original, false)));
+    assertEquals(expected, describe(FileIO.read_serialized_pptmap(indexed, false)));
+
+    // Writing what was read from one format in the other format loses nothing.
+    File converted = write(FileIO.read_serialized_pptmap(original, false), true);
+    assertEquals(expected, describe(FileIO.read_serialized_pptmap(converted, false)));
+    File back = write(FileIO.read_serialized_pptmap(indexed, false), false);
+    assertEquals(expected, describe(FileIO.read_serialized_pptmap(back, false)));
+  }
+
+  /** Loading one program point loads its ancestors, but nothing else. */
+  @Test
+  public void testLazyLoad() throws Exception {
+    File indexed = write(makeMap(), true);
+    try (InvFile inv_file = new InvFile(indexed)) {
+      assertEquals(
+          Arrays.asList("Foo:::OBJECT", "Foo.bar():::ENTER", "Baz.qux():::ENTER"),
+          inv_file.ppt_names());
+      assertEquals(InvFile.FORMAT_VERSION, inv_file.version());
+
+      PptTopLevel method = inv_file.get("Foo.bar():::ENTER");
+      assertNotNull(method);
+      assertEquals(1, method.parents.size());
+      assertEquals("Foo:::OBJECT", method.parents.get(0).parent.name());
+      assertEquals(2, inv_file.read(Collections.emptyList()).size());
+      assertEquals(2, method.getInvariants().size());
+
+      // Loading the rest does not duplicate the relation.
+      PptMap all = inv_file.read_all();
+      assertEquals(3, all.size());
+      assertEquals(1, all.get("Foo:::OBJECT").children.size());
+    }
+  }
+
+  /**
+   * With indexing on, a {@code .gz} file is written in the indexed format, as a valid gzip file
+   * from which a single program point can still be loaded.
+   */
+  @Test
+  public void testGzipName() throws Exception {
+    PptMap map = makeMap();
+    File file = File.createTempFile("InvFileTest", ".inv.gz");
+    file.deleteOnExit();
+    boolean saved = FileIO.dkconfig_indexed_inv_files;
+    FileIO.dkconfig_indexed_inv_files = true;
+    try {
+      FileIO.write_serialized_pptmap(map, file);
+    } finally {
+      FileIO.dkconfig_indexed_inv_files = saved;
+    }
+    assertTrue(InvFile.is_indexed(file));
+    try (InputStream in = new FileInputStream(file)) {
+      assertEquals(0x1f, in.read());
+      assertEquals(0x8b, in.read());
+    }
+    // The whole file decompresses, as it would with gunzip.
+    try (InputStream in = new GZIPInputStream(new FileInputStream(file))) {
+      byte[] buf = new byte[8192];
+      while (in.read(buf) >= 0) {}
+    }
+    assertEquals(describe(map), describe(FileIO.read_serialized_pptmap(file, false)));
+
+    try (InvFile inv_file = new InvFile(file)) {
+      PptTopLevel method = inv_file.get("Foo.bar():::ENTER");
+      assertNotNull(method);
+      assertEquals(2, method.getInvariants().size());
+      assertEquals(2, inv_file.num_loaded());
+    }
+  }
+
+  /** A file with a newer format version is rejected with an explanation. */
+  @Test
+  public void testNewerVersion() throws Exception {
+    File indexed = write(makeMap(), true);
+    try (RandomAccessFile raf = new RandomAccessFile(indexed, "rw")) {
+      raf.seek("DKINVIDX".length());
+      raf.writeInt(InvFile.FORMAT_VERSION + 1);
+    }
+    try {
+      FileIO.read_serialized_pptmap(indexed, false);
+      fail("expected an IOException");
+    } catch (IOException e) {
+      assertTrue(e.getMessage(), e.getMessage().contains("format version"));
+    }
+  }
+}
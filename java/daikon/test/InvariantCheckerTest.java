@@ -0,0 +1,211 @@
+package daikon.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertTrue;
+
+import daikon.Daikon;
+import daikon.FileIO;
+import daikon.PptConditional;
+import daikon.PptMap;
+import daikon.PptSlice;
+import daikon.PptTopLevel;
+import daikon.ValueTuple;
+import daikon.VarInfo;
+import daikon.inv.Invariant;
+import daikon.inv.InvariantStatus;
+import daikon.split.PptSplitter;
+import daikon.tools.InvariantChecker;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.Test;
+
+/**
+ * Tests that InvariantChecker, which checks samples against compiled invariants, reports the same
+ * violations as replaying each sample through {@link Invariant#add_sample}.
+ */
+@SuppressWarnings("nullness") // testing code
+public class InvariantCheckerTest {
+
+  /**
+   * Checks samples the way InvariantChecker used to: each sample is added to every active invariant
+   * of its program point, and an invariant whose status changes is counted as violated.
+   */
+  static class ReplayProcessor extends FileIO.Processor {
+
+    /** The invariants that have not been violated. */
+    Set<Invariant> active = new HashSet<>();
+
+    /** The invariants that were checked against at least one sample. */
+    Set<Invariant> tested = new HashSet<>();
+
+    /** The invariants that were violated. */
+    Set<Invariant> failed = new HashSet<>();
+
+    /** The number of violations. */
+    int error_cnt = 0;
+
+    /** The number of times that an invariant was checked against a sample. */
+    int sample_cnt = 0;
+
+    /** The enter program point and sample of each pending call, by nonce. */
+    Map<Integer, Object[]> call_map = new HashMap<>();
+
+    @Override
+    public void process_sample(
+        PptMap all_ppts, PptTopLevel ppt, ValueTuple vt, @Nullable Integer nonce) {
+      FileIO.compute_orig_variables(ppt, vt.vals, vt.mods, nonce);
+      FileIO.compute_derived_variables(ppt, vt.vals, vt.mods);
+      vt = new ValueTuple(vt.vals, vt.mods);
+
+      if (ppt.ppt_name.isEnterPoint()) {
+        call_map.put(nonce, new Object[] {ppt, vt});
+        return;
+      }
+      if (ppt.ppt_name.isExitPoint()) {
+        Object[] enter = call_map.remove(nonce);
+        if (enter == null) {
+          return;
+        }
+        add((PptTopLevel) enter[0], (ValueTuple) enter[1], all_ppts);
+      }
+      add(ppt, vt, all_ppts);
+    }
+
+    /**
+     * Checks a sample against the invariants of a program point, its conditional program points,
+     * and its combined exit.
+     *
+     * @param ppt the program point
+     * @param vt the sample
+     * @param all_ppts all the program points
+     */
+    private void add(PptTopLevel ppt, ValueTuple vt, PptMap all_ppts) {
+      if (ppt.has_splitters()) {
+        for (PptSplitter ppt_split : ppt.splitters) {
+          PptConditional ppt_cond = ppt_split.choose_conditional(vt);
+          if (ppt_cond != null) {
+            add(ppt_cond, vt, all_ppts);
+          }
+        }
+      }
+      if (!(ppt instanceof PptConditional) && ppt.ppt_name.isNumberedExitPoint()) {
+        PptTopLevel parent = all_ppts.get(ppt.ppt_name.makeExit());
+        if (parent != null) {
+          parent.get_missingOutOfBounds(ppt, vt);
+          add(parent, vt, all_ppts);
+        }
+      }
+      if (ppt.var_infos.length == 0) {
+        return;
+      }
+      slice_loop:
+      for (PptSlice slice : ppt.views_iterable()) {
+        for (VarInfo v : slice.var_infos) {
+          if (v.isMissing(vt) || v.missingOutOfBounds()) {
+            continue slice_loop;
+          }
+        }
+        for (Invariant inv : slice.invs) {
+          if (!inv.isActive() || !active.contains(inv)) {
+            continue;
+          }
+          tested.add(inv);
+          InvariantStatus status = inv.add_sample(vt, 1);
+          sample_cnt++;
+          if (status != InvariantStatus.NO_CHANGE) {
+            failed.add(inv);
+            active.remove(inv);
+            error_cnt++;
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Copies a test trace to a temporary file, since the tests may be run from a jar file.
+   *
+   * @param name the name of a file in daikon/test/dtracediff
+   * @return a temporary copy of the file
+   */
+  private static File copy_trace(String name) throws Exception {
+    File file = File.createTempFile("InvariantCheckerTest", "-" + name);
+    file.deleteOnExit();
+    try (InputStream in = InvariantCheckerTest.class.getResourceAsStream("dtracediff/" + name)) {
+      Files.copy(in, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+    return file;
+  }
+
+  /**
+   * The invariants of the truncated Hanoi trace are checked against the full trace, which violates
+   * some of them. Both ways of checking report the same numbers.
+   */
+  @Test
+  public void testSameViolations() throws Exception {
+    boolean saved_quiet = Daikon.dkconfig_quiet;
+    boolean saved_no_text_output = Daikon.no_text_output;
+    Boolean saved_new_decl_format = FileIO.new_decl_format;
+    PrintStream saved_out = System.out;
+    Daikon.dkconfig_quiet = true;
+    try {
+      File inv_file = File.createTempFile("InvariantCheckerTest", ".inv.gz");
+      inv_file.deleteOnExit();
+      // The Hanoi traces use the old declaration format.
+      FileIO.new_decl_format = null;
+      Daikon.mainHelper(
+          new String[] {
+            "--no_text_output",
+            "-o",
+            inv_file.getPath(),
+            copy_trace("Hanoi-truncated.dtrace.gz").getPath()
+          });
+      File trace = copy_trace("Hanoi.dtrace.gz");
+
+      PptMap ppts = FileIO.read_serialized_pptmap(inv_file, true);
+      ReplayProcessor replay = new ReplayProcessor();
+      for (PptTopLevel ppt : ppts.all_ppts()) {
+        for (PptSlice slice : ppt.views_iterable()) {
+          replay.active.addAll(slice.invs);
+        }
+      }
+      FileIO.new_decl_format = null;
+      FileIO.read_data_trace_files(Collections.singletonList(trace.getPath()), ppts, replay, false);
+      assertTrue(replay.error_cnt > 0);
+
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      System.setOut(new PrintStream(bytes, true, UTF_8.name()));
+      FileIO.new_decl_format = null;
+      InvariantChecker.mainHelper(new String[] {inv_file.getPath(), trace.getPath()});
+      System.setOut(saved_out);
+      String output = bytes.toString(UTF_8.name());
+
+      String errors =
+          String.format(
+              "%s: %,d errors found in %,d samples",
+              inv_file, replay.error_cnt, replay.sample_cnt);
+      assertTrue(output, output.contains(errors));
+      String false_positives =
+          String.format(
+              "%s: %d false positives, out of %d,",
+              inv_file, replay.failed.size(), replay.tested.size());
+      assertTrue(output, output.contains(false_positives));
+    } finally {
+      System.setOut(saved_out);
+      InvariantChecker.dtrace_files.clear();
+      Daikon.dkconfig_quiet = saved_quiet;
+      Daikon.no_text_output = saved_no_text_output;
+      FileIO.new_decl_format = saved_new_decl_format;
+    }
+  }
+}
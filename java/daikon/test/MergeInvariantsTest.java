@@ -0,0 +1,116 @@
+package daikon.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import daikon.Daikon;
+import daikon.FileIO;
+import daikon.InvFile;
+import daikon.MergeInvariants;
+import daikon.PptMap;
+import daikon.PptTopLevel;
+import daikon.PrintInvariants;
+import java.io.File;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import org.junit.Test;
+
+/** Tests that merging one leaf at a time gives the same invariants as merging all at once. */
+@SuppressWarnings("nullness") // testing code
+public class MergeInvariantsTest {
+
+  /**
+   * Copies a test trace to a temporary file, since the tests may be run from a jar file.
+   *
+   * @param name the name of a file in daikon/test/dtracediff
+   * @return a temporary copy of the file
+   */
+  private static File copy_trace(String name) throws Exception {
+    File file = File.createTempFile("MergeInvariantsTest", "-" + name);
+    file.deleteOnExit();
+    try (InputStream in = MergeInvariantsTest.class.getResourceAsStream("dtracediff/" + name)) {
+      Files.copy(in, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+    return file;
+  }
+
+  /**
+   * Runs Daikon on a trace and writes the invariants in the indexed format.
+   *
+   * @param name the name of a file in daikon/test/dtracediff
+   * @return the indexed .inv file
+   */
+  private static File infer(String name) throws Exception {
+    File inv_file = File.createTempFile("MergeInvariantsTest", ".inv");
+    inv_file.deleteOnExit();
+    // The Hanoi traces use the old declaration format.
+    FileIO.new_decl_format = null;
+    Daikon.mainHelper(
+        new String[] {
+          "--no_text_output", "-o", inv_file.getPath(), copy_trace(name).getPath()
+        });
+    assertTrue(InvFile.is_indexed(inv_file));
+    return inv_file;
+  }
+
+  /**
+   * Merges .inv files, and returns the printed invariants of the result.
+   *
+   * @param streaming the value of {@link MergeInvariants#dkconfig_streaming}
+   * @param inv_files the files to merge
+   * @return the printed invariants of the merged program points
+   */
+  private static String merge(boolean streaming, File... inv_files) throws Exception {
+    File merged = File.createTempFile("MergeInvariantsTest", ".inv.gz");
+    merged.deleteOnExit();
+    String[] args = new String[inv_files.length + 2];
+    args[0] = "-o";
+    args[1] = merged.getPath();
+    for (int i = 0; i < inv_files.length; i++) {
+      args[i + 2] = inv_files[i].getPath();
+    }
+    MergeInvariants.dkconfig_streaming = streaming;
+    MergeInvariants.output_inv_file = null;
+    MergeInvariants.mainHelper(args);
+
+    PptMap ppts = FileIO.read_serialized_pptmap(merged, false);
+    StringWriter sw = new StringWriter();
+    try (PrintWriter pw = new PrintWriter(sw)) {
+      for (PptTopLevel ppt : ppts.pptIterable()) {
+        PrintInvariants.print_invariants(ppt, pw, ppts);
+      }
+    }
+    return sw.toString();
+  }
+
+  /** Both ways of merging print the same invariants. */
+  @Test
+  public void testStreamingMerge() throws Exception {
+    boolean saved_indexed = FileIO.dkconfig_indexed_inv_files;
+    boolean saved_quiet = Daikon.dkconfig_quiet;
+    boolean saved_streaming = MergeInvariants.dkconfig_streaming;
+    boolean saved_no_text_output = Daikon.no_text_output;
+    Boolean saved_new_decl_format = FileIO.new_decl_format;
+    FileIO.dkconfig_indexed_inv_files = true;
+    Daikon.dkconfig_quiet = true;
+    try {
+      File full = infer("Hanoi.dtrace.gz");
+      File truncated = infer("Hanoi-truncated.dtrace.gz");
+
+      String all_at_once = merge(false, full, truncated);
+      String streamed = merge(true, full, truncated);
+      assertTrue(all_at_once.contains("six170.Hanoi.showTowers():::EXIT"));
+      assertEquals(all_at_once, streamed);
+    } finally {
+      FileIO.dkconfig_indexed_inv_files = saved_indexed;
+      Daikon.dkconfig_quiet = saved_quiet;
+      MergeInvariants.dkconfig_streaming = saved_streaming;
+      Daikon.no_text_output = saved_no_text_output;
+      FileIO.new_decl_format = saved_new_decl_format;
+      MergeInvariants.output_inv_file = null;
+    }
+  }
+}
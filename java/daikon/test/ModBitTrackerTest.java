@@ -2,14 +2,17 @@ package daikon.test;
 
 import static java.util.logging.Level.INFO;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import daikon.FileIO;
 import daikon.ModBitTracker;
+import daikon.RunLengthBitSet;
 import daikon.ValueTuple;
 import java.util.BitSet;
 import java.util.Random;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.plumelib.util.CollectionsPlume;
 
 public class ModBitTrackerTest {
 
@@ -19,9 +22,6 @@ public class ModBitTrackerTest {
   // give them modbits so that they are all separated.  See if the results
   // are as they should be.
 
-  // I should probably add some tests that test arguments other than 1 for
-  // the "count" argument to ModBitTracker.add().
-
   /** Random seed */
   private Random r = new Random(20031014L);
 
@@ -120,4 +120,114 @@ public class ModBitTrackerTest {
     oneModBitTrackerTest(5, 10, 0.0);
     oneModBitTrackerTest(100, 1000, 5.0);
   }
+
+  @Test
+  public void testRunLengthModBitTracker() {
+    boolean saved = ModBitTracker.dkconfig_run_length_encoding;
+    ModBitTracker.dkconfig_run_length_encoding = true;
+    try {
+      assertTrue(new ModBitTracker(1).is_run_length_encoded());
+      oneModBitTrackerTest(1, 2, 0.0);
+      oneModBitTrackerTest(2, 2, 0.0);
+      oneModBitTrackerTest(5, 10, 0.0);
+      oneModBitTrackerTest(100, 1000, 5.0);
+    } finally {
+      ModBitTracker.dkconfig_run_length_encoding = saved;
+    }
+  }
+
+  /** Checks that add with count &gt; 1 is the same as count separate adds. */
+  @Test
+  public void testAddCount() {
+    boolean saved = ModBitTracker.dkconfig_run_length_encoding;
+    try {
+      for (boolean run_length : new boolean[] {false, true}) {
+        ModBitTracker.dkconfig_run_length_encoding = run_length;
+        ModBitTracker bulk = new ModBitTracker(3);
+        ModBitTracker single = new ModBitTracker(3);
+        Object[] vals = new Object[3];
+        int[] mods = new int[3];
+        ValueTuple vt = ValueTuple.makeUninterned(vals, mods);
+        for (int round = 0; round < 20; round++) {
+          int count = 1 + r.nextInt(50);
+          for (int var = 0; var < 3; var++) {
+            mods[var] = booleanToModBit(r.nextInt(4) != 0);
+          }
+          bulk.add(vt, count);
+          for (int i = 0; i < count; i++) {
+            single.add(vt, 1);
+          }
+        }
+        assertEquals(single.num_samples(), bulk.num_samples());
+        for (int var = 0; var < 3; var++) {
+          assertEquals(single.get(var), bulk.get(var));
+          assertEquals(single.cardinality(var), bulk.cardinality(var));
+          for (int sampleno = 0; sampleno < single.num_samples(); sampleno++) {
+            assertEquals(single.get(var, sampleno), bulk.get(var, sampleno));
+          }
+        }
+        assertEquals(single.intersectionCardinality(0, 1), bulk.intersectionCardinality(0, 1));
+        assertEquals(
+            single.intersectionCardinality(0, 1, 2), bulk.intersectionCardinality(0, 1, 2));
+      }
+    } finally {
+      ModBitTracker.dkconfig_run_length_encoding = saved;
+    }
+  }
+
+  @Test
+  public void testEstimatedSize() {
+    boolean saved = ModBitTracker.dkconfig_run_length_encoding;
+    try {
+      long[] sizes = new long[2];
+      for (boolean run_length : new boolean[] {false, true}) {
+        ModBitTracker.dkconfig_run_length_encoding = run_length;
+        ModBitTracker mbt = new ModBitTracker(3);
+        long empty = mbt.estimated_size();
+        Object[] vals = new Object[3];
+        int[] mods = new int[3];
+        ValueTuple vt = ValueTuple.makeUninterned(vals, mods);
+        for (int sampleno = 0; sampleno < 10000; sampleno++) {
+          mods[0] = booleanToModBit(sampleno < 5000);
+          mbt.add(vt, 1);
+        }
+        assertTrue(mbt.estimated_size() > empty);
+        sizes[run_length ? 1 : 0] = mbt.estimated_size();
+      }
+      // Two runs per variable take less space than 10000 bits.
+      assertTrue(sizes[1] < sizes[0]);
+    } finally {
+      ModBitTracker.dkconfig_run_length_encoding = saved;
+    }
+  }
+
+  @Test
+  public void testRunLengthBitSet() {
+    RunLengthBitSet rs1 = new RunLengthBitSet();
+    RunLengthBitSet rs2 = new RunLengthBitSet();
+    BitSet bs1 = new BitSet();
+    BitSet bs2 = new BitSet();
+    int size = 0;
+    for (int round = 0; round < 200; round++) {
+      int count = r.nextInt(10);
+      boolean b1 = r.nextBoolean();
+      boolean b2 = r.nextInt(3) != 0;
+      rs1.append(b1, count);
+      rs2.append(b2, count);
+      bs1.set(size, size + count, b1);
+      bs2.set(size, size + count, b2);
+      size += count;
+    }
+    assertEquals(size, rs1.size());
+    assertEquals(bs1, rs1.toBitSet());
+    assertEquals(bs2, rs2.toBitSet());
+    assertEquals(bs1.cardinality(), rs1.cardinality());
+    for (int i = 0; i < size + 5; i++) {
+      assertEquals(bs1.get(i), rs1.get(i));
+    }
+    assertEquals(
+        CollectionsPlume.intersectionCardinality(bs1, bs2),
+        RunLengthBitSet.intersectionCardinality(rs1, rs2));
+    assertEquals(bs1, rs1.clone().toBitSet());
+  }
 }
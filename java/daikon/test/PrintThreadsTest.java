@@ -0,0 +1,151 @@
+package daikon.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import daikon.Daikon;
+import daikon.FileIO;
+import daikon.PptMap;
+import daikon.PrintInvariants;
+import daikon.inv.OutputFormat;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import org.junit.Test;
+
+/**
+ * Tests that formatting program points on several threads (see {@link
+ * PrintInvariants#dkconfig_print_threads}) prints exactly what formatting them on one thread
+ * prints.
+ */
+@SuppressWarnings("nullness") // testing code
+public class PrintThreadsTest {
+
+  /**
+   * Runs Daikon on a trace and returns the file to which the invariants were written.
+   *
+   * @param name the name of a file in daikon/test/dtracediff
+   * @return the .inv file
+   */
+  private static File infer(String name) throws Exception {
+    File trace = File.createTempFile("PrintThreadsTest", "-" + name);
+    trace.deleteOnExit();
+    try (InputStream in = PrintThreadsTest.class.getResourceAsStream("dtracediff/" + name)) {
+      Files.copy(in, trace.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+    File inv_file = File.createTempFile("PrintThreadsTest", ".inv.gz");
+    inv_file.deleteOnExit();
+
+    // Let the trace determine its declaration format.
+    FileIO.new_decl_format = null;
+    Daikon.mainHelper(
+        new String[] {"--no_text_output", "-o", inv_file.getPath(), trace.getPath()});
+    return inv_file;
+  }
+
+  /**
+   * Reads the invariants in a file and prints them as PrintInvariants does. Each call reads the
+   * file anew, so that nothing that was cached while printing is shared between calls.
+   *
+   * @param inv_file the .inv file
+   * @param format the output format
+   * @param threads the value of {@link PrintInvariants#dkconfig_print_threads}
+   * @return the printed invariants
+   */
+  private static byte[] print(File inv_file, OutputFormat format, int threads) throws Exception {
+    PptMap ppts = FileIO.read_serialized_pptmap(inv_file, false);
+    Daikon.output_format = format;
+    Daikon.no_text_output = false;
+    PrintInvariants.dkconfig_print_threads = threads;
+    assertFalse(PrintInvariants.must_format_in_order());
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    setOutStream(out);
+    try {
+      PrintInvariants.print_invariants(ppts);
+    } finally {
+      setOutStream(null);
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * Sets the stream to which PrintInvariants prints.
+   *
+   * @param out the stream, or null for System.out
+   */
+  private static void setOutStream(ByteArrayOutputStream out) throws Exception {
+    // Set private field using reflection
+    Field f = PrintInvariants.class.getDeclaredField("out_stream");
+    f.setAccessible(true);
+    f.set(null, out);
+  }
+
+  /**
+   * Checks that the invariants in a trace print the same on 4 threads as on 1 thread.
+   *
+   * @param name the name of a file in daikon/test/dtracediff
+   * @param expected text that the Daikon format output contains
+   * @param formats the output formats to check
+   */
+  private static void checkSameOutput(String name, String expected, OutputFormat... formats)
+      throws Exception {
+    int saved_threads = PrintInvariants.dkconfig_print_threads;
+    boolean saved_quiet = Daikon.dkconfig_quiet;
+    boolean saved_no_text_output = Daikon.no_text_output;
+    OutputFormat saved_format = Daikon.output_format;
+    Boolean saved_new_decl_format = FileIO.new_decl_format;
+    Daikon.dkconfig_quiet = true;
+    try {
+      File inv_file = infer(name);
+      for (OutputFormat format : formats) {
+        // Print in parallel first, so that no names have been computed and cached yet.
+        byte[] parallel = print(inv_file, format, 4);
+        byte[] sequential = print(inv_file, format, 1);
+        String text = new String(sequential, UTF_8);
+        if (format == OutputFormat.DAIKON) {
+          assertTrue(text, text.contains(expected));
+        }
+        assertEquals(format + " output of " + name, text, new String(parallel, UTF_8));
+      }
+    } finally {
+      PrintInvariants.dkconfig_print_threads = saved_threads;
+      Daikon.dkconfig_quiet = saved_quiet;
+      Daikon.no_text_output = saved_no_text_output;
+      Daikon.output_format = saved_format;
+      FileIO.new_decl_format = saved_new_decl_format;
+    }
+  }
+
+  /**
+   * The Hanoi invariants, in the old declaration format, print the same on several threads. In that
+   * format, only the Daikon format is printed on several threads (see {@link
+   * PrintInvariants#must_format_in_order}). The Java and JML formats are not compared: the names
+   * of its variables in those formats are cached when they are first computed, even across reads of
+   * the .inv file, so a second printing in the same run differs from the first.
+   */
+  @Test
+  public void testHanoi() throws Exception {
+    checkSameOutput(
+        "Hanoi.dtrace.gz", "six170.Hanoi.moveDisk(int, int):::ENTER", OutputFormat.DAIKON);
+  }
+
+  /**
+   * The invariants of 12 methods of AbstractFigure from the drawlet test suite, in the new
+   * declaration format, print the same on several threads in every format.
+   */
+  @Test
+  public void testDrawlet() throws Exception {
+    checkSameOutput(
+        "Drawlet-AbstractFigure.dtrace.gz",
+        "com.rolemodelsoft.drawlet.basics.AbstractFigure:::OBJECT",
+        OutputFormat.DAIKON,
+        OutputFormat.JAVA,
+        OutputFormat.JML);
+  }
+}
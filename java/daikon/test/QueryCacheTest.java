@@ -0,0 +1,156 @@
+package daikon.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assume.assumeTrue;
+
+import daikon.simplify.Lemma;
+import daikon.simplify.LemmaStack;
+import daikon.simplify.QueryCache;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link QueryCache}, and its use by {@link LemmaStack}. Instead of Simplify, the lemma stack
+ * talks to a fake prover: a shell script that answers "Valid." to a query that mentions TRUE and
+ * "Invalid." to any other, and logs each query that it answers.
+ */
+@SuppressWarnings("nullness") // testing code
+public class QueryCacheTest {
+
+  /** The fake prover. */
+  private static final String FAKE_PROVER =
+      String.join(
+          "\n",
+          "#!/bin/sh",
+          "printf '>\\t'",
+          "n=0",
+          "while IFS= read -r line; do",
+          "  case \"$line\" in",
+          "    ' '*|'(BG_'*|'(PROMPT_OFF)') ;;",
+          "    *)",
+          "      echo \"$line\" >> '%s'",
+          "      n=$((n+1))",
+          "      case \"$line\" in",
+          "        *TRUE*) echo \"$n: Valid.\" ;;",
+          "        *) echo \"$n: Invalid.\" ;;",
+          "      esac",
+          "      echo ;;",
+          "  esac",
+          "done",
+          "");
+
+  /** A temporary directory for the fake prover, its log, and the cache file. */
+  private File dir;
+
+  /** The file to which the fake prover logs the queries that it answers. */
+  private File log;
+
+  /** The value of the simplify.path property before the test. */
+  private String oldSimplifyPath;
+
+  @Before
+  public void setUp() throws IOException {
+    dir = Files.createTempDirectory("QueryCacheTest").toFile();
+    log = new File(dir, "queries.log");
+    oldSimplifyPath = System.getProperty("simplify.path");
+  }
+
+  @After
+  public void tearDown() {
+    if (oldSimplifyPath == null) {
+      System.clearProperty("simplify.path");
+    } else {
+      System.setProperty("simplify.path", oldSimplifyPath);
+    }
+    File[] files = dir.listFiles();
+    if (files != null) {
+      for (File f : files) {
+        f.delete();
+      }
+    }
+    dir.delete();
+  }
+
+  /** Installs the fake prover in place of Simplify. */
+  private void useFakeProver() throws IOException {
+    assumeTrue(new File("/bin/sh").canExecute());
+    File prover = new File(dir, "fake-simplify");
+    Files.write(prover.toPath(), String.format(FAKE_PROVER, log.getPath()).getBytes(UTF_8));
+    prover.setExecutable(true);
+    System.setProperty("simplify.path", prover.getPath());
+  }
+
+  /** Returns the queries that the fake prover has answered. */
+  private List<String> queries() throws IOException {
+    return log.exists() ? Files.readAllLines(log.toPath(), UTF_8) : Collections.emptyList();
+  }
+
+  /** Answers are found only in the context in which they were stored, and survive a restart. */
+  @Test
+  public void testStoreAndReload() throws IOException {
+    File file = new File(dir, "cache");
+    byte[] empty = QueryCache.initialContext();
+    byte[] assumed = QueryCache.extend(empty, "(EQ x y)");
+
+    QueryCache cache = new QueryCache(file);
+    assertNull(cache.lookup(empty, "(EQ y x)"));
+    cache.store(empty, "(EQ y x)", 'F');
+    cache.store(assumed, "(EQ y x)", 'T');
+    cache.store(assumed, "(EQ y z)", '?');
+    assertEquals(Character.valueOf('F'), cache.lookup(empty, "(EQ y x)"));
+    assertEquals(Character.valueOf('T'), cache.lookup(assumed, "(EQ y x)"));
+    assertNull(cache.lookup(assumed, "(EQ y z)"));
+    assertEquals(2, cache.hits());
+    assertEquals(2, cache.misses());
+    cache.save();
+
+    QueryCache reloaded = new QueryCache(file);
+    assertEquals(2, reloaded.size());
+    assertEquals(Character.valueOf('T'), reloaded.lookup(assumed, "(EQ y x)"));
+    assertNull(reloaded.lookup(QueryCache.extend(assumed, "(EQ y x)"), "(EQ y x)"));
+  }
+
+  /** A query is sent to the prover only once for each context in which it is asked. */
+  @Test
+  public void testLemmaStack() throws IOException {
+    useFakeProver();
+    File file = new File(dir, "cache");
+    Lemma lemma = new Lemma("x == y", "(EQ x y)");
+    Lemma valid = new Lemma("x == TRUE", "(EQ x TRUE)");
+    Lemma invalid = new Lemma("y == z", "(EQ y z)");
+
+    QueryCache cache = new QueryCache(file);
+    try (LemmaStack stack = new LemmaStack(cache)) {
+      assertEquals('F', stack.checkLemma(invalid));
+      stack.pushLemma(lemma);
+      assertEquals('T', stack.checkLemma(valid));
+      assertEquals('F', stack.checkLemma(invalid));
+      assertEquals('T', stack.checkLemma(valid));
+      stack.popLemma();
+      assertEquals('F', stack.checkLemma(invalid));
+      stack.pushLemma(lemma);
+      assertEquals('F', stack.checkLemma(invalid));
+    }
+    assertEquals(3, queries().size());
+    assertEquals(3, cache.hits());
+    assertEquals(3, cache.misses());
+
+    // A new run finds every answer in the cache file.
+    QueryCache reloaded = new QueryCache(file);
+    try (LemmaStack stack = new LemmaStack(reloaded)) {
+      stack.pushLemma(lemma);
+      assertEquals('T', stack.checkLemma(valid));
+      assertEquals('F', stack.checkLemma(invalid));
+    }
+    assertEquals(3, queries().size());
+    assertEquals(2, reloaded.hits());
+  }
+}
@@ -0,0 +1,87 @@
+package daikon.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import daikon.tools.runtimechecker.Property;
+import daikon.tools.runtimechecker.Runtime;
+import daikon.tools.runtimechecker.Violation;
+import org.junit.Test;
+
+/** Tests the sampling and the violation limit of the runtime checker. */
+public class RuntimeCheckerTest {
+
+  /**
+   * Returns a property that no other test uses.
+   *
+   * @param method the method of the property
+   * @return a property of the given method
+   */
+  private static Property property(String method) throws Exception {
+    return Property.get(
+        "<INVINFO> <ENTER> <DAIKON> x > 0 </DAIKON> <METHOD> " + method + " </METHOD> </INVINFO>");
+  }
+
+  /** A property is evaluated at the fraction of the times given by its sample rate. */
+  @Test
+  public void testSampleRate() throws Exception {
+    Runtime.PropertyCheck check = Runtime.check(property("RuntimeCheckerTest.sampled()"));
+    try {
+      Runtime.setSampleRate(check.property, 0.0);
+      long skipped = Runtime.getNumSkippedEvaluations();
+      for (int i = 0; i < 1000; i++) {
+        assertFalse(check.shouldEvaluate());
+      }
+      assertEquals(skipped + 1000, Runtime.getNumSkippedEvaluations());
+
+      Runtime.setSampleRate(check.property, 1.0);
+      long evaluations = Runtime.getNumEvaluations();
+      for (int i = 0; i < 1000; i++) {
+        assertTrue(check.shouldEvaluate());
+      }
+      assertEquals(evaluations + 1000, Runtime.getNumEvaluations());
+
+      Runtime.setSampleRate(check.property, 0.5);
+      int evaluated = 0;
+      for (int i = 0; i < 1000; i++) {
+        if (check.shouldEvaluate()) {
+          evaluated++;
+        }
+      }
+      // The expected number is 500, with a standard deviation of about 16.
+      assertTrue("evaluated " + evaluated + " times", evaluated > 300 && evaluated < 700);
+    } finally {
+      Runtime.setSampleRate(check.property, 1.0);
+    }
+  }
+
+  /** A property is disabled once it has been violated the maximum number of times. */
+  @Test
+  public void testMaxViolations() throws Exception {
+    Runtime.PropertyCheck check = Runtime.check(property("RuntimeCheckerTest.capped()"));
+    Violation violation = Violation.get(check.property);
+    try {
+      Runtime.resetViolations();
+      Runtime.setMaxViolations(3);
+      int evaluated = 0;
+      for (int i = 0; i < 10; i++) {
+        if (check.shouldEvaluate()) {
+          evaluated++;
+          check.violated(violation);
+        }
+      }
+      assertEquals(3, evaluated);
+      assertEquals(3, check.numViolations());
+      assertFalse(check.isEnabled());
+      assertEquals(3, Runtime.getViolations().size());
+
+      check.setEnabled(true);
+      assertTrue(check.shouldEvaluate());
+    } finally {
+      Runtime.setMaxViolations(0);
+      check.setEnabled(true);
+      Runtime.resetViolations();
+    }
+  }
+}
@@ -0,0 +1,163 @@
+package daikon.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import daikon.Daikon;
+import daikon.FileIO;
+import daikon.Ppt;
+import daikon.PptConditional;
+import daikon.PptMap;
+import daikon.PptTopLevel;
+import daikon.PrintInvariants;
+import daikon.ProglangType;
+import daikon.ValueTuple;
+import daikon.VarInfo;
+import daikon.inv.DummyInvariant;
+import daikon.split.PptSplitter;
+import daikon.split.Splitter;
+import daikon.split.SplitterList;
+import java.io.File;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import org.checkerframework.checker.initialization.qual.UnknownInitialization;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.Test;
+
+/**
+ * Tests that batching the samples at program points with splitters (see {@link
+ * PptSplitter#dkconfig_batch_size}) does not change the invariants of the conditional program
+ * points.
+ */
+@SuppressWarnings("nullness") // testing code
+public class SplitBatchTest {
+
+  /** Splits on whether the first peg argument of a Hanoi method is peg 1. */
+  public static final class PegSplitter extends Splitter {
+    static final long serialVersionUID = 20261019L;
+
+    /** The peg argument, or null if the program point has none. */
+    private @Nullable VarInfo peg_varinfo;
+
+    /** Create a prototype (factory) splitter. */
+    public PegSplitter() {}
+
+    /** Create a new instantiated PegSplitter. */
+    public PegSplitter(@UnknownInitialization(Ppt.class) Ppt ppt) {
+      peg_varinfo = ppt.find_var_by_name("pegA");
+      instantiated = true;
+    }
+
+    @Override
+    public Splitter instantiateSplitter(@UnknownInitialization(Ppt.class) Ppt ppt) {
+      return new PegSplitter(ppt);
+    }
+
+    @Override
+    public boolean valid() {
+      return (peg_varinfo != null) && (peg_varinfo.file_rep_type == ProglangType.INT);
+    }
+
+    @Override
+    public boolean test(ValueTuple vt) {
+      return peg_varinfo.getIntValue(vt) == 1;
+    }
+
+    @Override
+    public String condition() {
+      return "pegA == 1";
+    }
+
+    @Override
+    public @Nullable DummyInvariant getDummyInvariant() {
+      return null;
+    }
+  }
+
+  /**
+   * Runs Daikon on a trace with the given batch size, and returns the printed invariants of every
+   * program point, including the conditional ones.
+   *
+   * @param name the name of a file in daikon/test/dtracediff
+   * @param batch_size the value of {@link PptSplitter#dkconfig_batch_size}
+   * @return the printed invariants
+   */
+  private static String infer(String name, int batch_size) throws Exception {
+    File trace = File.createTempFile("SplitBatchTest", "-" + name);
+    trace.deleteOnExit();
+    try (InputStream in = SplitBatchTest.class.getResourceAsStream("dtracediff/" + name)) {
+      Files.copy(in, trace.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+    File inv_file = File.createTempFile("SplitBatchTest", ".inv.gz");
+    inv_file.deleteOnExit();
+
+    PptSplitter.dkconfig_batch_size = batch_size;
+    // Let the trace determine its declaration format.
+    FileIO.new_decl_format = null;
+    Daikon.mainHelper(
+        new String[] {"--no_text_output", "-o", inv_file.getPath(), trace.getPath()});
+
+    PptMap ppts = FileIO.read_serialized_pptmap(inv_file, false);
+    StringWriter sw = new StringWriter();
+    try (PrintWriter pw = new PrintWriter(sw)) {
+      for (PptTopLevel ppt : ppts.ppt_all_iterable()) {
+        PrintInvariants.print_invariants(ppt, pw, ppts);
+      }
+    }
+    return sw.toString();
+  }
+
+  /** Batching samples gives the conditional program points the same invariants. */
+  @Test
+  public void testBatchSize() throws Exception {
+    int saved_batch_size = PptSplitter.dkconfig_batch_size;
+    boolean saved_quiet = Daikon.dkconfig_quiet;
+    boolean saved_no_text_output = Daikon.no_text_output;
+    Boolean saved_new_decl_format = FileIO.new_decl_format;
+    Daikon.dkconfig_quiet = true;
+    SplitterList.put("six170.Hanoi", new Splitter[] {new PegSplitter()});
+    try {
+      String unbatched = infer("Hanoi.dtrace.gz", 1);
+      String batched = infer("Hanoi.dtrace.gz", 256);
+      assertTrue(unbatched, unbatched.contains("pegA == 1"));
+      assertEquals(unbatched, batched);
+    } finally {
+      SplitterList.clear();
+      PptSplitter.dkconfig_batch_size = saved_batch_size;
+      Daikon.dkconfig_quiet = saved_quiet;
+      Daikon.no_text_output = saved_no_text_output;
+      FileIO.new_decl_format = saved_new_decl_format;
+    }
+  }
+
+  /**
+   * Batching gives the same invariants at the conditional program points of the default splitter
+   * ({@code return == true}) of a method with orig, sequence, and derived variables. The trace is
+   * the samples of AbstractFigure.intersects(Figure) from the drawlet test suite; it has
+   * consecutive equal samples on which equality sets with a missing leader are split.
+   */
+  @Test
+  public void testBatchSizeDerived() throws Exception {
+    int saved_batch_size = PptSplitter.dkconfig_batch_size;
+    boolean saved_quiet = Daikon.dkconfig_quiet;
+    boolean saved_no_text_output = Daikon.no_text_output;
+    Boolean saved_new_decl_format = FileIO.new_decl_format;
+    Daikon.dkconfig_quiet = true;
+    try {
+      String unbatched = infer("Drawlet-intersects.dtrace.gz", 1);
+      String batched = infer("Drawlet-intersects.dtrace.gz", 256);
+      assertTrue(unbatched, unbatched.contains("return == true"));
+      String equal = "this.locationListeners[] == orig(this.locationListeners[])";
+      assertTrue(unbatched, unbatched.contains(equal));
+      assertEquals(unbatched, batched);
+    } finally {
+      PptSplitter.dkconfig_batch_size = saved_batch_size;
+      Daikon.dkconfig_quiet = saved_quiet;
+      Daikon.no_text_output = saved_no_text_output;
+      FileIO.new_decl_format = saved_new_decl_format;
+    }
+  }
+}
@@ -0,0 +1,410 @@
+package daikon.test.bench;
+
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Runs benchmarks in the manner of JMH's average-time mode with per-invocation setup: for each
+ * benchmark, some warmup invocations whose results are discarded, then some measured invocations.
+ * Before every invocation, the benchmark's {@link Benchmark#setUp} method prepares its state, and
+ * after it, {@link Benchmark#tearDown} cleans up; only {@link Benchmark#run} is timed.
+ *
+ * <p>Besides the time per invocation, the harness reports the bytes allocated per invocation by
+ * the thread that runs the benchmark (like JMH's {@code gc.alloc.rate.norm}), and the number of
+ * garbage collections and the time they took during the measured invocations. The allocation is
+ * not reported if the JVM cannot measure it. A benchmark may report further metrics of its own;
+ * see {@link Benchmark#report}.
+ */
+public final class Harness {
+
+  /** A benchmark. */
+  public abstract static class Benchmark {
+
+    /** The name of the benchmark. */
+    public final String name;
+
+    /** The metrics reported by the current invocation of {@link #run}; see {@link #report}. */
+    final Map<String, Metric> reported = new LinkedHashMap<>();
+
+    /**
+     * Creates a benchmark.
+     *
+     * @param name the name of the benchmark
+     */
+    protected Benchmark(String name) {
+      this.name = name;
+    }
+
+    /**
+     * Reports a secondary metric for the current invocation, like a JMH auxiliary counter. The
+     * harness averages it over the measured invocations. A metric with the name of one that the
+     * harness measures, such as {@code gc.alloc.rate.norm}, replaces the harness's measurement;
+     * this is for benchmarks whose work is done in another process.
+     *
+     * @param metric the name of the metric
+     * @param score the value of the metric for the current invocation
+     * @param unit the unit of the metric
+     */
+    protected final void report(String metric, double score, String unit) {
+      reported.put(metric, new Metric(score, unit));
+    }
+
+    /**
+     * Prepares the state for one invocation of {@link #run}. It is not timed.
+     *
+     * @throws Exception if the state cannot be prepared
+     */
+    public void setUp() throws Exception {}
+
+    /**
+     * Performs the operation that is measured.
+     *
+     * @throws Exception if the operation fails
+     */
+    public abstract void run() throws Exception;
+
+    /**
+     * Cleans up after one invocation of {@link #run}. It is not timed, but it may {@link #report}
+     * metrics of the invocation, such as the heap retained by what {@link #run} built.
+     *
+     * @throws Exception if the state cannot be cleaned up
+     */
+    public void tearDown() throws Exception {}
+  }
+
+  /** The value of a metric, with its unit. */
+  public static final class Metric {
+
+    /** The value. */
+    public final double score;
+
+    /** The unit, such as "B/op". */
+    public final String unit;
+
+    /**
+     * Creates a metric.
+     *
+     * @param score the value
+     * @param unit the unit
+     */
+    public Metric(double score, String unit) {
+      this.score = score;
+      this.unit = unit;
+    }
+  }
+
+  /** The name of the secondary metric for the bytes allocated per invocation. */
+  public static final String ALLOC = "gc.alloc.rate.norm";
+
+  /** The name of the secondary metric for the number of garbage collections. */
+  public static final String GC_COUNT = "gc.count";
+
+  /** The name of the secondary metric for the time spent in garbage collection. */
+  public static final String GC_TIME = "gc.time";
+
+  /** The results of running one benchmark. */
+  public static final class Result {
+
+    /** The name of the benchmark. */
+    public final String name;
+
+    /** A description of the parameters of the benchmark. */
+    public final String params;
+
+    /** The time of each measured invocation, in milliseconds. */
+    public final double[] ms;
+
+    /**
+     * The secondary metrics, in the order in which they are printed: the bytes allocated per
+     * invocation ({@link #ALLOC}) if known, the garbage collections ({@link #GC_COUNT}, {@link
+     * #GC_TIME}), and the metrics that the benchmark reported.
+     */
+    public final Map<String, Metric> secondary;
+
+    /**
+     * Creates a result.
+     *
+     * @param name the name of the benchmark
+     * @param params a description of the parameters of the benchmark
+     * @param ms the time of each measured invocation, in milliseconds
+     * @param secondary the secondary metrics
+     */
+    Result(String name, String params, double[] ms, Map<String, Metric> secondary) {
+      this.name = name;
+      this.params = params;
+      this.ms = ms;
+      this.secondary = secondary;
+    }
+
+    /**
+     * Returns the mean time per invocation.
+     *
+     * @return the mean time per invocation, in milliseconds
+     */
+    public double mean() {
+      double sum = 0;
+      for (double m : ms) {
+        sum += m;
+      }
+      return sum / ms.length;
+    }
+
+    /**
+     * Returns the sample standard deviation of the time per invocation.
+     *
+     * @return the standard deviation of the time per invocation, in milliseconds
+     */
+    public double stddev() {
+      if (ms.length < 2) {
+        return 0;
+      }
+      double mean = mean();
+      double sum = 0;
+      for (double m : ms) {
+        sum += (m - mean) * (m - mean);
+      }
+      return Math.sqrt(sum / (ms.length - 1));
+    }
+  }
+
+  /** The number of invocations of each benchmark whose results are discarded. */
+  private final int warmups;
+
+  /** The number of invocations of each benchmark that are measured. */
+  private final int iterations;
+
+  /** Where to print the results as they are obtained. */
+  private final PrintStream out;
+
+  /** The results so far. */
+  private final List<Result> results = new ArrayList<>();
+
+  /** The JVM's thread bean, if it can measure the memory allocated by a thread; else null. */
+  private final com.sun.management.@Nullable ThreadMXBean allocation_bean;
+
+  /**
+   * Creates a harness.
+   *
+   * @param warmups the number of invocations of each benchmark whose results are discarded
+   * @param iterations the number of invocations of each benchmark that are measured
+   * @param out where to print the results as they are obtained
+   */
+  public Harness(int warmups, int iterations, PrintStream out) {
+    this.warmups = warmups;
+    this.iterations = iterations;
+    this.out = out;
+    ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    com.sun.management.ThreadMXBean ab = null;
+    if (bean instanceof com.sun.management.ThreadMXBean) {
+      ab = (com.sun.management.ThreadMXBean) bean;
+      if (ab.isThreadAllocatedMemorySupported()) {
+        ab.setThreadAllocatedMemoryEnabled(true);
+      } else {
+        ab = null;
+      }
+    }
+    allocation_bean = ab;
+    out.printf(
+        Locale.ROOT,
+        "%-20s %12s %10s %12s %14s %6s %8s  %s%n",
+        "benchmark",
+        "ms/op",
+        "stddev",
+        "min ms",
+        "alloc B/op",
+        "gc",
+        "gc ms",
+        "params");
+  }
+
+  /**
+   * Runs a benchmark, prints its results, and records them.
+   *
+   * @param b the benchmark
+   * @param params a description of the parameters of the benchmark
+   * @return the results
+   * @throws Exception if the benchmark fails
+   */
+  public Result measure(Benchmark b, String params) throws Exception {
+    for (int i = 0; i < warmups; i++) {
+      b.setUp();
+      b.run();
+      b.tearDown();
+    }
+    double[] ms = new double[iterations];
+    long allocated = 0;
+    long gc_count = 0;
+    long gc_ms = 0;
+    Map<String, Metric> reported = new LinkedHashMap<>();
+    long thread = Thread.currentThread().getId();
+    for (int i = 0; i < iterations; i++) {
+      b.setUp();
+      b.reported.clear();
+      long gc_count_before = gc_count();
+      long gc_ms_before = gc_ms();
+      long alloc_before =
+          (allocation_bean == null) ? 0 : allocation_bean.getThreadAllocatedBytes(thread);
+      long start = System.nanoTime();
+      b.run();
+      long elapsed = System.nanoTime() - start;
+      if (allocation_bean != null) {
+        allocated += allocation_bean.getThreadAllocatedBytes(thread) - alloc_before;
+      }
+      gc_count += gc_count() - gc_count_before;
+      gc_ms += gc_ms() - gc_ms_before;
+      ms[i] = elapsed / 1e6;
+      b.tearDown();
+      for (Map.Entry<String, Metric> e : b.reported.entrySet()) {
+        Metric sum = reported.get(e.getKey());
+        double score = e.getValue().score / iterations;
+        reported.put(
+            e.getKey(), new Metric((sum == null) ? score : sum.score + score, e.getValue().unit));
+      }
+    }
+
+    Map<String, Metric> secondary = new LinkedHashMap<>();
+    if (allocation_bean != null) {
+      secondary.put(ALLOC, new Metric(allocated / iterations, "B/op"));
+    }
+    secondary.put(GC_COUNT, new Metric(gc_count, "counts"));
+    secondary.put(GC_TIME, new Metric(gc_ms, "ms"));
+    secondary.putAll(reported);
+    Result result = new Result(b.name, params, ms, secondary);
+    results.add(result);
+
+    double min = Double.MAX_VALUE;
+    for (double m : ms) {
+      min = Math.min(min, m);
+    }
+    out.printf(
+        Locale.ROOT,
+        "%-20s %12.3f %10.3f %12.3f %14s %6s %8s  %s%n",
+        b.name,
+        result.mean(),
+        result.stddev(),
+        min,
+        format(secondary.get(ALLOC)),
+        format(secondary.get(GC_COUNT)),
+        format(secondary.get(GC_TIME)),
+        params);
+    for (Map.Entry<String, Metric> e : reported.entrySet()) {
+      if (!e.getKey().equals(ALLOC)
+          && !e.getKey().equals(GC_COUNT)
+          && !e.getKey().equals(GC_TIME)) {
+        out.printf(
+            Locale.ROOT,
+            "%-20s %12.3f %s%n",
+            "  " + e.getKey(),
+            e.getValue().score,
+            e.getValue().unit);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Formats a metric for the table of results.
+   *
+   * @param m a metric, or null if it is not known
+   * @return the value of the metric, rounded to an integer, or "n/a"
+   */
+  private static String format(@Nullable Metric m) {
+    return (m == null) ? "n/a" : String.format(Locale.ROOT, "%.0f", m.score);
+  }
+
+  /**
+   * Returns the results as a JSON array in the layout of JMH's JSON result format, so that tools
+   * that read JMH results can read them.
+   *
+   * @return the results as JSON
+   */
+  public String toJson() {
+    StringBuilder sb = new StringBuilder("[\n");
+    for (int i = 0; i < results.size(); i++) {
+      Result r = results.get(i);
+      sb.append("  {\n");
+      sb.append("    \"benchmark\": ").append(quote(r.name)).append(",\n");
+      sb.append("    \"mode\": \"avgt\",\n");
+      sb.append("    \"warmupIterations\": ").append(warmups).append(",\n");
+      sb.append("    \"measurementIterations\": ").append(iterations).append(",\n");
+      sb.append("    \"params\": {");
+      String[] params = r.params.isEmpty() ? new String[0] : r.params.split(" ");
+      for (int j = 0; j < params.length; j++) {
+        int eq = params[j].indexOf('=');
+        sb.append((j == 0) ? "" : ", ");
+        sb.append(quote(params[j].substring(0, eq)));
+        sb.append(": ");
+        sb.append(quote(params[j].substring(eq + 1)));
+      }
+      sb.append("},\n");
+      sb.append("    \"primaryMetric\": {\n");
+      sb.append(String.format(Locale.ROOT, "      \"score\": %.6f,%n", r.mean()));
+      sb.append(String.format(Locale.ROOT, "      \"scoreError\": %.6f,%n", r.stddev()));
+      sb.append("      \"scoreUnit\": \"ms/op\",\n");
+      sb.append("      \"rawData\": [[");
+      for (int j = 0; j < r.ms.length; j++) {
+        sb.append((j == 0) ? "" : ", ");
+        sb.append(String.format(Locale.ROOT, "%.6f", r.ms[j]));
+      }
+      sb.append("]]\n");
+      sb.append("    },\n");
+      sb.append("    \"secondaryMetrics\": {");
+      int j = 0;
+      for (Map.Entry<String, Metric> e : r.secondary.entrySet()) {
+        sb.append((j++ == 0) ? "\n" : ",\n");
+        sb.append("      ").append(quote(e.getKey())).append(": {\"score\": ");
+        sb.append(String.format(Locale.ROOT, "%.6f", e.getValue().score));
+        sb.append(", \"scoreUnit\": ").append(quote(e.getValue().unit)).append("}");
+      }
+      sb.append("\n");
+      sb.append("    }\n");
+      sb.append((i == results.size() - 1) ? "  }\n" : "  },\n");
+    }
+    return sb.append("]\n").toString();
+  }
+
+  /**
+   * Returns a string as a JSON string literal. The strings used here contain no characters that
+   * need escaping other than quotes and backslashes.
+   *
+   * @param s a string
+   * @return the JSON string literal for s
+   */
+  private static String quote(String s) {
+    return "\"" + s.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+  }
+
+  /**
+   * Returns the total number of garbage collections so far.
+   *
+   * @return the total number of garbage collections so far
+   */
+  private static long gc_count() {
+    long count = 0;
+    for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+      count += Math.max(0, gc.getCollectionCount());
+    }
+    return count;
+  }
+
+  /**
+   * Returns the total time spent in garbage collection so far.
+   *
+   * @return the total time spent in garbage collection so far, in milliseconds
+   */
+  private static long gc_ms() {
+    long time = 0;
+    for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+      time += Math.max(0, gc.getCollectionTime());
+    }
+    return time;
+  }
+}
@@ -0,0 +1,576 @@
+package daikon.test.bench;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import daikon.Daikon;
+import daikon.DynamicConstants;
+import daikon.FileIO;
+import daikon.PptMap;
+import daikon.PptTopLevel;
+import daikon.PrintInvariants;
+import daikon.ValueTuple;
+import daikon.VarInfo;
+import daikon.suppress.NIS;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.plumelib.options.Option;
+import org.plumelib.options.Options;
+
+/**
+ * Benchmarks for the stages of Daikon's inference and I/O, over synthetic workloads (see {@link
+ * Workload}). It is not part of the unit tests; run it with {@code make benchmark} in the {@code
+ * java} directory, or as:
+ *
+ * <pre>java -Xmx2g daikon.test.bench.InferenceBenchmarks [options]</pre>
+ *
+ * <p>Each workload option takes a comma-separated list of values, and every combination of values
+ * is benchmarked. The benchmarks are:
+ *
+ * <dl>
+ *   <dt>read
+ *   <dd>{@link FileIO} reading the data trace, including the computation of orig and derived
+ *       variables, without inference ({@link FileIO#dkconfig_read_samples_only}).
+ *   <dt>add_bottom_up
+ *   <dd>{@link PptTopLevel#add_bottom_up} for every sample, on fresh program points.
+ *   <dt>equality
+ *   <dd>{@code PptSliceEquality.add} for every sample, on fresh program points. No invariants are
+ *       instantiated, so this is the cost of maintaining the equality sets alone.
+ *   <dt>dynamic_constants
+ *   <dd>{@link DynamicConstants#add} for every sample, on fresh program points, including the
+ *       invariants it instantiates when variables stop being constant.
+ *   <dt>nis
+ *   <dd>{@link NIS#process_falsified_invs} for every sample, on program points that have already
+ *       seen every sample. This is the cost that non-instantiating suppression adds to each sample
+ *       once the invariants have settled.
+ *   <dt>print
+ *   <dd>{@link PrintInvariants#print_invariants} for the invariants that Daikon infers.
+ *   <dt>end_to_end
+ *   <dd>Daikon, run on the declaration and data trace files, including printing the invariants.
+ * </dl>
+ *
+ * <p>Everything that Daikon prints while the benchmarks run is discarded.
+ */
+public final class InferenceBenchmarks {
+
+  /** This class is a collection of methods; it does not represent anything. */
+  private InferenceBenchmarks() {
+    throw new Error("do not instantiate");
+  }
+
+  /** The usage message for this program. */
+  private static final String usage = "daikon.test.bench.InferenceBenchmarks [options]";
+
+  /** The benchmarks to run. */
+  @Option("Comma-separated benchmarks to run")
+  public static String benchmarks =
+      "read,add_bottom_up,equality,dynamic_constants,nis,print,end_to_end";
+
+  /** The numbers of methods. */
+  @Option("Comma-separated numbers of methods (each has an ENTER and an EXIT program point)")
+  public static String ppts = "20";
+
+  /** The numbers of scalar variables. */
+  @Option("Comma-separated numbers of int variables per program point")
+  public static String scalars = "10";
+
+  /** The numbers of array variables. */
+  @Option("Comma-separated numbers of int[] variables per program point")
+  public static String arrays = "2";
+
+  /** The maximum array lengths. */
+  @Option("Comma-separated maximum array lengths")
+  public static String array_size = "10";
+
+  /** The equality densities. */
+  @Option("Comma-separated probabilities that a scalar is a copy of an earlier scalar")
+  public static String equality = "0.3";
+
+  /** The numbers of calls. */
+  @Option("Comma-separated numbers of calls of each method")
+  public static String calls = "200";
+
+  /** The seed for the workloads. */
+  @Option("Seed for the random values of the workloads")
+  public static long seed = 20261019L;
+
+  /** The number of warmup invocations. */
+  @Option("Number of warmup invocations of each benchmark")
+  public static int warmup = 3;
+
+  /** The number of measured invocations. */
+  @Option("Number of measured invocations of each benchmark")
+  public static int iterations = 5;
+
+  /** The file to which JSON results are written. */
+  @Option("Write the results, in JMH's JSON format, to this file")
+  public static @Nullable File json = null;
+
+  /** The directory in which the workloads are written. */
+  @Option("Directory in which to write the workloads (default: a temporary directory)")
+  public static @Nullable File dir = null;
+
+  /** The workload that the benchmarks are currently run on. */
+  private static @MonotonicNonNull Workload workload;
+
+  /** The samples of {@link #workload} that reach inference, in order; see {@link #record}. */
+  private static List<Sample> samples = new ArrayList<>();
+
+  /**
+   * For each program point of {@link #workload}, the {@link VarInfo#canBeMissing} flag of each
+   * variable after the data trace is read. Reading the data trace sets this flag and {@code
+   * Derivation.missing_array_bounds}, and inference depends on both, so the samples are replayed on
+   * program points whose flags are set as if the data trace had been read.
+   */
+  private static Map<String, boolean[]> can_be_missing = new HashMap<>();
+
+  /**
+   * For each program point of {@link #workload}, the {@code Derivation.missing_array_bounds} flag
+   * of each variable after the data trace is read; false for variables that are not derived.
+   */
+  private static Map<String, boolean[]> missing_array_bounds = new HashMap<>();
+
+  /**
+   * A sample that reaches inference: the name of its program point and its values, including the
+   * orig and derived variables.
+   */
+  private static final class Sample {
+    /** The name of the program point. */
+    final String ppt_name;
+
+    /** The values, as passed to {@link PptTopLevel#add_bottom_up}. */
+    final ValueTuple vt;
+
+    /**
+     * Creates a sample.
+     *
+     * @param ppt_name the name of the program point
+     * @param vt the values
+     */
+    Sample(String ppt_name, ValueTuple vt) {
+      this.ppt_name = ppt_name;
+      this.vt = vt;
+    }
+  }
+
+  /**
+   * Generates the workloads and runs the benchmarks on each.
+   *
+   * @param args command-line options
+   * @throws Exception if a benchmark fails
+   */
+  public static void main(String[] args) throws Exception {
+    Options options = new Options(usage, InferenceBenchmarks.class);
+    String[] remaining = options.parse(true, args);
+    if (remaining.length != 0) {
+      System.err.println("Unexpected argument: " + remaining[0]);
+      options.printUsage();
+      System.exit(1);
+    }
+    List<String> to_run = Arrays.asList(benchmarks.split(","));
+
+    File work_dir = dir;
+    if (work_dir == null) {
+      work_dir = Files.createTempDirectory("daikon-bench").toFile();
+      work_dir.deleteOnExit();
+    }
+    work_dir.mkdirs();
+
+    // Daikon prints progress and invariants to System.out; discard them.
+    PrintStream stdout = System.out;
+    System.setOut(
+        new PrintStream(
+            new OutputStream() {
+              @Override
+              public void write(int b) {}
+
+              @Override
+              public void write(byte[] b, int off, int len) {}
+            },
+            false,
+            UTF_8.name()));
+    Daikon.dkconfig_quiet = true;
+    Daikon.setup_proto_invs();
+    Daikon.setup_NISuppression();
+
+    Harness harness = new Harness(warmup, iterations, stdout);
+    for (int num_ppts : ints(ppts)) {
+      for (int num_scalars : ints(scalars)) {
+        for (int num_arrays : ints(arrays)) {
+          for (int size : ints(array_size)) {
+            for (String density : equality.split(",")) {
+              for (int num_calls : ints(calls)) {
+                workload =
+                    new Workload(
+                        work_dir,
+                        num_ppts,
+                        num_scalars,
+                        num_arrays,
+                        size,
+                        Double.parseDouble(density),
+                        num_calls,
+                        seed);
+                try {
+                  run_all(harness, to_run, workload);
+                } finally {
+                  workload.decls.delete();
+                  workload.dtrace.delete();
+                  workload.inv.delete();
+                }
+              }
+            }
+          }
+        }
+      }
+    }
+
+    if (json != null) {
+      Files.write(json.toPath(), harness.toJson().getBytes(UTF_8));
+    }
+  }
+
+  /**
+   * Runs the requested benchmarks on one workload.
+   *
+   * @param harness the harness that runs the benchmarks
+   * @param to_run the names of the benchmarks to run
+   * @param w the workload
+   * @throws Exception if a benchmark fails
+   */
+  private static void run_all(Harness harness, List<String> to_run, Workload w) throws Exception {
+    String params = w.toString();
+    record(w);
+
+    for (String name : to_run) {
+      Harness.Benchmark b;
+      switch (name) {
+        case "read":
+          b = new ReadBenchmark();
+          break;
+        case "add_bottom_up":
+          b = new AddBottomUpBenchmark();
+          break;
+        case "equality":
+          b = new EqualityBenchmark();
+          break;
+        case "dynamic_constants":
+          b = new DynamicConstantsBenchmark();
+          break;
+        case "nis":
+          b = new NISBenchmark();
+          break;
+        case "print":
+          b = new PrintBenchmark();
+          break;
+        case "end_to_end":
+          b = new EndToEndBenchmark();
+          break;
+        default:
+          throw new Daikon.UserError("Unknown benchmark: " + name);
+      }
+      harness.measure(b, params);
+    }
+  }
+
+  /**
+   * Reads the workload once, and records in {@link #samples} the samples that reach inference:
+   * those at the EXIT1 program points, after their orig and derived variables are computed.
+   *
+   * @param w the workload
+   * @throws IOException if the workload cannot be read
+   */
+  private static void record(Workload w) throws IOException {
+    samples = new ArrayList<>();
+    PptMap all_ppts = read_decls(w);
+    FileIO.Processor recorder =
+        new FileIO.Processor() {
+          @Override
+          @SuppressWarnings("nullness:contracts.precondition") // called while reading a trace
+          public void process_sample(
+              PptMap all_ppts, PptTopLevel ppt, ValueTuple vt, @Nullable Integer nonce) {
+            // Fill in the orig and derived variables, but do not infer.
+            boolean saved = FileIO.dkconfig_read_samples_only;
+            FileIO.dkconfig_read_samples_only = true;
+            try {
+              FileIO.process_sample(all_ppts, ppt, vt, nonce);
+            } finally {
+              FileIO.dkconfig_read_samples_only = saved;
+            }
+            if (ppt.ppt_name.isExitPoint()) {
+              samples.add(new Sample(ppt.name(), new ValueTuple(vt.vals, vt.mods)));
+            }
+          }
+        };
+    FileIO.read_data_trace_file(w.dtrace.getPath(), all_ppts, recorder, false, false);
+
+    can_be_missing = new HashMap<>();
+    missing_array_bounds = new HashMap<>();
+    for (PptTopLevel ppt : all_ppts.pptIterable()) {
+      boolean[] missing = new boolean[ppt.var_infos.length];
+      boolean[] bounds = new boolean[ppt.var_infos.length];
+      for (int i = 0; i < missing.length; i++) {
+        VarInfo vi = ppt.var_infos[i];
+        missing[i] = vi.canBeMissing;
+        bounds[i] = (vi.derived != null) && vi.derived.missing_array_bounds;
+      }
+      can_be_missing.put(ppt.name(), missing);
+      missing_array_bounds.put(ppt.name(), bounds);
+    }
+  }
+
+  /**
+   * Reads the declarations of the current workload into a new map.
+   *
+   * @param w the workload
+   * @return the program points of the workload, with no samples
+   * @throws IOException if the declarations cannot be read
+   */
+  private static PptMap read_decls(Workload w) throws IOException {
+    PptMap all_ppts = FileIO.read_declaration_files(Collections.singleton(w.decls));
+    Daikon.all_ppts = all_ppts;
+    return all_ppts;
+  }
+
+  /**
+   * Sets the flags that record missing values, for the variables of the given program points, as
+   * reading the data trace of the current workload does. See {@link #can_be_missing}.
+   *
+   * @param all_ppts the program points
+   */
+  private static void set_missing_flags(PptMap all_ppts) {
+    for (PptTopLevel ppt : all_ppts.pptIterable()) {
+      boolean[] missing = can_be_missing.get(ppt.name());
+      boolean[] bounds = missing_array_bounds.get(ppt.name());
+      if (missing == null || bounds == null) {
+        continue;
+      }
+      for (int i = 0; i < missing.length; i++) {
+        VarInfo vi = ppt.var_infos[i];
+        vi.canBeMissing = missing[i];
+        if (vi.derived != null) {
+          vi.derived.missing_array_bounds = bounds[i];
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns, for each recorded sample, its program point in the given map.
+   *
+   * @param all_ppts the program points
+   * @return the program point of each sample in {@link #samples}
+   */
+  private static PptTopLevel[] ppts_of_samples(PptMap all_ppts) {
+    PptTopLevel[] result = new PptTopLevel[samples.size()];
+    for (int i = 0; i < result.length; i++) {
+      PptTopLevel ppt = all_ppts.get(samples.get(i).ppt_name);
+      assert ppt != null : "@AssumeAssertion(nullness): the same declarations were read";
+      result[i] = ppt;
+    }
+    return result;
+  }
+
+  /**
+   * Parses a comma-separated list of integers.
+   *
+   * @param list the list
+   * @return the integers
+   */
+  private static int[] ints(String list) {
+    String[] parts = list.split(",");
+    int[] result = new int[parts.length];
+    for (int i = 0; i < parts.length; i++) {
+      result[i] = Integer.parseInt(parts[i].trim());
+    }
+    return result;
+  }
+
+  /** A benchmark that runs on fresh program points for the current workload. */
+  private abstract static class FreshPptsBenchmark extends Harness.Benchmark {
+
+    /** The program points, with no samples. */
+    PptMap all_ppts = new PptMap();
+
+    /** The program point of each sample. */
+    PptTopLevel[] sample_ppts = new PptTopLevel[0];
+
+    /**
+     * Creates a benchmark.
+     *
+     * @param name the name of the benchmark
+     */
+    FreshPptsBenchmark(String name) {
+      super(name);
+    }
+
+    @Override
+    public void setUp() throws Exception {
+      assert workload != null : "@AssumeAssertion(nullness): set before benchmarks are run";
+      all_ppts = read_decls(workload);
+      set_missing_flags(all_ppts);
+      sample_ppts = ppts_of_samples(all_ppts);
+    }
+  }
+
+  /** Reading the data trace, without inference. */
+  private static final class ReadBenchmark extends FreshPptsBenchmark {
+    /** Creates the benchmark. */
+    ReadBenchmark() {
+      super("read");
+    }
+
+    @Override
+    public void run() throws Exception {
+      assert workload != null : "@AssumeAssertion(nullness): set before benchmarks are run";
+      boolean saved = FileIO.dkconfig_read_samples_only;
+      FileIO.dkconfig_read_samples_only = true;
+      try {
+        FileIO.read_data_trace_file(workload.dtrace.getPath(), all_ppts);
+      } finally {
+        FileIO.dkconfig_read_samples_only = saved;
+      }
+    }
+  }
+
+  /** Inference of every sample. */
+  private static final class AddBottomUpBenchmark extends FreshPptsBenchmark {
+    /** Creates the benchmark. */
+    AddBottomUpBenchmark() {
+      super("add_bottom_up");
+    }
+
+    @Override
+    @SuppressWarnings("nullness:contracts.precondition") // NIS is set up in main
+    public void run() {
+      for (int i = 0; i < sample_ppts.length; i++) {
+        sample_ppts[i].add_bottom_up(samples.get(i).vt, 1);
+      }
+    }
+  }
+
+  /** The equality sets alone. */
+  private static final class EqualityBenchmark extends FreshPptsBenchmark {
+    /** Creates the benchmark. */
+    EqualityBenchmark() {
+      super("equality");
+    }
+
+    @Override
+    public void run() {
+      for (int i = 0; i < sample_ppts.length; i++) {
+        PptTopLevel ppt = sample_ppts[i];
+        if (ppt.equality_view != null) {
+          ppt.equality_view.add(samples.get(i).vt, 1);
+        }
+      }
+    }
+  }
+
+  /** The dynamic constants alone. */
+  private static final class DynamicConstantsBenchmark extends FreshPptsBenchmark {
+    /** Creates the benchmark. */
+    DynamicConstantsBenchmark() {
+      super("dynamic_constants");
+    }
+
+    @Override
+    public void setUp() throws Exception {
+      super.setUp();
+      for (PptTopLevel ppt : sample_ppts) {
+        if (ppt.constants == null) {
+          ppt.constants = new DynamicConstants(ppt);
+        }
+      }
+    }
+
+    @Override
+    public void run() {
+      for (int i = 0; i < sample_ppts.length; i++) {
+        DynamicConstants constants = sample_ppts[i].constants;
+        assert constants != null : "@AssumeAssertion(nullness): set in setUp";
+        constants.add(samples.get(i).vt, 1);
+      }
+    }
+  }
+
+  /** Non-instantiating suppression alone, once the invariants have settled. */
+  private static final class NISBenchmark extends FreshPptsBenchmark {
+    /** Creates the benchmark. */
+    NISBenchmark() {
+      super("nis");
+    }
+
+    @Override
+    @SuppressWarnings("nullness:contracts.precondition") // NIS is set up in main
+    public void setUp() throws Exception {
+      super.setUp();
+      for (int i = 0; i < sample_ppts.length; i++) {
+        sample_ppts[i].add_bottom_up(samples.get(i).vt, 1);
+      }
+    }
+
+    @Override
+    @SuppressWarnings("nullness:contracts.precondition") // NIS is set up in main
+    public void run() {
+      for (int i = 0; i < sample_ppts.length; i++) {
+        NIS.process_falsified_invs(sample_ppts[i], samples.get(i).vt);
+      }
+    }
+  }
+
+  /** Printing the invariants that Daikon infers. */
+  private static final class PrintBenchmark extends Harness.Benchmark {
+
+    /** The program points, with their invariants. */
+    final PptMap all_ppts;
+
+    /** Infers the invariants for the current workload. */
+    PrintBenchmark() {
+      super("print");
+      assert workload != null : "@AssumeAssertion(nullness): set before benchmarks are run";
+      Daikon.mainHelper(
+          new String[] {
+            "--no_text_output",
+            "-o",
+            workload.inv.getPath(),
+            workload.decls.getPath(),
+            workload.dtrace.getPath()
+          });
+      all_ppts = Daikon.all_ppts;
+    }
+
+    @Override
+    @SuppressWarnings("nullness:contracts.precondition") // set when the declarations were read
+    public void run() {
+      Daikon.no_text_output = false;
+      PrintInvariants.print_invariants(all_ppts);
+    }
+  }
+
+  /** All of Daikon. */
+  private static final class EndToEndBenchmark extends Harness.Benchmark {
+    /** Creates the benchmark. */
+    EndToEndBenchmark() {
+      super("end_to_end");
+    }
+
+    @Override
+    public void run() {
+      assert workload != null : "@AssumeAssertion(nullness): set before benchmarks are run";
+      Daikon.mainHelper(
+          new String[] {
+            "-o", workload.inv.getPath(), workload.decls.getPath(), workload.dtrace.getPath()
+          });
+    }
+  }
+}
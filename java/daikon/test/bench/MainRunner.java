@@ -0,0 +1,124 @@
+package daikon.test.bench;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs the main method of a program, and writes to a file the time the main method took, the bytes
+ * that its thread allocated, and the garbage collections of the JVM. {@link TracingBenchmarks} runs
+ * the programs it measures through this class, both uninstrumented and under Chicory or DynComp,
+ * so that it can obtain these measurements from the process that runs the program.
+ *
+ * <p>Usage: {@code java daikon.test.bench.MainRunner result-file main-class [args...]}
+ *
+ * <p>The result file contains one line: the nanoseconds spent in the main method, the bytes
+ * allocated by its thread (or -1 if the JVM cannot measure it), the number of garbage collections,
+ * and the milliseconds spent in garbage collection. The file is also written if the program calls
+ * {@link System#exit}.
+ */
+public final class MainRunner {
+
+  /** This class is a collection of methods; it does not represent anything. */
+  private MainRunner() {
+    throw new Error("do not instantiate");
+  }
+
+  /** The file to which the measurements are written. */
+  private static String result_file = "";
+
+  /** The thread that runs the main method. */
+  private static Thread main_thread = Thread.currentThread();
+
+  /** The time at which the main method was invoked, from {@link System#nanoTime}. */
+  private static long start_ns;
+
+  /** The bytes that the main thread had allocated when the main method was invoked. */
+  private static long start_alloc;
+
+  /** True once the measurements have been written. */
+  private static final AtomicBoolean written = new AtomicBoolean(false);
+
+  /**
+   * Runs a program's main method and writes the measurements.
+   *
+   * @param args the result file, the main class, and the program's arguments
+   * @throws Throwable if the program throws an exception
+   */
+  public static void main(String[] args) throws Throwable {
+    if (args.length < 2) {
+      System.err.println("Usage: java daikon.test.bench.MainRunner result-file main-class [args]");
+      System.exit(1);
+    }
+    result_file = args[0];
+    main_thread = Thread.currentThread();
+    Method main = Class.forName(args[1]).getMethod("main", String[].class);
+    String[] program_args = Arrays.copyOfRange(args, 2, args.length);
+
+    // A program may end with System.exit, in which case the main method does not return.
+    Runtime.getRuntime().addShutdownHook(new Thread(MainRunner::write_measurements));
+    start_alloc = allocated_bytes();
+    start_ns = System.nanoTime();
+    try {
+      main.invoke(null, (Object) program_args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+    write_measurements();
+  }
+
+  /**
+   * Returns the bytes that the main thread has allocated.
+   *
+   * @return the bytes that the main thread has allocated, or -1 if the JVM cannot measure it
+   */
+  private static long allocated_bytes() {
+    ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+      return -1;
+    }
+    com.sun.management.ThreadMXBean ab = (com.sun.management.ThreadMXBean) bean;
+    if (!ab.isThreadAllocatedMemorySupported() || !ab.isThreadAllocatedMemoryEnabled()) {
+      return -1;
+    }
+    return ab.getThreadAllocatedBytes(main_thread.getId());
+  }
+
+  /** Writes the measurements to the result file, unless they have already been written. */
+  private static void write_measurements() {
+    long elapsed = System.nanoTime() - start_ns;
+    long alloc = allocated_bytes();
+    if (!written.compareAndSet(false, true)) {
+      return;
+    }
+    long gc_count = 0;
+    long gc_ms = 0;
+    for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+      gc_count += Math.max(0, gc.getCollectionCount());
+      gc_ms += Math.max(0, gc.getCollectionTime());
+    }
+    String line =
+        String.format(
+            Locale.ROOT,
+            "%d %d %d %d%n",
+            elapsed,
+            (alloc < 0 || start_alloc < 0) ? -1 : alloc - start_alloc,
+            gc_count,
+            gc_ms);
+    try {
+      Files.write(Paths.get(result_file), line.getBytes(UTF_8));
+    } catch (IOException e) {
+      throw new Error("Cannot write " + result_file, e);
+    }
+  }
+}
@@ -0,0 +1,191 @@
+package daikon.test.bench;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import daikon.ModBitTracker;
+import daikon.ValueTuple;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Random;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.plumelib.options.Option;
+import org.plumelib.options.Options;
+
+/**
+ * Benchmarks for the two representations of {@link ModBitTracker}: one BitSet per equivalence
+ * class of variables, and run-length encoding ({@link ModBitTracker#dkconfig_run_length_encoding}).
+ * It is not part of the unit tests; run it with {@code make benchmark} in the {@code java}
+ * directory, or as:
+ *
+ * <pre>java -Xmx2g daikon.test.bench.ModBitTrackerBenchmarks [options]</pre>
+ *
+ * <p>Each invocation builds some trackers, with some variables whose modbits flip at random, and
+ * keeps them all reachable. Besides the time to build them, it reports the heap that they retain,
+ * per tracker ({@code heap.per.tracker}): the heap in use after a full garbage collection, minus
+ * the heap in use before they were built.
+ */
+public final class ModBitTrackerBenchmarks {
+
+  /** This class is a collection of methods; it does not represent anything. */
+  private ModBitTrackerBenchmarks() {
+    throw new Error("do not instantiate");
+  }
+
+  /** The usage message for this program. */
+  private static final String usage = "daikon.test.bench.ModBitTrackerBenchmarks [options]";
+
+  /** The number of trackers. */
+  @Option("Number of trackers built by each invocation")
+  public static int trackers = 200;
+
+  /** The number of variables. */
+  @Option("Number of variables per tracker")
+  public static int vars = 40;
+
+  /** The number of samples. */
+  @Option("Number of samples added to each tracker")
+  public static int samples = 10_000;
+
+  /** The change rates. */
+  @Option("Comma-separated probabilities, per sample, that a variable's modbit flips")
+  public static String change_rate = "0.0,0.0001,0.01,0.5";
+
+  /** The seed for the modbits. */
+  @Option("Seed for the random modbits")
+  public static long seed = 20261019L;
+
+  /** The number of warmup invocations. */
+  @Option("Number of warmup invocations of each benchmark")
+  public static int warmup = 1;
+
+  /** The number of measured invocations. */
+  @Option("Number of measured invocations of each benchmark")
+  public static int iterations = 3;
+
+  /** The file to which JSON results are written. */
+  @Option("Write the results, in JMH's JSON format, to this file")
+  public static @Nullable File json = null;
+
+  /**
+   * Runs the benchmarks for each change rate and representation.
+   *
+   * @param args command-line options
+   * @throws Exception if a benchmark fails
+   */
+  public static void main(String[] args) throws Exception {
+    Options options = new Options(usage, ModBitTrackerBenchmarks.class);
+    String[] remaining = options.parse(true, args);
+    if (remaining.length != 0) {
+      System.err.println("Unexpected argument: " + remaining[0]);
+      options.printUsage();
+      System.exit(1);
+    }
+
+    Harness harness = new Harness(warmup, iterations, System.out);
+    for (String rate : change_rate.split(",")) {
+      for (boolean run_length : new boolean[] {false, true}) {
+        String params =
+            String.format(
+                "representation=%s change_rate=%s trackers=%d vars=%d samples=%d",
+                run_length ? "run-length" : "BitSet", rate, trackers, vars, samples);
+        boolean saved = ModBitTracker.dkconfig_run_length_encoding;
+        ModBitTracker.dkconfig_run_length_encoding = run_length;
+        try {
+          harness.measure(new BuildBenchmark(Double.parseDouble(rate)), params);
+        } finally {
+          ModBitTracker.dkconfig_run_length_encoding = saved;
+        }
+      }
+    }
+
+    if (json != null) {
+      Files.write(json.toPath(), harness.toJson().getBytes(UTF_8));
+    }
+  }
+
+  /** Building trackers, and the heap that they retain. */
+  private static final class BuildBenchmark extends Harness.Benchmark {
+
+    /** The probability per sample that a variable's modbit flips. */
+    final double change_rate;
+
+    /** The heap in use before the trackers were built. */
+    long before;
+
+    /** The trackers built by the current invocation, or null. */
+    ModBitTracker @Nullable [] built;
+
+    /**
+     * Creates the benchmark.
+     *
+     * @param change_rate the probability per sample that a variable's modbit flips
+     */
+    BuildBenchmark(double change_rate) {
+      super("modbit_tracker");
+      this.change_rate = change_rate;
+    }
+
+    @Override
+    public void setUp() {
+      built = null;
+      before = usedHeap();
+    }
+
+    @Override
+    public void run() {
+      // Every invocation sees the same modbits.
+      Random r = new Random(seed);
+      ModBitTracker[] result = new ModBitTracker[trackers];
+      Object[] vals = new Object[vars];
+      int[] mods = new int[vars];
+      ValueTuple vt = ValueTuple.makeUninterned(vals, mods);
+      for (int t = 0; t < trackers; t++) {
+        ModBitTracker mbt = new ModBitTracker(vars);
+        for (int var = 0; var < vars; var++) {
+          mods[var] = ValueTuple.MODIFIED;
+        }
+        for (int sampleno = 0; sampleno < samples; sampleno++) {
+          for (int var = 0; var < vars; var++) {
+            if (r.nextDouble() < change_rate) {
+              mods[var] =
+                  (mods[var] == ValueTuple.MODIFIED)
+                      ? ValueTuple.MISSING_NONSENSICAL
+                      : ValueTuple.MODIFIED;
+            }
+          }
+          mbt.add(vt, 1);
+        }
+        result[t] = mbt;
+      }
+      built = result;
+    }
+
+    @Override
+    public void tearDown() {
+      assert built != null : "@AssumeAssertion(nullness): set by run()";
+      // The trackers are still reachable from built.
+      long used = usedHeap() - before;
+      report("heap.per.tracker", (double) used / trackers, "B");
+      if (built[trackers - 1].num_samples() != samples) {
+        throw new Error("wrong number of samples");
+      }
+      built = null;
+    }
+  }
+
+  /**
+   * Returns the heap in use after garbage collection.
+   *
+   * @return the heap in use after garbage collection, in bytes
+   */
+  private static long usedHeap() {
+    Runtime rt = Runtime.getRuntime();
+    long used = Long.MAX_VALUE;
+    // Collect several times; a single System.gc() may not reclaim everything.
+    for (int i = 0; i < 5; i++) {
+      System.gc();
+      used = Math.min(used, rt.totalMemory() - rt.freeMemory());
+    }
+    return used;
+  }
+}
@@ -0,0 +1,482 @@
+package daikon.test.bench;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import daikon.Daikon;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.plumelib.options.Option;
+import org.plumelib.options.Options;
+
+/**
+ * Benchmarks of the overhead of Chicory and DynComp, over the example programs in the Daikon
+ * distribution. Each program is compiled, then run uninstrumented, under Chicory with each
+ * combination of the {@code --nesting-depth} and {@code --sample-start} values, and under DynComp.
+ * Run it with {@code make benchmark-tracing} in the {@code java} directory, or as:
+ *
+ * <pre>java daikon.test.bench.TracingBenchmarks [options]</pre>
+ *
+ * <p>Every run is a separate process, whose wall-clock time is the primary metric. The program's
+ * main method is run by {@link MainRunner}, which measures the time in the main method and the
+ * bytes that its thread allocates; since Chicory writes the trace from the thread that makes the
+ * calls, that includes the cost of tracing. The secondary metrics are:
+ *
+ * <dl>
+ *   <dt>slowdown, slowdown.main
+ *   <dd>The wall-clock time, and the time in the main method, relative to the uninstrumented run.
+ *   <dt>main.time
+ *   <dd>The time in the main method.
+ *   <dt>gc.alloc.rate.norm, gc.alloc.rate, gc.count, gc.time
+ *   <dd>The bytes allocated by the main thread, per run and per second of the main method, and
+ *       the garbage collections of the program's process.
+ *   <dt>trace.calls, trace.bytes, trace.bytes.gz, trace.bytes_per_call
+ *   <dd>For Chicory: the number of calls in the data trace, its size uncompressed and compressed,
+ *       and the uncompressed bytes per call.
+ * </dl>
+ *
+ * <p>Chicory and DynComp need their agent jar files, {@code ChicoryPremain.jar} and {@code
+ * dcomp_premain.jar}; they find them as they usually do, or they can be given with {@code
+ * --chicory-premain} and {@code --dcomp-premain}. DynComp is run without an instrumented JDK
+ * unless {@code --dcomp-rt} is given.
+ */
+public final class TracingBenchmarks {
+
+  /** This class is a collection of methods; it does not represent anything. */
+  private TracingBenchmarks() {
+    throw new Error("do not instantiate");
+  }
+
+  /** The usage message for this program. */
+  private static final String usage = "daikon.test.bench.TracingBenchmarks [options]";
+
+  /** The programs to run. */
+  @Option("Comma-separated programs to run: stackar, queuear, datastructures, mapquick")
+  public static String programs = "stackar,queuear,datastructures,mapquick";
+
+  /** The ways to run each program. */
+  @Option("Comma-separated ways to run each program: uninstrumented, chicory, dyncomp")
+  public static String tools = "uninstrumented,chicory,dyncomp";
+
+  /** The values of Chicory's --nesting-depth option. */
+  @Option("Comma-separated values of Chicory's --nesting-depth option")
+  public static String nesting_depth = "0,2";
+
+  /** The values of Chicory's --sample-start option. */
+  @Option("Comma-separated values of Chicory's --sample-start option")
+  public static String sample_start = "0,100";
+
+  /** The heap size of the programs. */
+  @Option("Heap size of the programs, as for Chicory's --heap-size option")
+  public static String heap_size = "3600m";
+
+  /** The Chicory agent jar file. */
+  @Option("Path to ChicoryPremain.jar (default: as Chicory finds it)")
+  public static @Nullable File chicory_premain = null;
+
+  /** The DynComp agent jar file. */
+  @Option("Path to dcomp_premain.jar (default: as DynComp finds it)")
+  public static @Nullable File dcomp_premain = null;
+
+  /** The instrumented JDK for DynComp. */
+  @Option("Path to the instrumented JDK for DynComp (default: none)")
+  public static @Nullable File dcomp_rt = null;
+
+  /** The Daikon directory. */
+  @Option("The Daikon directory, which contains the programs (default: $DAIKONDIR, else ..)")
+  public static @Nullable File daikon_dir = null;
+
+  /** The number of warmup runs. */
+  @Option("Number of warmup runs of each program and tool")
+  public static int warmup = 1;
+
+  /** The number of measured runs. */
+  @Option("Number of measured runs of each program and tool")
+  public static int iterations = 5;
+
+  /** The file to which JSON results are written. */
+  @Option("Write the results, in JMH's JSON format, to this file")
+  public static @Nullable File json = null;
+
+  /** The directory in which the programs are compiled and run. */
+  @Option("Directory in which to compile and run the programs (default: a temporary directory)")
+  public static @Nullable File dir = null;
+
+  /** The name of the data trace file that Chicory writes. */
+  private static final String TRACE_FILE = "trace.dtrace.gz";
+
+  /** The name of the file to which {@link MainRunner} writes its measurements. */
+  private static final String RESULT_FILE = "main-runner.txt";
+
+  /** A program that is benchmarked. */
+  private static final class Program {
+
+    /** The name of the program, as given to the --programs option. */
+    final String name;
+
+    /** The source directory, relative to the Daikon directory. */
+    final String source_dir;
+
+    /** The fully-qualified name of the main class. */
+    final String main_class;
+
+    /** The arguments, whose file names are relative to the Daikon directory. */
+    final List<String> args;
+
+    /**
+     * Creates a program.
+     *
+     * @param name the name of the program
+     * @param source_dir the source directory, relative to the Daikon directory
+     * @param main_class the fully-qualified name of the main class
+     * @param args the arguments, whose file names are relative to the Daikon directory
+     */
+    Program(String name, String source_dir, String main_class, String... args) {
+      this.name = name;
+      this.source_dir = source_dir;
+      this.main_class = main_class;
+      this.args = Arrays.asList(args);
+    }
+  }
+
+  /**
+   * The programs that can be benchmarked, with the main classes that the corresponding tests in
+   * {@code tests/daikon-tests} use. MapQuick is run through the {@code MapQuick1} test driver, as
+   * by the Graph test, because {@code MapQuick.PAGTest} needs a database that is not distributed.
+   */
+  private static final List<Program> all_programs =
+      Arrays.asList(
+          new Program("stackar", "examples/java-examples/StackAr", "DataStructures.StackArTester"),
+          new Program("queuear", "examples/java-examples/QueueAr", "DataStructures.QueueArTester"),
+          new Program("datastructures", "tests/sources", "DataStructures.BinarySearchTreeTester"),
+          new Program(
+              "mapquick",
+              "tests/sources",
+              "MapQuick1.PS4TestDriver",
+              "tests/sources/MapQuick/ps4-tests"));
+
+  /**
+   * Compiles the programs and runs the benchmarks on each.
+   *
+   * @param args command-line options
+   * @throws Exception if a benchmark fails
+   */
+  public static void main(String[] args) throws Exception {
+    Options options = new Options(usage, TracingBenchmarks.class);
+    String[] remaining = options.parse(true, args);
+    if (remaining.length != 0) {
+      System.err.println("Unexpected argument: " + remaining[0]);
+      options.printUsage();
+      System.exit(1);
+    }
+    if (daikon_dir == null) {
+      String env = System.getenv("DAIKONDIR");
+      daikon_dir = new File((env != null) ? env : "..");
+    }
+    List<String> to_run = Arrays.asList(tools.split(","));
+    for (String tool : to_run) {
+      if (!Arrays.asList("uninstrumented", "chicory", "dyncomp").contains(tool)) {
+        throw new Daikon.UserError("Unknown tool: " + tool);
+      }
+    }
+
+    File work_dir = dir;
+    boolean temporary = (work_dir == null);
+    if (work_dir == null) {
+      work_dir = Files.createTempDirectory("daikon-bench").toFile();
+    }
+    work_dir.mkdirs();
+
+    Harness harness = new Harness(warmup, iterations, System.out);
+    try {
+      for (String name : programs.split(",")) {
+        Program program = null;
+        for (Program p : all_programs) {
+          if (p.name.equals(name)) {
+            program = p;
+          }
+        }
+        if (program == null) {
+          throw new Daikon.UserError("Unknown program: " + name);
+        }
+        run_all(harness, to_run, program, new File(work_dir, name));
+      }
+    } finally {
+      if (temporary) {
+        delete_recursively(work_dir.toPath());
+      }
+    }
+
+    if (json != null) {
+      Files.write(json.toPath(), harness.toJson().getBytes(UTF_8));
+    }
+  }
+
+  /**
+   * Compiles a program and runs the requested benchmarks on it.
+   *
+   * @param harness the harness that runs the benchmarks
+   * @param to_run the tools with which to run the program
+   * @param program the program
+   * @param program_dir the directory in which to compile and run the program
+   * @throws Exception if a benchmark fails
+   */
+  private static void run_all(
+      Harness harness, List<String> to_run, Program program, File program_dir) throws Exception {
+    File classes = new File(program_dir, "classes");
+    classes.mkdirs();
+    compile(program, classes);
+
+    Harness.@Nullable Result baseline = null;
+    String params = "program=" + program.name;
+    if (to_run.contains("uninstrumented")) {
+      baseline =
+          harness.measure(
+              new ProgramBenchmark("uninstrumented", program, program_dir, null, null), params);
+    }
+    if (to_run.contains("chicory")) {
+      for (String depth : nesting_depth.split(",")) {
+        for (String start : sample_start.split(",")) {
+          List<String> tool_args = new ArrayList<>();
+          tool_args.add("daikon.Chicory");
+          tool_args.add("--dtrace-file=" + TRACE_FILE);
+          tool_args.add("--nesting-depth=" + depth);
+          tool_args.add("--sample-start=" + start);
+          tool_args.add("--heap-size=" + heap_size);
+          if (chicory_premain != null) {
+            tool_args.add("--premain=" + chicory_premain.getAbsolutePath());
+          }
+          harness.measure(
+              new ProgramBenchmark("chicory", program, program_dir, tool_args, baseline),
+              params + " nesting_depth=" + depth + " sample_start=" + start);
+        }
+      }
+    }
+    if (to_run.contains("dyncomp")) {
+      List<String> tool_args = new ArrayList<>();
+      tool_args.add("daikon.DynComp");
+      tool_args.add("--rt-file=" + ((dcomp_rt == null) ? "NONE" : dcomp_rt.getAbsolutePath()));
+      if (dcomp_premain != null) {
+        tool_args.add("--premain=" + dcomp_premain.getAbsolutePath());
+      }
+      harness.measure(
+          new ProgramBenchmark("dyncomp", program, program_dir, tool_args, baseline),
+          params + " jdk=" + ((dcomp_rt == null) ? "none" : "instrumented"));
+    }
+  }
+
+  /**
+   * Compiles a program, with debugging information as the tests do.
+   *
+   * @param program the program
+   * @param classes the directory in which to put the class files
+   * @throws IOException if the program does not compile
+   */
+  private static void compile(Program program, File classes) throws IOException {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    if (compiler == null) {
+      throw new Daikon.UserError("No Java compiler is available; run with a JDK");
+    }
+    File source_dir = new File(daikon_dir, program.source_dir);
+    File main_source = new File(source_dir, program.main_class.replace('.', '/') + ".java");
+    // The other classes are compiled as they are found through the source path.
+    ByteArrayOutputStream messages = new ByteArrayOutputStream();
+    int status =
+        compiler.run(
+            null,
+            messages,
+            messages,
+            "-g",
+            "-nowarn",
+            "-encoding",
+            "ISO-8859-1",
+            "-proc:none",
+            "-sourcepath",
+            source_dir.getPath(),
+            "-d",
+            classes.getPath(),
+            main_source.getPath());
+    if (status != 0) {
+      throw new IOException("Cannot compile " + main_source + ":\n" + messages.toString("UTF-8"));
+    }
+  }
+
+  /** One run of a program, uninstrumented or under Chicory or DynComp. */
+  private static final class ProgramBenchmark extends Harness.Benchmark {
+
+    /** The command that runs the program. */
+    final List<String> command = new ArrayList<>();
+
+    /** The directory in which the program is run. */
+    final File run_dir;
+
+    /** The results of the uninstrumented runs of the program, or null if there are none. */
+    final Harness.@Nullable Result baseline;
+
+    /**
+     * Creates a benchmark.
+     *
+     * @param name the name of the benchmark
+     * @param program the program
+     * @param program_dir the directory in which the program was compiled
+     * @param tool_args the tool's main class and its options, or null to run the program
+     *     uninstrumented
+     * @param baseline the results of the uninstrumented runs, or null if there are none
+     */
+    ProgramBenchmark(
+        String name,
+        Program program,
+        File program_dir,
+        @Nullable List<String> tool_args,
+        Harness.@Nullable Result baseline) {
+      super(name);
+      this.baseline = baseline;
+      run_dir = new File(program_dir, name);
+      run_dir.mkdirs();
+
+      command.add(new File(new File(System.getProperty("java.home"), "bin"), "java").getPath());
+      command.add("-cp");
+      command.add(
+          new File(program_dir, "classes").getAbsolutePath()
+              + File.pathSeparator
+              + System.getProperty("java.class.path"));
+      if (tool_args == null) {
+        // The options with which Chicory runs the program.
+        command.add("-ea");
+        command.add("-esa");
+        command.add("-Xmx" + heap_size);
+      } else {
+        command.addAll(tool_args);
+        command.add("--output-dir=" + run_dir.getAbsolutePath());
+        // Do not trace the program that runs the main method.
+        command.add("--ppt-omit-pattern=^daikon\\.");
+      }
+      command.add(MainRunner.class.getName());
+      command.add(new File(run_dir, RESULT_FILE).getAbsolutePath());
+      command.add(program.main_class);
+      for (String arg : program.args) {
+        command.add(new File(daikon_dir, arg).getAbsolutePath());
+      }
+    }
+
+    @Override
+    public void setUp() throws IOException {
+      File[] files = run_dir.listFiles();
+      if (files != null) {
+        for (File f : files) {
+          f.delete();
+        }
+      }
+    }
+
+    @Override
+    public void run() throws Exception {
+      File log = new File(run_dir, "output.log");
+      long start = System.nanoTime();
+      Process p =
+          new ProcessBuilder(command)
+              .directory(run_dir)
+              .redirectErrorStream(true)
+              .redirectOutput(log)
+              .start();
+      int status = p.waitFor();
+      double wall_ms = (System.nanoTime() - start) / 1e6;
+      File result_file = new File(run_dir, RESULT_FILE);
+      if (status != 0 || !result_file.exists()) {
+        throw new Error(
+            String.format(
+                "%s failed (status %d): %s%nOutput:%n%s",
+                name,
+                status,
+                String.join(" ", command),
+                new String(Files.readAllBytes(log.toPath()), UTF_8)));
+      }
+
+      String[] fields =
+          new String(Files.readAllBytes(result_file.toPath()), UTF_8).trim().split(" ");
+      double main_ms = Long.parseLong(fields[0]) / 1e6;
+      long alloc = Long.parseLong(fields[1]);
+      report("main.time", main_ms, "ms");
+      if (baseline != null) {
+        Harness.Metric baseline_main = baseline.secondary.get("main.time");
+        report("slowdown", wall_ms / baseline.mean(), "x");
+        if (baseline_main != null) {
+          report("slowdown.main", main_ms / baseline_main.score, "x");
+        }
+      }
+      if (alloc >= 0) {
+        report(Harness.ALLOC, alloc, "B/op");
+        report("gc.alloc.rate", alloc / (1024.0 * 1024.0) / (main_ms / 1000), "MB/sec");
+      }
+      report(Harness.GC_COUNT, Long.parseLong(fields[2]), "counts");
+      report(Harness.GC_TIME, Long.parseLong(fields[3]), "ms");
+
+      File trace = new File(run_dir, TRACE_FILE);
+      if (trace.exists()) {
+        report_trace(trace);
+      }
+    }
+
+    /**
+     * Reports the size of a data trace and the number of calls in it.
+     *
+     * @param trace the data trace file
+     * @throws IOException if the file cannot be read
+     */
+    private void report_trace(File trace) throws IOException {
+      long bytes = 0;
+      long calls = 0;
+      // Chicory writes one byte per character, and ends lines with a newline.
+      try (BufferedReader reader =
+          new BufferedReader(
+              new InputStreamReader(
+                  new GZIPInputStream(Files.newInputStream(trace.toPath())), ISO_8859_1))) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          bytes += line.length() + 1;
+          if (line.endsWith(":::ENTER") && !line.startsWith("ppt ")) {
+            calls++;
+          }
+        }
+      }
+      report("trace.calls", calls, "counts");
+      report("trace.bytes", bytes, "B");
+      report("trace.bytes.gz", trace.length(), "B");
+      if (calls > 0) {
+        report("trace.bytes_per_call", (double) bytes / calls, "B/call");
+      }
+    }
+  }
+
+  /**
+   * Deletes a directory and everything in it.
+   *
+   * @param path the directory
+   * @throws IOException if a file cannot be deleted
+   */
+  private static void delete_recursively(Path path) throws IOException {
+    List<Path> paths;
+    try (Stream<Path> s = Files.walk(path)) {
+      // Reverse order puts the files in a directory before the directory.
+      paths = s.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+    }
+    for (Path p : paths) {
+      Files.delete(p);
+    }
+  }
+}
@@ -0,0 +1,228 @@
+package daikon.test.bench;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.util.Random;
+import org.checkerframework.dataflow.qual.SideEffectFree;
+
+/**
+ * A synthetic Daikon input: a declaration file and a data trace file. Each program point is a
+ * method with an ENTER and an EXIT1 program point, whose variables are some {@code int} parameters
+ * and some {@code int[]} parameters. The trace contains a number of calls of each method, in
+ * round-robin order.
+ *
+ * <p>Each scalar after the first is, with probability {@link #equality}, a copy of an earlier
+ * scalar at every sample, so that the fraction of variables in nontrivial equality sets is roughly
+ * the equality density. The other scalars and the array elements are random. At exit, every other
+ * scalar has been incremented, so that there are relations between the pre-state and post-state.
+ * Everything is determined by the parameters and the seed.
+ */
+public final class Workload {
+
+  /** The number of methods; each has two program points. */
+  public final int ppts;
+
+  /** The number of {@code int} variables per program point. */
+  public final int scalars;
+
+  /** The number of {@code int[]} variables per program point. */
+  public final int arrays;
+
+  /** The maximum length of the arrays. */
+  public final int array_size;
+
+  /** The probability that a scalar is a copy of an earlier scalar. */
+  public final double equality;
+
+  /** The number of calls of each method. */
+  public final int calls;
+
+  /** The declaration file. */
+  public final File decls;
+
+  /** The data trace file. */
+  public final File dtrace;
+
+  /** The file to which Daikon writes the invariants that it infers from this workload. */
+  public final File inv;
+
+  /**
+   * Writes a workload to a directory.
+   *
+   * @param dir the directory in which to write the files
+   * @param ppts the number of methods
+   * @param scalars the number of {@code int} variables per program point
+   * @param arrays the number of {@code int[]} variables per program point
+   * @param array_size the maximum length of the arrays
+   * @param equality the probability that a scalar is a copy of an earlier scalar
+   * @param calls the number of calls of each method
+   * @param seed the seed for the random values
+   * @throws IOException if the files cannot be written
+   */
+  public Workload(
+      File dir,
+      int ppts,
+      int scalars,
+      int arrays,
+      int array_size,
+      double equality,
+      int calls,
+      long seed)
+      throws IOException {
+    this.ppts = ppts;
+    this.scalars = scalars;
+    this.arrays = arrays;
+    this.array_size = array_size;
+    this.equality = equality;
+    this.calls = calls;
+    String base =
+        String.format(
+            "bench-%d-%d-%d-%d-%s-%d", ppts, scalars, arrays, array_size, equality, calls);
+    decls = new File(dir, base + ".decls");
+    dtrace = new File(dir, base + ".dtrace");
+    inv = new File(dir, base + ".inv.gz");
+
+    Random r = new Random(seed);
+    // For each method and scalar, the index of the scalar it copies, or -1
+    int[][] copies = new int[ppts][scalars];
+    for (int p = 0; p < ppts; p++) {
+      for (int i = 0; i < scalars; i++) {
+        copies[p][i] = (i > 0 && r.nextDouble() < equality) ? r.nextInt(i) : -1;
+      }
+    }
+
+    try (PrintWriter pw = new PrintWriter(Files.newBufferedWriter(decls.toPath(), UTF_8))) {
+      pw.println("decl-version 2.0");
+      pw.println("var-comparability none");
+      pw.println();
+      for (int p = 0; p < ppts; p++) {
+        write_decl(pw, p, ":::ENTER", "enter");
+        write_decl(pw, p, ":::EXIT1", "subexit");
+      }
+    }
+
+    try (PrintWriter pw = new PrintWriter(Files.newBufferedWriter(dtrace.toPath(), UTF_8))) {
+      long[] vals = new long[scalars];
+      long[][] arrs = new long[arrays][];
+      int nonce = 0;
+      for (int c = 0; c < calls; c++) {
+        for (int p = 0; p < ppts; p++) {
+          for (int i = 0; i < scalars; i++) {
+            vals[i] = (copies[p][i] >= 0) ? vals[copies[p][i]] : r.nextInt(100);
+          }
+          for (int j = 0; j < arrays; j++) {
+            arrs[j] = new long[r.nextInt(array_size + 1)];
+            for (int k = 0; k < arrs[j].length; k++) {
+              arrs[j][k] = r.nextInt(100);
+            }
+          }
+          write_sample(pw, p, ":::ENTER", nonce, vals, arrs);
+          for (int i = 1; i < scalars; i += 2) {
+            vals[i]++;
+          }
+          write_sample(pw, p, ":::EXIT1", nonce, vals, arrs);
+          nonce++;
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the name of a method, without the program point suffix.
+   *
+   * @param p the index of the method
+   * @return the name of the method
+   */
+  private static String method_name(int p) {
+    return "bench.C" + p + ".m()";
+  }
+
+  /**
+   * Writes the declaration of one program point.
+   *
+   * @param pw where to write the declaration
+   * @param p the index of the method
+   * @param suffix the program point suffix, such as ":::ENTER"
+   * @param ppt_type the program point type, such as "enter"
+   */
+  private void write_decl(PrintWriter pw, int p, String suffix, String ppt_type) {
+    pw.println("ppt " + method_name(p) + suffix);
+    pw.println("ppt-type " + ppt_type);
+    for (int i = 0; i < scalars; i++) {
+      pw.println("variable x" + i);
+      pw.println("  var-kind variable");
+      pw.println("  dec-type int");
+      pw.println("  rep-type int");
+      pw.println("  flags is_param");
+    }
+    for (int j = 0; j < arrays; j++) {
+      pw.println("variable a" + j);
+      pw.println("  var-kind variable");
+      pw.println("  dec-type int[]");
+      pw.println("  rep-type hashcode");
+      pw.println("  flags is_param non_null");
+      pw.println("variable a" + j + "[..]");
+      pw.println("  var-kind array");
+      pw.println("  enclosing-var a" + j);
+      pw.println("  array 1");
+      pw.println("  dec-type int[]");
+      pw.println("  rep-type int[]");
+    }
+    pw.println();
+  }
+
+  /**
+   * Writes one sample.
+   *
+   * @param pw where to write the sample
+   * @param p the index of the method
+   * @param suffix the program point suffix, such as ":::ENTER"
+   * @param nonce the invocation nonce
+   * @param vals the values of the scalars
+   * @param arrs the values of the arrays
+   */
+  private void write_sample(
+      PrintWriter pw, int p, String suffix, int nonce, long[] vals, long[][] arrs) {
+    pw.println(method_name(p) + suffix);
+    pw.println("this_invocation_nonce");
+    pw.println(nonce);
+    for (int i = 0; i < scalars; i++) {
+      pw.println("x" + i);
+      pw.println(vals[i]);
+      pw.println("1");
+    }
+    for (int j = 0; j < arrays; j++) {
+      pw.println("a" + j);
+      pw.println(1000 + j);
+      pw.println("1");
+      pw.println("a" + j + "[..]");
+      StringBuilder sb = new StringBuilder("[");
+      for (int k = 0; k < arrs[j].length; k++) {
+        if (k > 0) {
+          sb.append(' ');
+        }
+        sb.append(arrs[j][k]);
+      }
+      pw.println(sb.append(']'));
+      pw.println("1");
+    }
+    pw.println();
+  }
+
+  /**
+   * Returns a description of the parameters of the workload.
+   *
+   * @return a description of the parameters, such as "ppts=20 scalars=10 ..."
+   */
+  @SideEffectFree
+  @Override
+  public String toString() {
+    return String.format(
+        "ppts=%d scalars=%d arrays=%d array_size=%d equality=%s calls=%d",
+        ppts, scalars, arrays, array_size, equality, calls);
+  }
+}
@@ -0,0 +1 @@
+package daikon.test.bench;
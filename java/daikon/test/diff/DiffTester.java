@@ -12,10 +12,13 @@ import daikon.split.*;
 import daikon.split.misc.*;
 import daikon.test.*;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
 import java.io.PrintStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import junit.framework.*;
 import org.junit.Before;
@@ -534,6 +537,83 @@ public class DiffTester {
     assertEquals(printTree(ref), printTree(diff));
   }
 
+  // Pairing invariants by fingerprint finds the same pairs as sorting them.  The order
+  // of the pairs is that of the first program point, then the unpaired invariants of
+  // the second.
+  @Test
+  public void testInvs1Invs3HashJoin() {
+    diffSome.setHashJoin(false);
+    RootNode diff = diffSome.diffPptMap(invs1, invs3);
+    assertEquals(printTree(new Diff().diffPptMap(invs1, invs3)), printTree(diff));
+
+    diffSome.setHashJoin(true);
+    diff = diffSome.diffPptMap(invs2, invs1);
+    assertEquals(printTree(new Diff().diffPptMap(invs2, invs1)), printTree(diff));
+  }
+
+  // Two invariants have the same fingerprint exactly when the comparator used to pair
+  // them by sorting considers them equal.
+  @Test
+  public void testFingerprints() {
+    VarInfo[] vars = {newIntVarInfo("x"), newIntVarInfo("y")};
+    PptTopLevel ppt = newPptTopLevel("Foo.Baa(int):::ENTER", vars);
+    List<Invariant> invs = new ArrayList<>();
+    for (VarInfo var : vars) {
+      PptSlice slice = new PptSlice1(ppt, new VarInfo[] {var});
+      invs.add(LowerBound.get_proto().instantiate(slice));
+      invs.add(UpperBound.get_proto().instantiate(slice));
+    }
+    int numSimple = invs.size();
+    for (int i = 0; i < numSimple; i++) {
+      for (int j = 0; j < numSimple; j++) {
+        Implication imp =
+            Implication.makeImplication(
+                ppt, invs.get(i), invs.get(j), false, invs.get(i), invs.get(j));
+        if (imp != null) {
+          invs.add(imp);
+        }
+      }
+    }
+
+    Comparator<Invariant> cmp = new Invariant.ClassVarnameComparator();
+    for (Invariant inv1 : invs) {
+      for (Invariant inv2 : invs) {
+        assertEquals(
+            inv1.format() + " vs. " + inv2.format(),
+            cmp.compare(inv1, inv2) == 0,
+            InvariantFingerprint.of(inv1, false).equals(InvariantFingerprint.of(inv2, false)));
+      }
+    }
+  }
+
+  // Diffing indexed files one program point at a time gives the same tree as reading
+  // them in full.
+  @Test
+  public void testDiffInvFiles() throws IOException {
+    File file1 = File.createTempFile("DiffTester", ".inv");
+    File file3 = File.createTempFile("DiffTester", ".inv");
+    file1.deleteOnExit();
+    file3.deleteOnExit();
+    boolean saved = FileIO.dkconfig_indexed_inv_files;
+    FileIO.dkconfig_indexed_inv_files = true;
+    try {
+      FileIO.write_serialized_pptmap(invs1, file1);
+      FileIO.write_serialized_pptmap(invs3, file3);
+    } finally {
+      FileIO.dkconfig_indexed_inv_files = saved;
+    }
+
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    PrintStream ps = new PrintStream(baos);
+    List<Visitor> visitors = new ArrayList<>();
+    visitors.add(new PrintAllVisitor(ps, false, true));
+    diffSome.diffInvFiles(file1, file3, true, visitors);
+    @SuppressWarnings("DefaultCharset") // toString(Charset) was introduced in Java 10
+    String streamed = baos.toString();
+
+    assertEquals(printTree(diffSome.diffPptMap(invs1, invs3)), streamed);
+  }
+
   private static String printTree(RootNode root) {
     ByteArrayOutputStream baos = new ByteArrayOutputStream();
     PrintStream ps = new PrintStream(baos);
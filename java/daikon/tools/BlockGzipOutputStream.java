@@ -0,0 +1,167 @@
+package daikon.tools;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import org.checkerframework.checker.mustcall.qual.Owning;
+
+/**
+ * An output stream that writes a gzip file as a sequence of independent gzip members, each holding
+ * at most a fixed number of uncompressed bytes. The result is an ordinary gzip file that any gzip
+ * reader (including {@link java.util.zip.GZIPInputStream} and {@code gunzip}) decompresses to the
+ * concatenation of the members, but a reader that knows where the members start can begin
+ * decompressing at any of them. {@link DtraceIndex} records the member positions, so a record of a
+ * trace file written this way can be read without decompressing everything that precedes it.
+ */
+public class BlockGzipOutputStream extends OutputStream {
+
+  /** The default number of uncompressed bytes in a member. */
+  public static final int DEFAULT_BLOCK_SIZE = 1 << 18;
+
+  /** The header of each member: no file name, modification time, or other optional fields. */
+  private static final byte[] HEADER = {
+    0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff
+  };
+
+  /** Where the compressed data is written. */
+  private final @Owning OutputStream out;
+
+  /** The maximum number of uncompressed bytes in a member. */
+  private final int blockSize;
+
+  /** Compresses the current member; reset at the start of each member. */
+  private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+
+  /** The checksum of the uncompressed bytes of the current member. */
+  private final CRC32 crc = new CRC32();
+
+  /** Holds compressed output on its way to {@link #out}. */
+  private final byte[] buf = new byte[8192];
+
+  /** The number of uncompressed bytes written to the current member, or -1 if none is open. */
+  private int memberSize = -1;
+
+  /** True once {@link #finish} or {@link #close} has been called. */
+  private boolean finished = false;
+
+  /**
+   * Creates a stream that writes members of at most {@link #DEFAULT_BLOCK_SIZE} bytes.
+   *
+   * @param out where to write the compressed data
+   */
+  public BlockGzipOutputStream(@Owning OutputStream out) {
+    this(out, DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * Creates a stream that writes members of at most blockSize bytes.
+   *
+   * @param out where to write the compressed data
+   * @param blockSize the maximum number of uncompressed bytes in a member
+   */
+  public BlockGzipOutputStream(@Owning OutputStream out, int blockSize) {
+    if (blockSize <= 0) {
+      throw new IllegalArgumentException("Bad block size " + blockSize);
+    }
+    this.out = out;
+    this.blockSize = blockSize;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    write(new byte[] {(byte) b}, 0, 1);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    if (finished) {
+      throw new IOException("write beyond end of stream");
+    }
+    while (len > 0) {
+      if (memberSize < 0) {
+        out.write(HEADER);
+        memberSize = 0;
+      }
+      int n = Math.min(len, blockSize - memberSize);
+      deflater.setInput(b, off, n);
+      while (!deflater.needsInput()) {
+        deflate();
+      }
+      crc.update(b, off, n);
+      memberSize += n;
+      off += n;
+      len -= n;
+      if (memberSize == blockSize) {
+        endMember();
+      }
+    }
+  }
+
+  /** Writes the rest of the current member, if one is open, and starts a new one. */
+  @Override
+  public void flush() throws IOException {
+    if (memberSize > 0) {
+      endMember();
+    }
+    out.flush();
+  }
+
+  /**
+   * Writes the rest of the compressed data without closing the underlying stream.
+   *
+   * @throws IOException if the underlying stream cannot be written
+   */
+  public void finish() throws IOException {
+    if (finished) {
+      return;
+    }
+    if (memberSize >= 0) {
+      endMember();
+    }
+    finished = true;
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      finish();
+    } finally {
+      deflater.end();
+      out.close();
+    }
+  }
+
+  /** Compresses the pending input of {@link #deflater} and writes it to {@link #out}. */
+  private void deflate() throws IOException {
+    int n = deflater.deflate(buf, 0, buf.length);
+    if (n > 0) {
+      out.write(buf, 0, n);
+    }
+  }
+
+  /** Writes the remaining compressed data and the trailer of the current member. */
+  private void endMember() throws IOException {
+    deflater.finish();
+    while (!deflater.finished()) {
+      deflate();
+    }
+    writeInt((int) crc.getValue());
+    writeInt(memberSize);
+    deflater.reset();
+    crc.reset();
+    memberSize = -1;
+  }
+
+  /**
+   * Writes an integer in little-endian order, as the gzip trailer requires.
+   *
+   * @param i the integer to write
+   */
+  private void writeInt(int i) throws IOException {
+    out.write(i & 0xff);
+    out.write((i >> 8) & 0xff);
+    out.write((i >> 16) & 0xff);
+    out.write((i >>> 24) & 0xff);
+  }
+}
@@ -3,6 +3,7 @@
 package daikon.tools;
 
 import static daikon.tools.nullness.NullnessUtil.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 import daikon.Daikon;
 import daikon.FileIO;
@@ -14,17 +15,36 @@ import daikon.ValueTuple;
 import daikon.VarInfo;
 import daikon.config.Configuration;
 import gnu.getopt.*;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.plumelib.util.FilesPlume;
 import org.plumelib.util.RegexUtil;
 import org.plumelib.util.StringsPlume;
 
@@ -34,6 +54,12 @@ import org.plumelib.util.StringsPlume;
  */
 public class DtraceDiff {
 
+  /** The command-line option that prints the number of samples compared, and the throughput. */
+  public static final String stats_SWITCH = "stats";
+
+  /** If true, print the number of samples compared, and the throughput; set by --stats. */
+  private static boolean print_stats = false;
+
   /** The usage message for this program. */
   private static String usage =
       StringsPlume.joinLines(
@@ -57,8 +83,30 @@ public class DtraceDiff {
           "      Specify a configuration file ",
           "  --" + Daikon.config_option_SWITCH,
           "      Specify a configuration option ",
+          "  --" + stats_SWITCH,
+          "      If there are no differences, print how many samples were compared and how fast",
           "See the Daikon manual for more information.");
 
+  // Variables starting with dkconfig_ should only be set via the
+  // daikon.config.Configuration interface.
+
+  /**
+   * If true, DtraceDiff first compares hashes of the samples of the two traces. The samples are
+   * hashed in parallel, without being parsed, and pointer values are hashed only as null or
+   * non-null. If the hashes differ, the samples are compared in detail, so the differences that
+   * are reported are the same either way. If the hashes are the same, the traces are reported to
+   * have no differences without being parsed: two traces that are identical but malformed are not
+   * diagnosed, and there is a small chance that a difference is missed because two 64-bit hashes
+   * collide.
+   */
+  public static boolean dkconfig_hash_samples = false;
+
+  /** The number of threads that hash samples; 0 means the number of available processors. */
+  public static int dkconfig_hash_threads = 0;
+
+  /** The number of samples that a thread hashes at a time. */
+  public static int dkconfig_hash_chunk_size = 2048;
+
   public static void main(String[] args) {
     try {
       mainHelper(args);
@@ -96,6 +144,7 @@ public class DtraceDiff {
     String dtracefile1 = null;
     Set<File> declsfile2 = new HashSet<>();
     String dtracefile2 = null;
+    print_stats = false;
 
     LongOpt[] longopts =
         new LongOpt[] {
@@ -107,6 +156,8 @@ public class DtraceDiff {
           // Configuration options
           new LongOpt(Daikon.config_SWITCH, LongOpt.REQUIRED_ARGUMENT, null, 0),
           new LongOpt(Daikon.config_option_SWITCH, LongOpt.REQUIRED_ARGUMENT, null, 0),
+          // Output
+          new LongOpt(stats_SWITCH, LongOpt.NO_ARGUMENT, null, 0),
         };
 
     Getopt g = new Getopt("daikon.tools.DtraceDiff", args, "h:", longopts);
@@ -208,6 +259,9 @@ public class DtraceDiff {
             String item = Daikon.getOptarg(g);
             Configuration.getInstance().apply(item);
             break;
+          } else if (stats_SWITCH.equals(option_name)) {
+            print_stats = true;
+            break;
           } else {
             throw new RuntimeException("Unknown long option received: " + option_name);
           }
@@ -253,6 +307,23 @@ public class DtraceDiff {
     // System.out.printf("dtrace files = %s, %s%n", dtracefile1, dtracefile2);
     FileIO.resetNewDeclFormat();
 
+    long start_time = System.nanoTime();
+    if (dkconfig_hash_samples) {
+      try {
+        int max_pending = 2 * hash_threads();
+        TraceHasher hasher1 = new TraceHasher(declsfile1, dtracefile1, max_pending);
+        TraceHasher hasher2 = new TraceHasher(declsfile2, dtracefile2, max_pending);
+        if (same_hashes(hasher1, hasher2)) {
+          report_throughput(
+              "hashed", hasher1.num_samples, hasher1.num_chars + hasher2.num_chars, start_time);
+          return;
+        }
+      } catch (IOException e) {
+        // Compare the samples in detail, which reports the problem.
+      }
+    }
+
+    long num_samples = 0;
     try {
       Map<PptTopLevel, PptTopLevel> pptmap = new HashMap<>(); // map ppts1 -> ppts2
       PptMap ppts1 = FileIO.read_declaration_files(declsfile1);
@@ -324,6 +395,7 @@ public class DtraceDiff {
                 ppt_mismatch_error(state1, dtracefile1, state2, dtracefile2);
               }
 
+              num_samples++;
               // check to see that variables on this pair of samples match
               for (int i = 0; i < ppt1.num_tracevars; i++) {
                 if (vis1[i].is_static_constant) {
@@ -347,7 +419,9 @@ public class DtraceDiff {
                       vis1[i], val1, state1, dtracefile1, vis2[i], val2, state2, dtracefile2);
               }
             } else {
-              return; // EOF on both files ==> normal return
+              // EOF on both files ==> normal return
+              report_throughput("compared", num_samples, -1, start_time);
+              return;
             }
           } else if ((state1.rtype == FileIO.RecordType.TRUNCATED)
               || (state2.rtype == FileIO.RecordType.TRUNCATED))
@@ -378,6 +452,500 @@ public class DtraceDiff {
     }
   }
 
+  /**
+   * Prints how many samples were compared, and how fast, if --stats was given. Otherwise, nothing
+   * is printed when the traces have no differences.
+   *
+   * @param how "hashed" or "compared"
+   * @param num_samples the number of samples in each trace
+   * @param num_chars the number of characters read from both traces, or -1 if not known
+   * @param start_time when the comparison started, as returned by {@link System#nanoTime}
+   */
+  private static void report_throughput(
+      String how, long num_samples, long num_chars, long start_time) {
+    if (!print_stats) {
+      return;
+    }
+    double seconds = Math.max(System.nanoTime() - start_time, 1) / 1e9;
+    if (num_chars >= 0) {
+      System.out.printf(
+          "No differences: %s %d samples (%.1f MB) in %.2f s, %.1f MB/s%n",
+          how, num_samples, num_chars / 1e6, seconds, num_chars / 1e6 / seconds);
+    } else {
+      System.out.printf(
+          "No differences: %s %d samples in %.2f s, %.0f samples/s%n",
+          how, num_samples, seconds, num_samples / seconds);
+    }
+  }
+
+  /**
+   * Returns true if the samples of the two traces have the same hashes, in which case they are
+   * taken to have no differences that {@link #dtraceDiff} would report; see {@link
+   * #dkconfig_hash_samples} for the cases in which this is wrong. Returns false if they might
+   * differ; then they must be compared in detail.
+   *
+   * <p>Both traces are read at once, each on its own thread, and their samples are hashed in
+   * chunks on a pool of threads. Reading stops as soon as a pair of chunks differ. Two traces have
+   * no differences if they have the same declarations and every pair of samples has the same hash.
+   * This is not the case if the samples are filtered by ppt or variable patterns, if the traces are
+   * truncated, or if a trace is read from standard input or from Chicory.
+   *
+   * @param hasher1 hashes the first trace
+   * @param hasher2 hashes the second trace
+   * @return true if the samples of the traces have the same hashes
+   * @throws IOException if a trace cannot be read
+   */
+  private static boolean same_hashes(TraceHasher hasher1, TraceHasher hasher2) throws IOException {
+    if ((Daikon.ppt_regexp != null)
+        || (Daikon.ppt_omit_regexp != null)
+        || (Daikon.var_regexp != null)
+        || (Daikon.var_omit_regexp != null)
+        || (FileIO.dkconfig_max_line_number > 0)
+        || !hasher1.is_applicable()
+        || !hasher2.is_applicable()) {
+      return false;
+    }
+
+    ExecutorService hashers = Executors.newFixedThreadPool(hash_threads());
+    ExecutorService readers = Executors.newFixedThreadPool(2);
+    try {
+      Future<?> reader1 = readers.submit(() -> hasher1.read(hashers));
+      Future<?> reader2 = readers.submit(() -> hasher2.read(hashers));
+      while (true) {
+        long[] hashes1 = hasher1.next_chunk();
+        long[] hashes2 = hasher2.next_chunk();
+        if (!Arrays.equals(hashes1, hashes2)) {
+          return false;
+        }
+        if (hashes1.length == 0) {
+          break;
+        }
+      }
+      // Both readers are done, so their results are visible.
+      get(reader1);
+      get(reader2);
+      return hasher1.is_applicable()
+          && hasher2.is_applicable()
+          && hasher1.sorted_declarations().equals(hasher2.sorted_declarations());
+    } finally {
+      readers.shutdownNow();
+      hashers.shutdownNow();
+    }
+  }
+
+  /**
+   * Returns the number of threads that hash samples, according to {@link #dkconfig_hash_threads}.
+   *
+   * @return the number of threads that hash samples
+   */
+  private static int hash_threads() {
+    if (dkconfig_hash_threads > 0) {
+      return dkconfig_hash_threads;
+    }
+    return Runtime.getRuntime().availableProcessors();
+  }
+
+  /**
+   * Waits for a task, and rethrows its exception.
+   *
+   * @param future the task
+   * @return the result of the task
+   * @throws IOException if the task threw one
+   */
+  private static <T> T get(Future<T> future) throws IOException {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new Error(cause);
+    } catch (InterruptedException e) {
+      throw new Error("Interrupted while comparing traces", e);
+    }
+  }
+
+  /**
+   * Reads a trace and its declaration files without parsing them, and hashes each sample. The
+   * hashes of the samples are produced in chunks, in order; see {@link #next_chunk}.
+   */
+  private static final class TraceHasher {
+
+    /** FNV-1a offset basis. */
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+    /** FNV-1a prime. */
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /** Marks the end of the chunks. */
+    private static final long[] NO_MORE_CHUNKS = new long[0];
+
+    /** The declaration files. */
+    private final Set<File> declsfiles;
+
+    /** The data trace file. */
+    private final String dtracefile;
+
+    /** The hashes of the samples, in chunks; filled by {@link #read}. */
+    private final BlockingQueue<Future<long[]>> chunks = new LinkedBlockingQueue<>();
+
+    /** Limits the number of chunks that have been read but not yet taken by {@link #next_chunk}. */
+    private final Semaphore window;
+
+    /**
+     * For each program point, the names of its variables whose values are pointers. Written by the
+     * reading thread and read by the hashing threads.
+     */
+    private final ConcurrentHashMap<String, Set<String>> pointer_vars = new ConcurrentHashMap<>();
+
+    /** The hashes of the declaration and header records, from all the files. */
+    private final List<Long> declarations = new ArrayList<>();
+
+    /** The number of samples read. */
+    long num_samples = 0;
+
+    /** The number of characters read. */
+    long num_chars = 0;
+
+    /** False if the trace cannot be compared by hashing. */
+    private volatile boolean applicable = true;
+
+    /**
+     * Creates a hasher for the given trace.
+     *
+     * @param declsfiles the declaration files
+     * @param dtracefile the data trace file
+     * @param max_pending the maximum number of chunks that are read but not yet taken
+     */
+    TraceHasher(Set<File> declsfiles, String dtracefile, int max_pending) {
+      this.declsfiles = declsfiles;
+      this.dtracefile = dtracefile;
+      this.window = new Semaphore(max_pending);
+      if (dtracefile.equals("-") || dtracefile.equals("+")) {
+        applicable = false;
+      }
+    }
+
+    /**
+     * Returns false if the trace cannot be compared by hashing.
+     *
+     * @return false if the trace cannot be compared by hashing
+     */
+    boolean is_applicable() {
+      return applicable;
+    }
+
+    /**
+     * Returns the hashes of the declaration and header records, sorted; the order of declarations
+     * does not matter.
+     *
+     * @return the sorted hashes of the declaration and header records
+     */
+    List<Long> sorted_declarations() {
+      List<Long> result = new ArrayList<>(declarations);
+      Collections.sort(result);
+      return result;
+    }
+
+    /**
+     * Returns the hashes of the next chunk of samples, waiting for them if necessary.
+     *
+     * @return the hashes of the next chunk of samples, or an empty array at the end of the trace
+     * @throws IOException if the trace cannot be read
+     */
+    long[] next_chunk() throws IOException {
+      try {
+        long[] result = get(chunks.take());
+        window.release();
+        return result;
+      } catch (InterruptedException e) {
+        throw new Error("Interrupted while comparing traces", e);
+      }
+    }
+
+    /**
+     * Reads the declaration files and the trace, and hashes the samples on the given executor.
+     * Produces an empty chunk at the end of the trace, or a failed one if it cannot be read.
+     *
+     * @param hashers the executor that hashes samples
+     * @return null
+     * @throws InterruptedException if the comparison was abandoned
+     */
+    @Nullable Void read(ExecutorService hashers) throws InterruptedException {
+      try {
+        for (File declsfile : declsfiles) {
+          read_file(declsfile.getPath(), true, hashers);
+        }
+        if (applicable) {
+          read_file(dtracefile, false, hashers);
+        }
+        chunks.put(CompletableFuture.completedFuture(NO_MORE_CHUNKS));
+      } catch (IOException | RuntimeException e) {
+        CompletableFuture<long[]> failed = new CompletableFuture<>();
+        failed.completeExceptionally(e);
+        chunks.put(failed);
+      }
+      return null;
+    }
+
+    /**
+     * Reads one file, records its declarations, and submits its samples to be hashed.
+     *
+     * @param filename the file to read
+     * @param is_decl_file true if the file is a declaration file
+     * @param hashers the executor that hashes samples
+     * @throws IOException if the file cannot be read
+     * @throws InterruptedException if the thread is interrupted
+     */
+    private void read_file(String filename, boolean is_decl_file, ExecutorService hashers)
+        throws IOException, InterruptedException {
+      try (BufferedReader reader = open(filename)) {
+        List<String> record = new ArrayList<>();
+        List<String[]> chunk = new ArrayList<>();
+        while (true) {
+          String line = reader.readLine();
+          if (line != null) {
+            num_chars += line.length() + 1;
+          }
+          if ((line != null) && !line.trim().isEmpty()) {
+            if (!record.isEmpty() || !FileIO.isComment(line)) {
+              record.add(line);
+            }
+            continue;
+          }
+          if (!record.isEmpty()) {
+            String[] rec = record.toArray(new String[0]);
+            record.clear();
+            if (is_declaration(rec[0])) {
+              declarations.add(hash(rec, null));
+              record_pointer_vars(rec);
+            } else if (is_decl_file) {
+              // Detailed comparison reports the error.
+              applicable = false;
+              return;
+            } else {
+              chunk.add(rec);
+              num_samples++;
+              if (chunk.size() >= dkconfig_hash_chunk_size) {
+                submit(chunk, hashers);
+                chunk = new ArrayList<>();
+              }
+            }
+          }
+          if (line == null) {
+            break;
+          }
+          if (Thread.interrupted()) {
+            throw new InterruptedException();
+          }
+        }
+        if (!chunk.isEmpty()) {
+          submit(chunk, hashers);
+        }
+      }
+    }
+
+    /**
+     * Submits a chunk of samples to be hashed, waiting if too many chunks are pending.
+     *
+     * @param chunk the samples
+     * @param hashers the executor that hashes samples
+     * @throws InterruptedException if the thread is interrupted
+     */
+    private void submit(List<String[]> chunk, ExecutorService hashers)
+        throws InterruptedException {
+      window.acquire();
+      chunks.put(
+          hashers.submit(
+              () -> {
+                long[] result = new long[chunk.size()];
+                for (int i = 0; i < result.length; i++) {
+                  String[] rec = chunk.get(i);
+                  result[i] = hash(rec, pointer_vars.get(rec[0]));
+                }
+                return result;
+              }));
+    }
+
+    /**
+     * Opens a trace or declaration file, as {@link FileIO.ParseState} does.
+     *
+     * @param filename the name or URL of the file
+     * @return a reader for the file
+     * @throws IOException if the file cannot be opened
+     */
+    private static BufferedReader open(String filename) throws IOException {
+      if (filename.startsWith("file:") || filename.startsWith("jar:")) {
+        InputStream stream = URI.create(filename).toURL().openStream();
+        if (filename.endsWith(".gz")) {
+          stream = new GZIPInputStream(stream);
+        }
+        return new BufferedReader(new InputStreamReader(stream, UTF_8));
+      }
+      return FilesPlume.newBufferedFileReader(filename);
+    }
+
+    /**
+     * Returns true if a record that starts with the given line is a declaration or header.
+     *
+     * @param first the first line of a record
+     * @return true if the record is a declaration or header
+     */
+    private static boolean is_declaration(String first) {
+      return first.equals("DECLARE")
+          || first.startsWith("ppt ")
+          || first.startsWith("decl-version")
+          || first.startsWith("input-language")
+          || first.startsWith("var-comparability")
+          || first.equals("VarComparability")
+          || first.equals("ListImplementors");
+    }
+
+    /**
+     * Records the variables of a declaration whose values are pointers.
+     *
+     * @param rec the lines of a declaration or header record
+     */
+    private void record_pointer_vars(String[] rec) {
+      Set<String> pointers = new HashSet<>();
+      if (rec[0].equals("DECLARE")) {
+        // Old format: the ppt name, then name, declared type, rep type, and comparability.
+        if (rec.length < 2) {
+          return;
+        }
+        for (int i = 2; i + 2 < rec.length; i += 4) {
+          if (is_pointer_rep_type(rec[i + 2].trim())) {
+            pointers.add(rec[i]);
+          }
+        }
+        pointer_vars.put(rec[1], pointers);
+      } else if (rec[0].startsWith("ppt ")) {
+        String var = null;
+        for (String line : rec) {
+          line = line.trim();
+          if (line.startsWith("variable ")) {
+            var = line.substring("variable ".length()).trim();
+          } else if (var != null && line.startsWith("rep-type ")) {
+            if (is_pointer_rep_type(line.substring("rep-type ".length()).trim())) {
+              pointers.add(var);
+            }
+          }
+        }
+        pointer_vars.put(rec[0].substring("ppt ".length()).trim(), pointers);
+      }
+    }
+
+    /**
+     * Returns true if the given representation type is a pointer type or an array of pointers.
+     *
+     * @param rep_type a representation type, as it appears in a declaration
+     * @return true if the type is a pointer type or an array of pointers
+     */
+    private static boolean is_pointer_rep_type(String rep_type) {
+      return rep_type.startsWith("hashcode")
+          || rep_type.startsWith("address")
+          || rep_type.startsWith("pointer");
+    }
+
+    /**
+     * Hashes a record. If the record is a sample, each pointer value is hashed only as null or
+     * non-null, as {@link #values_are_equal} compares pointers.
+     *
+     * @param rec the lines of a record
+     * @param pointers the names of the variables whose values are pointers, or null
+     * @return the hash of the record
+     */
+    static long hash(String[] rec, @Nullable Set<String> pointers) {
+      long h = hash(FNV_OFFSET, rec[0]);
+      int i = 1;
+      if (rec.length > 2 && rec[1].equals("this_invocation_nonce")) {
+        h = hash(h, rec[1]);
+        h = hash(h, rec[2]);
+        i = 3;
+      }
+      if ((pointers == null) || pointers.isEmpty() || ((rec.length - i) % 3 != 0)) {
+        for (; i < rec.length; i++) {
+          h = hash(h, rec[i]);
+        }
+        return h;
+      }
+      // The rest of the sample is a name, a value, and a modbit for each variable.
+      for (; i < rec.length; i += 3) {
+        h = hash(h, rec[i]);
+        h = hash(h, pointers.contains(rec[i]) ? canonical_pointer(rec[i + 1]) : rec[i + 1]);
+        h = hash(h, rec[i + 2]);
+      }
+      return h;
+    }
+
+    /**
+     * Adds a line to a hash.
+     *
+     * @param h the hash so far
+     * @param line the line to add
+     * @return the hash of the lines so far and the given line
+     */
+    private static long hash(long h, String line) {
+      for (int i = 0; i < line.length(); i++) {
+        h ^= line.charAt(i);
+        h *= FNV_PRIME;
+      }
+      h ^= '\n';
+      h *= FNV_PRIME;
+      return h;
+    }
+
+    /**
+     * Returns a pointer value, or an array of them, with each non-null pointer replaced by 1. Null
+     * pointers are 0. Values that are not plainly decimal pointers are returned unchanged, so
+     * values that {@link #values_are_equal} considers different are never made the same.
+     *
+     * @param value the value of a pointer variable, as it appears in a sample
+     * @return the value with each pointer replaced by 0 or 1
+     */
+    private static String canonical_pointer(String value) {
+      if (value.startsWith("[") && value.endsWith("]") && !value.startsWith("[[")) {
+        StringJoiner result = new StringJoiner(" ", "[", "]");
+        for (String elt : value.substring(1, value.length() - 1).split(" ", -1)) {
+          result.add(canonical_pointer_element(elt));
+        }
+        return result.toString();
+      }
+      return canonical_pointer_element(value);
+    }
+
+    /**
+     * Returns "0" for a null pointer, "1" for a non-null pointer written in decimal, and the value
+     * itself otherwise.
+     *
+     * @param value a pointer value
+     * @return the value as 0 or 1, if it is plainly a pointer
+     */
+    private static String canonical_pointer_element(String value) {
+      if (value.equals("null")) {
+        return "0";
+      }
+      int start = value.startsWith("-") ? 1 : 0;
+      if (start == value.length()) {
+        return value;
+      }
+      boolean zero = true;
+      for (int i = start; i < value.length(); i++) {
+        char c = value.charAt(i);
+        if (c < '0' || c > '9') {
+          return value;
+        }
+        zero = zero && (c == '0');
+      }
+      return zero ? "0" : "1";
+    }
+  }
+
   private static boolean values_are_equal(VarInfo vi, Object val1, Object val2) {
     ProglangType type = vi.file_rep_type;
     // System.out.printf("values_are_equal type = %s%n", type);
@@ -0,0 +1,1036 @@
+package daikon.tools;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+import org.checkerframework.checker.mustcall.qual.Owning;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An index of the records of a {@code .dtrace} or {@code .dtrace.gz} file, which lets tools such as
+ * {@link TraceSelect}, {@link DtracePartitioner}, and {@link daikon.SplitDtrace} read just the
+ * records they select instead of re-scanning the whole file.
+ *
+ * <p>A record is a maximal run of non-blank lines; comments between records are not records. For
+ * each record the index holds its byte offset and length in the (uncompressed) trace, its kind (see
+ * {@link Kind}), the program point it names, and its invocation nonce, if any. For a gzipped trace,
+ * the index also holds the position of each gzip member. Decompression can start only at the
+ * beginning of a member, so reading a record of an ordinary gzip file, which has one member,
+ * decompresses the file up to that record; a file written by {@link BlockGzipOutputStream} has many
+ * small members, so any record of it can be reached quickly.
+ *
+ * <p>The index is built in one pass over the trace and is saved next to it, in a sidecar file
+ * whose name is that of the trace followed by {@code .idx}. {@link #forFile} reuses the sidecar as
+ * long as the trace's size and modification time have not changed.
+ */
+public final class DtraceIndex {
+
+  /** The kind of a record. */
+  public enum Kind {
+    /** A header record, such as {@code decl-version} or {@code VarComparability}. */
+    HEADER,
+    /** A program point declaration, in the old ({@code DECLARE}) or new ({@code ppt}) format. */
+    DECLARATION,
+    /** A sample at an entry program point. */
+    ENTER,
+    /** A sample at an exit program point. */
+    EXIT,
+    /** A sample at any other program point, such as an {@code OBJECT} or {@code CLASS} point. */
+    SAMPLE
+  }
+
+  /** The values of {@link Kind}, indexed by ordinal. */
+  private static final Kind[] KINDS = Kind.values();
+
+  /** Set in {@link #kinds} for a record that has an invocation nonce. */
+  private static final byte HAS_NONCE = 0x10;
+
+  /** The first bytes of every sidecar file: "DTIX". */
+  private static final int MAGIC = 0x44544958;
+
+  /** The version of the sidecar format. */
+  private static final int VERSION = 1;
+
+  /** The suffix that is added to the name of a trace file to make the name of its sidecar. */
+  public static final String SIDECAR_SUFFIX = ".idx";
+
+  /** The name of the trace file. */
+  private final String filename;
+
+  /** The size of the trace file when it was indexed. */
+  private final long fileLength;
+
+  /** The modification time of the trace file when it was indexed. */
+  private final long fileModified;
+
+  /** True if the trace file is gzipped. */
+  private final boolean gzipped;
+
+  /** For a gzipped file, the offset in the file of each member. */
+  private long[] memberOffsets = new long[0];
+
+  /** For a gzipped file, the offset in the uncompressed data at which each member starts. */
+  private long[] memberStarts = new long[0];
+
+  /** The number of records. */
+  private int size = 0;
+
+  /** The offset of each record in the uncompressed trace. */
+  private long[] offsets = new long[1024];
+
+  /** The length in bytes of each record, including the line terminator of its last line. */
+  private int[] lengths = new int[1024];
+
+  /** The index in {@link #pptNames} of the program point of each record. */
+  private int[] ppts = new int[1024];
+
+  /** The ordinal of the {@link Kind} of each record, possibly with {@link #HAS_NONCE} set. */
+  private byte[] kinds = new byte[1024];
+
+  /** The invocation nonce of each record, or 0 if the record has none. */
+  private int[] nonces = new int[1024];
+
+  /**
+   * The program point names of the records. For a header record this is the first line; for a
+   * declaration it is the name of the declared program point.
+   */
+  private final List<String> pptNames = new ArrayList<>();
+
+  /** Maps each element of {@link #pptNames} to its index. */
+  private final HashMap<String, Integer> pptIds = new HashMap<>();
+
+  /**
+   * For each ENTER record, its EXIT record, and vice versa; -1 for other records and for unmatched
+   * ones. Computed lazily.
+   */
+  private int @Nullable [] matches = null;
+
+  /**
+   * Creates an empty index.
+   *
+   * @param filename the name of the trace file
+   * @param fileLength the size of the trace file
+   * @param fileModified the modification time of the trace file
+   */
+  private DtraceIndex(String filename, long fileLength, long fileModified) {
+    this.filename = filename;
+    this.fileLength = fileLength;
+    this.fileModified = fileModified;
+    this.gzipped = filename.endsWith(".gz");
+  }
+
+  /**
+   * Returns the index of the given trace file, from its sidecar file if that is up to date, or else
+   * by building the index and saving it in the sidecar file. The index is usable even if the
+   * sidecar file cannot be written.
+   *
+   * @param filename a {@code .dtrace} or {@code .dtrace.gz} file
+   * @return the index of the file
+   * @throws IOException if the trace file cannot be read
+   */
+  public static DtraceIndex forFile(String filename) throws IOException {
+    File sidecar = new File(filename + SIDECAR_SUFFIX);
+    if (sidecar.exists()) {
+      DtraceIndex index = read(filename, sidecar);
+      if (index != null) {
+        return index;
+      }
+    }
+    DtraceIndex index = build(filename);
+    try {
+      index.write(sidecar);
+    } catch (IOException e) {
+      // The index will be rebuilt the next time it is needed.
+    }
+    return index;
+  }
+
+  /**
+   * Builds the index of a trace file by reading it once.
+   *
+   * @param filename a {@code .dtrace} or {@code .dtrace.gz} file
+   * @return the index of the file
+   * @throws IOException if the trace file cannot be read
+   */
+  public static DtraceIndex build(String filename) throws IOException {
+    File file = new File(filename);
+    DtraceIndex index = new DtraceIndex(filename, file.length(), file.lastModified());
+    try (FileInputStream fis = new FileInputStream(file)) {
+      if (index.gzipped) {
+        try (GzipMemberInputStream gzip = new GzipMemberInputStream(fis)) {
+          index.scan(gzip);
+          index.memberOffsets = gzip.memberOffsets();
+          index.memberStarts = gzip.memberStarts();
+        }
+      } else {
+        index.scan(fis);
+      }
+    }
+    return index;
+  }
+
+  /**
+   * Reads the index of a trace file from a sidecar file.
+   *
+   * @param filename the name of the trace file
+   * @param sidecar the sidecar file
+   * @return the index, or null if the sidecar is unreadable or out of date
+   */
+  private static @Nullable DtraceIndex read(String filename, File sidecar) {
+    File file = new File(filename);
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(new FileInputStream(sidecar)))) {
+      if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+        return null;
+      }
+      long length = in.readLong();
+      long modified = in.readLong();
+      if (length != file.length() || modified != file.lastModified()) {
+        return null;
+      }
+      DtraceIndex index = new DtraceIndex(filename, length, modified);
+      int numMembers = in.readInt();
+      index.memberOffsets = new long[numMembers];
+      index.memberStarts = new long[numMembers];
+      for (int i = 0; i < numMembers; i++) {
+        index.memberOffsets[i] = in.readLong();
+        index.memberStarts[i] = in.readLong();
+      }
+      int numPpts = in.readInt();
+      for (int i = 0; i < numPpts; i++) {
+        index.pptId(in.readUTF());
+      }
+      int numRecords = in.readInt();
+      index.offsets = new long[numRecords];
+      index.lengths = new int[numRecords];
+      index.ppts = new int[numRecords];
+      index.kinds = new byte[numRecords];
+      index.nonces = new int[numRecords];
+      for (int i = 0; i < numRecords; i++) {
+        index.offsets[i] = in.readLong();
+        index.lengths[i] = in.readInt();
+        index.ppts[i] = in.readInt();
+        index.kinds[i] = in.readByte();
+        index.nonces[i] = in.readInt();
+      }
+      index.size = numRecords;
+      return index;
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Saves this index in a sidecar file. The file is written under a temporary name and then
+   * renamed, so a reader never sees a partly written sidecar.
+   *
+   * @param sidecar where to save the index
+   * @throws IOException if the sidecar file cannot be written
+   */
+  public void write(File sidecar) throws IOException {
+    File tmp = new File(sidecar.getPath() + ".tmp");
+    try (DataOutputStream out =
+        new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeLong(fileLength);
+      out.writeLong(fileModified);
+      out.writeInt(memberOffsets.length);
+      for (int i = 0; i < memberOffsets.length; i++) {
+        out.writeLong(memberOffsets[i]);
+        out.writeLong(memberStarts[i]);
+      }
+      out.writeInt(pptNames.size());
+      for (String name : pptNames) {
+        out.writeUTF(name);
+      }
+      out.writeInt(size);
+      for (int i = 0; i < size; i++) {
+        out.writeLong(offsets[i]);
+        out.writeInt(lengths[i]);
+        out.writeInt(ppts[i]);
+        out.writeByte(kinds[i]);
+        out.writeInt(nonces[i]);
+      }
+    } catch (IOException e) {
+      tmp.delete();
+      throw e;
+    }
+    Files.move(tmp.toPath(), sidecar.toPath(), StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  /**
+   * Returns the name of the indexed trace file.
+   *
+   * @return the name of the indexed trace file
+   */
+  public String filename() {
+    return filename;
+  }
+
+  /**
+   * Returns the number of records in the trace.
+   *
+   * @return the number of records in the trace
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the kind of a record.
+   *
+   * @param record the number of a record
+   * @return the kind of the record
+   */
+  public Kind kind(int record) {
+    return KINDS[kinds[record] & 0x0f];
+  }
+
+  /**
+   * Returns the program point name of a record: the name of the program point of a sample or
+   * declaration, or the first line of a header record.
+   *
+   * @param record the number of a record
+   * @return the program point name of the record
+   */
+  public String pptName(int record) {
+    return pptNames.get(ppts[record]);
+  }
+
+  /**
+   * Returns a number that identifies the program point name of a record. Two records have the same
+   * number exactly when {@link #pptName} returns the same name for them.
+   *
+   * @param record the number of a record
+   * @return the number of the record's program point name
+   */
+  public int pptNumber(int record) {
+    return ppts[record];
+  }
+
+  /**
+   * Returns true if a record has an invocation nonce.
+   *
+   * @param record the number of a record
+   * @return true if the record has an invocation nonce
+   */
+  public boolean hasNonce(int record) {
+    return (kinds[record] & HAS_NONCE) != 0;
+  }
+
+  /**
+   * Returns the invocation nonce of a record.
+   *
+   * @param record the number of a record, which must have a nonce
+   * @return the invocation nonce of the record
+   */
+  public int nonce(int record) {
+    if (!hasNonce(record)) {
+      throw new IllegalArgumentException("Record " + record + " has no nonce");
+    }
+    return nonces[record];
+  }
+
+  /**
+   * Returns the offset of a record in the uncompressed trace.
+   *
+   * @param record the number of a record
+   * @return the offset of the record in the uncompressed trace
+   */
+  public long offset(int record) {
+    return offsets[record];
+  }
+
+  /**
+   * Returns the length in bytes of a record, including the line terminator of its last line.
+   *
+   * @param record the number of a record
+   * @return the length in bytes of the record
+   */
+  public int length(int record) {
+    return lengths[record];
+  }
+
+  /**
+   * Returns the record that matches an ENTER or EXIT record: the first later EXIT record with the
+   * same nonce, or the ENTER record that such an EXIT record matches.
+   *
+   * @param record the number of a record
+   * @return the number of the matching record, or -1 if there is none
+   */
+  public int match(int record) {
+    int[] m = matches;
+    if (m == null) {
+      m = new int[size];
+      Arrays.fill(m, -1);
+      HashMap<Integer, Integer> open = new HashMap<>();
+      for (int i = 0; i < size; i++) {
+        if (!hasNonce(i)) {
+          continue;
+        }
+        Kind kind = kind(i);
+        if (kind == Kind.ENTER) {
+          open.put(nonces[i], i);
+        } else if (kind == Kind.EXIT) {
+          Integer enter = open.remove(nonces[i]);
+          if (enter != null) {
+            m[enter] = i;
+            m[i] = enter;
+          }
+        }
+      }
+      matches = m;
+    }
+    return m[record];
+  }
+
+  /**
+   * Returns a reader for the records of the trace.
+   *
+   * @return a reader for the records of the trace
+   * @throws IOException if the trace file cannot be opened
+   */
+  public Reader newReader() throws IOException {
+    return new Reader();
+  }
+
+  /**
+   * Reads records of the indexed trace. For a gzipped trace, reading records in increasing order is
+   * fastest; for an uncompressed trace, any order is equally fast.
+   */
+  public final class Reader implements Closeable {
+
+    /** The trace file. */
+    private final @Owning FileInputStream file;
+
+    /** The channel of {@link #file}. */
+    private final FileChannel channel;
+
+    /** For a gzipped trace, the stream that decompresses it, or null if none is open yet. */
+    private @Owning @Nullable GzipMemberInputStream gzip = null;
+
+    /** The position of {@link #gzip} in the uncompressed trace. */
+    private long gzipPosition = 0;
+
+    /**
+     * Opens the trace file.
+     *
+     * @throws IOException if the trace file cannot be opened
+     */
+    private Reader() throws IOException {
+      file = new FileInputStream(filename);
+      channel = file.getChannel();
+    }
+
+    /**
+     * Returns the bytes of a record.
+     *
+     * @param record the number of a record
+     * @return the bytes of the record, including the line terminator of its last line
+     * @throws IOException if the trace file cannot be read
+     */
+    public byte[] read(int record) throws IOException {
+      long offset = offsets[record];
+      byte[] result = new byte[lengths[record]];
+      if (!gzipped) {
+        ByteBuffer bb = ByteBuffer.wrap(result);
+        while (bb.hasRemaining()) {
+          if (channel.read(bb, offset + bb.position()) < 0) {
+            throw new EOFException("Trace file " + filename + " is shorter than its index");
+          }
+        }
+        return result;
+      }
+      int member = Arrays.binarySearch(memberStarts, offset);
+      if (member < 0) {
+        member = -member - 2;
+      }
+      if (gzip == null || gzipPosition > offset || gzipPosition < memberStarts[member]) {
+        // Start decompressing at the member that contains the record.
+        if (gzip != null) {
+          gzip.close();
+        }
+        channel.position(memberOffsets[member]);
+        gzip = new GzipMemberInputStream(Channels.newInputStream(channel));
+        gzipPosition = memberStarts[member];
+      }
+      while (gzipPosition < offset) {
+        long n = gzip.skip(offset - gzipPosition);
+        if (n <= 0) {
+          throw new EOFException("Trace file " + filename + " is shorter than its index");
+        }
+        gzipPosition += n;
+      }
+      new DataInputStream(gzip).readFully(result);
+      gzipPosition += result.length;
+      return result;
+    }
+
+    /**
+     * Returns the text of a record.
+     *
+     * @param record the number of a record
+     * @param charset the encoding of the trace file
+     * @return the text of the record, including the line terminator of its last line
+     * @throws IOException if the trace file cannot be read
+     */
+    public String readString(int record, Charset charset) throws IOException {
+      return new String(read(record), charset);
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (gzip != null) {
+        gzip.close();
+      }
+      file.close();
+    }
+  }
+
+  /**
+   * Returns the number that identifies a program point name, assigning one if necessary.
+   *
+   * @param name a program point name
+   * @return the number of the name
+   */
+  private int pptId(String name) {
+    Integer id = pptIds.get(name);
+    if (id == null) {
+      id = pptNames.size();
+      pptNames.add(name);
+      pptIds.put(name, id);
+    }
+    return id;
+  }
+
+  /**
+   * Indexes the records of the uncompressed trace.
+   *
+   * @param in the uncompressed trace
+   * @throws IOException if the trace cannot be read
+   */
+  private void scan(InputStream in) throws IOException {
+    LineScanner lines = new LineScanner(in);
+    String[] head = new String[3];
+    int numLines = 0;
+    long start = 0;
+    long end = 0;
+    while (lines.next(numLines < head.length)) {
+      if (lines.isBlank() || (numLines == 0 && lines.isComment())) {
+        if (numLines > 0) {
+          addRecord(start, end, head, numLines);
+          numLines = 0;
+        }
+        continue;
+      }
+      if (numLines == 0) {
+        start = lines.start;
+      }
+      if (numLines < head.length) {
+        head[numLines] = lines.text();
+      }
+      numLines++;
+      end = lines.start + lines.length;
+    }
+    if (numLines > 0) {
+      addRecord(start, end, head, numLines);
+    }
+  }
+
+  /**
+   * Adds a record to the index.
+   *
+   * @param start the offset of the record
+   * @param end the offset just after the record
+   * @param head the first lines of the record
+   * @param numLines the number of lines in the record
+   */
+  private void addRecord(long start, long end, String[] head, int numLines) {
+    String first = head[0];
+    Kind kind;
+    String ppt;
+    int nonce = 0;
+    boolean hasNonce = false;
+    if (first.equals("DECLARE")) {
+      kind = Kind.DECLARATION;
+      ppt = (numLines > 1) ? head[1] : first;
+    } else if (first.startsWith("ppt ")) {
+      kind = Kind.DECLARATION;
+      ppt = first.substring(4).trim();
+    } else if (first.startsWith("decl-version")
+        || first.startsWith("input-language")
+        || first.startsWith("var-comparability")
+        || first.equals("VarComparability")
+        || first.equals("ListImplementors")) {
+      kind = Kind.HEADER;
+      ppt = first;
+    } else {
+      if (first.contains(":::ENTER")) {
+        kind = Kind.ENTER;
+      } else if (first.contains(":::EXIT")) {
+        kind = Kind.EXIT;
+      } else {
+        kind = Kind.SAMPLE;
+      }
+      ppt = first;
+      if (numLines > 2 && head[1].equals("this_invocation_nonce")) {
+        try {
+          nonce = Integer.parseInt(head[2]);
+          hasNonce = true;
+        } catch (NumberFormatException e) {
+          // Not a nonce; the record is indexed without one.
+        }
+      }
+    }
+
+    if (size == offsets.length) {
+      int capacity = 2 * size;
+      offsets = Arrays.copyOf(offsets, capacity);
+      lengths = Arrays.copyOf(lengths, capacity);
+      ppts = Arrays.copyOf(ppts, capacity);
+      kinds = Arrays.copyOf(kinds, capacity);
+      nonces = Arrays.copyOf(nonces, capacity);
+    }
+    offsets[size] = start;
+    lengths[size] = Math.toIntExact(end - start);
+    ppts[size] = pptId(ppt);
+    kinds[size] = (byte) (kind.ordinal() | (hasNonce ? HAS_NONCE : 0));
+    nonces[size] = nonce;
+    size++;
+  }
+
+  /** Splits a stream into lines, keeping track of the offset of each line. */
+  private static final class LineScanner {
+
+    /** The stream being split. */
+    private final InputStream in;
+
+    /** Bytes read from {@link #in}. */
+    private final byte[] buf = new byte[1 << 16];
+
+    /** The index in {@link #buf} of the next unscanned byte. */
+    private int pos = 0;
+
+    /** The number of valid bytes in {@link #buf}. */
+    private int limit = 0;
+
+    /** The offset in the stream of the next unscanned byte. */
+    private long position = 0;
+
+    /** The offset of the current line. */
+    long start;
+
+    /** The length of the current line, including its terminator. */
+    int length;
+
+    /** The contents of the current line, if they were requested. */
+    private byte[] text = new byte[256];
+
+    /** The number of valid bytes in {@link #text}. */
+    private int textLength;
+
+    /** The first non-whitespace byte of the current line, or -1 if it has none. */
+    private int lead0;
+
+    /** The second non-whitespace byte of the current line, or -1 if it has none. */
+    private int lead1;
+
+    /**
+     * Creates a scanner for the given stream.
+     *
+     * @param in the stream to split into lines
+     */
+    LineScanner(InputStream in) {
+      this.in = in;
+    }
+
+    /**
+     * Advances to the next line.
+     *
+     * @param keep if true, the contents of the line are saved for {@link #text}
+     * @return false if the end of the stream has been reached
+     * @throws IOException if the stream cannot be read
+     */
+    boolean next(boolean keep) throws IOException {
+      start = position;
+      textLength = 0;
+      lead0 = -1;
+      lead1 = -1;
+      while (true) {
+        if (pos == limit) {
+          int n = in.read(buf, 0, buf.length);
+          if (n <= 0) {
+            length = (int) (position - start);
+            return length > 0;
+          }
+          pos = 0;
+          limit = n;
+        }
+        byte b = buf[pos++];
+        position++;
+        if (b == '\n') {
+          length = (int) (position - start);
+          return true;
+        }
+        if (keep) {
+          if (textLength == text.length) {
+            text = Arrays.copyOf(text, 2 * textLength);
+          }
+          text[textLength++] = b;
+        }
+        if (lead1 < 0 && b != ' ' && b != '\t' && b != '\r') {
+          if (lead0 < 0) {
+            lead0 = b;
+          } else {
+            lead1 = b;
+          }
+        }
+      }
+    }
+
+    /**
+     * Returns true if the current line contains only whitespace.
+     *
+     * @return true if the current line contains only whitespace
+     */
+    boolean isBlank() {
+      return lead0 < 0;
+    }
+
+    /**
+     * Returns true if the current line is a comment, as defined by {@link
+     * daikon.FileIO#isComment}.
+     *
+     * @return true if the current line is a comment
+     */
+    boolean isComment() {
+      return lead0 == '#' || (lead0 == '/' && lead1 == '/');
+    }
+
+    /**
+     * Returns the trimmed contents of the current line, which must have been kept.
+     *
+     * @return the trimmed contents of the current line
+     */
+    String text() {
+      return new String(text, 0, textLength, UTF_8).trim();
+    }
+  }
+
+  /**
+   * Decompresses a gzip file, like {@link java.util.zip.GZIPInputStream}, but records where in the
+   * file each gzip member starts. Closing this stream does not close the underlying stream.
+   */
+  private static final class GzipMemberInputStream extends InputStream {
+
+    /** Header flag: the header has an extra field. */
+    private static final int FEXTRA = 4;
+
+    /** Header flag: the header has a file name. */
+    private static final int FNAME = 8;
+
+    /** Header flag: the header has a comment. */
+    private static final int FCOMMENT = 16;
+
+    /** Header flag: the header has a checksum. */
+    private static final int FHCRC = 2;
+
+    /** The compressed data. */
+    private final InputStream in;
+
+    /** Compressed bytes read from {@link #in}. */
+    private final byte[] buf = new byte[1 << 16];
+
+    /** The index in {@link #buf} of the next compressed byte that has not been consumed. */
+    private int pos = 0;
+
+    /** The number of valid bytes in {@link #buf}. */
+    private int limit = 0;
+
+    /** The offset, relative to the start of {@link #in}, of {@code buf[0]}. */
+    private long bufStart = 0;
+
+    /** Decompresses the current member. */
+    private final Inflater inflater = new Inflater(true);
+
+    /** The checksum of the uncompressed bytes of the current member. */
+    private final CRC32 crc = new CRC32();
+
+    /** The number of uncompressed bytes of the current member so far. */
+    private long memberSize = 0;
+
+    /** The number of uncompressed bytes returned so far. */
+    private long uncompressed = 0;
+
+    /** True once the last member has been read. */
+    private boolean eof = false;
+
+    /** The offset of each member read so far, relative to the start of {@link #in}. */
+    private final List<Long> offsets = new ArrayList<>();
+
+    /** The offset in the uncompressed data at which each member read so far starts. */
+    private final List<Long> starts = new ArrayList<>();
+
+    /**
+     * Creates a stream that decompresses the given gzip data, which starts at a member.
+     *
+     * @param in the compressed data
+     * @throws IOException if the data is not in gzip format
+     */
+    GzipMemberInputStream(InputStream in) throws IOException {
+      this.in = in;
+      if (!startMember()) {
+        throw new ZipException("Not in gzip format");
+      }
+    }
+
+    /**
+     * Returns the offset of each member read so far, relative to the start of the data.
+     *
+     * @return the offset of each member read so far
+     */
+    long[] memberOffsets() {
+      return toArray(offsets);
+    }
+
+    /**
+     * Returns the offset in the uncompressed data at which each member read so far starts.
+     *
+     * @return the uncompressed offset of each member read so far
+     */
+    long[] memberStarts() {
+      return toArray(starts);
+    }
+
+    @Override
+    public int read() throws IOException {
+      byte[] b = new byte[1];
+      return (read(b, 0, 1) < 0) ? -1 : (b[0] & 0xff);
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+      while (!eof) {
+        int n;
+        try {
+          n = inflater.inflate(b, off, len);
+        } catch (DataFormatException e) {
+          throw new ZipException(e.getMessage());
+        }
+        if (n > 0) {
+          crc.update(b, off, n);
+          memberSize += n;
+          uncompressed += n;
+          return n;
+        }
+        if (inflater.finished()) {
+          pos = limit - inflater.getRemaining();
+          long checksum = readInt();
+          long memberLength = readInt();
+          if (checksum != crc.getValue() || memberLength != (memberSize & 0xffffffffL)) {
+            throw new ZipException("Corrupt gzip trailer");
+          }
+          if (!startMember()) {
+            eof = true;
+          }
+        } else if (inflater.needsDictionary()) {
+          throw new ZipException("Unexpected gzip dictionary");
+        } else if (inflater.needsInput()) {
+          if (!fill()) {
+            throw new EOFException("Unexpected end of gzip data");
+          }
+          inflater.setInput(buf, pos, limit - pos);
+          pos = limit;
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      byte[] scratch = new byte[(int) Math.min(n, 1 << 16)];
+      long skipped = 0;
+      while (skipped < n) {
+        int k = read(scratch, 0, (int) Math.min(n - skipped, scratch.length));
+        if (k < 0) {
+          break;
+        }
+        skipped += k;
+      }
+      return skipped;
+    }
+
+    @Override
+    public void close() {
+      inflater.end();
+    }
+
+    /**
+     * Reads the header of the next member, if any. Like {@link java.util.zip.GZIPInputStream},
+     * ignores trailing data that is not a gzip member.
+     *
+     * @return true if a member was started, false at the end of the data
+     * @throws IOException if the header cannot be read
+     */
+    private boolean startMember() throws IOException {
+      if (!fill()) {
+        return false;
+      }
+      long offset = bufStart + pos;
+      if (readByte() != 0x1f || !fill() || readByte() != 0x8b) {
+        return false;
+      }
+      if (readByte() != 8) {
+        throw new ZipException("Unsupported gzip compression method");
+      }
+      int flags = readByte();
+      for (int i = 0; i < 6; i++) { // modification time, extra flags, operating system
+        readByte();
+      }
+      if ((flags & FEXTRA) != 0) {
+        int n = readByte() | (readByte() << 8);
+        for (int i = 0; i < n; i++) {
+          readByte();
+        }
+      }
+      if ((flags & FNAME) != 0) {
+        while (readByte() != 0) {}
+      }
+      if ((flags & FCOMMENT) != 0) {
+        while (readByte() != 0) {}
+      }
+      if ((flags & FHCRC) != 0) {
+        readByte();
+        readByte();
+      }
+      offsets.add(offset);
+      starts.add(uncompressed);
+      inflater.reset();
+      crc.reset();
+      memberSize = 0;
+      return true;
+    }
+
+    /**
+     * Makes sure that {@link #buf} has a byte that has not been consumed.
+     *
+     * @return false at the end of the data
+     * @throws IOException if the data cannot be read
+     */
+    private boolean fill() throws IOException {
+      if (pos < limit) {
+        return true;
+      }
+      int n = in.read(buf, 0, buf.length);
+      if (n <= 0) {
+        return false;
+      }
+      bufStart += limit;
+      pos = 0;
+      limit = n;
+      return true;
+    }
+
+    /**
+     * Consumes one compressed byte.
+     *
+     * @return the byte, as an unsigned value
+     * @throws IOException if the data ends
+     */
+    private int readByte() throws IOException {
+      if (!fill()) {
+        throw new EOFException("Unexpected end of gzip data");
+      }
+      return buf[pos++] & 0xff;
+    }
+
+    /**
+     * Consumes a little-endian 32-bit integer.
+     *
+     * @return the integer, as an unsigned value
+     * @throws IOException if the data ends
+     */
+    private long readInt() throws IOException {
+      long result = 0;
+      for (int i = 0; i < 32; i += 8) {
+        result |= ((long) readByte()) << i;
+      }
+      return result;
+    }
+
+    /**
+     * Converts a list of Longs to an array.
+     *
+     * @param list a list of Longs
+     * @return an array with the same elements
+     */
+    private static long[] toArray(List<Long> list) {
+      long[] result = new long[list.size()];
+      for (int i = 0; i < result.length; i++) {
+        result[i] = list.get(i);
+      }
+      return result;
+    }
+  }
+
+  /**
+   * Builds, and saves in sidecar files, the indexes of the given trace files.
+   *
+   * @param args the names of {@code .dtrace} or {@code .dtrace.gz} files
+   * @throws IOException if a trace file cannot be read or its sidecar file cannot be written
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length == 0) {
+      System.out.println("Usage: java daikon.tools.DtraceIndex DTRACE-FILE...");
+      return;
+    }
+    for (String filename : args) {
+      DtraceIndex index = build(filename);
+      index.write(new File(filename + SIDECAR_SUFFIX));
+      int[] counts = new int[KINDS.length];
+      for (int i = 0; i < index.size(); i++) {
+        counts[index.kind(i).ordinal()]++;
+      }
+      System.out.printf(
+          "%s: %d records (%d declarations, %d enters, %d exits, %d other samples)",
+          filename,
+          index.size(),
+          counts[Kind.DECLARATION.ordinal()],
+          counts[Kind.ENTER.ordinal()],
+          counts[Kind.EXIT.ordinal()],
+          counts[Kind.SAMPLE.ordinal()]);
+      if (index.gzipped) {
+        System.out.printf(", %d gzip members", index.memberOffsets.length);
+      }
+      System.out.println();
+    }
+  }
+}
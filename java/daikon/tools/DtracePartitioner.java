@@ -1,48 +1,63 @@
 // DtracePartitioner.java
 package daikon.tools;
 
-import java.io.BufferedReader;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.TreeMap;
 import org.checkerframework.checker.calledmethods.qual.EnsuresCalledMethods;
 import org.checkerframework.checker.lock.qual.GuardSatisfied;
-import org.checkerframework.checker.mustcall.qual.CreatesMustCallFor;
 import org.checkerframework.checker.mustcall.qual.Owning;
-import org.plumelib.util.FilesPlume;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.plumelib.util.MultiRandSelector;
 import org.plumelib.util.Partitioner;
 
 /**
  * This class partitions Daikon trace files so that invocations of the same program point are
  * grouped together for use with random selection.
+ *
+ * <p>The trace is read through its {@link DtraceIndex}, so matching an ENTER invocation with its
+ * EXIT does not require another pass over the file, and {@link #select} reads only the
+ * invocations that it selects.
  */
 public class DtracePartitioner implements Closeable, Partitioner<String, String>, Iterator<String> {
 
   /** The system-specific line separator. */
   private static final String lineSep = System.lineSeparator();
 
-  /** reading from the file as a lazy iterator */
-  private @Owning BufferedReader br;
+  /** The index of the Daikon trace file. */
+  private final DtraceIndex index;
+
+  /** Reads records from the Daikon trace file. */
+  private final @Owning DtraceIndex.Reader reader;
+
+  /** The number of the next record that the iterator examines. */
+  private int cursor = 0;
 
-  /** the name of the Daikon trace file */
-  private String filename;
+  /** Maps each nonce to the first ENTER record with that nonce. Computed lazily. */
+  private @MonotonicNonNull HashMap<Integer, Integer> enterRecords = null;
 
   /**
    * @param filename the Daikon trace file to be partitioned
    */
   public DtracePartitioner(String filename) {
     try {
-      this.filename = filename;
-      // System.out.printf("trying with file %s%n", filename);
-      br = FilesPlume.newBufferedFileReader(filename);
-
+      index = DtraceIndex.forFile(filename);
+      reader = index.newReader();
     } catch (IOException e) {
       e.printStackTrace();
       throw new Error(e);
@@ -50,20 +65,18 @@ public class DtracePartitioner implements Closeable, Partitioner<String, String>
   }
 
   /** Releases resources held by this. */
-  @EnsuresCalledMethods(value = "br", methods = "close")
+  @EnsuresCalledMethods(value = "reader", methods = "close")
   @Override
   public void close(@GuardSatisfied DtracePartitioner this) throws IOException {
-    br.close();
+    reader.close();
   }
 
   @Override
   public boolean hasNext(@GuardSatisfied DtracePartitioner this) {
-    try {
-      return br.ready();
-    } catch (IOException e) {
-      e.printStackTrace();
-      return false;
+    while (cursor < index.size() && index.kind(cursor) == DtraceIndex.Kind.EXIT) {
+      cursor++;
     }
+    return cursor < index.size();
   }
 
   /** Not implemented, because this class does not modify the underlying trace file. */
@@ -72,40 +85,96 @@ public class DtracePartitioner implements Closeable, Partitioner<String, String>
     throw new UnsupportedOperationException("Can not remove");
   }
 
+  /** Returns the next invocation that is not an EXIT. */
   @Override
   public String next(@GuardSatisfied DtracePartitioner this) {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return invocation(cursor++);
+  }
+
+  /**
+   * Returns the text of a record of the Daikon trace file: its lines, trimmed, each followed by a
+   * line separator.
+   */
+  private String invocation(@GuardSatisfied DtracePartitioner this, int record) {
     try {
-      String ret = grabNextInvocation();
-      if (ret.indexOf("EXIT") != -1) {
-        if (!br.ready()) {
-          return "";
-        }
-        return next();
-      } else {
-        return ret;
+      StringBuilder sb = new StringBuilder();
+      for (String line : reader.readString(record, UTF_8).split("\n")) {
+        sb.append(line.trim()).append(lineSep);
       }
+      return sb.toString();
     } catch (IOException e) {
       throw new UncheckedIOException(e);
     }
   }
 
   /**
-   * Grabs the next invocation in the Daikon trace file by interpreting a blank line as the
-   * invocation delimter. Note that multiple blank lines between invocations might occur, so the
-   * callee is responsible for checking if the returned String is a blank line.
+   * Randomly selects up to numPerPpt invocations of each program point, as a {@link
+   * MultiRandSelector} over this partitioner would, and pairs each selected ENTER invocation with
+   * its EXIT as {@link #patchValues(List, boolean)} does. Unlike the iterator, always selects
+   * every header and declaration record, so the result is a valid trace even when the declarations
+   * are in the trace file. Only the selected records are read from the trace file.
+   *
+   * @param numPerPpt the number of invocations to select for each program point
+   * @param random the source of randomness
+   * @param includeUnreturnedEnters if true, an ENTER invocation with no EXIT may be selected
+   * @return the selected records, in the order in which they appear in the trace file
    */
-  private String grabNextInvocation(@GuardSatisfied DtracePartitioner this) throws IOException {
-    StringBuilder sb = new StringBuilder();
-    while (br.ready()) {
-      String line = br.readLine();
-      assert line != null; // because br.ready() = true
-      line = line.trim();
-      if (line.equals("")) {
-        break;
+  public List<String> select(int numPerPpt, Random random, boolean includeUnreturnedEnters) {
+    List<Integer> selected = new ArrayList<>();
+    MultiRandSelector<Integer> mrs = new MultiRandSelector<>(numPerPpt, random, index::pptNumber);
+    for (int i = 0; i < index.size(); i++) {
+      switch (index.kind(i)) {
+        case HEADER:
+        case DECLARATION:
+          selected.add(i);
+          break;
+        case ENTER:
+        case SAMPLE:
+          mrs.accept(i);
+          break;
+        case EXIT:
+          break;
+      }
+    }
+    for (Iterator<Integer> i = mrs.valuesIter(); i.hasNext(); ) {
+      selected.add(i.next());
+    }
+    Collections.sort(selected);
+
+    // Read the selected records and their EXITs in order, which is fastest for a gzipped file.
+    TreeMap<Integer, String> texts = new TreeMap<>();
+    for (int record : selected) {
+      if (index.kind(record) == DtraceIndex.Kind.ENTER) {
+        int exit = index.match(record);
+        if (exit < 0 && !includeUnreturnedEnters) {
+          continue;
+        }
+        if (exit >= 0) {
+          texts.put(exit, "");
+        }
+      }
+      texts.put(record, "");
+    }
+    for (Map.Entry<Integer, String> entry : texts.entrySet()) {
+      entry.setValue(invocation(entry.getKey()));
+    }
+
+    List<String> result = new ArrayList<>();
+    for (int record : selected) {
+      String text = texts.get(record);
+      if (text == null) {
+        continue;
+      }
+      int exit = (index.kind(record) == DtraceIndex.Kind.ENTER) ? index.match(record) : -1;
+      if (exit >= 0) {
+        text = text + lineSep + texts.get(exit);
       }
-      sb.append(line).append(lineSep);
+      result.add(text);
     }
-    return sb.toString();
+    return result;
   }
 
   /** Returns the program point name given by the input invocation. */
@@ -125,7 +194,6 @@ public class DtracePartitioner implements Closeable, Partitioner<String, String>
    * @return an ArrayList containing all of the elements of 'enters'. The original order is NOT
    *     guaranteed.
    */
-  @CreatesMustCallFor("this")
   public List<String> patchValues(List<String> enters) {
     return patchValues(enters, false);
   }
@@ -141,69 +209,70 @@ public class DtracePartitioner implements Closeable, Partitioner<String, String>
    * @return an ArrayList containing all of the elements of 'enters'. The original order is NOT
    *     guaranteed.
    */
-  @CreatesMustCallFor("this")
   public List<String> patchValues(List<String> enters, boolean includeUnreturnedEnters) {
-    try {
-      System.out.println("Entering patchValues");
-      // Keep a list of enters that are so far unmatched
-      Set<String> unreturned = new HashSet<>(enters);
-
-      // Build a hashmap of values to watch
-      HashMap<Object /*String or Integer*/, String> nonceMap = new HashMap<>();
-      for (String enterStr : enters) {
-        // it could be an OBJECT or CLASS invocation ppt, ignore those
-        // by putting them in the HashMap to themselves, they'll
-        // be reaped up later
-        if (enterStr.indexOf("ENTER") == -1) {
-          nonceMap.put(enterStr, enterStr);
-          // no way for OBJECT or CLASS to be unresolved
-          unreturned.remove(enterStr);
-          continue;
-        }
+    System.out.println("Entering patchValues");
+    // Keep a list of enters that are so far unmatched
+    Set<String> unreturned = new HashSet<>(enters);
 
-        // get the nonce of this invocation and use it
-        // as the key in the nonceMap, which maps
-        // nonces --> ENTER half of invocation
-        int theNonce = calcNonce(enterStr);
-        nonceMap.put(theNonce, enterStr);
+    // Build a hashmap of values to watch
+    HashMap<Object /*String or Integer*/, String> nonceMap = new HashMap<>();
+    for (String enterStr : enters) {
+      // it could be an OBJECT or CLASS invocation ppt, ignore those
+      // by putting them in the HashMap to themselves, they'll
+      // be reaped up later
+      if (enterStr.indexOf("ENTER") == -1) {
+        nonceMap.put(enterStr, enterStr);
+        // no way for OBJECT or CLASS to be unresolved
+        unreturned.remove(enterStr);
+        continue;
       }
 
-      br.close();
-      // look for EXIT half of invocations and augment
-      // the values of nonceMap so that the map eventually
-      // maps nonces --> full invocations with ENTER / EXIT
-      br = FilesPlume.newBufferedFileReader(filename);
-      while (br.ready()) {
-        String nextInvo = grabNextInvocation();
-        if (nextInvo.indexOf("EXIT") == -1) {
-          continue;
-        }
-        int invoNonce = calcNonce(nextInvo);
-        Integer key = invoNonce;
-        String enterInvo = nonceMap.get(key);
-        if (enterInvo != null) {
-          nonceMap.put(key, enterInvo + lineSep + nextInvo);
-          unreturned.remove(enterInvo);
-        }
-      }
+      // get the nonce of this invocation and use it
+      // as the key in the nonceMap, which maps
+      // nonces --> full invocations with ENTER / EXIT
+      int theNonce = calcNonce(enterStr);
+      nonceMap.put(theNonce, enterStr);
 
-      // Return a list of all the invocations where matching ENTER and
-      // EXIT points were found as well as the OBJECT and CLASS
-      // invocations.
-      ArrayList<String> al = new ArrayList<>();
-      for (String s : nonceMap.values()) {
-        al.add(s);
-      }
-      // add in the invocations that were never resolved because no
-      // matching EXIT invocation exists.
-      if (!includeUnreturnedEnters) {
-        al.removeAll(unreturned);
+      // The index knows where the EXIT half of the invocation is.
+      Integer enter = enterRecord(theNonce);
+      int exit = (enter == null) ? -1 : index.match(enter);
+      if (exit >= 0) {
+        nonceMap.put(theNonce, enterStr + lineSep + invocation(exit));
+        unreturned.remove(enterStr);
       }
-      return al;
+    }
 
-    } catch (IOException e) {
-      throw new UncheckedIOException(e);
+    // Return a list of all the invocations where matching ENTER and
+    // EXIT points were found as well as the OBJECT and CLASS
+    // invocations.
+    ArrayList<String> al = new ArrayList<>();
+    for (String s : nonceMap.values()) {
+      al.add(s);
+    }
+    // add in the invocations that were never resolved because no
+    // matching EXIT invocation exists.
+    if (!includeUnreturnedEnters) {
+      al.removeAll(unreturned);
+    }
+    return al;
+  }
+
+  /**
+   * Returns the first ENTER record with the given nonce.
+   *
+   * @param nonce an invocation nonce
+   * @return the number of the first ENTER record with the nonce, or null if there is none
+   */
+  private @Nullable Integer enterRecord(int nonce) {
+    if (enterRecords == null) {
+      enterRecords = new HashMap<>();
+      for (int i = 0; i < index.size(); i++) {
+        if (index.kind(i) == DtraceIndex.Kind.ENTER && index.hasNonce(i)) {
+          enterRecords.putIfAbsent(index.nonce(i), i);
+        }
+      }
     }
+    return enterRecords.get(nonce);
   }
 
   private int calcNonce(String invocation) {
@@ -15,7 +15,10 @@ import daikon.ValueTuple;
 import daikon.VarInfo;
 import daikon.inv.Invariant;
 import daikon.inv.InvariantStatus;
+import daikon.inv.binary.BinaryInvariant;
 import daikon.inv.filter.InvariantFilters;
+import daikon.inv.ternary.TernaryInvariant;
+import daikon.inv.unary.UnaryInvariant;
 import daikon.split.PptSplitter;
 import gnu.getopt.*;
 import java.io.File;
@@ -26,12 +29,16 @@ import java.io.OptionalDataException;
 import java.io.PrintStream;
 import java.io.StreamCorruptedException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import org.checkerframework.checker.interning.qual.Interned;
 import org.checkerframework.checker.mustcall.qual.Owning;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.checker.nullness.qual.RequiresNonNull;
@@ -46,6 +53,16 @@ public class InvariantChecker {
     throw new Error("do not instantiate");
   }
 
+  // Variables starting with dkconfig_ should only be set via the
+  // daikon.config.Configuration interface.
+
+  /**
+   * The maximum number of enter samples that are held while waiting for their exits. When there
+   * are more, the oldest one is discarded, and its exit is not checked. If 0 or less, there is no
+   * limit.
+   */
+  public static int dkconfig_max_pending_calls = 1000000;
+
   public static final Logger debug = Logger.getLogger("daikon.tools.InvariantChecker");
 
   public static final Logger debug_detail = Logger.getLogger("daikon.tools.InvariantCheckerDetail");
@@ -166,6 +183,8 @@ public class InvariantChecker {
             String item = Daikon.getOptarg(g);
             daikon.config.Configuration.getInstance().apply(item);
             break;
+          } else if (Daikon.ppt_regexp_SWITCH.equals(option_name)) {
+            Daikon.ppt_regexp = Pattern.compile(Daikon.getOptarg(g));
           } else if (Daikon.debugAll_SWITCH.equals(option_name)) {
             Global.debugAll = true;
           } else if (Daikon.debug_SWITCH.equals(option_name)) {
@@ -303,8 +322,8 @@ public class InvariantChecker {
   }
 
   private static void checkInvariants(File inv_file) throws IOException {
-    // Read the invariant file
-    PptMap ppts = FileIO.read_serialized_pptmap(inv_file, true);
+    // Read the invariant file.  Only the ppts whose samples will be checked are needed.
+    PptMap ppts = FileIO.read_serialized_pptmap(inv_file, true, Daikon.ppt_regexp);
 
     // Yoav: make sure we have unique invariants
     InvariantFilters fi = InvariantFilters.defaultFilters();
@@ -338,14 +357,32 @@ public class InvariantChecker {
     }
 
     // Read and process the data trace files
-    FileIO.Processor processor = new InvariantCheckProcessor();
+    InvariantCheckProcessor processor = new InvariantCheckProcessor();
 
     Daikon.FileIOProgress progress = new Daikon.FileIOProgress();
     progress.start();
     progress.clear();
     FileIO.read_data_trace_files(dtrace_files, ppts, processor, false);
     progress.shouldStop = true;
+    processor.add_tested(testedInvariants);
     System.out.println();
+    if (processor.call_map.num_evicted > 0) {
+      System.out.printf(
+          "%s: %,d enter samples were discarded because more than %,d calls were pending;"
+              + " %,d exits had no enter sample%n",
+          inv_file,
+          processor.call_map.num_evicted,
+          processor.call_map.max_size,
+          processor.num_unmatched_exits);
+    }
+    if (debug.isLoggable(FINE)) {
+      debug.fine(
+          String.format(
+              "call map: %,d discarded, at most %,d pending, %,d exits had no enter sample",
+              processor.call_map.num_evicted,
+              processor.call_map.peak_size,
+              processor.num_unmatched_exits));
+    }
     System.out.printf(
         "%s: %,d errors found in %,d samples (%s)%n",
         inv_file, error_cnt, sample_cnt, toPercentage(error_cnt, sample_cnt));
@@ -372,18 +409,268 @@ public class InvariantChecker {
   static final class EnterCall {
 
     public PptTopLevel ppt;
-    public ValueTuple vt;
 
-    public EnterCall(PptTopLevel ppt, ValueTuple vt) {
+    /** The sample, or null if nothing remained to be checked at ppt when it was read. */
+    public @Nullable ValueTuple vt;
+
+    public EnterCall(PptTopLevel ppt, @Nullable ValueTuple vt) {
 
       this.ppt = ppt;
       this.vt = vt;
     }
   }
 
+  /**
+   * The enter samples that are waiting for their exits, by nonce, oldest first. When there are more
+   * than {@link #max_size}, the oldest is discarded.
+   */
+  static final class CallMap extends LinkedHashMap<Integer, EnterCall> {
+    static final long serialVersionUID = 20261019L;
+
+    /** The maximum number of entries, or 0 or less if there is no limit. */
+    final int max_size;
+
+    /** The number of entries that were discarded because there were too many. */
+    long num_evicted = 0;
+
+    /** The largest number of entries there have been at once. */
+    int peak_size = 0;
+
+    /**
+     * Creates an empty CallMap.
+     *
+     * @param max_size the maximum number of entries, or 0 or less if there is no limit
+     */
+    CallMap(int max_size) {
+      this.max_size = max_size;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Integer, EnterCall> eldest) {
+      if (size() > peak_size) {
+        peak_size = size();
+      }
+      if (max_size > 0 && size() > max_size) {
+        num_evicted++;
+        if (num_evicted == 1) {
+          debug.warning(
+              String.format(
+                  "More than %,d calls are pending; discarding the oldest enter samples, whose"
+                      + " exits will not be checked (see InvariantChecker.max_pending_calls)",
+                  max_size));
+        }
+        if (debug.isLoggable(FINE)) {
+          debug.fine(
+              "discarded enter sample with nonce "
+                  + eldest.getKey()
+                  + " at "
+                  + eldest.getValue().ppt.name());
+        }
+        return true;
+      }
+      return false;
+    }
+  }
+
+  /**
+   * The invariants at one program point that are checked, compiled into flat arrays. The
+   * invariants are grouped by slice, and each slice records where the values of its variables are
+   * in a sample, so checking a sample does not go through {@link PptSlice#add}. The invariants are
+   * checked with their {@code check} methods rather than their {@code add} methods, so checking a
+   * sample does not change them; an invariant that is falsified is not checked again.
+   */
+  static final class PptChecker {
+
+    /** The combined exit point that samples at this point also apply to, or null if none. */
+    final @Nullable PptTopLevel combined_exit;
+
+    /** The invariants that are checked, grouped by slice. */
+    private final Invariant[] invs;
+
+    /** Whether each invariant has been checked against at least one sample. */
+    private final boolean[] tested;
+
+    /** Whether each invariant has been falsified. */
+    private final boolean[] falsified;
+
+    /** The number of invariants that have not been falsified. */
+    private int num_unfalsified;
+
+    /** The invariants of slice i are those from slice_start[i] up to slice_start[i + 1]. */
+    private final int[] slice_start;
+
+    /** The variables of each slice. */
+    private final VarInfo[][] slice_vars;
+
+    /**
+     * The index of each variable of each slice in a sample, or -1 if the variable is a static
+     * constant.
+     */
+    private final int[][] slice_index;
+
+    /**
+     * Whether each binary slice passes its values to its invariants in the opposite order, so that
+     * an array is always the first value (see {@link BinaryInvariant#add_unordered}).
+     */
+    private final boolean[] slice_swap;
+
+    /**
+     * Compiles the invariants at ppt that are checked: those that are active and in {@link
+     * #activeInvariants}.
+     *
+     * @param ppt the program point
+     * @param all_ppts all the program points
+     */
+    PptChecker(PptTopLevel ppt, PptMap all_ppts) {
+      combined_exit =
+          (!(ppt instanceof PptConditional) && ppt.ppt_name.isNumberedExitPoint())
+              ? all_ppts.get(ppt.ppt_name.makeExit())
+              : null;
+
+      List<Invariant> inv_list = new ArrayList<>();
+      List<Integer> starts = new ArrayList<>();
+      List<PptSlice> slices = new ArrayList<>();
+      if (ppt.var_infos.length > 0) {
+        for (PptSlice slice : ppt.views_iterable()) {
+          int start = inv_list.size();
+          for (Invariant inv : slice.invs) {
+            if (inv.isActive() && activeInvariants.contains(inv)) {
+              inv_list.add(inv);
+            }
+          }
+          if (inv_list.size() > start) {
+            starts.add(start);
+            slices.add(slice);
+          }
+        }
+      }
+
+      invs = inv_list.toArray(new Invariant[0]);
+      tested = new boolean[invs.length];
+      falsified = new boolean[invs.length];
+      num_unfalsified = invs.length;
+      slice_start = new int[slices.size() + 1];
+      slice_vars = new VarInfo[slices.size()][];
+      slice_index = new int[slices.size()][];
+      slice_swap = new boolean[slices.size()];
+      for (int i = 0; i < slices.size(); i++) {
+        slice_start[i] = starts.get(i);
+        VarInfo[] vars = slices.get(i).var_infos;
+        slice_vars[i] = vars;
+        slice_index[i] = new int[vars.length];
+        for (int j = 0; j < vars.length; j++) {
+          slice_index[i][j] = vars[j].is_static_constant ? -1 : vars[j].value_index;
+        }
+        slice_swap[i] =
+            vars.length == 2 && vars[1].rep_type.isArray() && !vars[0].rep_type.isArray();
+      }
+      slice_start[slices.size()] = invs.length;
+    }
+
+    /**
+     * Returns true if some invariant at this point has not been falsified.
+     *
+     * @return true if there is anything left to check at this point
+     */
+    boolean has_unfalsified() {
+      return num_unfalsified > 0;
+    }
+
+    /**
+     * Checks a sample against each invariant that has not been falsified yet. A slice is skipped
+     * if any of its variables is missing, or has ever been out of array bounds.
+     *
+     * @param vt the sample
+     * @param result the invariants that the sample falsifies are added to this
+     * @return the number of invariants that were checked
+     */
+    @SuppressWarnings("nullness") // a value whose modbit is not missing is non-null
+    int check(ValueTuple vt, List<Invariant> result) {
+      int num_checked = 0;
+      @Interned Object[] vals = new @Interned Object[3];
+      slice_loop:
+      for (int i = 0; i < slice_vars.length; i++) {
+        VarInfo[] vars = slice_vars[i];
+        int[] index = slice_index[i];
+        int mod = ValueTuple.MODIFIED;
+        for (int j = 0; j < vars.length; j++) {
+          int vmod = (index[j] < 0) ? ValueTuple.MODIFIED : vt.mods[index[j]];
+          if (vmod == ValueTuple.MISSING_NONSENSICAL || vmod == ValueTuple.MISSING_FLOW) {
+            if (debug_detail.isLoggable(FINE)) {
+              debug_detail.fine(": : Skipping slice, " + vars[j].name() + " missing");
+            }
+            continue slice_loop;
+          }
+          if (vars[j].missingOutOfBounds()) {
+            if (debug_detail.isLoggable(FINE)) {
+              debug_detail.fine(": : Skipping slice, " + vars[j].name() + " out of bounds");
+            }
+            continue slice_loop;
+          }
+          vals[j] = (index[j] < 0) ? vars[j].getValue(vt) : vt.vals[index[j]];
+          if (j == 0) {
+            mod = vmod;
+          }
+        }
+
+        for (int k = slice_start[i]; k < slice_start[i + 1]; k++) {
+          if (falsified[k]) {
+            continue;
+          }
+          Invariant inv = invs[k];
+          if (debug_detail.isLoggable(FINE)) {
+            debug_detail.fine(": : Processing invariant: " + inv);
+          }
+          InvariantStatus status;
+          if (vars.length == 1) {
+            status = ((UnaryInvariant) inv).check(vals[0], mod, 1);
+          } else if (vars.length == 2) {
+            status =
+                slice_swap[i]
+                    ? ((BinaryInvariant) inv).check(vals[1], vals[0], mod, 1)
+                    : ((BinaryInvariant) inv).check(vals[0], vals[1], mod, 1);
+          } else {
+            status = ((TernaryInvariant) inv).check(vals[0], vals[1], vals[2], mod, 1);
+          }
+          tested[k] = true;
+          num_checked++;
+          if (status != InvariantStatus.NO_CHANGE) {
+            falsified[k] = true;
+            num_unfalsified--;
+            result.add(inv);
+          }
+        }
+      }
+      return num_checked;
+    }
+
+    /**
+     * Adds each invariant that has been checked against at least one sample to the given
+     * collection.
+     *
+     * @param result where to add the invariants
+     */
+    void add_tested(Collection<Invariant> result) {
+      for (int k = 0; k < invs.length; k++) {
+        if (tested[k]) {
+          result.add(invs[k]);
+        }
+      }
+    }
+  }
+
   public static class InvariantCheckProcessor extends FileIO.Processor {
 
-    Map<Integer, EnterCall> call_map = new LinkedHashMap<>();
+    CallMap call_map = new CallMap(dkconfig_max_pending_calls);
+
+    /** The number of exit samples whose enter sample was not found. */
+    long num_unmatched_exits = 0;
+
+    /** The compiled invariants of each program point that has had a sample. */
+    Map<PptTopLevel, PptChecker> checkers = new IdentityHashMap<>();
+
+    /** The invariants falsified by the sample being checked. */
+    private List<Invariant> falsified = new ArrayList<>();
 
     /**
      * process the sample by checking it against each existing invariant and issuing an error if any
@@ -396,12 +683,17 @@ public class InvariantChecker {
 
       debug.fine("processing sample from: " + ppt.name);
 
-      // Add orig and derived variables
+      // Add orig variables
       FileIO.compute_orig_variables(ppt, vt.vals, vt.mods, nonce);
-      FileIO.compute_derived_variables(ppt, vt.vals, vt.mods);
 
-      // Intern the sample
-      vt = new ValueTuple(vt.vals, vt.mods);
+      // Derived variables are needed only if something is left to check.
+      boolean has_work = has_work(ppt, all_ppts);
+      if (has_work) {
+        FileIO.compute_derived_variables(ppt, vt.vals, vt.mods);
+
+        // Intern the sample
+        vt = new ValueTuple(vt.vals, vt.mods);
+      }
 
       // If this is an enter point, just remember it for later
       if (ppt.ppt_name.isEnterPoint()) {
@@ -415,7 +707,7 @@ public class InvariantChecker {
         } else {
           assert call_map.get(nonce) == null;
         }
-        call_map.put(nonce, new EnterCall(ppt, vt));
+        call_map.put(nonce, new EnterCall(ppt, has_work ? vt : null));
         debug.fine("Skipping enter sample");
         return;
       }
@@ -423,12 +715,14 @@ public class InvariantChecker {
       // If this is an exit point, process the saved enter point
       if (ppt.ppt_name.isExitPoint()) {
         assert nonce != null : "@AssumeAssertion(nullness): nonce exists for enter & exit points";
-        EnterCall ec = call_map.get(nonce);
+        EnterCall ec = call_map.remove(nonce);
         if (ec != null) {
-          call_map.remove(nonce);
-          debug.fine("Processing enter sample from " + ec.ppt.name);
-          add(ec.ppt, ec.vt, all_ppts);
+          if (ec.vt != null) {
+            debug.fine("Processing enter sample from " + ec.ppt.name);
+            add(ec.ppt, ec.vt, all_ppts);
+          }
         } else { // didn't find the enter
+          num_unmatched_exits++;
           if (!quiet) {
             System.out.printf("couldn't find enter for nonce %d at ppt %s%n", nonce, ppt.name());
           }
@@ -436,7 +730,64 @@ public class InvariantChecker {
         }
       }
 
-      add(ppt, vt, all_ppts);
+      if (has_work) {
+        add(ppt, vt, all_ppts);
+      }
+    }
+
+    /**
+     * Returns the compiled invariants of the given program point, compiling them if necessary.
+     *
+     * @param ppt a program point
+     * @param all_ppts all the program points
+     * @return the compiled invariants of ppt
+     */
+    private PptChecker checker(PptTopLevel ppt, PptMap all_ppts) {
+      PptChecker checker = checkers.get(ppt);
+      if (checker == null) {
+        checker = new PptChecker(ppt, all_ppts);
+        checkers.put(ppt, checker);
+      }
+      return checker;
+    }
+
+    /**
+     * Returns true if a sample at the given program point could falsify an invariant: if an
+     * invariant that has not been falsified remains at ppt, at one of its conditional program
+     * points, or at the combined exit point that its samples also apply to.
+     *
+     * @param ppt a program point
+     * @param all_ppts all the program points
+     * @return true if samples at ppt still need to be checked
+     */
+    private boolean has_work(PptTopLevel ppt, PptMap all_ppts) {
+      PptChecker checker = checker(ppt, all_ppts);
+      if (checker.has_unfalsified()) {
+        return true;
+      }
+      if (ppt.has_splitters()) {
+        assert ppt.splitters != null; // because ppt.has_splitters() = true
+        for (PptSplitter ppt_split : ppt.splitters) {
+          for (PptTopLevel ppt_cond : ppt_split.ppts) {
+            if (has_work(ppt_cond, all_ppts)) {
+              return true;
+            }
+          }
+        }
+      }
+      return (checker.combined_exit != null) && has_work(checker.combined_exit, all_ppts);
+    }
+
+    /**
+     * Adds each invariant that has been checked against at least one sample to the given
+     * collection.
+     *
+     * @param result where to add the invariants
+     */
+    void add_tested(Collection<Invariant> result) {
+      for (PptChecker checker : checkers.values()) {
+        checker.add_tested(result);
+      }
     }
 
     @RequiresNonNull("daikon.FileIO.data_trace_state")
@@ -455,98 +806,38 @@ public class InvariantChecker {
       }
 
       // if this is a numbered exit, apply to the combined exit as well
-      if (!(ppt instanceof PptConditional) && ppt.ppt_name.isNumberedExitPoint()) {
-        PptTopLevel parent = all_ppts.get(ppt.ppt_name.makeExit());
-        if (parent != null) {
-          parent.get_missingOutOfBounds(ppt, vt);
-          add(parent, vt, all_ppts);
-        }
+      PptChecker checker = checker(ppt, all_ppts);
+      PptTopLevel parent = checker.combined_exit;
+      if (parent != null) {
+        parent.get_missingOutOfBounds(ppt, vt);
+        add(parent, vt, all_ppts);
       }
 
-      // If the point has no variables, skip it
-      if (ppt.var_infos.length == 0) {
+      // If the point has nothing left to check, skip it
+      if (!checker.has_unfalsified()) {
         return;
       }
 
-      // We should have received sample here before, or there is nothing to check.
-      // Yoav added: It can be that the different dtrace and inv files have different program points
-      // if (false && ppt.num_samples() <= 0) {
-      //   assert ppt.num_samples() > 0
-      //       : "ppt " + ppt.name + " has 0 samples and " + ppt.var_infos.length + " variables";
-      // }
-
-      // Loop through each slice
-      slice_loop:
-      for (PptSlice slice : ppt.views_iterable()) {
-        if (debug_detail.isLoggable(FINE)) {
-          debug_detail.fine(
-              ": processing slice " + slice + "vars: " + Debug.toString(slice.var_infos, vt));
-        }
-
-        // If any variables are missing, skip this slice
-        for (int j = 0; j < slice.var_infos.length; j++) {
-          VarInfo v = slice.var_infos[j];
-          if (v.isMissing(vt)) {
-            if (debug_detail.isLoggable(FINE)) {
-              debug_detail.fine(": : Skipping slice, " + v.name() + " missing");
-            }
-            continue slice_loop;
-          }
-          if (v.missingOutOfBounds()) {
-            if (debug_detail.isLoggable(FINE)) {
-              debug.fine(": : Skipping slice, " + v.name() + " out of bounds");
-            }
-            continue slice_loop;
-          }
-        }
-
-        // Loop through each invariant
-        for (Invariant inv : slice.invs) {
-          if (debug_detail.isLoggable(FINE)) {
-            debug_detail.fine(": : Processing invariant: " + inv);
-          }
-          if (!inv.isActive()) {
-            if (debug_detail.isLoggable(FINE)) {
-              debug_detail.fine(": : skipped non-active " + inv);
-            }
-            continue;
-          }
-
-          // Yoav added
-          if (!activeInvariants.contains(inv)) {
-            // System.out.printf("skipping invariant %s:%s%n", inv.ppt.name(),
-            //                   inv.format());
-            continue;
-          }
-
-          // String invRep = invariant2str(ppt, inv);
-          testedInvariants.add(inv);
-
-          // Store string representation of original invariant for verbose mode
-          String invRep = quiet ? null : inv.format();
-
-          InvariantStatus status = inv.add_sample(vt, 1);
-          sample_cnt++;
-          if (status != InvariantStatus.NO_CHANGE) {
-            if (!quiet) {
-              output_stream.println(
-                  "At ppt "
-                      + ppt.name
-                      + ", Invariant '"
-                      + invRep
-                      + "' invalidated by sample "
-                      + Debug.toString(slice.var_infos, vt)
-                      + "at line "
-                      + FileIO.get_linenum()
-                      + " in file "
-                      + FileIO.data_trace_state.filename);
-            }
-            failedInvariants.add(inv);
-            activeInvariants.remove(inv);
-            error_cnt++;
-          }
+      sample_cnt += checker.check(vt, falsified);
+      for (Invariant inv : falsified) {
+        if (!quiet) {
+          output_stream.println(
+              "At ppt "
+                  + ppt.name
+                  + ", Invariant '"
+                  + inv.format()
+                  + "' invalidated by sample "
+                  + Debug.toString(inv.ppt.var_infos, vt)
+                  + "at line "
+                  + FileIO.get_linenum()
+                  + " in file "
+                  + FileIO.data_trace_state.filename);
         }
+        failedInvariants.add(inv);
+        activeInvariants.remove(inv);
+        error_cnt++;
       }
+      falsified.clear();
     }
   }
 
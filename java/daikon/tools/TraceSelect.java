@@ -6,7 +6,6 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
 import java.util.StringTokenizer;
@@ -14,7 +13,6 @@ import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.RequiresNonNull;
 import org.checkerframework.dataflow.qual.Pure;
 import org.plumelib.util.FilesPlume;
-import org.plumelib.util.MultiRandSelector;
 import org.plumelib.util.StringsPlume;
 
 /**
@@ -184,20 +182,11 @@ public class TraceSelect {
 
       while (num_reps > 0) {
 
-        List<String> al = new ArrayList<>();
+        // The partitioner uses the trace's index, which is built by the first
+        // repetition, so each repetition reads only the invocations it selects.
+        List<String> al;
         try (DtracePartitioner dec = new DtracePartitioner(fileName)) {
-          MultiRandSelector<String> mrs = new MultiRandSelector<>(numPerSample, dec);
-
-          while (dec.hasNext()) {
-            mrs.accept(dec.next());
-          }
-
-          for (Iterator<String> i = mrs.valuesIter(); i.hasNext(); ) {
-            al.add(i.next());
-          }
-
-          List<String> al_tmp = dec.patchValues(al, INCLUDE_UNRETURNED);
-          al = al_tmp;
+          al = dec.select(numPerSample, randObj, INCLUDE_UNRETURNED);
         }
 
         String filePrefix = calcOut(fileName);
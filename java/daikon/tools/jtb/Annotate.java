@@ -6,6 +6,7 @@ import static java.util.logging.Level.INFO;
 
 import daikon.*;
 import daikon.inv.OutputFormat;
+import daikon.inv.filter.InvariantFilters;
 import gnu.getopt.*;
 import java.io.File;
 import java.io.FileNotFoundException;
@@ -13,6 +14,12 @@ import java.io.Reader;
 import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 import jtb.*;
 import jtb.syntaxtree.*;
@@ -78,6 +85,7 @@ public class Annotate {
   public static final String wrapXML_SWITCH = "wrap_xml";
   public static final String max_invariants_pp_SWITCH = "max_invariants_pp";
   public static final String no_reflection_SWITCH = "no_reflection";
+  public static final String threads_SWITCH = "threads";
 
   /** The usage message for this program. */
   private static String usage =
@@ -101,6 +109,8 @@ public class Annotate {
           "                  to access information about an instrumented class. This means",
           "                  that in the JML and ESC formats, no \"also\" annotations",
           "                  will be inserted.",
+          "  --threads N    Annotate N files at once (default 1).  If N is 0, use one",
+          "                 thread per available processor.",
           "  --dbg CATEGORY",
           "  --debug",
           "                  Enable one or all loggers, analogously to the Daikon option");
@@ -123,6 +133,7 @@ public class Annotate {
     boolean setLightweight = true;
     boolean useReflection = true;
     int maxInvariantsPP = -1;
+    int threads = 1;
 
     Daikon.output_format = OutputFormat.ESCJAVA;
     LongOpt[] longopts =
@@ -133,7 +144,8 @@ public class Annotate {
           new LongOpt(Daikon.format_SWITCH, LongOpt.REQUIRED_ARGUMENT, null, 0),
           new LongOpt(wrapXML_SWITCH, LongOpt.NO_ARGUMENT, null, 0),
           new LongOpt(max_invariants_pp_SWITCH, LongOpt.REQUIRED_ARGUMENT, null, 0),
-          new LongOpt(no_reflection_SWITCH, LongOpt.NO_ARGUMENT, null, 0)
+          new LongOpt(no_reflection_SWITCH, LongOpt.NO_ARGUMENT, null, 0),
+          new LongOpt(threads_SWITCH, LongOpt.REQUIRED_ARGUMENT, null, 0)
         };
     Getopt g = new Getopt("daikon.tools.jtb.Annotate", args, "hs", longopts);
     int c;
@@ -158,6 +170,13 @@ public class Annotate {
                       + "will run without the option.");
               maxInvariantsPP = -1;
             }
+          } else if (threads_SWITCH.equals(option_name)) {
+            String threads_string = Daikon.getOptarg(g);
+            try {
+              threads = Integer.parseInt(threads_string);
+            } catch (NumberFormatException e) {
+              throw new Daikon.UserError("Bad argument:  --threads " + threads_string);
+            }
           } else if (wrapXML_SWITCH.equals(option_name)) {
             PrintInvariants.wrap_xml = true;
           } else if (Daikon.debugAll_SWITCH.equals(option_name)) {
@@ -223,68 +242,165 @@ public class Annotate {
 
     Daikon.suppress_redundant_invariants_with_simplify = true;
 
+    List<String> javafilenames = new ArrayList<>();
     for (; argindex < args.length; argindex++) {
       String javafilename = args[argindex];
       if (!(javafilename.endsWith(".java") || javafilename.endsWith(".java-random-tabs"))) {
         throw new Daikon.UserError("File does not end in .java: " + javafilename);
       }
-      File outputFile;
-      if (Daikon.output_format == OutputFormat.ESCJAVA) {
-        outputFile = new File(javafilename + "-escannotated");
-      } else if (Daikon.output_format == OutputFormat.JML) {
-        outputFile = new File(javafilename + "-jmlannotated");
-      } else if (Daikon.output_format == OutputFormat.JAVA) {
-        outputFile = new File(javafilename + "-javaannotated");
-      } else if (Daikon.output_format == OutputFormat.DBCJAVA) {
-        outputFile = new File(javafilename + "-dbcannotated");
-      } else {
-        throw new Error("unsupported output file format " + Daikon.output_format);
-      }
-      // outputFile.getParentFile().mkdirs();
-      try (Writer output = Files.newBufferedWriter(outputFile.toPath(), UTF_8)) {
+      javafilenames.add(javafilename);
+    }
 
-        debug.fine("Parsing file " + javafilename);
+    if (threads <= 0) {
+      threads = Runtime.getRuntime().availableProcessors();
+    }
+    if (PrintInvariants.must_format_in_order()) {
+      threads = 1;
+    }
 
-        // Annotate the file
-        Node root;
-        try (Reader input = Files.newBufferedReader(Paths.get(javafilename), UTF_8)) {
-          JavaParser parser = new JavaParser(input);
-          root = parser.CompilationUnit();
-        } catch (FileNotFoundException e) {
-          throw new Error(e);
-        } catch (ParseException e) {
-          // e.printStackTrace();
-          System.err.println(javafilename + ": " + e);
-          throw new Daikon.UserError("ParseException in applyVisitorInsertComments");
+    // Each finished run drops the index of program point names, which holds on to ppts.
+    if (threads == 1 || javafilenames.size() == 1) {
+      try {
+        for (String javafilename : javafilenames) {
+          annotateFile(
+              javafilename,
+              ppts,
+              slashslash,
+              insert_inexpressible,
+              setLightweight,
+              useReflection,
+              maxInvariantsPP);
         }
+      } finally {
+        PptNameMatcher.clear_index();
+      }
+      return;
+    }
 
-        debug.fine("Processing file " + javafilename);
-
-        Ast.applyVisitorInsertComments(
-            javafilename,
-            root,
-            output,
-            new AnnotateVisitor(
-                javafilename,
-                root,
-                ppts,
-                slashslash,
-                insert_inexpressible,
-                setLightweight,
-                useReflection,
-                maxInvariantsPP));
-      } catch (Error e) {
-        String message = e.getMessage();
-        if (message != null && message.startsWith("Didn't find class ")) {
-          throw new Daikon.UserError(
-              String.join(
-                  System.lineSeparator(),
-                  message + ".",
-                  "Be sure to put .class files on the classpath when calling Annotate.",
-                  "The classpath is: " + System.getProperty("java.class.path")));
+    // The files are independent, so they are parsed and annotated on several threads.  Create the
+    // shared filters before any thread uses them.
+    InvariantFilters.defaultFilters();
+    final boolean slashslash_final = slashslash;
+    final boolean insert_inexpressible_final = insert_inexpressible;
+    final boolean setLightweight_final = setLightweight;
+    final boolean useReflection_final = useReflection;
+    final int maxInvariantsPP_final = maxInvariantsPP;
+    ExecutorService executor =
+        Executors.newFixedThreadPool(Math.min(threads, javafilenames.size()));
+    try {
+      List<Future<?>> results = new ArrayList<>();
+      for (String javafilename : javafilenames) {
+        results.add(
+            executor.submit(
+                () -> {
+                  annotateFile(
+                      javafilename,
+                      ppts,
+                      slashslash_final,
+                      insert_inexpressible_final,
+                      setLightweight_final,
+                      useReflection_final,
+                      maxInvariantsPP_final);
+                  return null;
+                }));
+      }
+      // Report the failure of the first file that failed, as if the files were annotated in order.
+      for (Future<?> result : results) {
+        try {
+          result.get();
+        } catch (ExecutionException e) {
+          Throwable cause = e.getCause();
+          if (cause instanceof Exception) {
+            throw (Exception) cause;
+          } else if (cause instanceof Error) {
+            throw (Error) cause;
+          }
+          throw new Error(e);
         }
-        throw e;
       }
+    } finally {
+      executor.shutdownNow();
+      PptNameMatcher.clear_index();
+    }
+  }
+
+  /**
+   * Parses a Java file and writes a copy of it with the invariants of its methods inserted as
+   * annotations. The name of the copy depends on {@link Daikon#output_format}.
+   *
+   * @param javafilename the file to annotate
+   * @param ppts the program points whose invariants are inserted
+   * @param slashslash if true, use // comments rather than /* comments
+   * @param insert_inexpressible if true, insert invariants not supported by ESC
+   * @param setLightweight if true, use lightweight specifications
+   * @param useReflection if true, use reflection to find methods that override other methods
+   * @param maxInvariantsPP the maximum number of invariants per program point, or -1 for no limit
+   */
+  private static void annotateFile(
+      String javafilename,
+      PptMap ppts,
+      boolean slashslash,
+      boolean insert_inexpressible,
+      boolean setLightweight,
+      boolean useReflection,
+      int maxInvariantsPP)
+      throws Exception {
+    File outputFile;
+    if (Daikon.output_format == OutputFormat.ESCJAVA) {
+      outputFile = new File(javafilename + "-escannotated");
+    } else if (Daikon.output_format == OutputFormat.JML) {
+      outputFile = new File(javafilename + "-jmlannotated");
+    } else if (Daikon.output_format == OutputFormat.JAVA) {
+      outputFile = new File(javafilename + "-javaannotated");
+    } else if (Daikon.output_format == OutputFormat.DBCJAVA) {
+      outputFile = new File(javafilename + "-dbcannotated");
+    } else {
+      throw new Error("unsupported output file format " + Daikon.output_format);
+    }
+    // outputFile.getParentFile().mkdirs();
+    try (Writer output = Files.newBufferedWriter(outputFile.toPath(), UTF_8)) {
+
+      debug.fine("Parsing file " + javafilename);
+
+      // Annotate the file
+      Node root;
+      try (Reader input = Files.newBufferedReader(Paths.get(javafilename), UTF_8)) {
+        JavaParser parser = new JavaParser(input);
+        root = parser.CompilationUnit();
+      } catch (FileNotFoundException e) {
+        throw new Error(e);
+      } catch (ParseException e) {
+        // e.printStackTrace();
+        System.err.println(javafilename + ": " + e);
+        throw new Daikon.UserError("ParseException in applyVisitorInsertComments");
+      }
+
+      debug.fine("Processing file " + javafilename);
+
+      Ast.applyVisitorInsertComments(
+          javafilename,
+          root,
+          output,
+          new AnnotateVisitor(
+              javafilename,
+              root,
+              ppts,
+              slashslash,
+              insert_inexpressible,
+              setLightweight,
+              useReflection,
+              maxInvariantsPP));
+    } catch (Error e) {
+      String message = e.getMessage();
+      if (message != null && message.startsWith("Didn't find class ")) {
+        throw new Daikon.UserError(
+            String.join(
+                System.lineSeparator(),
+                message + ".",
+                "Be sure to put .class files on the classpath when calling Annotate.",
+                "The classpath is: " + System.getProperty("java.class.path")));
+      }
+      throw e;
     }
   }
 }
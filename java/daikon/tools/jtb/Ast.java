@@ -1216,8 +1216,6 @@ public class Ast {
     Invariant[] invs_array = invs_vector.toArray(new Invariant[invs_vector.size()]);
     Arrays.sort(invs_array, PptTopLevel.icfp);
 
-    Global.non_falsified_invariants += invs_array.length;
-
     List<Invariant> accepted_invariants = new ArrayList<>();
 
     for (int i = 0; i < invs_array.length; i++) {
@@ -1237,11 +1235,16 @@ public class Ast {
       // Never print the guarding predicates themselves, they should only
       // print as part of GuardingImplications
       if (fi_accepted && !inv.isGuardingPredicate) {
-        Global.reported_invariants++;
         accepted_invariants.add(inv);
       }
     }
 
+    // Annotate may process several files at once.
+    synchronized (Global.class) {
+      Global.non_falsified_invariants += invs_array.length;
+      Global.reported_invariants += accepted_invariants.size();
+    }
+
     accepted_invariants = InvariantFilters.addEqualityInvariants(accepted_invariants);
 
     return accepted_invariants;
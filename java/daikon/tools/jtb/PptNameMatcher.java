@@ -3,7 +3,11 @@ package daikon.tools.jtb;
 import daikon.*;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import jtb.*;
 import jtb.syntaxtree.*;
 import jtb.visitor.*;
@@ -22,6 +26,30 @@ public class PptNameMatcher {
   // Output debugging information when matching a PptName to an AST.
   private static boolean debug_getMatches = false;
 
+  /**
+   * The program points of {@link #indexed_ppts}, by class name and method name: the key is the
+   * class name, a space, and the method name. A program point appears under each name that {@link
+   * #matches(PptName, String, String, List)} accepts for it: its class name as both a binary name
+   * and a fully-qualified name, and its method name both whole and after its last '$'.
+   */
+  private static Map<String, List<PptTopLevel>> index = new HashMap<>();
+
+  /** The program points that {@link #index} was built from, or null if none. */
+  private static @Nullable PptMap indexed_ppts = null;
+
+  /** The size of {@link #indexed_ppts} when {@link #index} was built. */
+  private static int indexed_size = -1;
+
+  /**
+   * Drops the index of program points, so that it no longer keeps the program points reachable.
+   * Call this once no more matches are needed; the next match rebuilds the index.
+   */
+  public static synchronized void clear_index() {
+    index = new HashMap<>();
+    indexed_ppts = null;
+    indexed_size = -1;
+  }
+
   /** Create an AST matcher that will match program points against AST elements rooted at `root'. */
   public PptNameMatcher(Node root) {
     root.accept(new ClassOrInterfaceTypeDecorateVisitor());
@@ -112,16 +140,28 @@ public class PptNameMatcher {
     return getMatchesInternal(ppts, constrdecl);
   }
 
-  // Iterates through program points and returns those that match the
-  // given method or constructor declaration.
+  // Returns the program points that match the given method or constructor declaration. Only the
+  // program points whose class and method names match are examined; they are found in the index.
   private List<PptTopLevel> getMatchesInternal(PptMap ppts, Node methodOrConstructorDeclaration) {
 
-    List<PptTopLevel> result = new ArrayList<>();
+    String classname;
+    String methodname;
+    List<FormalParameter> params;
+
+    if (methodOrConstructorDeclaration instanceof MethodDeclaration) {
+      classname = Ast.getClassName((MethodDeclaration) methodOrConstructorDeclaration);
+      methodname = Ast.getName((MethodDeclaration) methodOrConstructorDeclaration);
+      params = Ast.getParameters((MethodDeclaration) methodOrConstructorDeclaration);
+    } else {
+      classname = Ast.getClassName((ConstructorDeclaration) methodOrConstructorDeclaration);
+      methodname = simpleName(classname);
+      params = Ast.getParameters((ConstructorDeclaration) methodOrConstructorDeclaration);
+    }
 
-    for (PptTopLevel ppt : ppts.pptIterable()) {
-      PptName ppt_name = ppt.ppt_name;
+    List<PptTopLevel> result = new ArrayList<>();
 
-      if (matches(ppt_name, methodOrConstructorDeclaration)) {
+    for (PptTopLevel ppt : candidates(ppts, classname, methodname)) {
+      if (matches(ppt.ppt_name, classname, methodname, params)) {
         result.add(ppt);
       }
     }
@@ -130,6 +170,47 @@ public class PptNameMatcher {
     return result;
   }
 
+  /**
+   * Returns the program points whose class name and method name match the given ones, in the order
+   * of {@link PptMap#pptIterable}. Builds the index if ppts is not the map it was built from, or if
+   * ppts has changed size since then.
+   *
+   * @param ppts the program points
+   * @param classname a fully-qualified class name
+   * @param methodname a method name, or the simple name of the class for a constructor
+   * @return the program points whose names match
+   */
+  private static synchronized List<PptTopLevel> candidates(
+      PptMap ppts, String classname, String methodname) {
+    if (ppts != indexed_ppts || ppts.size() != indexed_size) {
+      Map<String, Set<PptTopLevel>> sets = new HashMap<>();
+      for (PptTopLevel ppt : ppts.pptIterable()) {
+        String pptClassName = ppt.ppt_name.getFullClassName();
+        String pptMethodName = ppt.ppt_name.getMethodName();
+        if (pptClassName == null || pptMethodName == null) {
+          continue;
+        }
+        String[] classnames = {pptClassName, pptClassName.replace('$', '.')};
+        String[] methodnames = {
+          pptMethodName, pptMethodName.substring(pptMethodName.lastIndexOf('$') + 1)
+        };
+        for (String c : classnames) {
+          for (String m : methodnames) {
+            sets.computeIfAbsent(c + " " + m, k -> new LinkedHashSet<>()).add(ppt);
+          }
+        }
+      }
+      index = new HashMap<>();
+      for (Map.Entry<String, Set<PptTopLevel>> entry : sets.entrySet()) {
+        index.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+      }
+      indexed_ppts = ppts;
+      indexed_size = ppts.size();
+    }
+    List<PptTopLevel> result = index.get(classname + " " + methodname);
+    return (result == null) ? new ArrayList<>() : result;
+  }
+
   public boolean matches(PptName pptName, Node methodOrConstructorDeclaration) {
 
     // This method figures out three things and then calls another
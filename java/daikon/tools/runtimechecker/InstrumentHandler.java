@@ -9,6 +9,7 @@ import daikon.FileIO;
 import daikon.Global;
 import daikon.PptMap;
 import daikon.tools.jtb.ParseResults;
+import daikon.tools.jtb.PptNameMatcher;
 import gnu.getopt.Getopt;
 import gnu.getopt.LongOpt;
 import java.io.File;
@@ -180,10 +181,13 @@ public class InstrumentHandler extends CommandHandler {
         System.err.println("Exception while instrumenting " + oneFile.fileName);
         System.err.println(e.getMessage());
         e.printStackTrace();
+        PptNameMatcher.clear_index();
         return false;
       }
     }
 
+    // The index of program point names holds on to ppts.
+    PptNameMatcher.clear_index();
     return true;
   }
 
@@ -198,6 +198,7 @@ public class InstrumentVisitor extends DepthFirstVisitor {
         Ast.addDeclaration(clazz, getInvariantsDecl());
         Ast.addDeclaration(clazz, isInstrumentedDecl());
         Ast.addDeclaration(clazz, staticPropertyDecl());
+        Ast.addDeclaration(clazz, staticPropertyCheckDecl());
         Ast.addDeclaration(clazz, staticPropertyInit());
       }
     }
@@ -243,7 +244,7 @@ public class InstrumentVisitor extends DepthFirstVisitor {
     code.append("{");
 
     // Count this program point entry.
-    code.append("daikon.tools.runtimechecker.Runtime.numPptEntries++;");
+    code.append("daikon.tools.runtimechecker.Runtime.pptEntered();");
 
     // Check class invariants.
     code.append(
@@ -377,7 +378,7 @@ public class InstrumentVisitor extends DepthFirstVisitor {
     code.append("{");
 
     // Count this program point entry.
-    code.append("daikon.tools.runtimechecker.Runtime.numPptEntries++;");
+    code.append("daikon.tools.runtimechecker.Runtime.pptEntered();");
 
     // Check object invariants.
     if (!isStatic) {
@@ -553,21 +554,27 @@ public class InstrumentVisitor extends DepthFirstVisitor {
 
       InstrumentHandler.debug.fine("xmlStringToIndex: " + xmlStringToIndex.get(xmlString));
 
+      String index = xmlStringToIndex.get(xmlString);
+
       String addViolationToListCode =
-          "daikon.tools.runtimechecker.Runtime.violationsAdd"
+          "daikonPropertyChecks["
+              + index
+              + "].violated"
               + "(daikon.tools.runtimechecker.Violation.get(daikonProperties["
-              + xmlStringToIndex.get(xmlString)
+              + index
               + "], "
               + vioTime
               + "));";
 
+      // The property's check counts the evaluation, and decides whether it is sampled.
       code.append("try {" + daikon.Global.lineSep + "");
-      code.append("daikon.tools.runtimechecker.Runtime.numEvaluations++;");
+      code.append("if (daikonPropertyChecks[" + index + "].shouldEvaluate()) {");
       code.append("if (!(" + daikon.Global.lineSep + "");
       code.append(javarep);
       code.append(")) {");
       code.append(addViolationToListCode);
       code.append("}");
+      code.append("}");
       code.append("} catch (ThreadDeath t_instrument) {" + daikon.Global.lineSep + "");
       code.append("throw t_instrument;");
       code.append("} catch (Throwable t_instrument) {" + daikon.Global.lineSep + "");
@@ -658,6 +665,26 @@ public class InstrumentVisitor extends DepthFirstVisitor {
             code.toString());
   }
 
+  /**
+   * Returns an AST for the declaration of the {@code daikonPropertyChecks} variable, which holds
+   * the state of each element of {@code daikonProperties}.
+   *
+   * @return an AST for the declaration of the {@code daikonPropertyChecks} variable
+   */
+  private ClassOrInterfaceBodyDeclaration staticPropertyCheckDecl() {
+    StringBuilder code = new StringBuilder();
+
+    code.append(
+        "private static daikon.tools.runtimechecker.Runtime.PropertyCheck[]"
+            + " daikonPropertyChecks;");
+    return (ClassOrInterfaceBodyDeclaration)
+        Ast.create(
+            "ClassOrInterfaceBodyDeclaration",
+            new Class[] {Boolean.TYPE},
+            new Object[] {Boolean.FALSE}, // isInterface == false
+            code.toString());
+  }
+
   /**
    * Returns an AST for initializng the {@code daikonProperties} variable.
    *
@@ -670,9 +697,19 @@ public class InstrumentVisitor extends DepthFirstVisitor {
     code.add("try {");
     code.add("daikonProperties = new daikon.tools.runtimechecker.Property[" + varNumCounter + "];");
 
+    code.add(
+        "daikonPropertyChecks = new daikon.tools.runtimechecker.Runtime.PropertyCheck["
+            + varNumCounter
+            + "];");
+
     for (Map.Entry<@KeyFor("xmlStringToIndex") String, String> e : xmlStringToIndex.entrySet()) {
       code.add("daikonProperties[" + e.getValue() + "] = ");
       code.add("    daikon.tools.runtimechecker.Property.get(\"" + e.getKey() + "\");");
+      code.add("daikonPropertyChecks[" + e.getValue() + "] = ");
+      code.add(
+          "    daikon.tools.runtimechecker.Runtime.check(daikonProperties["
+              + e.getValue()
+              + "]);");
     }
 
     code.add("} catch (Exception e) {");
@@ -856,7 +893,7 @@ public class InstrumentVisitor extends DepthFirstVisitor {
     //      declaredThrowablesLocal.remove("Error");
 
     // Count this program point exit.
-    code.append("daikon.tools.runtimechecker.Runtime.numNormalPptExits++;");
+    code.append("daikon.tools.runtimechecker.Runtime.pptExitedNormally();");
 
     //         // [[ TODO: Figure out what could go wrong here (e.g. what if
     //         // method declaration says "throws Throwable") and prepare for
@@ -864,7 +901,7 @@ public class InstrumentVisitor extends DepthFirstVisitor {
     //         for (String declaredThrowable : declaredThrowablesLocal) {
     //             code.append("} catch (" + declaredThrowable + " t_instrument) {");
     //             // Count this program point exit.
-    //             code.append("daikon.tools.runtimechecker.Runtime.numExceptionalPptExits++;");
+    //             code.append("daikon.tools.runtimechecker.Runtime.pptExitedExceptionally();");
     //             code.append("  methodThrewSomething_instrument = true;");
     //             code.append("  throw t_instrument;");
     //         }
@@ -872,11 +909,11 @@ public class InstrumentVisitor extends DepthFirstVisitor {
     //      code.append("} catch (java.lang.RuntimeException t_instrument) {");
     //      code.append("  methodThrewSomething_instrument = true;");
     //         // Count this program point exit.
-    //         code.append("daikon.tools.runtimechecker.Runtime.numExceptionalPptExits++;");
+    //         code.append("daikon.tools.runtimechecker.Runtime.pptExitedExceptionally();");
     //      code.append("  throw t_instrument;");
     //      code.append("} catch (java.lang.Error t_instrument) {");
     //         // Count this program point exit.
-    //         code.append("daikon.tools.runtimechecker.Runtime.numExceptionalPptExits++;");
+    //         code.append("daikon.tools.runtimechecker.Runtime.pptExitedExceptionally();");
     //      code.append("  methodThrewSomething_instrument = true;");
     //      code.append("  throw t_instrument;");
 
@@ -3,10 +3,10 @@ package daikon.tools.runtimechecker;
 import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.checkerframework.checker.interning.qual.UsesObjectEquals;
 import org.checkerframework.checker.lock.qual.GuardSatisfied;
 import org.checkerframework.checker.nullness.qual.EnsuresNonNullIf;
@@ -19,8 +19,9 @@ public class Property implements Serializable {
 
   private static final long serialVersionUID = 1L;
 
-  // Maps into all the Property objects created.
-  private static HashMap<Integer, Property> propertiesMap = new HashMap<>();
+  // Maps into all the Property objects created.  Instrumented classes
+  // may be initialized on different threads, so this is concurrent.
+  private static ConcurrentHashMap<Integer, Property> propertiesMap = new ConcurrentHashMap<>();
 
   // The name of the method that this property describes.
   private final String method;
@@ -329,15 +330,15 @@ public class Property implements Serializable {
 
     Property anno = new Property(kind, daikonRep, method, jmlRep, daikonClass, confidence);
     Integer key = anno.hashCode();
-    if (propertiesMap.containsKey(key)) {
-      return propertiesMap.get(key);
-    } else {
-      if (confidence == -1) {
-        anno.confidence = anno.calculateConfidence();
-      }
-      propertiesMap.put(key, anno);
-      return anno;
+    Property existing = propertiesMap.get(key);
+    if (existing != null) {
+      return existing;
+    }
+    if (confidence == -1) {
+      anno.confidence = anno.calculateConfidence();
     }
+    existing = propertiesMap.putIfAbsent(key, anno);
+    return (existing != null) ? existing : anno;
   }
 
   // This is never used, and the "break" clause seems to be buggy, so
@@ -1,57 +1,369 @@
 package daikon.tools.runtimechecker;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import org.checkerframework.checker.lock.qual.GuardedBy;
 
 /**
  * If a class has been instrumented with the instrumenter, invariant violations are added to the
  * {@code violations} list.
+ *
+ * <p>The instrumented code may run on many threads. Each thread records its violations in a buffer
+ * of its own, and the buffers are merged, in the order in which the violations occurred, when the
+ * violations are requested. The counters are {@link LongAdder}s, so threads do not contend to
+ * update them. They are read through {@link #getNumEvaluations} and the other getters; they used
+ * to be public {@code long} fields, so code that reads those fields, or instrumented code that
+ * increments them, has to be changed or re-instrumented.
+ *
+ * <p>Checking can be made cheaper in two ways. Each property can be evaluated at only a random
+ * sample of the times that it is reached (see {@link #setSampleRate(double)}), and a property can
+ * be disabled once it has been violated a given number of times (see {@link #setMaxViolations}).
+ * The defaults come from the system properties {@code daikon.runtimechecker.sample_rate} and
+ * {@code daikon.runtimechecker.max_violations}.
  */
 @SuppressWarnings("JavaLangClash")
 public class Runtime {
 
-  /** A list of throwables seen when attempting to evaluate properties. */
-  public static List<Throwable> internalInvariantEvaluationErrors = new ArrayList<>();
+  /**
+   * A list of throwables seen when attempting to evaluate properties. It may be added to by several
+   * threads at once.
+   */
+  public static List<Throwable> internalInvariantEvaluationErrors = new CopyOnWriteArrayList<>();
 
-  private static @GuardedBy("Runtime.class") List<Violation> violations =
-      new ArrayList<Violation>();
+  /** The violation buffer of each thread that has recorded a violation. */
+  private static final List<ViolationBuffer> buffers = new CopyOnWriteArrayList<>();
+
+  /** The violation buffer of the current thread. */
+  private static final ThreadLocal<ViolationBuffer> buffer =
+      ThreadLocal.withInitial(
+          () -> {
+            ViolationBuffer result = new ViolationBuffer();
+            buffers.add(result);
+            return result;
+          });
+
+  /** The number of violations recorded so far; orders the violations of all threads. */
+  private static final AtomicLong violationCounter = new AtomicLong();
 
   // The number of times that an invariant was checked (whether the
   // check succeeded or failed).
-  public static long numEvaluations = 0;
+  private static final LongAdder numEvaluations = new LongAdder();
+
+  // The number of times that an invariant was not checked, because it
+  // was not sampled or it was disabled.
+  private static final LongAdder numSkippedEvaluations = new LongAdder();
 
   // The number of entry program points traversed.
-  public static long numPptEntries = 0;
+  private static final LongAdder numPptEntries = new LongAdder();
 
   // The number of normal-exit program points traversed.
-  public static long numNormalPptExits = 0;
+  private static final LongAdder numNormalPptExits = new LongAdder();
 
   // The number of exceptional-exit program points traversed.
-  public static long numExceptionalPptExits = 0;
+  private static final LongAdder numExceptionalPptExits = new LongAdder();
+
+  /** The state of each property that the instrumented code checks. */
+  private static final ConcurrentHashMap<Property, PropertyCheck> checks =
+      new ConcurrentHashMap<>();
+
+  /** The sample rate of properties whose sample rate has not been set individually. */
+  private static volatile double defaultSampleRate = sampleRateProperty();
+
+  /** The number of violations after which a property is disabled, or 0 if there is no limit. */
+  private static volatile int maxViolations =
+      Integer.getInteger("daikon.runtimechecker.max_violations", 0);
+
+  /** Returns the number of times that an invariant was checked. */
+  public static long getNumEvaluations() {
+    return numEvaluations.sum();
+  }
+
+  /** Returns the number of times that an invariant was not checked (not sampled, or disabled). */
+  public static long getNumSkippedEvaluations() {
+    return numSkippedEvaluations.sum();
+  }
+
+  /** Returns the number of entry program points traversed. */
+  public static long getNumPptEntries() {
+    return numPptEntries.sum();
+  }
+
+  /** Returns the number of normal-exit program points traversed. */
+  public static long getNumNormalPptExits() {
+    return numNormalPptExits.sum();
+  }
+
+  /** Returns the number of exceptional-exit program points traversed. */
+  public static long getNumExceptionalPptExits() {
+    return numExceptionalPptExits.sum();
+  }
+
+  /** Counts an entry program point; called by the instrumented code. */
+  public static void pptEntered() {
+    numPptEntries.increment();
+  }
+
+  /** Counts a normal-exit program point; called by the instrumented code. */
+  public static void pptExitedNormally() {
+    numNormalPptExits.increment();
+  }
+
+  /** Counts an exceptional-exit program point; called by the instrumented code. */
+  public static void pptExitedExceptionally() {
+    numExceptionalPptExits.increment();
+  }
 
   /** Returns the list of violations. */
-  public static synchronized List<Violation> getViolations() {
-    List<Violation> retval = new ArrayList<>();
-    for (Violation v : violations) {
-      retval.add(v);
+  public static List<Violation> getViolations() {
+    List<Long> order = new ArrayList<>();
+    List<Violation> violations = new ArrayList<>();
+    for (ViolationBuffer b : buffers) {
+      b.copyTo(order, violations);
+    }
+    Integer[] indices = new Integer[violations.size()];
+    for (int i = 0; i < indices.length; i++) {
+      indices[i] = i;
+    }
+    Arrays.sort(indices, Comparator.comparing(order::get));
+    List<Violation> retval = new ArrayList<>(indices.length);
+    for (Integer i : indices) {
+      retval.add(violations.get(i));
     }
     return retval;
   }
 
   /** Empty the violations list. */
-  public static synchronized void resetViolations() {
-    violations = new ArrayList<Violation>();
+  public static void resetViolations() {
+    for (ViolationBuffer b : buffers) {
+      b.clear();
+      if (!b.owner.isAlive()) {
+        buffers.remove(b);
+      }
+    }
   }
 
   /** True if the violations list is empty. */
-  public static synchronized boolean violationsEmpty() {
-    return violations.isEmpty();
+  public static boolean violationsEmpty() {
+    for (ViolationBuffer b : buffers) {
+      if (!b.isEmpty()) {
+        return false;
+      }
+    }
+    return true;
   }
 
   /** Add a violation to the violations list. */
-  public static synchronized void violationsAdd(Violation v) {
-    violations.add(v);
+  public static void violationsAdd(Violation v) {
+    buffer.get().add(violationCounter.getAndIncrement(), v);
+  }
+
+  /**
+   * Returns the state of the given property, which determines whether the instrumented code
+   * evaluates it.
+   *
+   * @param property a property
+   * @return the state of the property
+   */
+  public static PropertyCheck check(Property property) {
+    return checks.computeIfAbsent(property, PropertyCheck::new);
+  }
+
+  /**
+   * Sets the fraction of the times that each property is reached at which it is evaluated,
+   * including the properties whose sample rate was set individually.
+   *
+   * @param rate a number between 0 and 1; 1 means that every property is always evaluated
+   */
+  public static void setSampleRate(double rate) {
+    defaultSampleRate = rate;
+    for (PropertyCheck pc : checks.values()) {
+      pc.sampleRate = rate;
+    }
+  }
+
+  /**
+   * Sets the fraction of the times that the given property is reached at which it is evaluated.
+   *
+   * @param property a property
+   * @param rate a number between 0 and 1; 1 means that the property is always evaluated
+   */
+  public static void setSampleRate(Property property, double rate) {
+    check(property).sampleRate = rate;
+  }
+
+  /**
+   * Sets the number of times that a property may be violated before it is disabled. A property
+   * that is disabled is not evaluated again, unless it is re-enabled by {@link
+   * PropertyCheck#setEnabled}.
+   *
+   * @param n the number of violations after which a property is disabled, or 0 if properties are
+   *     never disabled
+   */
+  public static void setMaxViolations(int n) {
+    maxViolations = n;
+  }
+
+  /**
+   * Returns the value of the system property {@code daikon.runtimechecker.sample_rate}, or 1 if it
+   * is not set.
+   *
+   * @return the default sample rate
+   */
+  private static double sampleRateProperty() {
+    String rate = System.getProperty("daikon.runtimechecker.sample_rate");
+    return (rate == null) ? 1.0 : Double.parseDouble(rate);
+  }
+
+  /**
+   * Whether, and how often, one property is evaluated. The instrumented code calls {@link
+   * #shouldEvaluate} before it evaluates the property, and {@link #violated} when the property does
+   * not hold.
+   */
+  public static final class PropertyCheck {
+
+    /** The property. */
+    public final Property property;
+
+    /** The fraction of the times that the property is reached at which it is evaluated. */
+    volatile double sampleRate = defaultSampleRate;
+
+    /** True if the property is not evaluated. */
+    private volatile boolean disabled = false;
+
+    /** The number of times that the property has been violated. */
+    private final AtomicInteger numViolations = new AtomicInteger();
+
+    /**
+     * Creates the state of a property that has not been evaluated yet.
+     *
+     * @param property the property
+     */
+    PropertyCheck(Property property) {
+      this.property = property;
+    }
+
+    /**
+     * Returns true if the property should be evaluated this time, and counts the evaluation.
+     *
+     * @return true if the property should be evaluated this time
+     */
+    public boolean shouldEvaluate() {
+      if (disabled) {
+        numSkippedEvaluations.increment();
+        return false;
+      }
+      double rate = sampleRate;
+      if (rate < 1.0 && ThreadLocalRandom.current().nextDouble() >= rate) {
+        numSkippedEvaluations.increment();
+        return false;
+      }
+      numEvaluations.increment();
+      return true;
+    }
+
+    /**
+     * Records a violation of the property, and disables the property if it has been violated
+     * {@link #setMaxViolations too many} times.
+     *
+     * @param v the violation
+     */
+    public void violated(Violation v) {
+      violationsAdd(v);
+      int max = maxViolations;
+      if (numViolations.incrementAndGet() >= max && max > 0) {
+        disabled = true;
+      }
+    }
+
+    /**
+     * Returns the number of times that the property has been violated.
+     *
+     * @return the number of times that the property has been violated
+     */
+    public int numViolations() {
+      return numViolations.get();
+    }
+
+    /**
+     * Returns true if the property is evaluated when it is reached (at its sample rate).
+     *
+     * @return true if the property is enabled
+     */
+    public boolean isEnabled() {
+      return !disabled;
+    }
+
+    /**
+     * Enables or disables the property.
+     *
+     * @param enabled true to evaluate the property, false to stop evaluating it
+     */
+    public void setEnabled(boolean enabled) {
+      disabled = !enabled;
+    }
+  }
+
+  /** The violations recorded by one thread. */
+  private static final class ViolationBuffer {
+
+    /** The thread that records violations in this buffer. */
+    final Thread owner = Thread.currentThread();
+
+    /** The violations, in the order in which they were recorded. */
+    @GuardedBy("this") private final List<Violation> violations = new ArrayList<>();
+
+    /** The position of each violation in the order of the violations of all threads. */
+    @GuardedBy("this") private long[] order = new long[16];
+
+    /**
+     * Records a violation.
+     *
+     * @param position the position of the violation among those of all threads
+     * @param v the violation
+     */
+    synchronized void add(long position, Violation v) {
+      int size = violations.size();
+      if (size == order.length) {
+        order = Arrays.copyOf(order, 2 * size);
+      }
+      order[size] = position;
+      violations.add(v);
+    }
+
+    /**
+     * Appends the violations, and their positions, to the given lists.
+     *
+     * @param positions the positions of the violations are added to this list
+     * @param result the violations are added to this list
+     */
+    synchronized void copyTo(List<Long> positions, List<Violation> result) {
+      for (int i = 0; i < violations.size(); i++) {
+        positions.add(order[i]);
+        result.add(violations.get(i));
+      }
+    }
+
+    /** Discards the violations. */
+    synchronized void clear() {
+      violations.clear();
+    }
+
+    /**
+     * Returns true if there are no violations.
+     *
+     * @return true if there are no violations
+     */
+    synchronized boolean isEmpty() {
+      return violations.isEmpty();
+    }
   }
 
   // Works for non-negative values
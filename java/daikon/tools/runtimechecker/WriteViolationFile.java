@@ -90,21 +90,29 @@ class WriteViolationFile {
       // written to disk.
       Path violationsPath = Paths.get("violations.txt");
       try (BufferedWriter writer = Files.newBufferedWriter(violationsPath, UTF_8)) {
+        long numNormalPptExits = Runtime.getNumNormalPptExits();
+        long numExceptionalPptExits = Runtime.getNumExceptionalPptExits();
+        long numSkippedEvaluations = Runtime.getNumSkippedEvaluations();
         writer.write(
             "# Times an invariant was evaluated ----------- "
-                + Long.toString(Runtime.numEvaluations)
+                + Long.toString(Runtime.getNumEvaluations())
                 + daikon.Global.lineSep
+                + ((numSkippedEvaluations == 0)
+                    ? ""
+                    : ("# Times an invariant was skipped ------------- "
+                        + Long.toString(numSkippedEvaluations)
+                        + daikon.Global.lineSep))
                 + "# Entry program points traversed ------------- "
-                + Long.toString(Runtime.numPptEntries)
+                + Long.toString(Runtime.getNumPptEntries())
                 + daikon.Global.lineSep
                 + "# Normal-exit program points traversed ------- "
-                + Long.toString(Runtime.numNormalPptExits)
+                + Long.toString(numNormalPptExits)
                 + daikon.Global.lineSep
                 + "# Exceptional-exit program points traversed -- "
-                + Long.toString(Runtime.numExceptionalPptExits)
+                + Long.toString(numExceptionalPptExits)
                 + daikon.Global.lineSep
                 + "# Total exit program points traversed -------- "
-                + Long.toString(Runtime.numNormalPptExits + Runtime.numExceptionalPptExits)
+                + Long.toString(numNormalPptExits + numExceptionalPptExits)
                 + daikon.Global.lineSep
                 + daikon.Global.lineSep
                 + "# Violations: ");